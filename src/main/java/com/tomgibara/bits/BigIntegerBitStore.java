@@ -21,6 +21,8 @@ import java.math.BigInteger;
 class BigIntegerBitStore extends AbstractBitStore {
 
 	private final BigInteger bits;
+	// the bits as words, least significant first, created on demand
+	private long[] words = null;
 
 	BigIntegerBitStore(BigInteger bits) {
 		this.bits = bits;
@@ -38,6 +40,22 @@ class BigIntegerBitStore extends AbstractBitStore {
 		return bits.testBit(index);
 	}
 
+	// accelerators
+
+	@Override
+	public long getBits(int position, int length) {
+		Bits.checkBitsLength(length);
+		Bits.checkBounds(position, position + length, size());
+		if (length == 0) return 0L;
+		// avoids shifting the whole magnitude for every word
+		long[] words = words();
+		int i = position >> 6;
+		int s = position & 63;
+		long value = words[i] >>> s;
+		if (s + length > 64) value |= words[i + 1] << (64 - s);
+		return length == 64 ? value : value & ((1L << length) - 1L);
+	}
+
 	// comparison
 
 	@Override
@@ -74,4 +92,20 @@ class BigIntegerBitStore extends AbstractBitStore {
 		return this;
 	}
 
+	// private utility methods
+
+	// the store is immutable, so a benign race may only duplicate the work
+	private long[] words() {
+		long[] words = this.words;
+		if (words == null) {
+			byte[] bytes = bits.toByteArray();
+			words = new long[(bytes.length + 7) >> 3];
+			for (int i = 0; i < bytes.length; i++) {
+				words[i >> 3] |= (bytes[bytes.length - 1 - i] & 0xffL) << ((i & 7) << 3);
+			}
+			this.words = words;
+		}
+		return words;
+	}
+
 }
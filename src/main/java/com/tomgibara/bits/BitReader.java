@@ -28,7 +28,9 @@ import java.math.BigInteger;
  * implement {@link #getPosition()} and/or {@link #setPosition(long)} where
  * practical and MAY override any other methods as necessary to improve
  * performance. It is recommended that, where possible, an efficient
- * implementation is provided for {@link #read(int)}.
+ * implementation is provided for {@link #read(int)}, and that readers which
+ * buffer their input implement {@link #peekLong(int)} and
+ * {@link #consume(int)} over that buffer.
  *
  * @author Tom Gibara
  */
@@ -124,9 +126,7 @@ public interface BitReader extends BitStream {
 	 */
 
 	default byte readByte() {
-		BitStore bits = Bits.store(8);
-		bits.readFrom(this);
-		return bits.toByteArray()[0];
+		return (byte) read(8);
 	}
 
 	/**
@@ -140,9 +140,64 @@ public interface BitReader extends BitStream {
 	 */
 
 	default byte[] readBytes(int numberOfBytes) {
-		BitStore bits = Bits.store(numberOfBytes * Byte.SIZE);
-		bits.readFrom(this);
-		return bits.toByteArray();
+		if (numberOfBytes < 0) throw new IllegalArgumentException("negative numberOfBytes");
+		byte[] bytes = new byte[numberOfBytes];
+		readBytes(bytes, 0, numberOfBytes);
+		return bytes;
+	}
+
+	/**
+	 * Reads bits from the stream into a range of a byte array, eight bits per
+	 * byte. Readers that are positioned on a byte boundary MAY copy whole
+	 * bytes directly from their source.
+	 *
+	 * @param bytes
+	 *            the array into which bytes are read
+	 * @param offset
+	 *            the index of the first byte to be read
+	 * @param length
+	 *            the number of bytes to read
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading the stream
+	 */
+
+	default void readBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+		if (bytes == null) throw new IllegalArgumentException("null bytes");
+		BitStreams.checkArray(bytes.length, offset, length);
+		int i = offset;
+		final int to = offset + length;
+		for (; i + 8 <= to; i += 8) {
+			long bits = readLong(64);
+			for (int j = 0; j < 8; j++) {
+				bytes[i + j] = (byte) (bits >>> (56 - (j << 3)));
+			}
+		}
+		for (; i < to; i++) {
+			bytes[i] = (byte) read(8);
+		}
+	}
+
+	/**
+	 * Reads bits from the stream into a range of a long array, 64 bits per
+	 * long.
+	 *
+	 * @param longs
+	 *            the array into which longs are read
+	 * @param offset
+	 *            the index of the first long to be read
+	 * @param length
+	 *            the number of longs to read
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading the stream
+	 */
+
+	default void readLongs(long[] longs, int offset, int length) throws BitStreamException {
+		if (longs == null) throw new IllegalArgumentException("null longs");
+		BitStreams.checkArray(longs.length, offset, length);
+		final int to = offset + length;
+		for (int i = offset; i < to; i++) {
+			longs[i] = readLong(64);
+		}
 	}
 
 	/**
@@ -169,6 +224,87 @@ public interface BitReader extends BitStream {
 		return count;
 	}
 
+	/**
+	 * Returns between 0 and 32 bits from the stream without consuming them;
+	 * see {@link #peekLong(int)}.
+	 *
+	 * @param count
+	 *            the number of bits to peek
+	 * @return the next bits in the stream
+	 * @throws UnsupportedOperationException
+	 *             if the reader cannot return to its position after reading
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading the stream
+	 */
+
+	default int peek(int count) throws UnsupportedOperationException, BitStreamException {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 32) throw new IllegalArgumentException("count too great");
+		return (int) peekLong(count);
+	}
+
+	/**
+	 * Returns between 0 and 64 bits from the stream without consuming them.
+	 * Bits are returned in the least significant places. If fewer bits
+	 * remain in the stream than are requested, the remaining bits are
+	 * returned in the most significant of the requested places and the
+	 * missing bits are zero; this allows decoders to look ahead by a fixed
+	 * number of bits regardless of how many remain, leaving
+	 * {@link #consume(int)} to report the end of the stream.
+	 *
+	 * The default implementation reads the bits and then returns to its
+	 * original position, and so is only supported by readers that implement
+	 * {@link #getPosition()} and {@link #setPosition(long)}.
+	 *
+	 * @param count
+	 *            the number of bits to peek
+	 * @return the next bits in the stream
+	 * @throws UnsupportedOperationException
+	 *             if the reader cannot return to its position after reading
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading the stream
+	 */
+
+	default long peekLong(int count) throws UnsupportedOperationException, BitStreamException {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		long position = getPosition();
+		if (position == -1L || setPosition(position) != position) throw new UnsupportedOperationException("cannot peek");
+		if (count == 0) return 0L;
+		long bits;
+		try {
+			bits = readLong(count);
+		} catch (EndOfBitStreamException e) {
+			// fewer than count bits remain
+			setPosition(position);
+			bits = 0L;
+			int i = 0;
+			try {
+				for (; i < count; i++) bits = (bits << 1) | readBit();
+			} catch (EndOfBitStreamException f) {
+				// the remaining places are padded with zeros
+			}
+			if (i > 0) bits <<= count - i;
+		}
+		setPosition(position);
+		return bits;
+	}
+
+	/**
+	 * Consumes between 0 and 64 bits from the stream, typically following a
+	 * call to {@link #peekLong(int)} that exposed them.
+	 *
+	 * @param count
+	 *            the number of bits to consume
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading the stream, including
+	 *             an {@link EndOfBitStreamException} if fewer bits remain
+	 */
+
+	default void consume(int count) throws BitStreamException {
+		readLong(count);
+	}
+
 	default long skipBits(long count) throws UnsupportedOperationException, BitStreamException {
 		long position = getPosition();
 		if (position != -1L) return BitStream.super.skipBits(count);
@@ -63,6 +63,30 @@ final class BitSetBitStore extends AbstractBitStore {
 		return previous;
 	}
 
+	@Override
+	public long getBits(int position, int length) {
+		Bits.checkBitsLength(length);
+		int from = adjPosition(position, length);
+		int to = from + length;
+		long bits = 0L;
+		for (int i = set.nextSetBit(from); i >= 0 && i < to; i = set.nextSetBit(i + 1)) {
+			bits |= 1L << (i - from);
+		}
+		return bits;
+	}
+
+	@Override
+	public void setBits(int position, long value, int length) {
+		Bits.checkBitsLength(length);
+		int from = adjPosition(position, length);
+		checkMutable();
+		set.clear(from, from + length);
+		if (length < 64) value &= (1L << length) - 1L;
+		for (; value != 0L; value &= value - 1L) {
+			set.set(from + Long.numberOfTrailingZeros(value));
+		}
+	}
+
 //  TODO reimplement using a sparse variant?
 //	@Override
 //	public int countOnes() {
@@ -137,4 +161,11 @@ final class BitSetBitStore extends AbstractBitStore {
 		if (index >= finish) throw new IllegalArgumentException();
 		return index;
 	}
+
+	private int adjPosition(int position, int length) {
+		if (position < 0) throw new IllegalArgumentException();
+		position += start;
+		if (position + length > finish) throw new IllegalArgumentException();
+		return position;
+	}
 }
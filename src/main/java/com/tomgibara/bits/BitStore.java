@@ -1074,10 +1074,11 @@ public interface BitStore extends Mutability<BitStore>, Comparable<BitStore> {
 
 	default void setStore(int position, BitStore store) {
 		if (store == null) throw new IllegalArgumentException("null store");
-		int to = position + store.size();
-		if (to > size()) throw new IllegalArgumentException("store size too great");
-		for (int i = position; i < to; i++) {
-			setBit(i, store.getBit(i - position));
+		int size = store.size();
+		if (position + size > size()) throw new IllegalArgumentException("store size too great");
+		for (int i = 0; i < size; i += 64) {
+			int length = Math.min(64, size - i);
+			setBits(position + i, store.getBits(i, length), length);
 		}
 	}
 
@@ -1092,8 +1093,8 @@ public interface BitStore extends Mutability<BitStore>, Comparable<BitStore> {
 
 	default void fill() {
 		int size = size();
-		for (int i = 0; i < size; i++) {
-			setBit(i, true);
+		for (int i = 0; i < size; i += 64) {
+			setBits(i, -1L, Math.min(64, size - i));
 		}
 	}
 
@@ -1108,8 +1109,8 @@ public interface BitStore extends Mutability<BitStore>, Comparable<BitStore> {
 
 	default void clear() {
 		int size = size();
-		for (int i = 0; i < size; i++) {
-			setBit(i, false);
+		for (int i = 0; i < size; i += 64) {
+			setBits(i, 0L, Math.min(64, size - i));
 		}
 	}
 
@@ -1127,8 +1128,9 @@ public interface BitStore extends Mutability<BitStore>, Comparable<BitStore> {
 
 	default void flip() {
 		int size = size();
-		for (int i = 0; i < size; i++) {
-			flipBit(i);
+		for (int i = 0; i < size; i += 64) {
+			int length = Math.min(64, size - i);
+			setBits(i, ~getBits(i, length), length);
 		}
 	}
 
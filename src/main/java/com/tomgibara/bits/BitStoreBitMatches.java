@@ -82,39 +82,27 @@ abstract class BitStoreBitMatches extends AbstractBitMatches {
 
 		@Override
 		public int count() {
-			//TODO could use a reader?
-			int size = s.size();
-			int count = 0;
-			for (int i = 0; i < size; i++) {
-				if (s.getBit(i)) count++;
-			}
-			return count;
+			return Bits.countOnes(s);
 		}
 
 		@Override
 		public int first() {
-			int size = s.size();
-			int i;
-			for (i = 0; i < size && !s.getBit(i); i++);
-			return i;
+			return Bits.next(s, true, 0);
 		}
 
 		@Override
 		public int last() {
-			int size = s.size();
-			int i;
-			for (i = size - 1; i >= 0 && !s.getBit(i); i--);
-			return i;
+			return Bits.previous(s, true, s.size());
 		}
 
 		@Override
 		public int next(int position) {
-			return position + s.range(position, s.size()).ones().first();
+			return Bits.next(s, true, position);
 		}
 
 		@Override
 		public int previous(int position) {
-			return s.range(0, position).ones().last();
+			return Bits.previous(s, true, position);
 		}
 
 		@Override
@@ -157,39 +145,27 @@ abstract class BitStoreBitMatches extends AbstractBitMatches {
 
 		@Override
 		public int count() {
-			//TODO could use a reader?
-			int size = s.size();
-			int count = 0;
-			for (int i = 0; i < size; i++) {
-				if (!s.getBit(i)) count++;
-			}
-			return count;
+			return s.size() - Bits.countOnes(s);
 		}
 
 		@Override
 		public int first() {
-			int size = s.size();
-			int i;
-			for (i = 0; i < size && s.getBit(i); i++);
-			return i;
+			return Bits.next(s, false, 0);
 		}
 
 		@Override
 		public int last() {
-			int size = s.size();
-			int i;
-			for (i = size - 1; i >= 0 && s.getBit(i); i--);
-			return i;
+			return Bits.previous(s, false, s.size());
 		}
 
 		@Override
 		public int next(int position) {
-			return position + s.range(position, s.size()).zeros().first();
+			return Bits.next(s, false, position);
 		}
 
 		@Override
 		public int previous(int position) {
-			return s.range(0, position).zeros().last();
+			return Bits.previous(s, false, position);
 		}
 
 		@Override
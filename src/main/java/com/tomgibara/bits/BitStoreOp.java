@@ -79,7 +79,15 @@ abstract class BitStoreOp implements BitStore.Op {
 		setStoreImpl(position, new ByteBits(bytes, offset, length));
 	}
 
-	abstract void setStoreImpl(int position, BitStore store);
+	// applies the store in 64 bit chunks
+	void setStoreImpl(int position, BitStore store) {
+		int size = store.size();
+		checkBounds(s, position, position + size);
+		for (int i = 0; i < size; i += 64) {
+			int length = Math.min(64, size - i);
+			setBitsImpl(position + i, store.getBits(i, length), length);
+		}
+	}
 
 	abstract void setBitsImpl(int position, long value, int length);
 
@@ -162,11 +170,6 @@ abstract class BitStoreOp implements BitStore.Op {
 			s.setBits(position, value, length);
 		}
 
-		@Override
-		void setStoreImpl(int position, BitStore store) {
-			store.writeTo(openWriter(position, position + store.size()));
-		}
-
 	}
 
 	final static class Or extends BitStoreOp {
@@ -202,11 +205,6 @@ abstract class BitStoreOp implements BitStore.Op {
 			s.setBits(position, value, length);
 		}
 
-		@Override
-		void setStoreImpl(int position, BitStore store) {
-			store.writeTo(openWriter(position, position + store.size()));
-		}
-
 	}
 
 	final static class Xor extends BitStoreOp {
@@ -242,15 +240,23 @@ abstract class BitStoreOp implements BitStore.Op {
 			s.setBits(position, value, length);
 		}
 
-		@Override
-		void setStoreImpl(int position, BitStore store) {
-			store.writeTo(openWriter(position, position + store.size()));
-		}
-
 	}
 
-	//TODO examine optimizations for this
-	private static final class ByteBits extends AbstractBitStore {
+	static final class ByteBits extends AbstractBitStore {
+
+		// bits of a big-endian byte array, indexed from the least significant bit of the last byte
+		static long getBits(byte[] bytes, int index, int length) {
+			if (length == 0) return 0L;
+			final int last = bytes.length - 1;
+			final int s = index & 7;
+			final int f = index >> 3;
+			final int t = (index + length - 1) >> 3;
+			long bits = (bytes[last - f] & 0xffL) >>> s;
+			for (int i = f + 1; i <= t; i++) {
+				bits |= (bytes[last - i] & 0xffL) << (((i - f) << 3) - s);
+			}
+			return length == 64 ? bits : bits & ((1L << length) - 1L);
+		}
 
 		final byte[] bytes;
 		final int offset;
@@ -275,6 +281,13 @@ abstract class BitStoreOp implements BitStore.Op {
 			return (bytes[i] & m) != 0;
 		}
 
+		@Override
+		public long getBits(int position, int length) {
+			Bits.checkBitsLength(length);
+			Bits.checkBounds(position, position + length, this.length);
+			return getBits(bytes, offset + position, length);
+		}
+
 	}
 
 }
@@ -72,4 +72,10 @@ class BitStreams {
 	static void checkPosition(long position) {
 		if (position < 0) throw new IllegalArgumentException("negative position");
 	}
+
+	static void checkArray(int arrayLength, int offset, int length) {
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (offset + length > arrayLength) throw new IllegalArgumentException("length exceeds array");
+	}
 }
@@ -38,6 +38,7 @@ import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
 
 import com.tomgibara.bits.ImmutableBit.ImmutableOne;
 import com.tomgibara.bits.ImmutableBit.ImmutableZero;
@@ -507,13 +508,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 
 	@Override
 	public void setStore(int position, BitStore store) {
-		if (store instanceof BitVector) {
-			perform(SET, position, (BitVector) store);
-		} else {
-//			store.writeTo(openWriter(SET, size() - position - store.size()));
-//			store.writeTo(openWriter(SET, size() - position - store.size(), size() - position));
-			store.writeTo(openWriter(SET, position, position + store.size()));
-		}
+		perform(SET, position, store);
 	}
 
 	@Override
@@ -920,6 +915,45 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 		return duplicateAdj(from, to, copy, mutable);
 	}
 
+	/**
+	 * Provides bulk operations over this {@link BitVector} that execute in
+	 * parallel in the common {@link ForkJoinPool}.
+	 *
+	 * @return parallel operations over this vector
+	 * @see #parallel(ForkJoinPool)
+	 */
+
+	public ParallelBits parallel() {
+		return parallel(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Provides bulk operations over this {@link BitVector} that execute in
+	 * parallel in the supplied {@link ForkJoinPool}.
+	 *
+	 * @param pool
+	 *            the pool in which parallel tasks are executed
+	 * @return parallel operations over this vector
+	 */
+
+	public ParallelBits parallel(ForkJoinPool pool) {
+		return new ParallelBits(this, pool);
+	}
+
+	/**
+	 * Creates an index that ranks and selects the bits of this
+	 * {@link BitVector}. The index is built over an immutable aligned copy of
+	 * the vector unless the vector is already immutable and aligned, in which
+	 * case any mutable vector that shares its bits should not be modified.
+	 *
+	 * @return a rank/select index over the bits of this vector
+	 */
+
+	public RankSelect rankSelect() {
+		BitVector vector = mutable || start != 0 ? getVectorAdj(start, finish - start, false) : this;
+		return new RankSelect(vector, vector.bits);
+	}
+
 	/**
 	 * Creates a mutable copy of this {@link BitVector} that may have a
 	 * different size.
@@ -1007,6 +1041,18 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 		return new Serial(this);
 	}
 
+	// package scoped methods
+
+	// true if the vectors are backed by common bits
+	boolean overlaps(BitVector that) {
+		return this.bits == that.bits && overlapping(this.start, this.finish, that.start, that.finish);
+	}
+
+	// the position of the first bit of the vector within its backing word
+	int wordOffset() {
+		return start & ADDRESS_MASK;
+	}
+
 	// package preserved methods
 
 	//NOTE: preserved for performance testing
@@ -1261,7 +1307,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 		}
 
 		//process intermediate elements
-		for (int i = f+1; i < t; i++) bits[i] = ~bits[i];
+		WordOps.INSTANCE.not(bits, f+1, t-f-1);
 
 		//process terminals
 		bits[f] ^= fm;
@@ -1338,7 +1384,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 
 	private void perform(int operation, int position, BitVector that) {
 		if (that == null) throw new IllegalArgumentException("null vector");
-		position = adjPosition(position);
+		position = adjPosition(position, that.size());
 		checkMutable();
 		performAdj(operation, position, that);
 	}
@@ -1355,7 +1401,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 		}
 		if (store == null) throw new IllegalArgumentException("null store");
 		checkMutable();
-		performAdj(operation, adjPosition(position), store);
+		performAdj(operation, adjPosition(position, store.size()), store);
 	}
 
 	private void perform(int operation, int position, byte[] bytes, int offset, int length) {
@@ -1363,7 +1409,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 		if (offset < 0) throw new IllegalArgumentException("negative offset");
 		if (length == 0) return;
 		if (offset + length > (bytes.length << 3)) throw new IllegalArgumentException("length greater than number of bits in byte array");
-		performAdj(operation, adjPosition(position), bytes, offset, length);
+		performAdj(operation, adjPosition(position, length), bytes, offset, length);
 	}
 
 	private BitVector duplicateAdj(int from, int to, boolean copy, boolean mutable) {
@@ -1388,43 +1434,11 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 			final long[] thisBits = this.bits;
 			final long[] thatBits = that.bits;
 			final int t = (finish-1) >> ADDRESS_BITS;
-			switch (test) {
-			case EQUALS :
-				for (int i = t-1; i >= 0; i--) {
-					if (thisBits[i] != thatBits[i]) return false;
-				}
-				break;
-			case EXCLUDES :
-				for (int i = t-1; i >= 0; i--) {
-					if ((thisBits[i] & thatBits[i]) != 0) return false;
-				}
-				break;
-			case CONTAINS :
-				for (int i = t-1; i >= 0; i--) {
-					final long bits = thisBits[i];
-					if ((bits | thatBits[i]) != bits) return false;
-				}
-				break;
-			case COMPLEMENTS :
-				for (int i = t-1; i >= 0; i--) {
-					if (~thisBits[i] != thatBits[i]) return false;
-				}
-				break;
-			default : throw new IllegalArgumentException("Unexpected comparison constant: " + test);
-			}
-			{
-				// same length & same start so same finish mask
-				final long m = -1L >>> (ADDRESS_SIZE - finish & ADDRESS_MASK);
-				final long thisB = thisBits[t] & m;
-				final long thatB = thatBits[t] & m;
-                return switch (test) {
-                    case EQUALS -> thisB == thatB;
-                    case EXCLUDES -> (thisB & thatB) == 0;
-                    case CONTAINS -> (thisB | thatB) == thisB;
-                    case COMPLEMENTS -> (~thisB & m) == thatB;
-                    default -> throw new IllegalArgumentException("Unexpected comparison constant: " + test);
-                };
-			}
+			if (!testWords(test, thisBits, 0, thatBits, 0, t)) return false;
+			// same length & same start so same finish mask
+			final int l = finish - (t << ADDRESS_BITS);
+			final long m = -1L >>> (ADDRESS_SIZE - l);
+			return testBits(test, thisBits[t] & m, thatBits[t] & m, l);
 		}
 		//TODO an additional optimization is possible when their starts differ by 64
 		//partially optimal case - both are address aligned
@@ -1434,65 +1448,41 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 			final int f = this.start >> ADDRESS_BITS;
 			final int t = this.finish >> ADDRESS_BITS;
 			final int d = (that.start - this.start) >> ADDRESS_BITS;
-            return switch (test) {
-                case EQUALS -> {
-                    for (int i = f; i < t; i++) {
-                        if (thisBits[i] != thatBits[i + d]) yield false;
-                    }
-                    yield true;
-                }
-                case EXCLUDES -> {
-                    for (int i = f; i < t; i++) {
-                        if ((thisBits[i] & thatBits[i + d]) == 0) yield true;
-                    }
-                    yield true;
-                }
-                case CONTAINS -> {
-                    for (int i = f; i < t; i++) {
-                        final long bits = thisBits[i];
-                        if ((bits | thatBits[i + d]) != bits) yield false;
-                    }
-                    yield true;
-                }
-                case COMPLEMENTS -> {
-                    for (int i = f; i < t; i++) {
-                        if (~thisBits[i] != thatBits[i + d]) yield false;
-                    }
-                    yield true;
-                }
-                default -> throw new IllegalArgumentException("Unexpected comparison constant: " + test);
-            };
+			return testWords(test, thisBits, f, thatBits, f + d, t - f);
 		}
-		//non-optimized case
-		//TODO could be optimized with long comparisions
+		//general case - words of this compared with shifted words of that
 		final int size = finish - start;
-        return switch (test) {
-            case EQUALS -> {
-                for (int i = 0; i < size; i++) {
-                    if (that.getBitAdj(that.start + i) != this.getBitAdj(this.start + i)) yield false;
-                }
-                yield true;
-            }
-            case EXCLUDES -> {
-                for (int i = 0; i < size; i++) {
-                    if (that.getBitAdj(that.start + i) && this.getBitAdj(this.start + i)) yield false;
-                }
-                yield true;
-            }
-            case CONTAINS -> {
-                for (int i = 0; i < size; i++) {
-                    if (that.getBitAdj(that.start + i) && !this.getBitAdj(this.start + i)) yield false;
-                }
-                yield true;
-            }
-            case COMPLEMENTS -> {
-                for (int i = 0; i < size; i++) {
-                    if (that.getBitAdj(that.start + i) == this.getBitAdj(this.start + i)) yield false;
-                }
-                yield true;
-            }
-            default -> throw new IllegalArgumentException("Unexpected comparison constant: " + test);
-        };
+		int i = Math.min(size, -start & ADDRESS_MASK);
+		if (i > 0 && !testBits(test, this.getBitsAdj(start, i), that.getBitsAdj(that.start, i), i)) return false;
+		for (; size - i >= ADDRESS_SIZE; i += ADDRESS_SIZE) {
+			final long thisB = bits[(start + i) >> ADDRESS_BITS];
+			final long thatB = that.getBitsAdj(that.start + i, ADDRESS_SIZE);
+			if (!testBits(test, thisB, thatB, ADDRESS_SIZE)) return false;
+		}
+		final int remaining = size - i;
+		return remaining == 0 || testBits(test, this.getBitsAdj(start + i, remaining), that.getBitsAdj(that.start + i, remaining), remaining);
+	}
+
+	// bits must be zero beyond length
+	private static boolean testBits(int test, long thisB, long thatB, int length) {
+		return switch (test) {
+			case EQUALS      -> thisB == thatB;
+			case EXCLUDES    -> (thisB & thatB) == 0L;
+			case CONTAINS    -> (thatB & ~thisB) == 0L;
+			case COMPLEMENTS -> (~thisB & (length == ADDRESS_SIZE ? -1L : (1L << length) - 1L)) == thatB;
+			default -> throw new IllegalArgumentException("Unexpected comparison constant: " + test);
+		};
+	}
+
+	private static boolean testWords(int test, long[] thisBits, int thisIndex, long[] thatBits, int thatIndex, int length) {
+		final WordOps ops = WordOps.INSTANCE;
+		return switch (test) {
+			case EQUALS      -> ops.equal      (thisBits, thisIndex, thatBits, thatIndex, length);
+			case EXCLUDES    -> ops.excludes   (thisBits, thisIndex, thatBits, thatIndex, length);
+			case CONTAINS    -> ops.contains   (thisBits, thisIndex, thatBits, thatIndex, length);
+			case COMPLEMENTS -> ops.complements(thisBits, thisIndex, thatBits, thatIndex, length);
+			default -> throw new IllegalArgumentException("Unexpected comparison constant: " + test);
+		};
 	}
 
 	// size cannot exceed 64
@@ -1608,9 +1598,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 
 		int count = 0;
 		count += Long.bitCount( (-1L << r) & bits[f] );
-		for (int i = f+1; i < t; i++) {
-			count += Long.bitCount(bits[i]);
-		}
+		count += WordOps.INSTANCE.bitCount(bits, f+1, t-f-1);
 		count += Long.bitCount( (-1L >>> (ADDRESS_SIZE - l)) & bits[t] );
 		return count;
 	}
@@ -1702,41 +1690,67 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 
 	}
 
-	//TODO really needs a more efficient implementation (see below for a failure)
+	// offset is measured from the least significant bit of the last byte
 	private void performAdj(int operation, int position, byte[] bytes, int offset, int length) {
 		checkMutable();
-		final int to = (bytes.length << 3) - offset;
-		final int from = to - length;
-		position += length;
-		for (int i = from; i < to; i++) {
-			boolean b = (bytes[i >> 3] & (128 >> (i & 7))) != 0;
-			performAdj(operation, --position, b);
+		// chunks are aligned with the words of this vector
+		while (length > 0) {
+			final int chunk = Math.min(length, ADDRESS_SIZE - (position & ADDRESS_MASK));
+			performAdj(operation, position, BitStoreOp.ByteBits.getBits(bytes, offset, chunk), chunk);
+			position += chunk;
+			offset += chunk;
+			length -= chunk;
 		}
 	}
 
 	private void performAdj(int operation, int position, BitVector that) {
 		final int thatSize = that.size();
 		if (thatSize == 0) return;
-		if (this.bits == that.bits && overlapping(position, position + thatSize, that.start, that.finish)) that = that.immutableCopy();
+		final boolean overlap = this.bits == that.bits && overlapping(position, position + thatSize, that.start, that.finish);
 		if (thatSize <= ADDRESS_SIZE) {
 			performAdj(operation, position, that.getBitsAdj(that.start, thatSize), thatSize);
+		} else if (((position | that.start) & ADDRESS_MASK) == 0 && (operation == SET || !overlap || position == that.start)) {
+			// both word aligned, so whole words can be combined directly
+			final int length = thatSize >> ADDRESS_BITS;
+			final int i = position >> ADDRESS_BITS;
+			final int j = that.start >> ADDRESS_BITS;
+			// the tail is read first, an overlapping copy may overwrite it
+			final int remaining = thatSize & ADDRESS_MASK;
+			final int offset = length << ADDRESS_BITS;
+			final long tail = remaining == 0 ? 0L : that.getBitsAdj(that.start + offset, remaining);
+			switch (operation) {
+			case SET : System.arraycopy(that.bits, j, bits, i, length); break;
+			case AND : WordOps.INSTANCE.and(bits, i, that.bits, j, length); break;
+			case OR  : WordOps.INSTANCE.or (bits, i, that.bits, j, length); break;
+			case XOR : WordOps.INSTANCE.xor(bits, i, that.bits, j, length); break;
+			}
+			if (remaining != 0) performAdj(operation, position + offset, tail, remaining);
+		} else if (overlap && position > that.start) {
+			// descend so that source bits are read before they are overwritten
+			for (int to = thatSize; to > 0; ) {
+				final int from = Math.max(0, ((position + to - 1) & ~ADDRESS_MASK) - position);
+				final int length = to - from;
+				performAdj(operation, position + from, that.getBitsAdj(that.start + from, length), length);
+				to = from;
+			}
 		} else {
-			// TODO would like not to depend on writer here
-			// a direct implementation would be faster
-			that.writeTo( new VectorWriter(operation, position, position + thatSize) );
+			// chunks are aligned with the words of this vector
+			for (int from = 0; from < thatSize; ) {
+				final int length = Math.min(thatSize - from, ADDRESS_SIZE - ((position + from) & ADDRESS_MASK));
+				performAdj(operation, position + from, that.getBitsAdj(that.start + from, length), length);
+				from += length;
+			}
 		}
 	}
 
 	private void performAdj(int operation, int position, BitStore store) {
 		final int storeSize = store.size();
 		// note - can't defend against possibility of overlapping data backing here
-		// note 8 here is a heuristic
-		if (storeSize < 8) {
-			for (int i = 0; i < storeSize; i++) {
-				performAdj(operation, position++, store.getBit(i));
-			}
-		} else {
-			store.writeTo( new VectorWriter(operation, position, position + storeSize) );
+		// chunks are aligned with the words of this vector
+		for (int from = 0; from < storeSize; ) {
+			final int length = Math.min(storeSize - from, ADDRESS_SIZE - ((position + from) & ADDRESS_MASK));
+			performAdj(operation, position + from, store.getBits(from, length), length);
+			from += length;
 		}
 	}
 
@@ -2537,7 +2551,7 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 			case EQUALS : return new BitStoreTests.Equals(BitVector.this).store(store);
 			case EXCLUDES : return new BitStoreTests.Excludes(BitVector.this).store(store);
 			case CONTAINS : return new BitStoreTests.Contains(BitVector.this).store(store);
-			case COMPLEMENTS : new BitStoreTests.Complements(BitVector.this).store(store);
+			case COMPLEMENTS : return new BitStoreTests.Complements(BitVector.this).store(store);
 			default : throw new IllegalStateException();
 			}
 		}
@@ -3220,6 +3234,35 @@ public final class BitVector implements BitStore, Alignable<BitVector>, Cloneabl
 			return read;
 		}
 
+		@Override
+		public int peek(int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 32) throw new IllegalArgumentException("count too great");
+			return (int) peekAdj(count);
+		}
+
+		@Override
+		public long peekLong(int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 64) throw new IllegalArgumentException("count too great");
+			return peekAdj(count);
+		}
+
+		@Override
+		public void consume(int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 64) throw new IllegalArgumentException("count too great");
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			position -= count;
+		}
+
+		private long peekAdj(int count) {
+			if (count == 0) return 0L;
+			if (position - count >= finalPos) return getBitsAdj(position - count, count);
+			int remaining = position - (int) finalPos;
+			return remaining == 0 ? 0L : getBitsAdj((int) finalPos, remaining) << (count - remaining);
+		}
+
 	}
 
 	private final class VectorWriter extends VectorStream implements BitWriter {
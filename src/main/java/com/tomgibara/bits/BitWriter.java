@@ -82,12 +82,12 @@ public interface BitWriter extends BitStream {
 		final int bits = value ? -1 : 0;
 		if (count <= 32) return write(bits, (int) count);
 
-		int c = 0;
+		long c = 0;
 		while (count > 32) {
 			c += write(bits, 32);
 			count -= 32;
 		}
-		return c;
+		return c + write(bits, (int) count);
 	}
 
 	/**
@@ -164,6 +164,68 @@ public interface BitWriter extends BitStream {
 		return c;
 	}
 
+	/**
+	 * Writes a range of a byte array to the stream, eight bits per byte.
+	 * Writers that are positioned on a byte boundary MAY copy whole bytes
+	 * directly to their destination.
+	 *
+	 * @param bytes
+	 *            the array containing the bytes to write
+	 * @param offset
+	 *            the index of the first byte to be written
+	 * @param length
+	 *            the number of bytes to write
+	 *
+	 * @return the number of bits written, always eight times the length
+	 * @throws BitStreamException
+	 *             if an exception occurs when writing to the stream
+	 */
+
+	default long writeBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+		if (bytes == null) throw new IllegalArgumentException("null bytes");
+		BitStreams.checkArray(bytes.length, offset, length);
+		int i = offset;
+		final int to = offset + length;
+		long c = 0;
+		for (; i + 8 <= to; i += 8) {
+			long bits = 0L;
+			for (int j = 0; j < 8; j++) {
+				bits = (bits << 8) | (bytes[i + j] & 0xff);
+			}
+			c += write(bits, 64);
+		}
+		for (; i < to; i++) {
+			c += write(bytes[i], 8);
+		}
+		return c;
+	}
+
+	/**
+	 * Writes a range of a long array to the stream, 64 bits per long.
+	 *
+	 * @param longs
+	 *            the array containing the longs to write
+	 * @param offset
+	 *            the index of the first long to be written
+	 * @param length
+	 *            the number of longs to write
+	 *
+	 * @return the number of bits written, always 64 times the length
+	 * @throws BitStreamException
+	 *             if an exception occurs when writing to the stream
+	 */
+
+	default long writeLongs(long[] longs, int offset, int length) throws BitStreamException {
+		if (longs == null) throw new IllegalArgumentException("null longs");
+		BitStreams.checkArray(longs.length, offset, length);
+		final int to = offset + length;
+		long c = 0;
+		for (int i = offset; i < to; i++) {
+			c += write(longs[i], 64);
+		}
+		return c;
+	}
+
 	/**
 	 * Flushes this output stream and forces any buffered output bits to be
 	 * written out to an underlying stream. This DOES NOT necessarily flush an
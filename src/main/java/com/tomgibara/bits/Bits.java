@@ -22,6 +22,8 @@ import java.io.PrintStream;
 import java.io.Serial;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.BitSet;
 import java.util.Comparator;
@@ -540,6 +542,81 @@ public final class Bits {
 		return new BytesBitStore(bytes, offset, finish, true);
 	}
 
+	/**
+	 * Exposes the bytes of a {@link ByteBuffer} as a {@link BitStore}. The
+	 * returned bit store is a live view over the bytes that remain in the
+	 * buffer (those between its position and its limit); changes made to the
+	 * buffer are reflected in bit store and vice versa. Bits are ordered as
+	 * per {@link #asStore(byte[])}, with the zeroth indexed bit of the store
+	 * taking its value from the least significant bit of the byte at the
+	 * buffer's position.
+	 *
+	 * <p>
+	 * Direct buffers may be used to maintain bit stores outside the Java heap;
+	 * the returned store operates on the buffer a word at a time. The
+	 * position, limit and byte order of the supplied buffer are not modified
+	 * and the store is immutable if the buffer is read-only.
+	 *
+	 * @param buffer
+	 *            the byte data
+	 * @return a {@link BitStore} over the buffer
+	 * @see #asStore(ByteBuffer, int, int)
+	 */
+
+	public static BitStore asStore(ByteBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("null buffer");
+		if (buffer.remaining() * 8L > Integer.MAX_VALUE) throw new IllegalArgumentException("index overflow");
+		return new ByteBufferBitStore(littleEndianSlice(buffer), 0, buffer.remaining() << 3, !buffer.isReadOnly());
+	}
+
+	/**
+	 * Exposes a subrange of the bits in a {@link ByteBuffer} as a
+	 * {@link BitStore}. The offset is measured, in bits, from the buffer's
+	 * position. The size of the returned bit store is the length of the sub
+	 * range.
+	 *
+	 * @param buffer
+	 *            the byte data
+	 * @param offset
+	 *            the index, in bits of the first bit in the bit store
+	 * @param length
+	 *            the number of bits spanned by the bit store
+	 * @return a {@link BitStore} over some range of the buffer
+	 * @see #asStore(ByteBuffer)
+	 */
+
+	public static BitStore asStore(ByteBuffer buffer, int offset, int length) {
+		if (buffer == null) throw new IllegalArgumentException("null buffer");
+		long size = buffer.remaining() * 8L;
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		int finish = offset + length;
+		if (finish < 0) throw new IllegalArgumentException("index overflow");
+		if (finish > size) throw new IllegalArgumentException("exceeds size");
+		return new ByteBufferBitStore(littleEndianSlice(buffer), offset, finish, !buffer.isReadOnly());
+	}
+
+	/**
+	 * Exposes the bytes of a memory-mapped file as a {@link BitStore}. The
+	 * returned store spans the bytes that remain in the buffer and orders
+	 * bits as per {@link #asStore(ByteBuffer)}. Bits are paged in by the
+	 * operating system as they are accessed, and changes made through a
+	 * mutable store are written to the file; {@link MappedBitStore#force()}
+	 * may be used to control when this occurs. The store is immutable if
+	 * the buffer is read-only.
+	 *
+	 * @param buffer
+	 *            a buffer obtained from a <code>FileChannel</code>
+	 * @return a {@link BitStore} over the mapped bytes
+	 * @see FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)
+	 */
+
+	public static MappedBitStore asStore(MappedByteBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("null buffer");
+		if (buffer.remaining() * 8L > Integer.MAX_VALUE) throw new IllegalArgumentException("index overflow");
+		return new MappedBitStore(buffer, buffer.remaining() << 3);
+	}
+
 	/**
 	 * Exposes an array of booleans as a {@link BitStore}. The returned bit
 	 * store is a live view over the booleans; changes made to the array are
@@ -609,7 +686,9 @@ public final class Bits {
 	 * possible to determine whether a set is modifiable, the mutability of the
 	 * generated {@link BitStore} must be specified as a call parameter.
 	 * Creating a mutable {@link BitStore} over an unmodifiable set may result
-	 * in unspecified errors on any attempt to mutate the bit store.
+	 * in unspecified errors on any attempt to mutate the bit store. Sparse
+	 * bits that need not be exposed as a set are stored more compactly by a
+	 * {@link SparseBitStore}.
 	 *
 	 * @param set
 	 *            a sorted set of integers
@@ -782,6 +861,41 @@ public final class Bits {
 		return new FileChannelBitReader(channel, buffer);
 	}
 
+	/**
+	 * A {@link BitReader} that sources its bits from a memory-mapped file.
+	 * Bits are read from the buffer starting at its position and ending at
+	 * its limit; the position of the buffer is not modified. Within each
+	 * byte, the most significant bits are read first.
+	 *
+	 * @param buffer
+	 *            a buffer obtained from a <code>FileChannel</code>
+	 * @return a bit reader over the mapped bytes
+	 */
+
+	public static BitReader readerFrom(MappedByteBuffer buffer) {
+		if (buffer == null) throw new IllegalArgumentException("null buffer");
+		return new MappedBitReader(buffer);
+	}
+
+	/**
+	 * A {@link BitReader} that sources its bits from a memory-mapped file.
+	 * Bits are read from the buffer starting at its position. Within each
+	 * byte, the most significant bits are read first.
+	 *
+	 * @param buffer
+	 *            a buffer obtained from a <code>FileChannel</code>
+	 * @param size
+	 *            the number of bits that may be read, not negative and no
+	 *            greater than the number of bits remaining in the buffer
+	 * @return a bit reader over the mapped bytes
+	 */
+
+	public static BitReader readerFrom(MappedByteBuffer buffer, long size) {
+		if (buffer == null) throw new IllegalArgumentException("null buffer");
+		checkSize(size, ((long) buffer.remaining()) << 3);
+		return new MappedBitReader(buffer, size);
+	}
+
 	/**
 	 * A {@link BitReader} that sources its bits from an
 	 * <code>InputStream</code>.
@@ -1131,6 +1245,17 @@ public final class Bits {
 		return Hashing.murmur3Int().hasher(s);
 	}
 
+	// a 64 bit finalizer for the hashes of filters and sketches, since
+	// hashers may supply only 32 well mixed bits
+	static long mixHash(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
 	// available via default BitStore method
 	static BitStore newRangedView(BitStore store, int from, int to) {
 		if (store == null) throw new IllegalArgumentException("null store");
@@ -1161,12 +1286,12 @@ public final class Bits {
 
 			@Override
 			public long getBits(int position, int length) {
-				return store.getBits(adjPosition(position), length);
+				return store.getBits(adjPosition(position, length), length);
 			}
 
 			@Override
 			public int getBitsAsInt(int position, int length) {
-				return store.getBitsAsInt(adjPosition(position), length);
+				return store.getBitsAsInt(adjPosition(position, length), length);
 			}
 
 			@Override
@@ -1174,6 +1299,16 @@ public final class Bits {
 				return store.getThenSetBit(adjIndex(index), value);
 			}
 
+			@Override
+			public void setBits(int position, long value, int length) {
+				store.setBits(adjPosition(position, length), value, length);
+			}
+
+			@Override
+			public void setBitsAsInt(int position, int value, int length) {
+				store.setBitsAsInt(adjPosition(position, length), value, length);
+			}
+
 			@Override
 			public void setStore(int position, BitStore that) {
 				store.setStore(adjPosition(position), that);
@@ -1217,6 +1352,12 @@ public final class Bits {
 				if (position > to) throw new IllegalArgumentException("position too large");
 				return position;
 			}
+
+			private int adjPosition(int position, int length) {
+				position = adjPosition(position);
+				if (position + length > to) throw new IllegalArgumentException("length too great");
+				return position;
+			}
 		};
 	}
 
@@ -1284,21 +1425,17 @@ public final class Bits {
 
 			@Override
 			public long setPosition(long newPosition) {
-				if (newPosition < finalPos) {
-					pos = finalPos - initialPos;
-					return finalPos;
-				}
-				if (newPosition >= initialPos) {
-					pos = 0;
-					return initialPos;
-				}
+				// positions are relative to initialPos, as reported by getPosition()
+				long limit = initialPos - finalPos;
+				if (newPosition < 0L) newPosition = 0L;
+				else if (newPosition > limit) newPosition = limit;
 				pos = initialPos - (int) newPosition;
 				return newPosition;
 			}
 
 			@Override
 			public boolean readBoolean() throws BitStreamException {
-				if (pos <= 0) throw new EndOfBitStreamException();
+				if (pos <= finalPos) throw new EndOfBitStreamException();
 				return store.getBit(--pos);
 			}
 
@@ -1312,7 +1449,7 @@ public final class Bits {
 				if (count < 0) throw new IllegalArgumentException();
 				if (count > 64) throw new IllegalArgumentException();
 				pos -= count;
-				if (pos < 0) throw new EndOfBitStreamException();
+				if (pos < finalPos) throw new EndOfBitStreamException();
 				return store.getBits(pos, count);
 			}
 
@@ -1321,7 +1458,7 @@ public final class Bits {
 				if (count < 0) throw new IllegalArgumentException();
 				if (count > 32) throw new IllegalArgumentException();
 				pos -= count;
-				if (pos < 0) throw new EndOfBitStreamException();
+				if (pos < finalPos) throw new EndOfBitStreamException();
 				return (int) store.getBits(pos, count);
 			}
 
@@ -1331,6 +1468,30 @@ public final class Bits {
 				return BitReader.super.readUntil(one);
 			}
 
+			@Override
+			public long peekLong(int count) throws BitStreamException {
+				if (count < 0) throw new IllegalArgumentException();
+				if (count > 64) throw new IllegalArgumentException();
+				if (count == 0) return 0L;
+				if (pos - count >= finalPos) return store.getBits(pos - count, count);
+				int remaining = pos - finalPos;
+				return remaining == 0 ? 0L : store.getBits(finalPos, remaining) << (count - remaining);
+			}
+
+			@Override
+			public int peek(int count) throws BitStreamException {
+				if (count > 32) throw new IllegalArgumentException();
+				return (int) peekLong(count);
+			}
+
+			@Override
+			public void consume(int count) throws BitStreamException {
+				if (count < 0) throw new IllegalArgumentException();
+				if (count > 64) throw new IllegalArgumentException();
+				if (pos - count < finalPos) throw new EndOfBitStreamException();
+				pos -= count;
+			}
+
 			@Override
 			public BigInteger readBigInt(int count) throws BitStreamException {
 				switch(count) {
@@ -1338,7 +1499,7 @@ public final class Bits {
 				case 1 : return readBoolean() ? BigInteger.ONE : BigInteger.ZERO;
 				default :
 					final int from = pos - count;
-					if (from < 0) throw new EndOfBitStreamException();
+					if (from < finalPos) throw new EndOfBitStreamException();
 					final int to = pos;
 					pos = from;
 					return store.range(from, to).toBigInteger();
@@ -1383,23 +1544,15 @@ public final class Bits {
 	}
 
 	static int compareNumeric(BitStore a, BitStore b) {
-		ListIterator<Integer> as = a.ones().positions(a.size());
-		ListIterator<Integer> bs = b.ones().positions(b.size());
-		while (true) {
-			boolean ap = as.hasPrevious();
-			boolean bp = bs.hasPrevious();
-			if (ap && bp) {
-				int ai = as.previous();
-				int bi = bs.previous();
-				if (ai == bi) continue;
-				return ai > bi ? 1 : -1;
-			} else {
-				if (ap) return  1;
-				if (bp) return -1;
-				return 0;
-			}
+		int aSize = a.size();
+		int bSize = b.size();
+		// compare 64 bit chunks, from the most significant, aligned at zero
+		for (int i = (Math.max(aSize, bSize) - 1) & ~63; i >= 0; i -= 64) {
+			long aBits = i < aSize ? a.getBits(i, Math.min(64, aSize - i)) : 0L;
+			long bBits = i < bSize ? b.getBits(i, Math.min(64, bSize - i)) : 0L;
+			if (aBits != bBits) return Long.compareUnsigned(aBits, bBits) > 0 ? 1 : -1;
 		}
-
+		return 0;
 	}
 
 	// expects a strictly longer than b
@@ -1424,24 +1577,63 @@ public final class Bits {
 
 	}
 
+	// the following methods operate on 64 bit chunks of a store
+
 	static boolean isAllOnes(BitStore s) {
-		//TODO could use a reader?
 		int size = s.size();
-		for (int i = 0; i < size; i++) {
-			if (!s.getBit(i)) return false;
+		for (int i = 0; i < size; i += 64) {
+			int length = Math.min(64, size - i);
+			if (s.getBits(i, length) != mask(length)) return false;
 		}
 		return true;
 	}
 
 	static boolean isAllZeros(BitStore s) {
-		//TODO could use a reader?
 		int size = s.size();
-		for (int i = 0; i < size; i++) {
-			if (s.getBit(i)) return false;
+		for (int i = 0; i < size; i += 64) {
+			if (s.getBits(i, Math.min(64, size - i)) != 0L) return false;
 		}
 		return true;
 	}
 
+	static int countOnes(BitStore s) {
+		int size = s.size();
+		int count = 0;
+		for (int i = 0; i < size; i += 64) {
+			count += Long.bitCount(s.getBits(i, Math.min(64, size - i)));
+		}
+		return count;
+	}
+
+	// returns the size of the store if there is no match at or after position
+	static int next(BitStore s, boolean bit, int position) {
+		int size = s.size();
+		checkPosition(position, size);
+		for (int i = position; i < size; i += 64) {
+			int length = Math.min(64, size - i);
+			long bits = s.getBits(i, length);
+			if (!bit) bits = ~bits & mask(length);
+			if (bits != 0L) return i + Long.numberOfTrailingZeros(bits);
+		}
+		return size;
+	}
+
+	// returns -1 if there is no match before position
+	static int previous(BitStore s, boolean bit, int position) {
+		checkPosition(position, s.size());
+		for (int i = position; i > 0; i -= 64) {
+			int length = Math.min(64, i);
+			long bits = s.getBits(i - length, length);
+			if (!bit) bits = ~bits & mask(length);
+			if (bits != 0L) return i - 1 - Long.numberOfLeadingZeros(bits << (64 - length));
+		}
+		return -1;
+	}
+
+	private static long mask(int length) {
+		return length == 64 ? -1L : (1L << length) - 1L;
+	}
+
 	//duplicated here to avoid dependencies
 	static int gcd(int a, int b) {
 		while (a != b) {
@@ -1503,9 +1695,25 @@ public final class Bits {
 
 	// private static methods
 
+	private static ByteBuffer littleEndianSlice(ByteBuffer buffer) {
+		return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
 	private static void transferImpl(BitReader reader, BitWriter writer, long count) {
+		// bytes are moved in bulk when the reader and writer can share a byte boundary
+		if (
+				count >= 64 &&
+				reader instanceof ByteBasedBitReader &&
+				writer instanceof ByteBasedBitWriter &&
+				((reader.getPosition() - writer.getPosition()) & 7) == 0
+				) {
+			int head = (int) (-reader.getPosition() & 7);
+			if (head != 0) writer.write(reader.read(head), head);
+			count -= head;
+			((ByteBasedBitReader) reader).transferBytes((ByteBasedBitWriter) writer, count >> 3);
+			count &= 7;
+		}
 		while (count >= 64) {
-			//TODO could benefit from reading into a larger buffer here - eg bytes?
 			long bits = reader.readLong(64);
 			writer.write(bits, 64);
 			count -= 64;
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import com.tomgibara.hashing.Hasher;
+
+/**
+ * <p>
+ * A probabilistic set membership structure that records elements in the bits
+ * of a {@link BitStore}. An element that has been added to the filter is
+ * always reported as possibly contained; an element that has not been added
+ * is reported as possibly contained with a probability that increases as the
+ * filter fills.
+ *
+ * <p>
+ * Each element is hashed with a supplied {@link Hasher} and the hash value is
+ * expanded into a number of bit positions. In a <i>standard</i> filter the
+ * positions may lie anywhere in the store. In a <i>blocked</i> filter they are
+ * confined to a single block of 512 bits (the size of a typical cache line),
+ * so that each lookup in a {@link BitVector} touches only one cache line at
+ * the cost of a slightly higher false positive rate.
+ *
+ * <p>
+ * Filters that have the same size, hash count and layout may be combined with
+ * {@link #union(BloomFilter)} and {@link #intersection(BloomFilter)}. Filters
+ * may be written to a {@link BitWriter} and read back from a
+ * {@link BitReader}.
+ *
+ * @author Tom Gibara
+ * @param <E>
+ *            the type of element recorded by the filter
+ */
+
+public final class BloomFilter<E> {
+
+	// statics
+
+	private static final int BLOCK_BITS = 9;
+	private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+	private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+	// the number of block positions drawn from each remixed hash
+	private static final int BLOCK_SLICES = 64 / BLOCK_BITS;
+
+	// limited so that the count can be serialized in a byte
+	private static final int MAX_HASH_COUNT = 255;
+
+	/**
+	 * Creates a standard filter stored in a new {@link BitVector}.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param size
+	 *            the number of bits in the filter
+	 * @param hashCount
+	 *            the number of bits set for each element
+	 * @param <E>
+	 *            the type of element recorded by the filter
+	 * @return an empty filter
+	 */
+
+	public static <E> BloomFilter<E> standard(Hasher<E> hasher, int size, int hashCount) {
+		if (size <= 0) throw new IllegalArgumentException("non-positive size");
+		return standard(hasher, new BitVector(size), hashCount);
+	}
+
+	/**
+	 * Creates a standard filter stored in the supplied store, which may be
+	 * off-heap. Any bits already set in the store are retained.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param store
+	 *            a mutable store containing at least one bit
+	 * @param hashCount
+	 *            the number of bits set for each element
+	 * @param <E>
+	 *            the type of element recorded by the filter
+	 * @return a filter over the store
+	 */
+
+	public static <E> BloomFilter<E> standard(Hasher<E> hasher, BitStore store, int hashCount) {
+		return new BloomFilter<>(hasher, store, hashCount, false);
+	}
+
+	/**
+	 * Creates a blocked filter stored in a new {@link BitVector}.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param size
+	 *            the number of bits in the filter, a positive multiple of 512
+	 * @param hashCount
+	 *            the number of bits set for each element
+	 * @param <E>
+	 *            the type of element recorded by the filter
+	 * @return an empty filter
+	 */
+
+	public static <E> BloomFilter<E> blocked(Hasher<E> hasher, int size, int hashCount) {
+		if (size <= 0) throw new IllegalArgumentException("non-positive size");
+		return blocked(hasher, new BitVector(size), hashCount);
+	}
+
+	/**
+	 * Creates a blocked filter stored in the supplied store, which may be
+	 * off-heap. Any bits already set in the store are retained.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param store
+	 *            a mutable store, the size of which is a positive multiple of
+	 *            512
+	 * @param hashCount
+	 *            the number of bits set for each element
+	 * @param <E>
+	 *            the type of element recorded by the filter
+	 * @return a filter over the store
+	 */
+
+	public static <E> BloomFilter<E> blocked(Hasher<E> hasher, BitStore store, int hashCount) {
+		return new BloomFilter<>(hasher, store, hashCount, true);
+	}
+
+	/**
+	 * Reads a filter that was written with {@link #writeTo(BitWriter)}. The
+	 * hasher must be equivalent to that of the filter that was written.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param reader
+	 *            the reader from which the filter is read
+	 * @param <E>
+	 *            the type of element recorded by the filter
+	 * @return the filter, stored in a new {@link BitVector}
+	 * @throws BitStreamException
+	 *             if the filter could not be read
+	 */
+
+	public static <E> BloomFilter<E> readFrom(Hasher<E> hasher, BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		boolean blocked = reader.readBoolean();
+		int hashCount = reader.read(8);
+		int size = reader.read(32);
+		if (hashCount == 0 || size <= 0 || blocked && (size & (BLOCK_SIZE - 1)) != 0) throw new BitStreamException("invalid filter");
+		BitVector vector = new BitVector(size);
+		vector.readFrom(reader);
+		return new BloomFilter<>(hasher, vector, hashCount, blocked);
+	}
+
+	// maps a 32 bit hash uniformly onto [0, n)
+	private static int reduce(int hash, int n) {
+		return (int) (((hash & 0xffffffffL) * n) >>> 32);
+	}
+
+	// remixes the hash of an element to supply the positions of its bits
+	// within a block; these must be independent of the bits that chose the
+	// block, otherwise elements sharing a block probe correlated positions
+	private static long blockHash(long h) {
+		return Bits.mixHash(h + 0x9e3779b97f4a7c15L);
+	}
+
+	// fields
+
+	private final Hasher<E> hasher;
+	private final BitStore store;
+	private final int hashCount;
+	private final boolean blocked;
+
+	// constructors
+
+	private BloomFilter(Hasher<E> hasher, BitStore store, int hashCount, boolean blocked) {
+		if (hasher == null) throw new IllegalArgumentException("null hasher");
+		if (store == null) throw new IllegalArgumentException("null store");
+		if (!store.isMutable()) throw new IllegalArgumentException("immutable store");
+		int size = store.size();
+		if (size == 0) throw new IllegalArgumentException("empty store");
+		if (blocked && (size & (BLOCK_SIZE - 1)) != 0) throw new IllegalArgumentException("size not a multiple of block size");
+		if (hashCount < 1) throw new IllegalArgumentException("non-positive hashCount");
+		if (hashCount > MAX_HASH_COUNT) throw new IllegalArgumentException("hashCount too large");
+		this.hasher = hasher;
+		this.store = store;
+		this.hashCount = hashCount;
+		this.blocked = blocked;
+	}
+
+	// accessors
+
+	/**
+	 * The hasher with which elements are hashed.
+	 *
+	 * @return the hasher
+	 */
+
+	public Hasher<E> hasher() {
+		return hasher;
+	}
+
+	/**
+	 * The number of bits set for each element.
+	 *
+	 * @return the hash count
+	 */
+
+	public int hashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * Whether the bits of each element are confined to a single block.
+	 *
+	 * @return true if the filter is blocked, false if it is standard
+	 */
+
+	public boolean isBlocked() {
+		return blocked;
+	}
+
+	/**
+	 * An immutable view of the bits of the filter.
+	 *
+	 * @return the filter's bits
+	 */
+
+	public BitStore bits() {
+		return store.immutableView();
+	}
+
+	// membership
+
+	/**
+	 * Records an element in the filter.
+	 *
+	 * @param element
+	 *            the element to add
+	 * @return true if the filter was modified, false if the element was
+	 *         already possibly contained
+	 */
+
+	public boolean add(E element) {
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int h1 = (int) h;
+		int h2 = (int) (h >>> 32);
+		boolean changed = false;
+		if (blocked) {
+			int base = reduce(h2, store.size() >> BLOCK_BITS) << BLOCK_BITS;
+			long g = h;
+			for (int i = 0; i < hashCount; i++, g >>>= BLOCK_BITS) {
+				if (i % BLOCK_SLICES == 0) g = blockHash(g);
+				changed |= !store.getThenSetBit(base + ((int) g & BLOCK_MASK), true);
+			}
+		} else {
+			int size = store.size();
+			for (int i = 0; i < hashCount; i++) {
+				changed |= !store.getThenSetBit(reduce(h1 + i * h2, size), true);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Records every element in the filter.
+	 *
+	 * @param elements
+	 *            the elements to add
+	 * @return true if the filter was modified
+	 */
+
+	public boolean addAll(Iterable<? extends E> elements) {
+		if (elements == null) throw new IllegalArgumentException("null elements");
+		boolean changed = false;
+		for (E element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Whether an element may have been added to the filter. False positives
+	 * are possible, but false negatives are not.
+	 *
+	 * @param element
+	 *            the element to check
+	 * @return false if the element has definitely not been added, true
+	 *         otherwise
+	 */
+
+	public boolean mightContain(E element) {
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int h1 = (int) h;
+		int h2 = (int) (h >>> 32);
+		if (blocked) {
+			int base = reduce(h2, store.size() >> BLOCK_BITS) << BLOCK_BITS;
+			long g = h;
+			for (int i = 0; i < hashCount; i++, g >>>= BLOCK_BITS) {
+				if (i % BLOCK_SLICES == 0) g = blockHash(g);
+				if (!store.getBit(base + ((int) g & BLOCK_MASK))) return false;
+			}
+		} else {
+			int size = store.size();
+			for (int i = 0; i < hashCount; i++) {
+				if (!store.getBit(reduce(h1 + i * h2, size))) return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether every one of a number of elements may have been added to the
+	 * filter.
+	 *
+	 * @param elements
+	 *            the elements to check
+	 * @return false if any element has definitely not been added, true
+	 *         otherwise
+	 */
+
+	public boolean mightContainAll(Iterable<? extends E> elements) {
+		if (elements == null) throw new IllegalArgumentException("null elements");
+		for (E element : elements) {
+			if (!mightContain(element)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Estimates the probability that {@link #mightContain(Object)} returns
+	 * true for an element that has not been added, from the proportion of bits
+	 * that are set.
+	 *
+	 * @return the estimated false positive probability
+	 */
+
+	public double falsePositiveProbability() {
+		double fill = (double) store.ones().count() / store.size();
+		return Math.pow(fill, hashCount);
+	}
+
+	// combination
+
+	/**
+	 * Adds the elements of another filter to this filter. The resulting
+	 * filter possibly contains every element that was added to either filter.
+	 *
+	 * @param that
+	 *            a compatible filter
+	 * @throws IllegalArgumentException
+	 *             if the filters differ in size, hash count or layout
+	 */
+
+	public void union(BloomFilter<E> that) {
+		checkCompatible(that);
+		store.or().withStore(that.store);
+	}
+
+	/**
+	 * Retains only the bits of this filter that are also set in another
+	 * filter. The resulting filter possibly contains every element that was
+	 * added to both filters.
+	 *
+	 * @param that
+	 *            a compatible filter
+	 * @throws IllegalArgumentException
+	 *             if the filters differ in size, hash count or layout
+	 */
+
+	public void intersection(BloomFilter<E> that) {
+		checkCompatible(that);
+		store.and().withStore(that.store);
+	}
+
+	/**
+	 * Removes every element from the filter.
+	 */
+
+	public void clear() {
+		store.clear();
+	}
+
+	// serialization
+
+	/**
+	 * Writes the filter to a {@link BitWriter}; the hasher is not written.
+	 *
+	 * @param writer
+	 *            the writer to which the filter is written
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the filter could not be written
+	 */
+
+	public long writeTo(BitWriter writer) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		long count = 0L;
+		count += writer.writeBoolean(blocked);
+		count += writer.write(hashCount, 8);
+		count += writer.write(store.size(), 32);
+		count += store.writeTo(writer);
+		return count;
+	}
+
+	// object methods
+
+	@Override
+	public String toString() {
+		return (blocked ? "blocked" : "standard") + " filter of " + store.size() + " bits with " + hashCount + " hashes";
+	}
+
+	// private utility methods
+
+	private void checkCompatible(BloomFilter<E> that) {
+		if (that == null) throw new IllegalArgumentException("null filter");
+		if (that.store.size() != this.store.size()) throw new IllegalArgumentException("different sizes");
+		if (that.hashCount != this.hashCount) throw new IllegalArgumentException("different hash counts");
+		if (that.blocked != this.blocked) throw new IllegalArgumentException("different layouts");
+	}
+
+}
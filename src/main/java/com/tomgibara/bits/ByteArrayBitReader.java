@@ -16,8 +16,14 @@
  */
 package com.tomgibara.bits;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
 class ByteArrayBitReader extends ByteBasedBitReader {
 
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
 	private final byte[] bytes;
 	private int index;
 
@@ -37,6 +43,42 @@ class ByteArrayBitReader extends ByteBasedBitReader {
 		return index == bytes.length ? -1 : bytes[index++] & 0xff;
 	}
 
+	@Override
+	protected long sourceBytesAvailable() {
+		return bytes.length - index;
+	}
+
+	@Override
+	protected long readSourceBytes(int count) {
+		long value;
+		if (index + 8 <= bytes.length) {
+			value = (long) LONG.get(bytes, index) >>> (64 - (count << 3));
+		} else {
+			value = 0L;
+			for (int i = 0; i < count; i++) {
+				value = (value << 8) | (bytes[index + i] & 0xff);
+			}
+		}
+		index += count;
+		return value;
+	}
+
+	@Override
+	protected int readSourceBytes(byte[] bytes, int offset, int length) {
+		length = Math.min(length, this.bytes.length - index);
+		System.arraycopy(this.bytes, index, bytes, offset, length);
+		index += length;
+		return length;
+	}
+
+	@Override
+	protected long transferSourceBytes(ByteBasedBitWriter writer, long count) {
+		int length = (int) Math.min(count, bytes.length - index);
+		writer.writeBytes(bytes, index, length);
+		index += length;
+		return length;
+	}
+
 	@Override
 	protected long skipSourceBytes(long count) throws BitStreamException {
 		long limit = bytes.length - index;
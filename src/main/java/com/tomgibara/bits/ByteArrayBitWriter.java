@@ -16,6 +16,10 @@
  */
 package com.tomgibara.bits;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 /**
@@ -27,10 +31,13 @@ import java.util.Arrays;
 
 class ByteArrayBitWriter extends ByteBasedBitWriter {
 
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
 	private final byte[] bytes;
 	private int index;
 
 	ByteArrayBitWriter(byte[] bytes) {
+		super(((long) bytes.length) << 3);
 		this.bytes = bytes;
 		index = 0;
 	}
@@ -47,6 +54,31 @@ class ByteArrayBitWriter extends ByteBasedBitWriter {
 		bytes[index++] = (byte) value;
 	}
 
+	@Override
+	protected void writeWord(long value) throws BitStreamException {
+		if (index + 8 > bytes.length) {
+			super.writeWord(value);
+		} else {
+			LONG.set(bytes, index, value);
+			index += 8;
+		}
+	}
+
+	@Override
+	protected void writeByteArray(byte[] bytes, int offset, int length) throws BitStreamException {
+		if (index + length > this.bytes.length) throw new EndOfBitStreamException();
+		System.arraycopy(bytes, offset, this.bytes, index, length);
+		index += length;
+	}
+
+	@Override
+	protected void writeByteBuffer(ByteBuffer buffer) throws BitStreamException {
+		int length = buffer.remaining();
+		if (index + length > bytes.length) throw new EndOfBitStreamException();
+		buffer.get(bytes, index, length);
+		index += length;
+	}
+
 	@Override
 	protected void fillBytes(int value, long count) throws BitStreamException {
 		count = Math.min(count, bytes.length - index);
@@ -20,6 +20,13 @@ package com.tomgibara.bits;
  * A convenient base class for creating {@link BitReader} implementations that
  * source their bits from a sequence of bytes.
  *
+ * Bits are buffered in a 64-bit accumulator, from which reads are served by
+ * shifting and masking. Sources that can supply several bytes at once
+ * should override {@link #sourceBytesAvailable()} and
+ * {@link #readSourceBytes(int)} so that the accumulator can be refilled with
+ * a single call; otherwise it is refilled a byte at a time, and only as
+ * needed.
+ *
  * @author Tom Gibara
  *
  */
@@ -28,31 +35,17 @@ abstract class ByteBasedBitReader implements BitReader {
 
 	// statics
 
-	private static final int[] ZERO_COUNT_LOOKUP = new int[256 * 8];
-	private static final int[] ONE_COUNT_LOOKUP = new int[256 * 8];
-
-	private static int countBits(int buffer, int position, boolean ones) {
-		final int e = ones ? 1 : 0;
-		int i;
-		for (i = position; i < 8 && ((buffer >> (7 - i)) & 1) == e; i++);
-		return i - position;
-	}
-
-	static {
-		for (int buffer = 0; buffer < 256; buffer++) {
-			for (int position = 0; position < 8; position++) {
-				int index = (buffer << 3) | position;
-				ZERO_COUNT_LOOKUP[index] = countBits(buffer, position, false);
-				ONE_COUNT_LOOKUP[index] = countBits(buffer, position, true);
-			}
-		}
-	}
+	private static final int COPY_BUFFER = 8192;
 
 	// fields
 
 	private final long size;
-	private int buffer = 0;
 	private long position = 0;
+	// buffered bits occupy the most significant places, the remainder are zero
+	private long acc = 0L;
+	private int accBits = 0;
+	// a byte read from the source in order to peek that did not fit in acc, or -1
+	private int spare = -1;
 
 	// constructors
 
@@ -116,6 +109,96 @@ abstract class ByteBasedBitReader implements BitReader {
 
 	protected abstract long seekSourceByte(long index) throws BitStreamException;
 
+	/**
+	 * The number of bytes that can certainly be read from the source via
+	 * {@link #readSourceBytes(int)}. The default implementation returns zero,
+	 * causing bytes to be read individually via {@link #readSourceByte()}.
+	 *
+	 * @return the number of bytes that are available to be read in bulk
+	 * @throws BitStreamException
+	 *             if an exception occurs when inspecting the source
+	 */
+
+	protected long sourceBytesAvailable() throws BitStreamException {
+		return 0L;
+	}
+
+	/**
+	 * Reads between one and eight bytes from the source stream. This method
+	 * is only called when the number of bytes requested does not exceed the
+	 * number reported by {@link #sourceBytesAvailable()}.
+	 *
+	 * @param count
+	 *            the number of bytes to read
+	 * @return the bytes read, with the first byte most significant, in the
+	 *         least significant bits of a long
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading
+	 */
+
+	protected long readSourceBytes(int count) throws BitStreamException {
+		long bytes = 0L;
+		for (int i = 0; i < count; i++) {
+			bytes = (bytes << 8) | readSourceByte();
+		}
+		return bytes;
+	}
+
+	/**
+	 * Reads bytes from the source stream into an array. Implementations
+	 * should copy bytes in bulk where possible; the default implementation
+	 * reads each byte via {@link #readSourceByte()}.
+	 *
+	 * @param bytes
+	 *            the array into which bytes are read
+	 * @param offset
+	 *            the index of the first byte to be read
+	 * @param length
+	 *            the number of bytes to read
+	 * @return the number of bytes read, fewer than the length only if the end
+	 *         of the byte stream has been reached
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading
+	 */
+
+	protected int readSourceBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+		for (int i = 0; i < length; i++) {
+			int b = readSourceByte();
+			if (b == -1) return i;
+			bytes[offset + i] = (byte) b;
+		}
+		return length;
+	}
+
+	/**
+	 * Moves bytes from the source stream directly to a writer that is
+	 * positioned on a byte boundary. Implementations should avoid
+	 * intermediate copies where possible; the default implementation copies
+	 * bytes through a buffer via {@link #readSourceBytes(byte[], int, int)}.
+	 *
+	 * @param writer
+	 *            the writer to which the bytes are written
+	 * @param count
+	 *            the number of bytes to transfer
+	 * @return the number of bytes transferred, fewer than the count only if
+	 *         the end of the byte stream has been reached
+	 * @throws BitStreamException
+	 *             if an exception occurs when reading or writing
+	 */
+
+	protected long transferSourceBytes(ByteBasedBitWriter writer, long count) throws BitStreamException {
+		byte[] bytes = new byte[(int) Math.min(count, COPY_BUFFER)];
+		long total = 0L;
+		while (total < count) {
+			int length = (int) Math.min(count - total, bytes.length);
+			int read = readSourceBytes(bytes, 0, length);
+			writer.writeBytes(bytes, 0, read);
+			total += read;
+			if (read < length) break;
+		}
+		return total;
+	}
+
 	// public methods
 
 	public long setPosition(long position) {
@@ -127,6 +210,7 @@ abstract class ByteBasedBitReader implements BitReader {
 				long count = position - this.position;
 				if (count > 0L) skipBits(count);
 			} else { // seeking is supported - skip remaining distance
+				clear();
 				this.position = index << 3;
 				skipBits(position - this.position);
 			}
@@ -139,15 +223,20 @@ abstract class ByteBasedBitReader implements BitReader {
 	@Override
 	public int readBit() {
 		if (position == size) throw new EndOfBitStreamException();
-		int count = (int) position & 7;
-		if (count == 0) { // need new bits
-			buffer = readSourceByte();
-			if (buffer == -1) throw new EndOfBitStreamException();
+		if (accBits == 0) {
+			fill(1);
+			if (accBits == 0) throw new EndOfBitStreamException();
 		}
+		int bit = (int) (acc >>> 63);
+		acc <<= 1;
+		accBits--;
 		position++;
-		// other endian
-		// return (buffer >> count) & 1;
-		return (buffer >> (7 - count)) & 1;
+		return bit;
+	}
+
+	@Override
+	public boolean readBoolean() {
+		return readBit() == 1;
 	}
 
 	@Override
@@ -156,94 +245,148 @@ abstract class ByteBasedBitReader implements BitReader {
 		if (count > 32) throw new IllegalArgumentException("count too great");
 		if (count == 0) return 0;
 		if (position + count > size) throw new EndOfBitStreamException();
+		return (int) take(count);
+	}
 
-		int value;
-		int remainder = (8 - (int)position) & 7;
-		if (remainder == 0) {
-			value = 0;
-		} else if (count > remainder) {
-			// other endian
-			// value = buffer >> (8 - remainder);
-			value = buffer & ((1 << remainder) - 1);
-			count -= remainder;
-			position += remainder;
-		} else {
-			position += count;
-			// other endian
-			// return buffer & ((1 << count) - 1);
-			return (buffer >> (remainder - count)) & ((1 << count) - 1);
-		}
+	@Override
+	public long readLong(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		if (count == 0) return 0L;
+		if (position + count > size) throw new EndOfBitStreamException();
+		if (count <= 56) return take(count);
+		long high = take(count - 32);
+		return (high << 32) | take(32);
+	}
 
-		while (true) {
-			buffer = readSourceByte();
-			if (buffer == -1) throw new EndOfBitStreamException();
-			if (count >= 8) {
-				value = (value << 8) | buffer;
-				count -= 8;
-				position += 8;
-				if (count == 0) return value;
-			} else {
-				// other endian
-				// value = (value << count) | (buffer & ((1 << count) - 1));
-				value = (value << count) | (buffer >> (8 - count));
-				position += count;
-				return value;
-			}
+	@Override
+	public void readBytes(byte[] bytes, int offset, int length) {
+		if (bytes == null) throw new IllegalArgumentException("null bytes");
+		BitStreams.checkArray(bytes.length, offset, length);
+		if ((position & 7) != 0) {
+			BitReader.super.readBytes(bytes, offset, length);
+			return;
+		}
+		if (position + ((long) length << 3) > size) throw new EndOfBitStreamException();
+		int i = offset;
+		final int to = offset + length;
+		// buffered bits are whole bytes when the position is on a byte boundary
+		for (; accBits > 0 && i < to; i++) {
+			bytes[i] = (byte) (acc >>> 56);
+			acc <<= 8;
+			accBits -= 8;
+			position += 8;
+		}
+		if (spare != -1 && i < to) {
+			bytes[i++] = (byte) spare;
+			spare = -1;
+			position += 8;
+		}
+		if (i < to) {
+			int read = readSourceBytes(bytes, i, to - i);
+			position += (long) read << 3;
+			if (read < to - i) throw new EndOfBitStreamException();
 		}
 	}
 
 	@Override
 	public int readUntil(boolean one) {
 		int total = 0;
-		final int[] lookup = one ? ZERO_COUNT_LOOKUP : ONE_COUNT_LOOKUP;
-		int count = (int) position & 7;
 		while (true) {
-			if (count == 0) { // need new bits
-				buffer = readSourceByte();
-				if (buffer == -1) throw new EndOfBitStreamException();
+			if (accBits == 0) {
+				if (position == size) throw new EndOfBitStreamException();
+				fill(1);
+				if (accBits == 0) throw new EndOfBitStreamException();
 			}
-			int t = lookup[(buffer << 3) | count];
-			if (count + t == 8) {
-				position += t;
-				if (position > size) {
+			// unbuffered places are zero, and so ones when inverted
+			int count = Long.numberOfLeadingZeros(one ? acc : ~acc);
+			if (count < accBits) {
+				int read = count + 1;
+				if (position + read > size) {
 					position = size;
 					throw new EndOfBitStreamException();
 				}
-				total += t;
-				count = 0;
-			} else {
-				position += t + 1;
-				if (position > size) {
-					position = size;
-					throw new EndOfBitStreamException();
-				}
-				return total + t;
+				acc = read == 64 ? 0L : acc << read;
+				accBits -= read;
+				position += read;
+				return total + count;
+			}
+			if (position + accBits > size) {
+				position = size;
+				throw new EndOfBitStreamException();
 			}
+			total += accBits;
+			position += accBits;
+			acc = 0L;
+			accBits = 0;
+		}
+	}
+
+	@Override
+	public int peek(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 32) throw new IllegalArgumentException("count too great");
+		return (int) peekLong(count);
+	}
+
+	@Override
+	public long peekLong(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		if (count == 0) return 0L;
+		long remaining = size - position;
+		if (remaining <= 0L) return 0L;
+		if (accBits < count) fill(count);
+		long bits;
+		if (accBits >= count) {
+			bits = acc >>> (64 - count);
+		} else {
+			// the accumulator cannot hold every bit requested, the rest are taken from a spare byte
+			int missing = count - accBits;
+			if (spare == -1 && accBits > 56) spare = readSourceByte();
+			bits = accBits == 0 ? 0L : (acc >>> (64 - accBits)) << missing;
+			if (spare != -1) bits |= spare >>> (8 - missing);
 		}
+		// clear any bits beyond the end of the stream
+		if (remaining < count) bits &= -1L << (count - remaining);
+		return bits;
+	}
+
+	@Override
+	public void consume(int count) {
+		readLong(count);
 	}
 
 	@Override
 	public long skipBits(long count) {
 		if (count < 0L) return BitReader.super.skipBits(count);
 		count = Math.min(count, size - position);
-		int boundary = BitBoundary.BYTE.bitsFrom(position);
-		if (count <= boundary) {
+		if (count <= accBits) {
+			acc = count == 64 ? 0L : acc << count;
+			accBits -= count;
 			position += count;
 			return count;
 		}
 
-		position += boundary;
-		long bytes = (count - boundary) >> 3;
+		// discard the buffered bits, leaving the position on a byte boundary
+		long remaining = count - accBits;
+		position += accBits;
+		acc = 0L;
+		accBits = 0;
+		if (spare != -1 && remaining >= 8) {
+			spare = -1;
+			position += 8;
+			remaining -= 8;
+		}
+		long bytes = remaining >> 3;
 		long skipped = skipFully(bytes);
-		long bits = skipped << 3;
-		if (skipped < bytes) return boundary + bits;
-
-		for (int remainder = (int)(count - boundary - bits); remainder > 0; remainder--) {
-			try {
-				readBit();
-			} catch (EndOfBitStreamException e) {
-				return count - remainder;
-			}
+		if (skipped < bytes) return count - remaining + (skipped << 3);
+
+		int bits = (int) (remaining & 7);
+		if (bits > 0) {
+			fill(bits);
+			if (accBits < bits) return count - bits;
+			take(bits);
 		}
 		return count;
 	}
@@ -253,12 +396,81 @@ abstract class ByteBasedBitReader implements BitReader {
 		return position;
 	}
 
+	// package scoped methods
+
+	// moves whole bytes to a writer, both must be positioned on a byte boundary
+	void transferBytes(ByteBasedBitWriter writer, long count) {
+		if (position + (count << 3) > size) throw new EndOfBitStreamException();
+		for (; accBits > 0 && count > 0; count--) {
+			writer.write((int) (acc >>> 56), 8);
+			acc <<= 8;
+			accBits -= 8;
+			position += 8;
+		}
+		if (spare != -1 && count > 0) {
+			writer.write(spare, 8);
+			spare = -1;
+			position += 8;
+			count--;
+		}
+		if (count > 0) {
+			long transferred = transferSourceBytes(writer, count);
+			position += transferred << 3;
+			if (transferred < count) throw new EndOfBitStreamException();
+		}
+	}
+
 	// private utility methods
 
+	// takes between 1 and 56 bits, which must lie within the size of the stream
+	private long take(int count) {
+		if (accBits < count) {
+			fill(count);
+			if (accBits < count) throw new EndOfBitStreamException();
+		}
+		long bits = acc >>> (64 - count);
+		acc <<= count;
+		accBits -= count;
+		position += count;
+		return bits;
+	}
+
+	// buffers at least the number of bits needed, unless the source is exhausted
+	private void fill(int needed) {
+		int room = 64 - accBits;
+		if (spare != -1) {
+			if (room < 8) return;
+			room -= 8;
+			acc |= (long) spare << room;
+			accBits += 8;
+			spare = -1;
+		}
+		int count = room >> 3;
+		if (count == 0) return;
+		if (sourceBytesAvailable() >= count) {
+			acc |= readSourceBytes(count) << (room - (count << 3));
+			accBits += count << 3;
+		} else {
+			// avoid reading further into the source than necessary
+			while (accBits < needed && accBits <= 56) {
+				int b = readSourceByte();
+				if (b == -1) return;
+				acc |= (long) b << (56 - accBits);
+				accBits += 8;
+			}
+		}
+	}
+
+	private void clear() {
+		acc = 0L;
+		accBits = 0;
+		spare = -1;
+	}
+
 	private long skipFully(long count) {
 		long total = 0L;
 		while (total < count) {
-			long skipped = skipSourceBytes(count);
+			long skipped = skipSourceBytes(count - total);
 			if (skipped == 0L) {
 				if (readSourceByte() < 0) {
 					break;
@@ -16,6 +16,10 @@
  */
 package com.tomgibara.bits;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 
 
@@ -23,6 +27,11 @@ import java.util.Arrays;
  * A convenient base class for creating {@link BitWriter} implementations that
  * store their bits in a byte sequence.
  *
+ * Bits are accumulated in a 64-bit buffer which is written out as a whole
+ * word when full, via {@link #writeWord(long)}; writers that can store eight
+ * bytes at once should override that method. Any bits that remain buffered
+ * are written out, padded to a whole byte, when the writer is flushed.
+ *
  * @author Tom Gibara
  *
  */
@@ -38,14 +47,16 @@ abstract class ByteBasedBitWriter implements BitWriter {
 	private static final int PAD_BUFFER = 128;
 	private static final int PAD_LIMIT = 3;
 
+	private static final int COPY_BUFFER = 8192;
+
 	// fields
 
 	private final long size;
-	//stores up to 8 bits - higher bits may include garbage
-	private int buffer = 0;
-	// number of bits in buffer
-	// buffer is flushed immediately when count reaches 8
-	private int count = 0;
+	// stores up to 63 bits in the least significant places - higher bits may include garbage
+	private long acc = 0L;
+	// number of bits in acc
+	// acc is written immediately when it is filled
+	private int accBits = 0;
 	// the position in the stream
 	private long position = 0;
 
@@ -71,12 +82,69 @@ abstract class ByteBasedBitWriter implements BitWriter {
 
 	protected abstract void writeByte(int value) throws BitStreamException;
 
-	protected void writeBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+	/**
+	 * Writes eight bytes into the sequence, most significant byte first. The
+	 * default implementation writes each byte via {@link #writeByte(int)}.
+	 *
+	 * @param value
+	 *            the bytes to write
+	 * @throws BitStreamException
+	 *             if an exception occurs when writing
+	 */
+
+	protected void writeWord(long value) throws BitStreamException {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			writeByte((int) (value >>> shift));
+		}
+	}
+
+	protected void writeByteArray(byte[] bytes, int offset, int length) throws BitStreamException {
 		for (int i = 0; i < length; i++) {
 			writeByte(bytes[offset + i]);
 		}
 	}
 
+	/**
+	 * Writes the remaining bytes of a buffer into the sequence, advancing the
+	 * position of the buffer. The default implementation writes the bytes
+	 * via {@link #writeByteArray(byte[], int, int)}.
+	 *
+	 * @param buffer
+	 *            the buffer containing the bytes to write
+	 * @throws BitStreamException
+	 *             if an exception occurs when writing
+	 */
+
+	protected void writeByteBuffer(ByteBuffer buffer) throws BitStreamException {
+		if (buffer.hasArray()) {
+			int length = buffer.remaining();
+			writeByteArray(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+			buffer.position(buffer.position() + length);
+			return;
+		}
+		byte[] bytes = new byte[Math.min(buffer.remaining(), COPY_BUFFER)];
+		while (buffer.hasRemaining()) {
+			int length = Math.min(buffer.remaining(), bytes.length);
+			buffer.get(bytes, 0, length);
+			writeByteArray(bytes, 0, length);
+		}
+	}
+
+	/**
+	 * A channel to which bytes may be written directly, bypassing this
+	 * writer. This method is only called when no bytes are buffered by this
+	 * class; implementations that buffer bytes themselves must write them out
+	 * before returning a channel. The default implementation returns null.
+	 *
+	 * @return a channel that receives the byte sequence, or null
+	 * @throws BitStreamException
+	 *             if an exception occurs when writing buffered bytes
+	 */
+
+	protected WritableByteChannel writableChannel() throws BitStreamException {
+		return null;
+	}
+
 	/**
 	 * Writes a single value repeatedly into the sequence.
 	 *
@@ -110,17 +178,17 @@ abstract class ByteBasedBitWriter implements BitWriter {
 
 		// if we can, just do it with a single buffer
 		if (count <= len) {
-			writeBytes(buffer, 0, (int) count);
+			writeByteArray(buffer, 0, (int) count);
 			return;
 		}
 
 		// write the buffer as many times as we need to
 		long limit = count / len;
 		for (long i = 0; i < limit; i++) {
-			writeBytes(buffer, 0, len);
+			writeByteArray(buffer, 0, len);
 		}
 		int r = (int) (count - limit * len);
-		if (r != 0) writeBytes(buffer, 0, r);
+		if (r != 0) writeByteArray(buffer, 0, r);
 	}
 
 	// bit writer methods
@@ -129,68 +197,99 @@ abstract class ByteBasedBitWriter implements BitWriter {
 	public long writeBooleans(boolean value, long count) {
 		if (count < 0L) throw new IllegalArgumentException("negative count");
 		if (position + count > size) throw new EndOfBitStreamException();
-		int boundary = BitBoundary.BYTE.bitsFrom(position);
-		int bits = value ? -1 : 0;
-		if (count <= boundary) return write(bits, (int) count);
+		long bits = value ? -1L : 0L;
+		if (count <= 64) {
+			if (count > 0L) put(bits, (int) count);
+			return count;
+		}
 
-		long c = write(bits, boundary);
+		// complete the buffered word, then fill whole bytes
+		int c = 64 - accBits;
+		put(bits, c);
 		long d = (count - c) >> 3;
-		fillBytes(bits, d);
+		fillBytes((int) bits, d);
 		d <<= 3;
 		position += d;
-		c += d;
-		c += write(bits, (int) (count - c));
-
-		return c;
+		int r = (int) (count - c - d);
+		if (r > 0) put(bits, r);
+		return count;
 	}
 
 	@Override
 	public int writeBit(int bit) {
 		if (position >= size) throw new EndOfBitStreamException();
-		buffer = (buffer << 1) | (bit & 1);
-		if (++count == 8) {
-			writeByte(buffer);
-			count = 0;
+		if (accBits == 63) {
+			writeWord((acc << 1) | (bit & 1));
+			accBits = 0;
+		} else {
+			acc = (acc << 1) | (bit & 1);
+			accBits++;
 		}
 		position++;
 		return 1;
 	}
 
+	@Override
+	public int writeBoolean(boolean bit) {
+		return writeBit(bit ? 1 : 0);
+	}
+
 	@Override
 	public int write(int bits, int count) {
 		if (count < 0) throw new IllegalArgumentException("negative count");
 		if (count > 32) throw new IllegalArgumentException("count too great");
 		if (count == 0) return 0;
 		if (position + count > size) throw new EndOfBitStreamException();
-		int c = count;
-		// first buffer fill, we need to mix bits
-		if (this.count + c >= 8) {
-			int b = 8 - this.count;
-			c -= b;
-			writeByte( (buffer << b) | ((bits >> c) & (-1 >>> -b)) );
-			this.count = 0;
-		}
-		while (c > 7) {
-			c -= 8;
-			writeByte(bits >> c);
-		}
-		if (this.count == 0) {
-			buffer = bits;
-			this.count = c;
-		} else {
-			buffer = (buffer << c) | (bits & (-1 >>> -c));
-			this.count += c;
-		}
+		put(bits, count);
+		return count;
+	}
+
+	@Override
+	public int write(long bits, int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		if (count == 0) return 0;
+		if (position + count > size) throw new EndOfBitStreamException();
+		put(bits, count);
+		return count;
+	}
+
+	@Override
+	public long writeBytes(byte[] bytes, int offset, int length) {
+		if (bytes == null) throw new IllegalArgumentException("null bytes");
+		BitStreams.checkArray(bytes.length, offset, length);
+		long count = (long) length << 3;
+		if (position + count > size) throw new EndOfBitStreamException();
+		if ((accBits & 7) != 0) return BitWriter.super.writeBytes(bytes, offset, length);
+		writeBuffered();
+		writeByteArray(bytes, offset, length);
 		position += count;
 		return count;
 	}
 
+	@Override
+	public long writeLongs(long[] longs, int offset, int length) {
+		if (longs == null) throw new IllegalArgumentException("null longs");
+		BitStreams.checkArray(longs.length, offset, length);
+		long count = (long) length << 6;
+		if (position + count > size) throw new EndOfBitStreamException();
+		final int to = offset + length;
+		for (int i = offset; i < to; i++) {
+			put(longs[i], 64);
+		}
+		return count;
+	}
+
 	@Override
 	public int flush() {
-		if (count == 0) return 0;
-		int c = 8 - count;
-		writeByte(buffer << c);
-		count = 0;
+		if (accBits == 0) return 0;
+		int c = (8 - accBits) & 7;
+		int total = accBits + c;
+		long bytes = acc << c;
+		for (int shift = total - 8; shift >= 0; shift -= 8) {
+			writeByte((int) (bytes >>> shift));
+		}
+		accBits = 0;
 		//TODO looks questionable
 		position += c;
 		return c;
@@ -201,8 +300,65 @@ abstract class ByteBasedBitWriter implements BitWriter {
 		return position;
 	}
 
+	// package scoped methods
+
+	// writes the remaining bytes of a buffer, the writer must be on a byte boundary
+	long writeBytes(ByteBuffer buffer) {
+		long count = (long) buffer.remaining() << 3;
+		if (position + count > size) throw new EndOfBitStreamException();
+		writeBuffered();
+		writeByteBuffer(buffer);
+		position += count;
+		return count;
+	}
+
+	// transfers bytes from a channel, the writer must be on a byte boundary
+	// returns the number of bytes transferred, or -1 if there is no channel to receive them
+	long transferFrom(FileChannel channel, long index, long count) {
+		if (position + (count << 3) > size) throw new EndOfBitStreamException();
+		writeBuffered();
+		WritableByteChannel target = writableChannel();
+		if (target == null) return -1L;
+		long total = 0L;
+		try {
+			while (total < count) {
+				long transferred = channel.transferTo(index + total, count - total, target);
+				if (transferred <= 0L) break;
+				total += transferred;
+			}
+		} catch (IOException e) {
+			throw new BitStreamException(e);
+		}
+		position += total << 3;
+		return total;
+	}
+
 	// private utility methods
 
+	// buffered bits are whole bytes when the position is on a byte boundary
+	private void writeBuffered() {
+		for (int shift = accBits - 8; shift >= 0; shift -= 8) {
+			writeByte((int) (acc >>> shift));
+		}
+		accBits = 0;
+	}
+
+	// buffers between 1 and 64 bits, writing the buffer if it fills
+	private void put(long bits, int count) {
+		int free = 64 - accBits;
+		if (count < free) {
+			acc = (acc << count) | (bits & (-1L >>> -count));
+			accBits += count;
+		} else {
+			// garbage in the high places of acc is shifted out
+			int rest = count - free;
+			writeWord(free == 64 ? bits : (acc << free) | ((bits >>> rest) & (-1L >>> accBits)));
+			acc = bits;
+			accBits = rest;
+		}
+		position += count;
+	}
+
 	private byte[] getBuffer(byte b) {
 		if (b != 0 & b != -1) return null;
 		byte[] buffer;
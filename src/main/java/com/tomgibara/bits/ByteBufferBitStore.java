@@ -0,0 +1,553 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static com.tomgibara.bits.Bits.checkBitsLength;
+import static com.tomgibara.bits.Bits.checkIntBitsLength;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.tomgibara.bits.ImmutableBit.ImmutableOne;
+import com.tomgibara.bits.ImmutableBit.ImmutableZero;
+
+// bits are ordered as per BytesBitStore, so that words are little-endian longs
+class ByteBufferBitStore extends AbstractBitStore {
+
+	// statics
+
+	private static final int SET = 0;
+	private static final int AND = 1;
+	private static final int OR  = 2;
+	private static final int XOR = 3;
+
+	private static final int WORD_SIZE = 64;
+
+	private static long mask(int length) {
+		return length == WORD_SIZE ? -1L : (1L << length) - 1L;
+	}
+
+	// the bits of v outside m must be zero
+	private static long combine(int operation, long word, long v, long m) {
+		switch (operation) {
+		case SET: return word & ~m | v;
+		case AND: return word & (v | ~m);
+		case OR : return word | v;
+		case XOR: return word ^ v;
+		default: throw new IllegalStateException("unexpected operation");
+		}
+	}
+
+	// fields
+
+	// always little endian, position and limit are never modified
+	final ByteBuffer buffer;
+	private final int limit;
+	private final int start;
+	private final int finish;
+	private final boolean mutable;
+
+	// constructors
+
+	// buffer must be little endian
+	ByteBufferBitStore(ByteBuffer buffer, int start, int finish, boolean mutable) {
+		this.buffer = buffer;
+		this.limit = buffer.limit();
+		this.start = start;
+		this.finish = finish;
+		this.mutable = mutable;
+	}
+
+	// fundamentals
+
+	@Override
+	public int size() {
+		return finish - start;
+	}
+
+	@Override
+	public boolean getBit(int index) {
+		index = adjIndex(index);
+		return (buffer.get(index >> 3) & (1 << (index & 7))) != 0;
+	}
+
+	@Override
+	public void setBit(int index, boolean value) {
+		index = adjIndex(index);
+		checkMutable();
+		performAdj(SET, index, value ? 1L : 0L, 1);
+	}
+
+	// accelerators
+
+	@Override
+	public void flipBit(int index) {
+		index = adjIndex(index);
+		checkMutable();
+		performAdj(XOR, index, 1L, 1);
+	}
+
+	@Override
+	public boolean getThenSetBit(int index, boolean value) {
+		index = adjIndex(index);
+		checkMutable();
+		boolean previous = (buffer.get(index >> 3) & (1 << (index & 7))) != 0;
+		if (previous != value) performAdj(XOR, index, 1L, 1);
+		return previous;
+	}
+
+	@Override
+	public long getBits(int position, int length) {
+		checkBitsLength(length);
+		return getBitsAdj(adjPosition(position, length), length);
+	}
+
+	@Override
+	public int getBitsAsInt(int position, int length) {
+		checkIntBitsLength(length);
+		return (int) getBitsAdj(adjPosition(position, length), length);
+	}
+
+	@Override
+	public void setBits(int position, long value, int length) {
+		checkBitsLength(length);
+		position = adjPosition(position, length);
+		checkMutable();
+		performAdj(SET, position, value, length);
+	}
+
+	@Override
+	public void setBitsAsInt(int position, int value, int length) {
+		checkIntBitsLength(length);
+		position = adjPosition(position, length);
+		checkMutable();
+		performAdj(SET, position, value, length);
+	}
+
+	@Override
+	public void setStore(int position, BitStore store) {
+		performStore(SET, position, store);
+	}
+
+	@Override
+	public void fill() {
+		checkMutable();
+		performAdj(SET, start, finish, true);
+	}
+
+	@Override
+	public void clear() {
+		checkMutable();
+		performAdj(SET, start, finish, false);
+	}
+
+	@Override
+	public void flip() {
+		checkMutable();
+		performAdj(XOR, start, finish, true);
+	}
+
+	// operations
+
+	@Override
+	public Op set() {
+		return new BufferOp(SET);
+	}
+
+	@Override
+	public Op and() {
+		return new BufferOp(AND);
+	}
+
+	@Override
+	public Op or() {
+		return new BufferOp(OR);
+	}
+
+	@Override
+	public Op xor() {
+		return new BufferOp(XOR);
+	}
+
+	// matching
+
+	@Override
+	public BitMatches ones() {
+		return new BufferMatches(true);
+	}
+
+	@Override
+	public BitMatches zeros() {
+		return new BufferMatches(false);
+	}
+
+	// views
+
+	@Override
+	public BitStore range(int from, int to) {
+		if (from < 0) throw new IllegalArgumentException();
+		if (from > to) throw new IllegalArgumentException();
+		from += start;
+		to += start;
+		if (to > finish) throw new IllegalArgumentException();
+		return new ByteBufferBitStore(buffer, from, to, mutable);
+	}
+
+	// mutability
+
+	@Override
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	@Override
+	public BitStore mutableCopy() {
+		return copyAdj(true);
+	}
+
+	@Override
+	public BitStore immutableCopy() {
+		return copyAdj(false);
+	}
+
+	@Override
+	public BitStore immutableView() {
+		return new ByteBufferBitStore(buffer, start, finish, false);
+	}
+
+	// package scoped methods
+
+	int start() {
+		return start;
+	}
+
+	int finish() {
+		return finish;
+	}
+
+	// counts ones if ones is true, zeros otherwise
+	int countAdj(int from, int to, boolean ones) {
+		int count = 0;
+		int position = from;
+		int head = Math.min((8 - (from & 7)) & 7, to - from);
+		if (head > 0) {
+			count += Long.bitCount(getBitsAdj(from, head));
+			position += head;
+		}
+		for (; to - position >= WORD_SIZE; position += WORD_SIZE) {
+			count += Long.bitCount(buffer.getLong(position >> 3));
+		}
+		if (position < to) {
+			count += Long.bitCount(getBitsAdj(position, to - position));
+		}
+		return ones ? count : to - from - count;
+	}
+
+	// returns to if there is no match
+	int firstAdj(int from, int to, boolean ones) {
+		for (int position = from; position < to; position += WORD_SIZE) {
+			int length = Math.min(to - position, WORD_SIZE);
+			long bits = getBitsAdj(position, length);
+			if (!ones) bits = ~bits & mask(length);
+			if (bits != 0L) return position + Long.numberOfTrailingZeros(bits);
+		}
+		return to;
+	}
+
+	// returns from - 1 if there is no match
+	int lastAdj(int from, int to, boolean ones) {
+		for (int position = to; position > from; position -= WORD_SIZE) {
+			int length = Math.min(position - from, WORD_SIZE);
+			long bits = getBitsAdj(position - length, length);
+			if (!ones) bits = ~bits & mask(length);
+			if (bits != 0L) return position - 1 - Long.numberOfLeadingZeros(bits << (WORD_SIZE - length));
+		}
+		return from - 1;
+	}
+
+	// private helper methods
+
+	private int adjIndex(int index) {
+		return Bits.adjIndex(index, start, finish);
+	}
+
+	private int adjPosition(int position, int length) {
+		if (position < 0) throw new IllegalArgumentException("negative position: " + position);
+		position += start;
+		if (position + length > finish) throw new IllegalArgumentException("position too large: " + (position - start));
+		return position;
+	}
+
+	private void checkMutable() {
+		if (!mutable) throw new IllegalStateException("immutable");
+	}
+
+	// reads up to eight bytes without exceeding the buffer limit
+	private long loadLong(int index) {
+		if (index + 8 <= limit) return buffer.getLong(index);
+		long bits = 0L;
+		for (int i = limit - 1; i >= index; i--) {
+			bits = (bits << 8) | (buffer.get(i) & 0xffL);
+		}
+		return bits;
+	}
+
+	// writes up to eight bytes without exceeding the buffer limit
+	private void storeLong(int index, long bits) {
+		if (index + 8 <= limit) {
+			buffer.putLong(index, bits);
+		} else {
+			for (int i = index; i < limit; i++, bits >>>= 8) {
+				buffer.put(i, (byte) bits);
+			}
+		}
+	}
+
+	private long getBitsAdj(int position, int length) {
+		if (length == 0) return 0L;
+		final int i = position >> 3;
+		final int s = position & 7;
+		long bits = loadLong(i) >>> s;
+		if (s + length > WORD_SIZE) bits |= (buffer.get(i + 8) & 0xffL) << (WORD_SIZE - s);
+		return bits & mask(length);
+	}
+
+	private void performAdj(int operation, int position, long value, int length) {
+		if (length == 0) return;
+		final long m = mask(length);
+		value &= m;
+		final int i = position >> 3;
+		final int s = position & 7;
+		storeLong(i, combine(operation, loadLong(i), value << s, m << s));
+		if (s + length > WORD_SIZE) {
+			final int t = WORD_SIZE - s;
+			final long b = buffer.get(i + 8);
+			buffer.put(i + 8, (byte) combine(operation, b, value >>> t, m >>> t));
+		}
+	}
+
+	private void performAdj(int operation, int from, int to, boolean value) {
+		switch (operation) {
+		case SET: break;
+		case AND: if (value) return; break;
+		case OR : if (!value) return; break;
+		case XOR: if (!value) return; break;
+		default: throw new IllegalStateException("unexpected operation");
+		}
+		final long v = value ? -1L : 0L;
+		int position = from;
+		int head = Math.min((8 - (from & 7)) & 7, to - from);
+		if (head > 0) {
+			performAdj(operation, position, v, head);
+			position += head;
+		}
+		for (; to - position >= WORD_SIZE; position += WORD_SIZE) {
+			int i = position >> 3;
+			buffer.putLong(i, combine(operation, buffer.getLong(i), v, -1L));
+		}
+		if (position < to) {
+			performAdj(operation, position, v, to - position);
+		}
+	}
+
+	private void performStore(int operation, int position, BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		position = adjPosition(position, store.size());
+		checkMutable();
+		if (store instanceof ByteBufferBitStore && ((ByteBufferBitStore) store).buffer == buffer) {
+			// guard against overlapping ranges of the same buffer
+			store = store.immutableCopy();
+		}
+		final int length = store.size();
+		int i = 0;
+		for (; length - i >= WORD_SIZE; i += WORD_SIZE) {
+			performAdj(operation, position + i, store.getBits(i, WORD_SIZE), WORD_SIZE);
+		}
+		if (i < length) {
+			performAdj(operation, position + i, store.getBits(i, length - i), length - i);
+		}
+	}
+
+	private BitStore copyAdj(boolean mutable) {
+		final int from = start >> 3;
+		final int to = (finish + 7) >> 3;
+		final ByteBuffer copy = buffer.isDirect() ? ByteBuffer.allocateDirect(to - from) : ByteBuffer.allocate(to - from);
+		copy.order(ByteOrder.LITTLE_ENDIAN);
+		copy.put(0, buffer, from, to - from);
+		final int offset = from << 3;
+		return new ByteBufferBitStore(copy, start - offset, finish - offset, mutable);
+	}
+
+	// inner classes
+
+	private final class BufferOp implements Op {
+
+		private final int operation;
+
+		BufferOp(int operation) {
+			this.operation = operation;
+		}
+
+		@Override
+		public Operation getOperation() {
+			return Operation.values[operation];
+		}
+
+		@Override
+		public void with(boolean value) {
+			checkMutable();
+			performAdj(operation, start, finish, value);
+		}
+
+		@Override
+		public void withBit(int position, boolean value) {
+			position = adjIndex(position);
+			checkMutable();
+			performAdj(operation, position, value ? 1L : 0L, 1);
+		}
+
+		@Override
+		public boolean getThenWithBit(int position, boolean value) {
+			position = adjIndex(position);
+			checkMutable();
+			boolean previous = (buffer.get(position >> 3) & (1 << (position & 7))) != 0;
+			performAdj(operation, position, value ? 1L : 0L, 1);
+			return previous;
+		}
+
+		@Override
+		public void withByte(int position, byte value) {
+			withBits(position, value, 8);
+		}
+
+		@Override
+		public void withShort(int position, short value) {
+			withBits(position, value, 16);
+		}
+
+		@Override
+		public void withInt(int position, int value) {
+			withBits(position, value, 32);
+		}
+
+		@Override
+		public void withLong(int position, long value) {
+			withBits(position, value, 64);
+		}
+
+		@Override
+		public void withBits(int position, long value, int length) {
+			checkBitsLength(length);
+			position = adjPosition(position, length);
+			checkMutable();
+			performAdj(operation, position, value, length);
+		}
+
+		@Override
+		public void withStore(BitStore store) {
+			if (store == null) throw new IllegalArgumentException("null store");
+			if (store.size() != size()) throw new IllegalArgumentException("different sizes");
+			performStore(operation, 0, store);
+		}
+
+		@Override
+		public void withStore(int position, BitStore store) {
+			performStore(operation, position, store);
+		}
+
+		@Override
+		public void withBytes(int position, byte[] bytes, int offset, int length) {
+			performStore(operation, position, new BitStoreOp.ByteBits(bytes, offset, length));
+		}
+
+		@Override
+		public BitWriter openWriter(int finalPos, int initialPos) {
+			Bits.checkBounds(finalPos, initialPos, size());
+			checkMutable();
+			switch (operation) {
+			case SET: return new BitStoreWriter.Set(ByteBufferBitStore.this, finalPos, initialPos);
+			case AND: return new BitStoreWriter.And(ByteBufferBitStore.this, finalPos, initialPos);
+			case OR : return new BitStoreWriter.Or(ByteBufferBitStore.this, finalPos, initialPos);
+			case XOR: return new BitStoreWriter.Xor(ByteBufferBitStore.this, finalPos, initialPos);
+			default: throw new IllegalStateException("unexpected operation");
+			}
+		}
+
+	}
+
+	private final class BufferMatches extends BitStoreBitMatches {
+
+		private final boolean bit;
+
+		BufferMatches(boolean bit) {
+			super(ByteBufferBitStore.this);
+			this.bit = bit;
+		}
+
+		@Override
+		public boolean bit() {
+			return bit;
+		}
+
+		@Override
+		public BitStore sequence() {
+			return bit ? ImmutableOne.INSTANCE : ImmutableZero.INSTANCE;
+		}
+
+		@Override
+		public BitMatches range(int from, int to) {
+			return s.range(from, to).match(bit);
+		}
+
+		@Override
+		public boolean isAll() {
+			return firstAdj(start, finish, !bit) == finish;
+		}
+
+		@Override
+		public boolean isNone() {
+			return firstAdj(start, finish, bit) == finish;
+		}
+
+		@Override
+		public int count() {
+			return countAdj(start, finish, bit);
+		}
+
+		@Override
+		public int first() {
+			return firstAdj(start, finish, bit) - start;
+		}
+
+		@Override
+		public int last() {
+			return lastAdj(start, finish, bit) - start;
+		}
+
+		@Override
+		public int next(int position) {
+			return firstAdj(Bits.adjPosition(position, start, finish), finish, bit) - start;
+		}
+
+		@Override
+		public int previous(int position) {
+			return lastAdj(start, Bits.adjPosition(position, start, finish), bit) - start;
+		}
+
+	}
+
+}
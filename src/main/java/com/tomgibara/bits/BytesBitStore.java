@@ -126,6 +126,41 @@ class BytesBitStore extends AbstractBitStore {
 		return v;
 	}
 
+	@Override
+	public long getBits(int position, int length) {
+		Bits.checkBitsLength(length);
+		position = adjPosition(position, length);
+		if (length == 0) return 0L;
+		int s = position & ADDRESS_MASK;
+		int f = position >> ADDRESS_BITS;
+		int t = (position + length - 1) >> ADDRESS_BITS;
+		long value = (bits[f] & 0xffL) >>> s;
+		for (int i = f + 1; i <= t; i++) {
+			value |= (bits[i] & 0xffL) << (((i - f) << ADDRESS_BITS) - s);
+		}
+		return length == 64 ? value : value & ((1L << length) - 1L);
+	}
+
+	@Override
+	public void setBits(int position, long value, int length) {
+		Bits.checkBitsLength(length);
+		position = adjPosition(position, length);
+		checkMutability();
+		if (length == 0) return;
+		long m = length == 64 ? -1L : (1L << length) - 1L;
+		value &= m;
+		int s = position & ADDRESS_MASK;
+		int f = position >> ADDRESS_BITS;
+		int t = (position + length - 1) >> ADDRESS_BITS;
+		for (int i = f; i <= t; i++) {
+			// the offset of the byte's least significant bit within the value
+			int shift = ((i - f) << ADDRESS_BITS) - s;
+			long bm = shift < 0 ? m << -shift : m >>> shift;
+			long bv = shift < 0 ? value << -shift : value >>> shift;
+			bits[i] = (byte) ((bits[i] & ~bm) | bv);
+		}
+	}
+
 	// views
 
 	@Override
@@ -166,6 +201,12 @@ class BytesBitStore extends AbstractBitStore {
 		return Bits.adjIndex(index, start, finish);
 	}
 
+	private int adjPosition(int position, int length) {
+		position = Bits.adjPosition(position, start, finish);
+		if (position + length > finish) throw new IllegalArgumentException("length too great");
+		return position;
+	}
+
 	private BytesBitStore copyAdj(int from, int to, boolean mutable) {
 		if (start == finish) return new BytesBitStore(NO_BITS, from, to, mutable);
 		int i = start >> ADDRESS_BITS;
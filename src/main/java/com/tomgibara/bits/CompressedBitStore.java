@@ -0,0 +1,1229 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.util.Arrays;
+
+import com.tomgibara.bits.ImmutableBit.ImmutableOne;
+import com.tomgibara.bits.ImmutableBit.ImmutableZero;
+
+/**
+ * <p>
+ * A {@link BitStore} that compresses its bits. The store is divided into
+ * chunks of 2<sup>16</sup> bits, and each chunk that contains a one bit is
+ * held in whichever of three containers suits it: a sorted array of the
+ * positions of its one bits, a bitmap, or a list of runs of one bits. Chunks
+ * that contain no one bits occupy no storage. This makes the class suitable
+ * for storing both very sparse and very dense bit sets.
+ *
+ * <p>
+ * Operations that combine two compressed stores via {@link #and()},
+ * {@link #or()}, {@link #xor()}, {@link #set()} or {@link #andNot(BitStore)}
+ * proceed chunk by chunk, skipping chunks that cannot contribute to the
+ * result. Operations with other stores, including {@link BitVector}, read the
+ * other store in 64 bit words. The positions of one bits are best enumerated
+ * via {@link #ones()}.
+ *
+ * <p>
+ * Containers are converted between arrays and bitmaps as bits are modified;
+ * run containers are only introduced by {@link #fill()}, by combining stores
+ * and by {@link #optimize()}.
+ *
+ * @author Tom Gibara
+ * @see BitVector
+ */
+
+public final class CompressedBitStore extends AbstractBitStore {
+
+	// statics
+
+	private static final int CHUNK_BITS = 16;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final int WORD_COUNT = CHUNK_SIZE >> 6;
+
+	// arrays containing more positions than this are larger than a bitmap
+	private static final int ARRAY_LIMIT = 4096;
+
+	// the codes of Operation ordinals, extended with and-not
+	private static final int SET = 0;
+	private static final int AND = 1;
+	private static final int OR  = 2;
+	private static final int XOR = 3;
+	private static final int AND_NOT = 4;
+
+	/**
+	 * Creates a new compressed store containing the bits of the supplied store.
+	 *
+	 * @param store
+	 *            the store to be copied
+	 * @return a mutable compressed copy of the store
+	 */
+
+	public static CompressedBitStore fromStore(BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		CompressedBitStore copy = new CompressedBitStore(store.size());
+		copy.combine(SET, store);
+		return copy;
+	}
+
+	private static Container combine(int operation, Container a, Container b) {
+		if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) return x.merge(operation, y);
+		if (operation == AND || operation == AND_NOT) {
+			if (a instanceof ArrayContainer x) return x.filter(b, operation == AND);
+			if (b instanceof ArrayContainer y && operation == AND) return y.filter(a, true);
+		}
+		long[] words = a.toWords();
+		long[] others = b.words();
+		switch (operation) {
+		case AND: WordOps.INSTANCE.and(words, 0, others, 0, WORD_COUNT); break;
+		case OR : WordOps.INSTANCE.or(words, 0, others, 0, WORD_COUNT); break;
+		case XOR: WordOps.INSTANCE.xor(words, 0, others, 0, WORD_COUNT); break;
+		case AND_NOT: WordOps.INSTANCE.andNot(words, 0, others, 0, WORD_COUNT); break;
+		default: throw new IllegalArgumentException("unexpected operation");
+		}
+		return pack(words);
+	}
+
+	// chooses the smallest container for the bits, null if there are none
+	private static Container pack(long[] words) {
+		int cardinality = WordOps.INSTANCE.bitCount(words, 0, WORD_COUNT);
+		if (cardinality == 0) return null;
+		int runs = 0;
+		long carry = 0L;
+		for (long word : words) {
+			runs += Long.bitCount(word & ~((word << 1) | carry));
+			carry = word >>> 63;
+		}
+		// compare sizes in chars
+		int runSize = 2 * runs;
+		if (runSize < Math.min(cardinality, WORD_COUNT * 4)) return RunContainer.fromWords(words, runs);
+		if (cardinality <= ARRAY_LIMIT) return ArrayContainer.fromWords(words, cardinality);
+		return new BitmapContainer(words, cardinality);
+	}
+
+	private static long mask(int length) {
+		return length == 64 ? -1L : (1L << length) - 1L;
+	}
+
+	// sets the bits in [from, to)
+	private static void setRange(long[] words, int from, int to) {
+		if (from >= to) return;
+		int f = from >> 6;
+		int t = (to - 1) >> 6;
+		long fm = -1L << from;
+		long tm = -1L >>> -to;
+		if (f == t) {
+			words[f] |= fm & tm;
+		} else {
+			words[f] |= fm;
+			Arrays.fill(words, f + 1, t, -1L);
+			words[t] |= tm;
+		}
+	}
+
+	// the first position at or after from which has the given value, CHUNK_SIZE if none
+	private static int nextBit(long[] words, int from, boolean bit) {
+		if (from >= CHUNK_SIZE) return CHUNK_SIZE;
+		int i = from >> 6;
+		long word = (bit ? words[i] : ~words[i]) & (-1L << from);
+		while (word == 0L) {
+			if (++i == WORD_COUNT) return CHUNK_SIZE;
+			word = bit ? words[i] : ~words[i];
+		}
+		return (i << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	// the last position at or before from which has the given value, -1 if none
+	private static int previousBit(long[] words, int from, boolean bit) {
+		if (from < 0) return -1;
+		int i = from >> 6;
+		long word = (bit ? words[i] : ~words[i]) & (-1L >>> (63 - (from & 63)));
+		while (word == 0L) {
+			if (--i < 0) return -1;
+			word = bit ? words[i] : ~words[i];
+		}
+		return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+	}
+
+	// fields
+
+	private final int size;
+	private final Chunks chunks;
+	private final boolean mutable;
+
+	// constructors
+
+	/**
+	 * Creates a new compressed store in which every bit is zero.
+	 *
+	 * @param size
+	 *            the number of bits in the store
+	 */
+
+	public CompressedBitStore(int size) {
+		if (size < 0) throw new IllegalArgumentException("negative size");
+		this.size = size;
+		this.chunks = new Chunks();
+		this.mutable = true;
+	}
+
+	private CompressedBitStore(int size, Chunks chunks, boolean mutable) {
+		this.size = size;
+		this.chunks = chunks;
+		this.mutable = mutable;
+	}
+
+	// fundamental methods
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean getBit(int index) {
+		checkIndex(index);
+		Container container = chunks.get(index >>> CHUNK_BITS);
+		return container != null && container.contains(index & CHUNK_MASK);
+	}
+
+	@Override
+	public void setBit(int index, boolean value) {
+		checkIndex(index);
+		checkMutable();
+		int key = index >>> CHUNK_BITS;
+		int low = index & CHUNK_MASK;
+		Container container = chunks.get(key);
+		if (value) {
+			chunks.put(key, container == null ? new ArrayContainer().add(low) : container.add(low));
+		} else if (container != null) {
+			chunks.put(key, container.remove(low));
+		}
+	}
+
+	// accelerating methods
+
+	@Override
+	public long getBits(int position, int length) {
+		Bits.checkBitsLength(length);
+		Bits.checkBounds(position, position + length, size);
+		if (length == 0) return 0L;
+		int key = position >>> CHUNK_BITS;
+		int low = position & CHUNK_MASK;
+		int first = Math.min(length, CHUNK_SIZE - low);
+		long bits = getChunkBits(key, low, first);
+		if (first < length) bits |= getChunkBits(key + 1, 0, length - first) << first;
+		return bits;
+	}
+
+	@Override
+	public void setBits(int position, long value, int length) {
+		Bits.checkBitsLength(length);
+		Bits.checkBounds(position, position + length, size);
+		checkMutable();
+		if (length == 0) return;
+		int key = position >>> CHUNK_BITS;
+		int low = position & CHUNK_MASK;
+		int first = Math.min(length, CHUNK_SIZE - low);
+		setChunkBits(key, low, value & mask(first), first);
+		if (first < length) setChunkBits(key + 1, 0, (value >>> first) & mask(length - first), length - first);
+	}
+
+	@Override
+	public void setStore(int position, BitStore store) {
+		if (position == 0 && store instanceof CompressedBitStore && store.size() == size) {
+			combine(SET, store);
+		} else {
+			super.setStore(position, store);
+		}
+	}
+
+	@Override
+	public void fill() {
+		checkMutable();
+		int count = chunkCount();
+		Container[] containers = new Container[count];
+		for (int key = 0; key < count; key++) {
+			containers[key] = RunContainer.full(chunkLength(key));
+		}
+		chunks.set(keys(count), containers, count);
+	}
+
+	@Override
+	public void clear() {
+		checkMutable();
+		chunks.set(new char[0], new Container[0], 0);
+	}
+
+	@Override
+	public void flip() {
+		checkMutable();
+		int count = chunkCount();
+		Container[] containers = new Container[count];
+		for (int key = 0; key < count; key++) {
+			containers[key] = RunContainer.full(chunkLength(key));
+		}
+		merge(XOR, new Chunks(keys(count), containers, count));
+	}
+
+	// operations
+
+	@Override
+	public Op set() {
+		return new CompressedOp(new BitStoreOp.Set(this), SET);
+	}
+
+	@Override
+	public Op and() {
+		return new CompressedOp(new BitStoreOp.And(this), AND);
+	}
+
+	@Override
+	public Op or() {
+		return new CompressedOp(new BitStoreOp.Or(this), OR);
+	}
+
+	@Override
+	public Op xor() {
+		return new CompressedOp(new BitStoreOp.Xor(this), XOR);
+	}
+
+	/**
+	 * Clears every bit in this store that is set in the supplied store.
+	 *
+	 * @param store
+	 *            a store of the same size as this store
+	 */
+
+	public void andNot(BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		if (store.size() != size) throw new IllegalArgumentException("different sizes");
+		combine(AND_NOT, store);
+	}
+
+	// matching
+
+	@Override
+	public BitMatches ones() {
+		return new CompressedMatches(true);
+	}
+
+	@Override
+	public BitMatches zeros() {
+		return new CompressedMatches(false);
+	}
+
+	// mutability methods
+
+	@Override
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	@Override
+	public CompressedBitStore mutableCopy() {
+		return new CompressedBitStore(size, chunks.copy(), true);
+	}
+
+	@Override
+	public CompressedBitStore immutableCopy() {
+		return new CompressedBitStore(size, chunks.copy(), false);
+	}
+
+	@Override
+	public CompressedBitStore immutableView() {
+		return new CompressedBitStore(size, chunks, false);
+	}
+
+	// compression methods
+
+	/**
+	 * Converts each chunk of the store into the container that stores it most
+	 * compactly. This may be worthwhile after a large number of bit
+	 * modifications, since containers are not converted into runs as
+	 * individual bits are set.
+	 */
+
+	public void optimize() {
+		checkMutable();
+		Container[] containers = chunks.containers;
+		for (int i = 0; i < chunks.count; i++) {
+			containers[i] = pack(containers[i].toWords());
+		}
+	}
+
+	// package scoped methods
+
+	// the number of chunks that are stored with each type of container
+	int[] containerCounts() {
+		int[] counts = new int[3];
+		for (int i = 0; i < chunks.count; i++) {
+			Container container = chunks.containers[i];
+			counts[container instanceof ArrayContainer ? 0 : container instanceof BitmapContainer ? 1 : 2]++;
+		}
+		return counts;
+	}
+
+	// private utility methods
+
+	private void checkIndex(int index) {
+		if (index < 0) throw new IllegalArgumentException("negative index");
+		if (index >= size) throw new IllegalArgumentException("index too large");
+	}
+
+	private void checkMutable() {
+		if (!mutable) throw new IllegalStateException("immutable");
+	}
+
+	private int chunkCount() {
+		return (int) (((long) size + CHUNK_MASK) >>> CHUNK_BITS);
+	}
+
+	private int chunkLength(int key) {
+		return Math.min(CHUNK_SIZE, size - (key << CHUNK_BITS));
+	}
+
+	private static char[] keys(int count) {
+		char[] keys = new char[count];
+		for (int key = 0; key < count; key++) {
+			keys[key] = (char) key;
+		}
+		return keys;
+	}
+
+	private long getChunkBits(int key, int low, int length) {
+		Container container = chunks.get(key);
+		return container == null ? 0L : container.getBits(low, length);
+	}
+
+	private void setChunkBits(int key, int low, long value, int length) {
+		Container container = chunks.get(key);
+		if (container == null) {
+			if (value == 0L) return;
+			container = new ArrayContainer();
+		}
+		chunks.put(key, container.setBits(low, value, length));
+	}
+
+	private void combine(int operation, BitStore store) {
+		checkMutable();
+		if (store instanceof CompressedBitStore that) {
+			if (that.chunks == this.chunks) {
+				if (operation == XOR || operation == AND_NOT) clear();
+			} else {
+				merge(operation, that.chunks);
+			}
+		} else {
+			merge(operation, read(store, operation == AND || operation == AND_NOT));
+		}
+	}
+
+	// reads the chunks of a store; restricted to the keys of this store if specified
+	private Chunks read(BitStore store, boolean restricted) {
+		int count = restricted ? chunks.count : chunkCount();
+		char[] keys = new char[count];
+		Container[] containers = new Container[count];
+		int n = 0;
+		long[] words = new long[WORD_COUNT];
+		for (int i = 0; i < count; i++) {
+			int key = restricted ? chunks.keys[i] : i;
+			int offset = key << CHUNK_BITS;
+			int length = chunkLength(key);
+			for (int j = 0, p = 0; p < length; j++, p += 64) {
+				words[j] = store.getBits(offset + p, Math.min(64, length - p));
+			}
+			Container container = pack(words);
+			if (container == null) continue;
+			if (container instanceof BitmapContainer) words = new long[WORD_COUNT];
+			else Arrays.fill(words, 0L);
+			keys[n] = (char) key;
+			containers[n++] = container;
+		}
+		return new Chunks(keys, containers, n);
+	}
+
+	private void merge(int operation, Chunks that) {
+		Chunks a = this.chunks;
+		int capacity = operation == AND || operation == AND_NOT ? a.count : a.count + that.count;
+		char[] keys = new char[capacity];
+		Container[] containers = new Container[capacity];
+		int n = 0;
+		int i = 0;
+		int j = 0;
+		while (i < a.count || j < that.count) {
+			int ka = i < a.count ? a.keys[i] : Integer.MAX_VALUE;
+			int kb = j < that.count ? that.keys[j] : Integer.MAX_VALUE;
+			int key = Math.min(ka, kb);
+			Container ca = ka == key ? a.containers[i++] : null;
+			Container cb = kb == key ? that.containers[j++] : null;
+			Container result;
+			if (ca == null) {
+				result = operation == SET || operation == OR || operation == XOR ? cb.copy() : null;
+			} else if (cb == null) {
+				result = operation == SET || operation == AND ? null : ca;
+			} else if (operation == SET) {
+				result = cb.copy();
+			} else {
+				result = combine(operation, ca, cb);
+			}
+			if (result == null) continue;
+			if (n == capacity) {
+				capacity = Math.max(capacity * 2, 4);
+				keys = Arrays.copyOf(keys, capacity);
+				containers = Arrays.copyOf(containers, capacity);
+			}
+			keys[n] = (char) key;
+			containers[n++] = result;
+		}
+		a.set(keys, containers, n);
+	}
+
+	// the first one (or zero) at or after position, size if none
+	private int nextAdj(int position, boolean bit) {
+		Bits.checkPosition(position, size);
+		if (bit) {
+			int key = position >>> CHUNK_BITS;
+			for (int i = chunks.ceiling(key); i < chunks.count; i++) {
+				int k = chunks.keys[i];
+				int next = chunks.containers[i].next(k == key ? position & CHUNK_MASK : 0);
+				if (next >= 0) return (k << CHUNK_BITS) | next;
+			}
+			return size;
+		}
+		while (position < size) {
+			int key = position >>> CHUNK_BITS;
+			Container container = chunks.get(key);
+			if (container == null) return position;
+			int next = container.nextAbsent(position & CHUNK_MASK);
+			if (next < CHUNK_SIZE) return Math.min((key << CHUNK_BITS) | next, size);
+			position = (key + 1) << CHUNK_BITS;
+			if (position < 0) break;
+		}
+		return size;
+	}
+
+	// the last one (or zero) before position, -1 if none
+	private int previousAdj(int position, boolean bit) {
+		Bits.checkPosition(position, size);
+		if (position == 0) return -1;
+		int index = position - 1;
+		if (bit) {
+			int key = index >>> CHUNK_BITS;
+			for (int i = chunks.ceiling(key + 1) - 1; i >= 0; i--) {
+				int k = chunks.keys[i];
+				int previous = chunks.containers[i].previous(k == key ? index & CHUNK_MASK : CHUNK_MASK);
+				if (previous >= 0) return (k << CHUNK_BITS) | previous;
+			}
+			return -1;
+		}
+		while (index >= 0) {
+			int key = index >>> CHUNK_BITS;
+			Container container = chunks.get(key);
+			if (container == null) return index;
+			int previous = container.previousAbsent(index & CHUNK_MASK);
+			if (previous >= 0) return (key << CHUNK_BITS) | previous;
+			index = (key << CHUNK_BITS) - 1;
+		}
+		return -1;
+	}
+
+	private int countOnes() {
+		int count = 0;
+		for (int i = 0; i < chunks.count; i++) {
+			count += chunks.containers[i].cardinality();
+		}
+		return count;
+	}
+
+	// inner classes
+
+	// the containers of a store, shared with its views
+	private static final class Chunks {
+
+		char[] keys;
+		Container[] containers;
+		int count;
+
+		Chunks() {
+			this(new char[0], new Container[0], 0);
+		}
+
+		Chunks(char[] keys, Container[] containers, int count) {
+			this.keys = keys;
+			this.containers = containers;
+			this.count = count;
+		}
+
+		void set(char[] keys, Container[] containers, int count) {
+			this.keys = keys;
+			this.containers = containers;
+			this.count = count;
+		}
+
+		// the index of the first key not less than key
+		int ceiling(int key) {
+			int i = Arrays.binarySearch(keys, 0, count, (char) key);
+			return i < 0 ? -1 - i : i;
+		}
+
+		Container get(int key) {
+			int i = Arrays.binarySearch(keys, 0, count, (char) key);
+			return i < 0 ? null : containers[i];
+		}
+
+		// removes the container if it is empty
+		void put(int key, Container container) {
+			int i = Arrays.binarySearch(keys, 0, count, (char) key);
+			boolean empty = container == null || container.cardinality() == 0;
+			if (i >= 0) {
+				if (empty) {
+					System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+					System.arraycopy(containers, i + 1, containers, i, count - i - 1);
+					containers[--count] = null;
+				} else {
+					containers[i] = container;
+				}
+			} else if (!empty) {
+				i = -1 - i;
+				if (count == keys.length) {
+					int capacity = Math.max(count * 2, 4);
+					keys = Arrays.copyOf(keys, capacity);
+					containers = Arrays.copyOf(containers, capacity);
+				}
+				System.arraycopy(keys, i, keys, i + 1, count - i);
+				System.arraycopy(containers, i, containers, i + 1, count - i);
+				keys[i] = (char) key;
+				containers[i] = container;
+				count++;
+			}
+		}
+
+		Chunks copy() {
+			Container[] copies = new Container[count];
+			for (int i = 0; i < count; i++) {
+				copies[i] = containers[i].copy();
+			}
+			return new Chunks(Arrays.copyOf(keys, count), copies, count);
+		}
+	}
+
+	// positions are relative to the chunk; mutations return the container that should replace this one
+	private static abstract class Container {
+
+		abstract int cardinality();
+
+		abstract boolean contains(int low);
+
+		abstract Container add(int low);
+
+		abstract Container remove(int low);
+
+		// the range may not extend beyond the chunk
+		abstract long getBits(int low, int length);
+
+		// the value must be masked to the length
+		abstract Container setBits(int low, long value, int length);
+
+		// -1 if none
+		abstract int next(int low);
+
+		// -1 if none
+		abstract int previous(int low);
+
+		// CHUNK_SIZE if none
+		abstract int nextAbsent(int low);
+
+		// -1 if none
+		abstract int previousAbsent(int low);
+
+		// always a new array
+		abstract long[] toWords();
+
+		// may be the container's own array, which must not be modified
+		long[] words() {
+			return toWords();
+		}
+
+		abstract Container copy();
+
+		BitmapContainer toBitmap() {
+			long[] words = toWords();
+			return new BitmapContainer(words, cardinality());
+		}
+	}
+
+	private static final class ArrayContainer extends Container {
+
+		static ArrayContainer fromWords(long[] words, int cardinality) {
+			char[] values = new char[cardinality];
+			int n = 0;
+			for (int i = 0; i < WORD_COUNT; i++) {
+				for (long word = words[i]; word != 0L; word &= word - 1L) {
+					values[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+				}
+			}
+			return new ArrayContainer(values, n);
+		}
+
+		private char[] values;
+		private int count;
+
+		ArrayContainer() {
+			this(new char[4], 0);
+		}
+
+		ArrayContainer(char[] values, int count) {
+			this.values = values;
+			this.count = count;
+		}
+
+		@Override
+		int cardinality() {
+			return count;
+		}
+
+		@Override
+		boolean contains(int low) {
+			return Arrays.binarySearch(values, 0, count, (char) low) >= 0;
+		}
+
+		@Override
+		Container add(int low) {
+			int i = Arrays.binarySearch(values, 0, count, (char) low);
+			if (i >= 0) return this;
+			if (count == ARRAY_LIMIT) return toBitmap().add(low);
+			i = -1 - i;
+			if (count == values.length) values = Arrays.copyOf(values, Math.min(count * 2, ARRAY_LIMIT));
+			System.arraycopy(values, i, values, i + 1, count - i);
+			values[i] = (char) low;
+			count++;
+			return this;
+		}
+
+		@Override
+		Container remove(int low) {
+			int i = Arrays.binarySearch(values, 0, count, (char) low);
+			if (i < 0) return this;
+			System.arraycopy(values, i + 1, values, i, count - i - 1);
+			count--;
+			return this;
+		}
+
+		@Override
+		long getBits(int low, int length) {
+			int to = low + length;
+			long bits = 0L;
+			for (int i = ceiling(low); i < count && values[i] < to; i++) {
+				bits |= 1L << (values[i] - low);
+			}
+			return bits;
+		}
+
+		@Override
+		Container setBits(int low, long value, int length) {
+			int i = ceiling(low);
+			int j = ceiling(low + length);
+			int added = Long.bitCount(value);
+			int total = count - (j - i) + added;
+			if (total > ARRAY_LIMIT) return toBitmap().setBits(low, value, length);
+			if (total > values.length) values = Arrays.copyOf(values, Math.min(Math.max(total, values.length * 2), ARRAY_LIMIT));
+			System.arraycopy(values, j, values, i + added, count - j);
+			for (int k = i; value != 0L; value &= value - 1L) {
+				values[k++] = (char) (low + Long.numberOfTrailingZeros(value));
+			}
+			count = total;
+			return this;
+		}
+
+		@Override
+		int next(int low) {
+			int i = ceiling(low);
+			return i < count ? values[i] : -1;
+		}
+
+		@Override
+		int previous(int low) {
+			int i = ceiling(low + 1) - 1;
+			return i >= 0 ? values[i] : -1;
+		}
+
+		@Override
+		int nextAbsent(int low) {
+			for (int i = ceiling(low); i < count && values[i] == low; i++, low++);
+			return low;
+		}
+
+		@Override
+		int previousAbsent(int low) {
+			for (int i = ceiling(low + 1) - 1; i >= 0 && values[i] == low; i--, low--);
+			return low;
+		}
+
+		@Override
+		long[] toWords() {
+			long[] words = new long[WORD_COUNT];
+			for (int i = 0; i < count; i++) {
+				int value = values[i];
+				words[value >> 6] |= 1L << value;
+			}
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(count, 1)), count);
+		}
+
+		// merges two arrays
+		Container merge(int operation, ArrayContainer that) {
+			char[] a = this.values;
+			char[] b = that.values;
+			int m = this.count;
+			int n = that.count;
+			char[] result = new char[operation == AND || operation == AND_NOT ? m : m + n];
+			int k = 0;
+			int i = 0;
+			int j = 0;
+			while (i < m && j < n) {
+				char x = a[i];
+				char y = b[j];
+				if (x < y) {
+					if (operation != AND) result[k++] = x;
+					i++;
+				} else if (x > y) {
+					if (operation == OR || operation == XOR) result[k++] = y;
+					j++;
+				} else {
+					if (operation == AND || operation == OR) result[k++] = x;
+					i++;
+					j++;
+				}
+			}
+			if (operation != AND) {
+				while (i < m) result[k++] = a[i++];
+			}
+			if (operation == OR || operation == XOR) {
+				while (j < n) result[k++] = b[j++];
+			}
+			if (k == 0) return null;
+			ArrayContainer container = new ArrayContainer(result, k);
+			return k > ARRAY_LIMIT ? container.toBitmap() : container;
+		}
+
+		// retains the values that are (or are not) contained in the other container
+		Container filter(Container that, boolean contained) {
+			char[] result = new char[count];
+			int k = 0;
+			for (int i = 0; i < count; i++) {
+				if (that.contains(values[i]) == contained) result[k++] = values[i];
+			}
+			return k == 0 ? null : new ArrayContainer(result, k);
+		}
+
+		// the index of the first value not less than low
+		private int ceiling(int low) {
+			if (low >= CHUNK_SIZE) return count;
+			int i = Arrays.binarySearch(values, 0, count, (char) low);
+			return i < 0 ? -1 - i : i;
+		}
+	}
+
+	private static final class BitmapContainer extends Container {
+
+		private final long[] words;
+		private int cardinality;
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(int low) {
+			return (words[low >> 6] & (1L << low)) != 0L;
+		}
+
+		@Override
+		Container add(int low) {
+			long word = words[low >> 6];
+			long bit = 1L << low;
+			if ((word & bit) == 0L) {
+				words[low >> 6] = word | bit;
+				cardinality++;
+			}
+			return this;
+		}
+
+		@Override
+		Container remove(int low) {
+			long word = words[low >> 6];
+			long bit = 1L << low;
+			if ((word & bit) == 0L) return this;
+			words[low >> 6] = word & ~bit;
+			cardinality--;
+			return cardinality <= ARRAY_LIMIT ? ArrayContainer.fromWords(words, cardinality) : this;
+		}
+
+		@Override
+		long getBits(int low, int length) {
+			int i = low >> 6;
+			int s = low & 63;
+			long bits = words[i] >>> s;
+			if (s + length > 64) bits |= words[i + 1] << (64 - s);
+			return bits & mask(length);
+		}
+
+		@Override
+		Container setBits(int low, long value, int length) {
+			int i = low >> 6;
+			int s = low & 63;
+			long m = mask(length);
+			long before = words[i];
+			words[i] = (before & ~(m << s)) | (value << s);
+			cardinality += Long.bitCount(words[i]) - Long.bitCount(before);
+			if (s + length > 64) {
+				int r = 64 - s;
+				before = words[i + 1];
+				words[i + 1] = (before & ~(m >>> r)) | (value >>> r);
+				cardinality += Long.bitCount(words[i + 1]) - Long.bitCount(before);
+			}
+			return cardinality <= ARRAY_LIMIT ? ArrayContainer.fromWords(words, cardinality) : this;
+		}
+
+		@Override
+		int next(int low) {
+			int next = nextBit(words, low, true);
+			return next == CHUNK_SIZE ? -1 : next;
+		}
+
+		@Override
+		int previous(int low) {
+			return previousBit(words, low, true);
+		}
+
+		@Override
+		int nextAbsent(int low) {
+			return nextBit(words, low, false);
+		}
+
+		@Override
+		int previousAbsent(int low) {
+			return previousBit(words, low, false);
+		}
+
+		@Override
+		long[] toWords() {
+			return words.clone();
+		}
+
+		@Override
+		long[] words() {
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		BitmapContainer toBitmap() {
+			return this;
+		}
+	}
+
+	// runs are sorted, and are neither overlapping nor adjacent
+	private static final class RunContainer extends Container {
+
+		static RunContainer full(int length) {
+			return new RunContainer(new char[] { 0 }, new char[] { (char) (length - 1) }, 1);
+		}
+
+		static RunContainer fromWords(long[] words, int runs) {
+			char[] starts = new char[runs];
+			char[] lengths = new char[runs];
+			int n = 0;
+			for (int start = nextBit(words, 0, true); start < CHUNK_SIZE; start = nextBit(words, start, true)) {
+				int end = nextBit(words, start, false);
+				starts[n] = (char) start;
+				lengths[n++] = (char) (end - start - 1);
+				start = end;
+			}
+			return new RunContainer(starts, lengths, n);
+		}
+
+		private final char[] starts;
+		// one less than the length of each run
+		private final char[] lengths;
+		private final int runs;
+
+		RunContainer(char[] starts, char[] lengths, int runs) {
+			this.starts = starts;
+			this.lengths = lengths;
+			this.runs = runs;
+		}
+
+		@Override
+		int cardinality() {
+			int cardinality = runs;
+			for (int i = 0; i < runs; i++) {
+				cardinality += lengths[i];
+			}
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(int low) {
+			int i = floor(low);
+			return i >= 0 && low <= end(i);
+		}
+
+		@Override
+		Container add(int low) {
+			return contains(low) ? this : modifiable().add(low);
+		}
+
+		@Override
+		Container remove(int low) {
+			return contains(low) ? modifiable().remove(low) : this;
+		}
+
+		@Override
+		long getBits(int low, int length) {
+			int to = low + length;
+			long bits = 0L;
+			for (int i = Math.max(floor(low), 0); i < runs && starts[i] < to; i++) {
+				int from = Math.max(starts[i], low);
+				int until = Math.min(end(i) + 1, to);
+				if (from < until) bits |= mask(until - from) << (from - low);
+			}
+			return bits;
+		}
+
+		@Override
+		Container setBits(int low, long value, int length) {
+			return getBits(low, length) == value ? this : modifiable().setBits(low, value, length);
+		}
+
+		@Override
+		int next(int low) {
+			int i = floor(low);
+			if (i >= 0 && low <= end(i)) return low;
+			return i + 1 < runs ? starts[i + 1] : -1;
+		}
+
+		@Override
+		int previous(int low) {
+			int i = floor(low);
+			return i < 0 ? -1 : Math.min(low, end(i));
+		}
+
+		@Override
+		int nextAbsent(int low) {
+			int i = floor(low);
+			return i >= 0 && low <= end(i) ? end(i) + 1 : low;
+		}
+
+		@Override
+		int previousAbsent(int low) {
+			int i = floor(low);
+			return i >= 0 && low <= end(i) ? starts[i] - 1 : low;
+		}
+
+		@Override
+		long[] toWords() {
+			long[] words = new long[WORD_COUNT];
+			for (int i = 0; i < runs; i++) {
+				setRange(words, starts[i], end(i) + 1);
+			}
+			return words;
+		}
+
+		@Override
+		Container copy() {
+			// runs are never modified
+			return this;
+		}
+
+		private int end(int i) {
+			return starts[i] + lengths[i];
+		}
+
+		// runs are not modified, but are replaced with an equivalent array or bitmap
+		private Container modifiable() {
+			long[] words = toWords();
+			int cardinality = cardinality();
+			return cardinality <= ARRAY_LIMIT ? ArrayContainer.fromWords(words, cardinality) : new BitmapContainer(words, cardinality);
+		}
+
+		// the index of the last run starting at or before low, -1 if none
+		private int floor(int low) {
+			int i = Arrays.binarySearch(starts, 0, runs, (char) low);
+			return i < 0 ? -2 - i : i;
+		}
+	}
+
+	private final class CompressedMatches extends BitStoreBitMatches {
+
+		private final boolean bit;
+
+		CompressedMatches(boolean bit) {
+			super(CompressedBitStore.this);
+			this.bit = bit;
+		}
+
+		@Override
+		public boolean bit() {
+			return bit;
+		}
+
+		@Override
+		public BitStore sequence() {
+			return bit ? ImmutableOne.INSTANCE : ImmutableZero.INSTANCE;
+		}
+
+		@Override
+		public BitMatches range(int from, int to) {
+			return s.range(from, to).match(bit);
+		}
+
+		@Override
+		public boolean isAll() {
+			return count() == size;
+		}
+
+		@Override
+		public boolean isNone() {
+			return count() == 0;
+		}
+
+		@Override
+		public int count() {
+			int ones = countOnes();
+			return bit ? ones : size - ones;
+		}
+
+		@Override
+		public int first() {
+			return nextAdj(0, bit);
+		}
+
+		@Override
+		public int last() {
+			return previousAdj(size, bit);
+		}
+
+		@Override
+		public int next(int position) {
+			return nextAdj(position, bit);
+		}
+
+		@Override
+		public int previous(int position) {
+			return previousAdj(position, bit);
+		}
+	}
+
+	// applies operations with compressed stores and vectors chunk by chunk
+	private final class CompressedOp implements Op {
+
+		private final BitStoreOp op;
+		private final int operation;
+
+		CompressedOp(BitStoreOp op, int operation) {
+			this.op = op;
+			this.operation = operation;
+		}
+
+		@Override
+		public Operation getOperation() {
+			return op.getOperation();
+		}
+
+		@Override
+		public void with(boolean value) {
+			op.with(value);
+		}
+
+		@Override
+		public void withBit(int position, boolean value) {
+			op.withBit(position, value);
+		}
+
+		@Override
+		public boolean getThenWithBit(int position, boolean value) {
+			return op.getThenWithBit(position, value);
+		}
+
+		@Override
+		public void withByte(int position, byte value) {
+			op.withByte(position, value);
+		}
+
+		@Override
+		public void withShort(int position, short value) {
+			op.withShort(position, value);
+		}
+
+		@Override
+		public void withInt(int position, int value) {
+			op.withInt(position, value);
+		}
+
+		@Override
+		public void withLong(int position, long value) {
+			op.withLong(position, value);
+		}
+
+		@Override
+		public void withBits(int position, long value, int length) {
+			op.withBits(position, value, length);
+		}
+
+		@Override
+		public void withStore(BitStore store) {
+			if (store == null) throw new IllegalArgumentException("null store");
+			if (store.size() != size) throw new IllegalArgumentException("different sizes");
+			combine(operation, store);
+		}
+
+		@Override
+		public void withStore(int position, BitStore store) {
+			if (position == 0 && store != null && store.size() == size) {
+				combine(operation, store);
+			} else {
+				op.withStore(position, store);
+			}
+		}
+
+		@Override
+		public void withBytes(int position, byte[] bytes, int offset, int length) {
+			op.withBytes(position, bytes, offset, length);
+		}
+
+		@Override
+		public BitWriter openWriter(int finalPos, int initialPos) {
+			return op.openWriter(finalPos, initialPos);
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import com.tomgibara.hashing.Hasher;
+
+/**
+ * <p>
+ * A probabilistic set membership structure that, unlike a
+ * {@link BloomFilter}, supports the removal of elements. Each element is
+ * recorded as a fixed width fingerprint in one of two candidate buckets of
+ * four slots; an element that has been added is always reported as possibly
+ * contained, while an element that has not been added is reported as possibly
+ * contained with a probability of roughly 8/2<sup><i>f</i></sup>, for
+ * fingerprints of <i>f</i> bits.
+ *
+ * <p>
+ * Fingerprints are packed without padding into a {@link BitVector}, so a
+ * filter with 12 bit fingerprints occupies twelve bits per slot. When both
+ * candidate buckets are full, resident fingerprints are displaced to their
+ * alternate buckets. Filters typically accommodate elements until their
+ * {@link #loadFactor()} exceeds 0.95; an element that cannot be placed is
+ * reported by {@link #add(Object)} returning false.
+ *
+ * <p>
+ * Only elements that were previously added should be removed, otherwise the
+ * fingerprints of other elements may be lost.
+ *
+ * @author Tom Gibara
+ * @param <E>
+ *            the type of element recorded by the filter
+ * @see BloomFilter
+ */
+
+public final class CuckooFilter<E> {
+
+	// statics
+
+	private static final int SLOTS = 4;
+	private static final int MAX_KICKS = 500;
+
+	// fields
+
+	private final Hasher<E> hasher;
+	private final int fingerprintBits;
+	private final int fingerprintMask;
+	private final int bucketMask;
+	private final BitVector slots;
+	private int count = 0;
+	// a fingerprint that could not be placed, and one of its buckets
+	private int victim = 0;
+	private int victimBucket;
+	// state for choosing fingerprints to displace
+	private int seed = 0x2545f491;
+
+	// constructors
+
+	/**
+	 * Creates an empty filter.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param capacity
+	 *            the number of elements the filter should accommodate; the
+	 *            number of slots is rounded up to a power of two
+	 * @param fingerprintBits
+	 *            the number of bits in each fingerprint, from 2 to 32
+	 *            inclusive
+	 */
+
+	public CuckooFilter(Hasher<E> hasher, int capacity, int fingerprintBits) {
+		if (hasher == null) throw new IllegalArgumentException("null hasher");
+		if (capacity < 1) throw new IllegalArgumentException("non-positive capacity");
+		if (fingerprintBits < 2) throw new IllegalArgumentException("fingerprintBits too small");
+		if (fingerprintBits > 32) throw new IllegalArgumentException("fingerprintBits too large");
+		int buckets = Math.max(1, Integer.highestOneBit((capacity + SLOTS - 1) / SLOTS - 1) << 1);
+		long size = (long) buckets * SLOTS * fingerprintBits;
+		if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("capacity too large");
+		this.hasher = hasher;
+		this.fingerprintBits = fingerprintBits;
+		this.fingerprintMask = (int) ((1L << fingerprintBits) - 1L);
+		this.bucketMask = buckets - 1;
+		this.slots = new BitVector((int) size);
+	}
+
+	// accessors
+
+	/**
+	 * The number of bits in each fingerprint.
+	 *
+	 * @return the fingerprint width
+	 */
+
+	public int fingerprintBits() {
+		return fingerprintBits;
+	}
+
+	/**
+	 * The number of fingerprints the filter can hold.
+	 *
+	 * @return the number of slots
+	 */
+
+	public int capacity() {
+		return (bucketMask + 1) * SLOTS;
+	}
+
+	/**
+	 * The number of fingerprints held by the filter; this counts each element
+	 * that was added and not removed.
+	 *
+	 * @return the number of fingerprints
+	 */
+
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * The proportion of slots that are occupied.
+	 *
+	 * @return the load factor, from zero to one inclusive
+	 */
+
+	public double loadFactor() {
+		return (double) count / capacity();
+	}
+
+	/**
+	 * An immutable view of the slots in which fingerprints are packed.
+	 *
+	 * @return the filter's bits
+	 */
+
+	public BitStore bits() {
+		return slots.immutableView();
+	}
+
+	// membership
+
+	/**
+	 * Records an element in the filter. Elements may be added more than
+	 * once, but no element can be recorded more than eight times.
+	 *
+	 * @param element
+	 *            the element to add
+	 * @return true if the element was recorded, false if the filter is full
+	 */
+
+	public boolean add(E element) {
+		if (victim != 0) return false;
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int fingerprint = fingerprint(h);
+		int i1 = bucket(h);
+		int i2 = alternate(i1, fingerprint);
+		if (put(i1, fingerprint) || put(i2, fingerprint)) {
+			count++;
+			return true;
+		}
+		int bucket = (random() & 1) == 0 ? i1 : i2;
+		for (int kick = 0; kick < MAX_KICKS; kick++) {
+			int slot = position(bucket, random() & (SLOTS - 1));
+			int displaced = getSlot(slot);
+			setSlot(slot, fingerprint);
+			fingerprint = displaced;
+			bucket = alternate(bucket, fingerprint);
+			if (put(bucket, fingerprint)) {
+				count++;
+				return true;
+			}
+		}
+		// the element is recorded, but the displaced fingerprint is held aside
+		victim = fingerprint;
+		victimBucket = bucket;
+		count++;
+		return true;
+	}
+
+	/**
+	 * Whether an element may have been added to the filter. False positives
+	 * are possible, but false negatives are not.
+	 *
+	 * @param element
+	 *            the element to check
+	 * @return false if the element has definitely not been added, true
+	 *         otherwise
+	 */
+
+	public boolean mightContain(E element) {
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int fingerprint = fingerprint(h);
+		int i1 = bucket(h);
+		int i2 = alternate(i1, fingerprint);
+		return find(i1, fingerprint) >= 0 || find(i2, fingerprint) >= 0 || isVictim(i1, i2, fingerprint);
+	}
+
+	/**
+	 * Removes an element that was previously added to the filter. If the
+	 * element was added more than once, it remains possibly contained.
+	 *
+	 * @param element
+	 *            the element to remove
+	 * @return true if a fingerprint for the element was removed
+	 */
+
+	public boolean remove(E element) {
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int fingerprint = fingerprint(h);
+		int i1 = bucket(h);
+		int i2 = alternate(i1, fingerprint);
+		if (isVictim(i1, i2, fingerprint)) {
+			victim = 0;
+			count--;
+			return true;
+		}
+		int slot = find(i1, fingerprint);
+		if (slot < 0) slot = find(i2, fingerprint);
+		if (slot < 0) return false;
+		setSlot(slot, 0);
+		count--;
+		// a slot is now free, so the victim can be placed
+		if (victim != 0) {
+			int bucket = victimBucket;
+			int other = alternate(bucket, victim);
+			if (put(bucket, victim) || put(other, victim)) victim = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes every element from the filter.
+	 */
+
+	public void clear() {
+		slots.clear();
+		count = 0;
+		victim = 0;
+	}
+
+	// object methods
+
+	@Override
+	public String toString() {
+		return "filter of " + count + " fingerprints in " + capacity() + " slots of " + fingerprintBits + " bits";
+	}
+
+	// private utility methods
+
+	// never zero, which marks an empty slot
+	private int fingerprint(long h) {
+		int fingerprint = (int) h & fingerprintMask;
+		return fingerprint == 0 ? 1 : fingerprint;
+	}
+
+	private int bucket(long h) {
+		return (int) (h >>> 32) & bucketMask;
+	}
+
+	// an involution, so that either bucket can be obtained from the other
+	private int alternate(int bucket, int fingerprint) {
+		return (bucket ^ (int) Bits.mixHash(fingerprint)) & bucketMask;
+	}
+
+	private int position(int bucket, int slot) {
+		return (bucket * SLOTS + slot) * fingerprintBits;
+	}
+
+	private int getSlot(int position) {
+		return slots.getBitsAsInt(position, fingerprintBits);
+	}
+
+	private void setSlot(int position, int fingerprint) {
+		slots.setBitsAsInt(position, fingerprint, fingerprintBits);
+	}
+
+	// the position of the fingerprint in the bucket, or -1
+	private int find(int bucket, int fingerprint) {
+		int position = position(bucket, 0);
+		if (fingerprintBits <= 64 / SLOTS) {
+			// the entire bucket can be read at once
+			long bits = slots.getBits(position, fingerprintBits * SLOTS);
+			for (int i = 0; i < SLOTS; i++, bits >>>= fingerprintBits) {
+				if (((int) bits & fingerprintMask) == fingerprint) return position + i * fingerprintBits;
+			}
+		} else {
+			for (int i = 0; i < SLOTS; i++, position += fingerprintBits) {
+				if (getSlot(position) == fingerprint) return position;
+			}
+		}
+		return -1;
+	}
+
+	// places the fingerprint in an empty slot of the bucket if possible
+	private boolean put(int bucket, int fingerprint) {
+		int slot = find(bucket, 0);
+		if (slot < 0) return false;
+		setSlot(slot, fingerprint);
+		return true;
+	}
+
+	private boolean isVictim(int i1, int i2, int fingerprint) {
+		return victim == fingerprint && (victimBucket == i1 || victimBucket == i2);
+	}
+
+	private int random() {
+		int x = seed;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		return seed = x;
+	}
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import com.tomgibara.bits.BitStore.BitMatches;
+
+/**
+ * <p>
+ * An immutable non-decreasing sequence of non-negative longs, compactly stored
+ * using the Elias-Fano encoding. The low bits of each value are packed into
+ * one {@link BitVector} and the remaining high bits are unary coded into
+ * another, which is indexed by a {@link RankSelect}. A sequence of <i>n</i>
+ * values that do not exceed <i>u</i> occupies fewer than
+ * <i>n</i>(2&nbsp;+&nbsp;log<sub>2</sub>(<i>u</i>/<i>n</i>)) bits, close to the
+ * minimum possible.
+ *
+ * <p>
+ * Values are accessed by index with {@link #get(int)}, sought with
+ * {@link #nextGEQ(long)}, which skips directly to the region of the sequence
+ * that may contain the value, and enumerated with {@link #iterator()}.
+ * Sequences may be written to a {@link BitWriter} and read back from a
+ * {@link BitReader}.
+ *
+ * @author Tom Gibara
+ * @see RankSelect
+ */
+
+public final class EliasFano {
+
+	// statics
+
+	/**
+	 * Encodes a sequence of values.
+	 *
+	 * @param values
+	 *            non-negative values in non-decreasing order
+	 * @return the encoded sequence
+	 * @throws IllegalArgumentException
+	 *             if the values are negative or out of order, or if there are
+	 *             too many values to encode
+	 */
+
+	public static EliasFano fromValues(long... values) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		return fromValues(values, 0, values.length);
+	}
+
+	/**
+	 * Encodes a range of values.
+	 *
+	 * @param values
+	 *            an array containing non-negative values in non-decreasing
+	 *            order
+	 * @param offset
+	 *            the index of the first value to be encoded
+	 * @param length
+	 *            the number of values to be encoded
+	 * @return the encoded sequence
+	 * @throws IllegalArgumentException
+	 *             if the values are negative or out of order, or if there are
+	 *             too many values to encode
+	 */
+
+	public static EliasFano fromValues(long[] values, int offset, int length) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (offset + length > values.length) throw new IllegalArgumentException("length exceeds values");
+		long previous = 0L;
+		for (int i = offset; i < offset + length; i++) {
+			long value = values[i];
+			if (value < previous) throw new IllegalArgumentException(value < 0L ? "negative value" : "values not ordered");
+			previous = value;
+		}
+		int lowBits = lowBits(length, previous);
+		BitVector low = new BitVector(checkedSize((long) length * lowBits));
+		BitVector high = new BitVector(checkedSize(length + (previous >>> lowBits) + 1L));
+		long mask = mask(lowBits);
+		for (int i = 0; i < length; i++) {
+			long value = values[offset + i];
+			if (lowBits > 0) low.setBits(i * lowBits, value & mask, lowBits);
+			high.setBit((int) (value >>> lowBits) + i, true);
+		}
+		return new EliasFano(length, lowBits, low.immutable(), high.immutable().rankSelect());
+	}
+
+	/**
+	 * Reads a sequence that was written with {@link #writeTo(BitWriter)}.
+	 *
+	 * @param reader
+	 *            the reader from which the sequence is read
+	 * @return the sequence
+	 * @throws BitStreamException
+	 *             if the sequence could not be read
+	 */
+
+	public static EliasFano readFrom(BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		int size = reader.read(32);
+		int lowBits = reader.read(8);
+		int highSize = reader.read(32);
+		if (size < 0 || lowBits > 63 || highSize <= size) throw new BitStreamException("invalid sequence");
+		BitVector low = new BitVector(checkedSize((long) size * lowBits));
+		low.readFrom(reader);
+		BitVector high = new BitVector(highSize);
+		high.readFrom(reader);
+		RankSelect index = high.immutable().rankSelect();
+		if (index.ones() != size) throw new BitStreamException("invalid sequence");
+		return new EliasFano(size, lowBits, low.immutable(), index);
+	}
+
+	// the number of low bits that minimizes the size of the encoding
+	private static int lowBits(int size, long max) {
+		if (size == 0) return 0;
+		// unsigned, since max + 1 overflows when max is Long.MAX_VALUE
+		long ratio = Long.divideUnsigned(max + 1L, size);
+		return Long.compareUnsigned(ratio, 1L) <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(ratio);
+	}
+
+	private static int checkedSize(long size) {
+		if (size < 0L || size > Integer.MAX_VALUE) throw new IllegalArgumentException("too many values");
+		return (int) size;
+	}
+
+	private static long mask(int length) {
+		return length == 64 ? -1L : (1L << length) - 1L;
+	}
+
+	// fields
+
+	private final int size;
+	private final int lowBits;
+	private final BitVector low;
+	private final BitVector high;
+	private final RankSelect index;
+	private final BitMatches ones;
+
+	// constructors
+
+	private EliasFano(int size, int lowBits, BitVector low, RankSelect index) {
+		this.size = size;
+		this.lowBits = lowBits;
+		this.low = low;
+		this.high = index.vector();
+		this.index = index;
+		this.ones = high.ones();
+	}
+
+	// accessors
+
+	/**
+	 * The number of values in the sequence.
+	 *
+	 * @return the length of the sequence
+	 */
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The value at the specified index.
+	 *
+	 * @param i
+	 *            an index into the sequence
+	 * @return the value at the index
+	 */
+
+	public long get(int i) {
+		if (i < 0) throw new IllegalArgumentException("negative index");
+		if (i >= size) throw new IllegalArgumentException("index too large");
+		return value(i, index.select1(i));
+	}
+
+	/**
+	 * The least value in the sequence that is not less than the supplied
+	 * value.
+	 *
+	 * @param x
+	 *            the value sought
+	 * @return the least value greater than or equal to x, or -1 if there is
+	 *         none
+	 */
+
+	public long nextGEQ(long x) {
+		if (size == 0) return -1L;
+		if (x <= 0L) return get(0);
+		long bucket = x >>> lowBits;
+		// the last bucket is followed by a single zero
+		if (bucket >= high.size() - size) return -1L;
+		// skip to the first value in the bucket
+		int position = bucket == 0L ? 0 : index.select0((int) bucket - 1) + 1;
+		for (int i = position - (int) bucket; i < size; i++, position++) {
+			position = ones.next(position);
+			long value = value(i, position);
+			if (value >= x) return value;
+		}
+		return -1L;
+	}
+
+	/**
+	 * An iterator over the values in the sequence.
+	 *
+	 * @return an iterator over the sequence
+	 */
+
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			private int i = 0;
+			private int position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return i < size;
+			}
+
+			@Override
+			public long nextLong() {
+				if (i == size) throw new NoSuchElementException();
+				position = ones.next(position);
+				return value(i++, position++);
+			}
+		};
+	}
+
+	// serialization
+
+	/**
+	 * Writes the sequence to a {@link BitWriter}.
+	 *
+	 * @param writer
+	 *            the writer to which the sequence is written
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the sequence could not be written
+	 */
+
+	public long writeTo(BitWriter writer) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		long count = 0L;
+		count += writer.write(size, 32);
+		count += writer.write(lowBits, 8);
+		count += writer.write(high.size(), 32);
+		count += low.writeTo(writer);
+		count += high.writeTo(writer);
+		return count;
+	}
+
+	// object methods
+
+	@Override
+	public int hashCode() {
+		return low.hashCode() * 31 + high.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof EliasFano that)) return false;
+		return this.size == that.size
+				&& this.lowBits == that.lowBits
+				&& this.low.equals(that.low)
+				&& this.high.equals(that.high);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder().append('[');
+		for (PrimitiveIterator.OfLong it = iterator(); it.hasNext(); ) {
+			sb.append(it.nextLong());
+			if (it.hasNext()) sb.append(", ");
+		}
+		return sb.append(']').toString();
+	}
+
+	// private utility methods
+
+	// the value at index i, the one bit of which is at the supplied position
+	private long value(int i, int position) {
+		long value = (long) (position - i) << lowBits;
+		return lowBits == 0 ? value : value | low.getBits(i * lowBits, lowBits);
+	}
+
+}
@@ -23,6 +23,10 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Provides a convenient way of opening and closing {@link BitReader}s over a
@@ -55,6 +59,15 @@ public class FileBitReaderFactory {
 
 		MEMORY,
 
+		/**
+		 * The file is mapped into memory and readers over the mapping are
+		 * created. The file is mapped once, on demand, and its contents are
+		 * paged in by the operating system as they are read. Files larger than
+		 * 2GB cannot be read in this mode.
+		 */
+
+		MAPPED,
+
 		/**
 		 * A channel to the file is obtained for each reader and bits are read
 		 * from the channel.
@@ -75,6 +88,7 @@ public class FileBitReaderFactory {
 	private final File file;
 	private final int bufferSize;
 	private byte[] bytes = null;
+	private MappedByteBuffer mapped = null;
 
 	/**
 	 * Constructs a new {@link FileBitReaderFactory} using the default buffer
@@ -94,7 +108,8 @@ public class FileBitReaderFactory {
 
 	/**
 	 * Constructs a new {@link FileBitReaderFactory} using the specified buffer
-	 * size. When the mode is {@link Mode#MEMORY}, the bufferSize is ignored.
+	 * size. When the mode is {@link Mode#MEMORY} or {@link Mode#MAPPED}, the
+	 * bufferSize is ignored.
 	 *
 	 * @param file
 	 *            the file from which bits are to be read
@@ -138,7 +153,8 @@ public class FileBitReaderFactory {
 
 	/**
 	 * The size of the buffer used to read bytes from the file. The buffer size
-	 * is irrelevant when the mode is {@link Mode#MEMORY}.
+	 * is irrelevant when the mode is {@link Mode#MEMORY} or
+	 * {@link Mode#MAPPED}.
 	 *
 	 * @return the buffer size, always positive
 	 */
@@ -166,6 +182,7 @@ public class FileBitReaderFactory {
 		try {
             return switch (mode) {
                 case MEMORY -> new ByteArrayBitReader(getBytes());
+                case MAPPED -> new MappedBitReader(getMapped());
                 case STREAM -> new InputStreamBitReader(new BufferedInputStream(new FileInputStream(file), bufferSize));
                 case CHANNEL -> new FileChannelBitReader(new RandomAccessFile(file, "r").getChannel(), ByteBuffer.allocateDirect(bufferSize));
             };
@@ -199,6 +216,18 @@ public class FileBitReaderFactory {
 		}
     }
 
+	private MappedByteBuffer getMapped() throws IOException {
+		synchronized (this) {
+			if (mapped == null) {
+				// the mapping remains valid after the channel is closed
+				try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+					mapped = channel.map(MapMode.READ_ONLY, 0L, channel.size());
+				}
+			}
+			return mapped;
+		}
+	}
+
 	private byte[] getBytes() throws IOException {
 		synchronized (this) {
 			if (bytes == null) {
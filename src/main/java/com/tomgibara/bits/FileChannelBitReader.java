@@ -18,6 +18,7 @@ package com.tomgibara.bits;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 
 class FileChannelBitReader extends ByteBasedBitReader {
@@ -49,6 +50,71 @@ class FileChannelBitReader extends ByteBasedBitReader {
 		return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
 	}
 
+	@Override
+	protected long sourceBytesAvailable() {
+		return buffer.remaining();
+	}
+
+	@Override
+	protected long readSourceBytes(int count) {
+		int position = buffer.position();
+		long value;
+		if (buffer.remaining() >= 8) {
+			value = buffer.getLong(position);
+			if (buffer.order() == ByteOrder.LITTLE_ENDIAN) value = Long.reverseBytes(value);
+			value >>>= 64 - (count << 3);
+		} else {
+			value = 0L;
+			for (int i = 0; i < count; i++) {
+				value = (value << 8) | (buffer.get(position + i) & 0xff);
+			}
+		}
+		buffer.position(position + count);
+		return value;
+	}
+
+	@Override
+	protected int readSourceBytes(byte[] bytes, int offset, int length) {
+		int read = 0;
+		while (read < length) {
+			if (buffer.hasRemaining()) {
+				int count = Math.min(length - read, buffer.remaining());
+				buffer.get(bytes, offset + read, count);
+				read += count;
+			} else {
+				// refills the buffer
+				int b = readSourceByte();
+				if (b == -1) break;
+				bytes[offset + read++] = (byte) b;
+			}
+		}
+		return read;
+	}
+
+	@Override
+	protected long transferSourceBytes(ByteBasedBitWriter writer, long count) {
+		// first empty the buffer
+		int buffered = (int) Math.min(count, buffer.remaining());
+		if (buffered > 0) {
+			int position = buffer.position();
+			writer.writeBytes(buffer.slice(position, buffered));
+			buffer.position(position + buffered);
+			if (buffered == count) return count;
+		}
+
+		// then transfer directly from the channel if the writer permits it
+		long index;
+		try {
+			index = channel.position();
+		} catch (IOException e) {
+			throw new BitStreamException(e);
+		}
+		long transferred = writer.transferFrom(channel, index, count - buffered);
+		if (transferred < 0L) return buffered + super.transferSourceBytes(writer, count - buffered);
+		seekSlow(index + transferred);
+		return buffered + transferred;
+	}
+
 	@Override
 	protected long seekSourceByte(long index) throws BitStreamException {
 		// first see if index is inside buffer
@@ -47,12 +47,14 @@ class FlippedBitStore extends AbstractBitStore {
 
 	@Override
 	public long getBits(int position, int length) {
-		return ~store.getBits(position, length);
+		long bits = ~store.getBits(position, length);
+		return length == 64 ? bits : bits & ((1L << length) - 1L);
 	}
 
 	@Override
 	public int getBitsAsInt(int position, int length) {
-		return ~store.getBitsAsInt(position, length);
+		int bits = ~store.getBitsAsInt(position, length);
+		return length == 32 ? bits : bits & ((1 << length) - 1);
 	}
 
 	@Override
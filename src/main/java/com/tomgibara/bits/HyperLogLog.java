@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import com.tomgibara.hashing.Hasher;
+
+/**
+ * <p>
+ * A sketch that estimates the number of distinct elements it has been
+ * presented with. The sketch consists of 2<sup><i>p</i></sup> registers, for
+ * a precision <i>p</i>, which are packed without padding into a
+ * {@link BitVector}. Registers of six bits accommodate any 64 bit hash;
+ * registers of five bits save a sixth of the space but saturate for
+ * cardinalities in excess of roughly 2<sup>31+<i>p</i></sup>. The relative
+ * standard error of the estimate is approximately
+ * 1.04/&radic;2<sup><i>p</i></sup>.
+ *
+ * <p>
+ * Sketches with the same precision and register width can be merged; the
+ * merged sketch estimates the number of distinct elements presented to
+ * either. Registers are merged several at a time within each 64 bit word.
+ * Sketches may be written to a {@link BitWriter} and read back from a
+ * {@link BitReader}.
+ *
+ * @author Tom Gibara
+ * @param <E>
+ *            the type of element counted by the sketch
+ */
+
+public final class HyperLogLog<E> {
+
+	// statics
+
+	private static final int MIN_PRECISION = 4;
+	private static final int MAX_PRECISION = 26;
+
+	/**
+	 * Reads a sketch that was written with {@link #writeTo(BitWriter)}. The
+	 * hasher must be equivalent to that of the sketch that was written.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param reader
+	 *            the reader from which the sketch is read
+	 * @param <E>
+	 *            the type of element counted by the sketch
+	 * @return the sketch
+	 * @throws BitStreamException
+	 *             if the sketch could not be read
+	 */
+
+	public static <E> HyperLogLog<E> readFrom(Hasher<E> hasher, BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		int precision = reader.read(8);
+		int registerBits = reader.read(8);
+		if (precision < MIN_PRECISION || precision > MAX_PRECISION || registerBits < 5 || registerBits > 6) {
+			throw new BitStreamException("invalid sketch");
+		}
+		HyperLogLog<E> sketch = new HyperLogLog<>(hasher, precision, registerBits);
+		sketch.registers.readFrom(reader);
+		return sketch;
+	}
+
+	// fields
+
+	private final Hasher<E> hasher;
+	private final int precision;
+	private final int registerBits;
+	private final int maxRank;
+	// the number of registers processed together, and the bits they occupy
+	private final int registersPerChunk;
+	private final int chunkBits;
+	// the most significant bit of every register in a chunk
+	private final long highBits;
+	private final BitVector registers;
+
+	// constructors
+
+	/**
+	 * Creates an empty sketch.
+	 *
+	 * @param hasher
+	 *            hashes elements
+	 * @param precision
+	 *            the base 2 logarithm of the number of registers, from 4 to
+	 *            26 inclusive
+	 * @param registerBits
+	 *            the number of bits in each register, either 5 or 6
+	 */
+
+	public HyperLogLog(Hasher<E> hasher, int precision, int registerBits) {
+		if (hasher == null) throw new IllegalArgumentException("null hasher");
+		if (precision < MIN_PRECISION) throw new IllegalArgumentException("precision too small");
+		if (precision > MAX_PRECISION) throw new IllegalArgumentException("precision too large");
+		if (registerBits != 5 && registerBits != 6) throw new IllegalArgumentException("registerBits not 5 or 6");
+		this.hasher = hasher;
+		this.precision = precision;
+		this.registerBits = registerBits;
+		maxRank = (1 << registerBits) - 1;
+		registersPerChunk = 64 / registerBits;
+		chunkBits = registersPerChunk * registerBits;
+		long high = 0L;
+		for (int i = 0; i < registersPerChunk; i++) {
+			high |= 1L << (i * registerBits + registerBits - 1);
+		}
+		highBits = high;
+		registers = new BitVector(registerBits << precision);
+	}
+
+	// accessors
+
+	/**
+	 * The base 2 logarithm of the number of registers.
+	 *
+	 * @return the precision of the sketch
+	 */
+
+	public int precision() {
+		return precision;
+	}
+
+	/**
+	 * The number of bits in each register.
+	 *
+	 * @return the register width
+	 */
+
+	public int registerBits() {
+		return registerBits;
+	}
+
+	/**
+	 * An immutable view of the packed registers.
+	 *
+	 * @return the sketch's bits
+	 */
+
+	public BitStore bits() {
+		return registers.immutableView();
+	}
+
+	// counting
+
+	/**
+	 * Presents an element to the sketch.
+	 *
+	 * @param element
+	 *            the element to count
+	 * @return true if the sketch was modified
+	 */
+
+	public boolean add(E element) {
+		long h = Bits.mixHash(hasher.longHashValue(element));
+		int index = (int) (h >>> (64 - precision));
+		// the guard bit limits the rank to 65 - precision
+		int rank = Long.numberOfLeadingZeros((h << precision) | (1L << (precision - 1))) + 1;
+		if (rank > maxRank) rank = maxRank;
+		int position = index * registerBits;
+		if (registers.getBitsAsInt(position, registerBits) >= rank) return false;
+		registers.setBitsAsInt(position, rank, registerBits);
+		return true;
+	}
+
+	/**
+	 * Presents every element to the sketch.
+	 *
+	 * @param elements
+	 *            the elements to count
+	 * @return true if the sketch was modified
+	 */
+
+	public boolean addAll(Iterable<? extends E> elements) {
+		if (elements == null) throw new IllegalArgumentException("null elements");
+		boolean changed = false;
+		for (E element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Estimates the number of distinct elements presented to the sketch.
+	 *
+	 * @return the estimated cardinality
+	 */
+
+	public long estimate() {
+		int m = 1 << precision;
+		double sum = 0.0;
+		int zeros = 0;
+		int mask = maxRank;
+		int size = registers.size();
+		for (int position = 0; position < size; position += chunkBits) {
+			int length = Math.min(chunkBits, size - position);
+			long chunk = registers.getBits(position, length);
+			for (int i = 0; i < length; i += registerBits, chunk >>>= registerBits) {
+				int rank = (int) chunk & mask;
+				if (rank == 0) zeros++;
+				sum += Double.longBitsToDouble((1023L - rank) << 52);
+			}
+		}
+		double alpha;
+		switch (m) {
+		case 16: alpha = 0.673; break;
+		case 32: alpha = 0.697; break;
+		case 64: alpha = 0.709; break;
+		default: alpha = 0.7213 / (1.0 + 1.079 / m);
+		}
+		double estimate = alpha * m * m / sum;
+		// linear counting is more accurate for small cardinalities
+		if (estimate <= 2.5 * m && zeros != 0) estimate = m * Math.log((double) m / zeros);
+		return Math.round(estimate);
+	}
+
+	// combination
+
+	/**
+	 * Merges another sketch into this sketch by retaining the greater of each
+	 * pair of registers.
+	 *
+	 * @param that
+	 *            a sketch with the same precision and register width
+	 * @throws IllegalArgumentException
+	 *             if the sketches have a different precision or register
+	 *             width
+	 */
+
+	public void merge(HyperLogLog<E> that) {
+		if (that == null) throw new IllegalArgumentException("null sketch");
+		if (that.precision != this.precision) throw new IllegalArgumentException("different precisions");
+		if (that.registerBits != this.registerBits) throw new IllegalArgumentException("different register widths");
+		int size = registers.size();
+		for (int position = 0; position < size; position += chunkBits) {
+			int length = Math.min(chunkBits, size - position);
+			long x = registers.getBits(position, length);
+			long y = that.registers.getBits(position, length);
+			if (x == y) continue;
+			registers.setBits(position, max(x, y), length);
+		}
+	}
+
+	/**
+	 * Resets every register of the sketch.
+	 */
+
+	public void clear() {
+		registers.clear();
+	}
+
+	// serialization
+
+	/**
+	 * Writes the sketch to a {@link BitWriter}; the hasher is not written.
+	 *
+	 * @param writer
+	 *            the writer to which the sketch is written
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the sketch could not be written
+	 */
+
+	public long writeTo(BitWriter writer) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		long count = 0L;
+		count += writer.write(precision, 8);
+		count += writer.write(registerBits, 8);
+		count += registers.writeTo(writer);
+		return count;
+	}
+
+	// object methods
+
+	@Override
+	public String toString() {
+		return "sketch of " + (1 << precision) + " registers of " + registerBits + " bits";
+	}
+
+	// private utility methods
+
+	// the register-wise maximum of two chunks
+	private long max(long x, long y) {
+		long h = highBits;
+		// high bit of each register set where the low bits of x are not less than those of y
+		long z = (x | h) - (y & ~h);
+		// high bit of each register set where x is not less than y
+		long ge = ((x & ~y) | (~(x ^ y) & z)) & h;
+		// expanded to cover every bit of the register
+		long m = (ge >>> (registerBits - 1)) * maxRank;
+		return (x & m) | (y & ~m);
+	}
+
+}
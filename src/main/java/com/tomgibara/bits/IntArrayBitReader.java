@@ -104,6 +104,31 @@ class IntArrayBitReader implements BitReader {
 		return value;
 	}
 
+	@Override
+	public int peek(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 32) throw new IllegalArgumentException("count too great");
+		return (int) peekLong(count);
+	}
+
+	@Override
+	public long peekLong(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		if (count == 0) return 0L;
+		long remaining = size - position;
+		if (remaining >= count) return bits(count);
+		return remaining == 0L ? 0L : bits((int) remaining) << (count - remaining);
+	}
+
+	@Override
+	public void consume(int count) {
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (count > 64) throw new IllegalArgumentException("count too great");
+		if (position + count > size) throw new EndOfBitStreamException();
+		position += count;
+	}
+
 	@Override
 	public long skipBits(long count) {
 		count = count < 0 ?
@@ -147,4 +172,19 @@ class IntArrayBitReader implements BitReader {
 		return size;
 	}
 
+	// private utility methods
+
+	// between 1 and 64 bits from the current position, which must be available
+	private long bits(int count) {
+		int index = (int) (position >> 5);
+		int offset = (int) position & 31;
+		long word = (long) ints[index] << 32;
+		if (index + 1 < ints.length) word |= ints[index + 1] & 0xffffffffL;
+		long bits = (word << offset) >>> (64 - count);
+		// a third int is needed if the bits extend beyond the second
+		int extra = count + offset - 64;
+		if (extra > 0) bits |= (ints[index + 2] & 0xffffffffL) >>> (32 - extra);
+		return bits;
+	}
+
 }
@@ -0,0 +1,1029 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static com.tomgibara.bits.Bits.checkBitsLength;
+import static com.tomgibara.bits.Bits.checkIntBitsLength;
+
+import java.util.Arrays;
+
+import com.tomgibara.fundament.Mutability;
+
+/**
+ * <p>
+ * A fixed-size sequence of bits indexed by long positions. This class is
+ * a counterpart to {@link BitVector} for bit sequences that are too large
+ * to be addressed by an int; its bits are stored in multiple
+ * <code>long</code> arrays (segments) so that its size is not constrained by
+ * the maximum length of a Java array.
+ *
+ * <p>
+ * Like {@link BitVector}, bits are operated on a 64-bit word at a time
+ * wherever possible. Positions are always relative to zero: there are no
+ * offset views of a {@link LargeBitVector}, but any range of up to
+ * {@link Integer#MAX_VALUE} bits may be exposed as a {@link BitStore} via
+ * {@link #range(long, long)}, giving access to the full {@link BitStore} API
+ * over that range.
+ *
+ * <p>
+ * As with {@link BitStore} readers and writers, the readers and writers
+ * returned by instances of this class operate from the most significant bit
+ * of a range towards the least significant bit.
+ *
+ * @author Tom Gibara
+ * @see BitVector
+ */
+
+public final class LargeBitVector implements Mutability<LargeBitVector> {
+
+	// statics
+
+	private static final int ADDRESS_BITS = 6;
+	private static final int ADDRESS_SIZE = 1 << ADDRESS_BITS;
+	private static final int ADDRESS_MASK = ADDRESS_SIZE - 1;
+
+	private static final int SET = 0;
+	private static final int AND = 1;
+	private static final int OR  = 2;
+	private static final int XOR = 3;
+
+	private static final int CLEAR = 0;
+	private static final int FILL  = 1;
+	private static final int FLIP  = 2;
+
+	// segments of 2^20 longs (8MB) and 2^26 bits
+	static final int DEFAULT_SEGMENT_BITS = 20;
+
+	private static long wordCount(long size) {
+		return (size >>> ADDRESS_BITS) + ((size & ADDRESS_MASK) == 0L ? 0L : 1L);
+	}
+
+	private static long mask(int length) {
+		return length == ADDRESS_SIZE ? -1L : (1L << length) - 1L;
+	}
+
+	// fields
+
+	private final long size;
+	private final int segmentBits;
+	private final int segmentMask;
+	private final long[][] segments;
+	private final boolean mutable;
+
+	// constructors
+
+	/**
+	 * Creates a new mutable {@link LargeBitVector} in which all bits are
+	 * initially zero.
+	 *
+	 * @param size
+	 *            the number of bits in the vector
+	 */
+
+	public LargeBitVector(long size) {
+		this(size, DEFAULT_SEGMENT_BITS);
+	}
+
+	// exposed for testing with small segments
+	LargeBitVector(long size, int segmentBits) {
+		if (size < 0L) throw new IllegalArgumentException("negative size");
+		if (segmentBits < 0 || segmentBits > 30) throw new IllegalArgumentException("invalid segmentBits");
+		final long words = wordCount(size);
+		final long segmentSize = 1L << segmentBits;
+		final long count = (words + segmentSize - 1L) >>> segmentBits;
+		if (count > Integer.MAX_VALUE) throw new IllegalArgumentException("size exceeds maximum permitted");
+		final long[][] segments = new long[(int) count][];
+		for (int i = 0; i < segments.length; i++) {
+			final long remaining = words - ((long) i << segmentBits);
+			segments[i] = new long[(int) Math.min(segmentSize, remaining)];
+		}
+		this.size = size;
+		this.segmentBits = segmentBits;
+		this.segmentMask = (int) segmentSize - 1;
+		this.segments = segments;
+		this.mutable = true;
+	}
+
+	private LargeBitVector(LargeBitVector that, long[][] segments, boolean mutable) {
+		this.size = that.size;
+		this.segmentBits = that.segmentBits;
+		this.segmentMask = that.segmentMask;
+		this.segments = segments;
+		this.mutable = mutable;
+	}
+
+	// fundamental methods
+
+	/**
+	 * The number of bits in the vector.
+	 *
+	 * @return the size of the vector
+	 */
+
+	public long size() {
+		return size;
+	}
+
+	public boolean getBit(long index) {
+		checkIndex(index);
+		return (word(index >>> ADDRESS_BITS) & (1L << (index & ADDRESS_MASK))) != 0L;
+	}
+
+	public void setBit(long index, boolean value) {
+		checkIndex(index);
+		checkMutable();
+		performBit(SET, index, value);
+	}
+
+	// accelerating methods
+
+	public void flipBit(long index) {
+		checkIndex(index);
+		checkMutable();
+		performBit(XOR, index, true);
+	}
+
+	public boolean getThenSetBit(long index, boolean value) {
+		checkIndex(index);
+		checkMutable();
+		return performBit(SET, index, value);
+	}
+
+	/**
+	 * Returns up to 64 bits from the vector starting at the specified
+	 * position. The bit at the position is the least significant bit of the
+	 * returned value.
+	 *
+	 * @param position
+	 *            the position of the first bit to return
+	 * @param length
+	 *            the number of bits to return, not exceeding 64
+	 * @return the bits as the least significant bits of a long
+	 * @see BitStore#getBits(int, int)
+	 */
+
+	public long getBits(long position, int length) {
+		checkBitsLength(length);
+		checkPosition(position, length);
+		return getBitsImpl(position, length);
+	}
+
+	public int getBitsAsInt(long position, int length) {
+		checkIntBitsLength(length);
+		checkPosition(position, length);
+		return (int) getBitsImpl(position, length);
+	}
+
+	/**
+	 * Sets up to 64 bits in the vector starting at the specified position.
+	 * The least significant bit of the value is assigned to the bit at the
+	 * position.
+	 *
+	 * @param position
+	 *            the position of the first bit to set
+	 * @param value
+	 *            the bits to set
+	 * @param length
+	 *            the number of bits to set, not exceeding 64
+	 * @see BitStore#setBits(int, long, int)
+	 */
+
+	public void setBits(long position, long value, int length) {
+		perform(SET, position, value, length);
+	}
+
+	public void setBitsAsInt(long position, int value, int length) {
+		checkIntBitsLength(length);
+		perform(SET, position, value, length);
+	}
+
+	public void setStore(long position, BitStore store) {
+		perform(SET, position, store);
+	}
+
+	// convenience methods
+
+	public void fill() {
+		setAll(true);
+	}
+
+	public void clear() {
+		setAll(false);
+	}
+
+	public void flip() {
+		checkMutable();
+		applyRange(0L, size, FLIP);
+	}
+
+	public void setAll(boolean value) {
+		checkMutable();
+		applyRange(0L, size, value ? FILL : CLEAR);
+	}
+
+	// operations
+
+	public Op set() {
+		return new Op(SET);
+	}
+
+	public Op and() {
+		return new Op(AND);
+	}
+
+	public Op or() {
+		return new Op(OR);
+	}
+
+	public Op xor() {
+		return new Op(XOR);
+	}
+
+	public Op op(Operation operation) {
+		if (operation == null) throw new IllegalArgumentException("null operation");
+		return new Op(operation.ordinal());
+	}
+
+	// matching
+
+	public Matches ones() {
+		return new Matches(true);
+	}
+
+	public Matches zeros() {
+		return new Matches(false);
+	}
+
+	public Matches match(boolean bit) {
+		return new Matches(bit);
+	}
+
+	// I/O
+
+	public BitReader openReader() {
+		return new LargeReader(0L, size);
+	}
+
+	public BitReader openReader(long finalPos, long initialPos) {
+		checkBounds(finalPos, initialPos);
+		return new LargeReader(finalPos, initialPos);
+	}
+
+	public BitWriter openWriter() {
+		checkMutable();
+		return new LargeWriter(SET, 0L, size);
+	}
+
+	public BitWriter openWriter(long finalPos, long initialPos) {
+		checkMutable();
+		checkBounds(finalPos, initialPos);
+		return new LargeWriter(SET, finalPos, initialPos);
+	}
+
+	// views
+
+	/**
+	 * Exposes a range of this vector as a {@link BitStore}. The returned store
+	 * is backed by this vector, and is mutable if and only if this vector is
+	 * mutable. Since {@link BitStore} is indexed by int, the range cannot
+	 * exceed {@link Integer#MAX_VALUE} bits.
+	 *
+	 * @param from
+	 *            the (inclusive) position at which the range begins
+	 * @param to
+	 *            the (exclusive) position at which the range ends
+	 * @return a {@link BitStore} view of the range
+	 */
+
+	public BitStore range(long from, long to) {
+		if (from < 0L) throw new IllegalArgumentException("negative from");
+		if (to < from) throw new IllegalArgumentException("to less than from");
+		if (to > size) throw new IllegalArgumentException("to exceeds size");
+		if (to - from > Integer.MAX_VALUE) throw new IllegalArgumentException("range too large");
+		return new RangeStore(from, (int) (to - from));
+	}
+
+	// mutability methods
+
+	@Override
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	@Override
+	public LargeBitVector mutableCopy() {
+		return new LargeBitVector(this, copySegments(), true);
+	}
+
+	@Override
+	public LargeBitVector immutableCopy() {
+		return new LargeBitVector(this, copySegments(), false);
+	}
+
+	@Override
+	public LargeBitVector immutableView() {
+		return new LargeBitVector(this, segments, false);
+	}
+
+	// object methods
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof LargeBitVector)) return false;
+		LargeBitVector that = (LargeBitVector) obj;
+		if (this.size != that.size) return false;
+		if (this.segmentBits == that.segmentBits) {
+			for (int i = 0; i < segments.length; i++) {
+				if (!Arrays.equals(this.segments[i], that.segments[i])) return false;
+			}
+			return true;
+		}
+		final long words = wordCount(size);
+		for (long w = 0L; w < words; w++) {
+			if (this.word(w) != that.word(w)) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		long h = size;
+		for (long[] segment : segments) {
+			for (long word : segment) {
+				h = h * 31L + word;
+			}
+		}
+		return (int) (h ^ (h >>> 32));
+	}
+
+	// large vectors are truncated to their most significant bits
+	@Override
+	public String toString() {
+		final int limit = 1024;
+		final long length = Math.min(size, limit);
+		final StringBuilder sb = new StringBuilder((int) length + 3);
+		for (long i = size - 1; i >= size - length; i--) {
+			sb.append(getBitImpl(i) ? '1' : '0');
+		}
+		if (size > limit) sb.append("...");
+		return sb.toString();
+	}
+
+	// package scoped methods
+
+	int segmentBits() {
+		return segmentBits;
+	}
+
+	// private utility methods
+
+	private void checkMutable() {
+		if (!mutable) throw new IllegalStateException("immutable");
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0L) throw new IllegalArgumentException("negative index: " + index);
+		if (index >= size) throw new IllegalArgumentException("index too large: " + index);
+	}
+
+	private void checkPosition(long position, int length) {
+		if (position < 0L) throw new IllegalArgumentException("negative position: " + position);
+		if (position > size - length) throw new IllegalArgumentException("position too large: " + position);
+	}
+
+	private void checkBounds(long finalPos, long initialPos) {
+		if (finalPos < 0L) throw new IllegalArgumentException("negative finalPos");
+		if (initialPos < finalPos) throw new IllegalArgumentException("finalPos exceeds initialPos");
+		if (initialPos > size) throw new IllegalArgumentException("initialPos exceeds size");
+	}
+
+	private long[][] copySegments() {
+		final long[][] copy = new long[segments.length][];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = segments[i].clone();
+		}
+		return copy;
+	}
+
+	private long word(long index) {
+		return segments[(int) (index >>> segmentBits)][(int) index & segmentMask];
+	}
+
+	private void word(long index, long value) {
+		segments[(int) (index >>> segmentBits)][(int) index & segmentMask] = value;
+	}
+
+	private boolean getBitImpl(long index) {
+		return (word(index >>> ADDRESS_BITS) & (1L << (index & ADDRESS_MASK))) != 0L;
+	}
+
+	private long getBitsImpl(long position, int length) {
+		if (length == 0) return 0L;
+		final long w = position >>> ADDRESS_BITS;
+		final int s = (int) position & ADDRESS_MASK;
+		long bits = word(w) >>> s;
+		if (s + length > ADDRESS_SIZE) bits |= word(w + 1) << (ADDRESS_SIZE - s);
+		return bits & mask(length);
+	}
+
+	// returns the previous value of the bit
+	private boolean performBit(int operation, long index, boolean value) {
+		final long w = index >>> ADDRESS_BITS;
+		final long m = 1L << (index & ADDRESS_MASK);
+		final long word = word(w);
+		final boolean previous = (word & m) != 0L;
+		final long v = value ? m : 0L;
+		word(w, combine(operation, word, v, m));
+		return previous;
+	}
+
+	private void perform(int operation, long position, long value, int length) {
+		checkBitsLength(length);
+		checkPosition(position, length);
+		checkMutable();
+		performImpl(operation, position, value, length);
+	}
+
+	private void perform(int operation, long position, BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		final int length = store.size();
+		checkPosition(position, length);
+		checkMutable();
+		int i = 0;
+		for (; i <= length - ADDRESS_SIZE; i += ADDRESS_SIZE) {
+			performImpl(operation, position + i, store.getBits(i, ADDRESS_SIZE), ADDRESS_SIZE);
+		}
+		if (i < length) {
+			final int remaining = length - i;
+			performImpl(operation, position + i, store.getBits(i, remaining), remaining);
+		}
+	}
+
+	private void perform(int operation, LargeBitVector that) {
+		if (that == null) throw new IllegalArgumentException("null vector");
+		if (that.size != this.size) throw new IllegalArgumentException("mismatched size");
+		checkMutable();
+		if (that.segmentBits == this.segmentBits) {
+			for (int i = 0; i < segments.length; i++) {
+				combine(operation, this.segments[i], that.segments[i]);
+			}
+		} else {
+			final long words = wordCount(size);
+			for (long w = 0L; w < words; w++) {
+				word(w, combine(operation, word(w), that.word(w), -1L));
+			}
+		}
+	}
+
+	private void performImpl(int operation, long position, long value, int length) {
+		if (length == 0) return;
+		final long m = mask(length);
+		value &= m;
+		final long w = position >>> ADDRESS_BITS;
+		final int s = (int) position & ADDRESS_MASK;
+		word(w, combine(operation, word(w), value << s, m << s));
+		if (s + length > ADDRESS_SIZE) {
+			final int t = ADDRESS_SIZE - s;
+			word(w + 1, combine(operation, word(w + 1), value >>> t, m >>> t));
+		}
+	}
+
+	private void performRange(int operation, long from, long to, boolean value) {
+		switch (operation) {
+		case SET: applyRange(from, to, value ? FILL : CLEAR); return;
+		case AND: if (!value) applyRange(from, to, CLEAR); return;
+		case OR : if (value) applyRange(from, to, FILL); return;
+		case XOR: if (value) applyRange(from, to, FLIP); return;
+		default: throw new IllegalStateException("unexpected operation");
+		}
+	}
+
+	private void applyRange(long from, long to, int kind) {
+		if (from == to) return;
+		final long fw = from >>> ADDRESS_BITS;
+		final long lw = (to - 1) >>> ADDRESS_BITS;
+		final long fm = -1L << (from & ADDRESS_MASK);
+		final long lm = -1L >>> (ADDRESS_MASK - ((to - 1) & ADDRESS_MASK));
+		if (fw == lw) {
+			applyWord(fw, fm & lm, kind);
+			return;
+		}
+		applyWord(fw, fm, kind);
+		for (long w = fw + 1; w < lw; ) {
+			final long[] segment = segments[(int) (w >>> segmentBits)];
+			final int i = (int) w & segmentMask;
+			final int n = (int) Math.min(segment.length - i, lw - w);
+			switch (kind) {
+			case CLEAR: Arrays.fill(segment, i, i + n, 0L); break;
+			case FILL : Arrays.fill(segment, i, i + n, -1L); break;
+			default:
+				for (int j = i; j < i + n; j++) {
+					segment[j] = ~segment[j];
+				}
+			}
+			w += n;
+		}
+		applyWord(lw, lm, kind);
+	}
+
+	private void applyWord(long w, long m, int kind) {
+		final long word = word(w);
+		switch (kind) {
+		case CLEAR: word(w, word & ~m); break;
+		case FILL : word(w, word | m); break;
+		default   : word(w, word ^ m); break;
+		}
+	}
+
+	// the bits of v outside m must be zero
+	private static long combine(int operation, long word, long v, long m) {
+		switch (operation) {
+		case SET: return word & ~m | v;
+		case AND: return word & (v | ~m);
+		case OR : return word | v;
+		case XOR: return word ^ v;
+		default: throw new IllegalStateException("unexpected operation");
+		}
+	}
+
+	private static void combine(int operation, long[] bits, long[] other) {
+		switch (operation) {
+		case SET:
+			System.arraycopy(other, 0, bits, 0, bits.length);
+			break;
+		case AND:
+			for (int i = 0; i < bits.length; i++) bits[i] &= other[i];
+			break;
+		case OR:
+			for (int i = 0; i < bits.length; i++) bits[i] |= other[i];
+			break;
+		case XOR:
+			for (int i = 0; i < bits.length; i++) bits[i] ^= other[i];
+			break;
+		default: throw new IllegalStateException("unexpected operation");
+		}
+	}
+
+	// the word, inverted if zeros are sought, with bits beyond the size cleared
+	private long matchWord(long w, boolean ones) {
+		long word = word(w);
+		if (!ones) word = ~word;
+		if (w == (size - 1) >>> ADDRESS_BITS) word &= -1L >>> (ADDRESS_MASK - ((size - 1) & ADDRESS_MASK));
+		return word;
+	}
+
+	private long countInRange(long from, long to, boolean ones) {
+		if (from == to) return 0L;
+		final long fw = from >>> ADDRESS_BITS;
+		final long lw = (to - 1) >>> ADDRESS_BITS;
+		final long fm = -1L << (from & ADDRESS_MASK);
+		final long lm = -1L >>> (ADDRESS_MASK - ((to - 1) & ADDRESS_MASK));
+		if (fw == lw) return Long.bitCount(matchWord(fw, ones) & fm & lm);
+		final long ends = Long.bitCount(matchWord(fw, ones) & fm) + Long.bitCount(matchWord(lw, ones) & lm);
+		long count = 0L;
+		for (long w = fw + 1; w < lw; ) {
+			final long[] segment = segments[(int) (w >>> segmentBits)];
+			final int i = (int) w & segmentMask;
+			final int n = (int) Math.min(segment.length - i, lw - w);
+			for (int j = i; j < i + n; j++) {
+				count += Long.bitCount(segment[j]);
+			}
+			w += n;
+		}
+		// intermediate words lie wholly within the vector
+		if (!ones) count = ((lw - fw - 1) << ADDRESS_BITS) - count;
+		return ends + count;
+	}
+
+	// returns to if there is no match
+	private long firstInRange(long from, long to, boolean ones) {
+		if (from >= to) return to;
+		final long lw = (to - 1) >>> ADDRESS_BITS;
+		long w = from >>> ADDRESS_BITS;
+		long word = matchWord(w, ones) & (-1L << (from & ADDRESS_MASK));
+		while (word == 0L) {
+			if (++w > lw) return to;
+			word = matchWord(w, ones);
+		}
+		final long index = (w << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+		return index < to ? index : to;
+	}
+
+	// returns from - 1 if there is no match
+	private long lastInRange(long from, long to, boolean ones) {
+		if (from >= to) return from - 1;
+		final long fw = from >>> ADDRESS_BITS;
+		long w = (to - 1) >>> ADDRESS_BITS;
+		long word = matchWord(w, ones) & (-1L >>> (ADDRESS_MASK - ((to - 1) & ADDRESS_MASK)));
+		while (word == 0L) {
+			if (--w < fw) return from - 1;
+			word = matchWord(w, ones);
+		}
+		final long index = (w << ADDRESS_BITS) + ADDRESS_MASK - Long.numberOfLeadingZeros(word);
+		return index >= from ? index : from - 1;
+	}
+
+	// inner classes
+
+	/**
+	 * Applies an {@link Operation} to the bits of a {@link LargeBitVector}.
+	 * Instances are obtained from {@link LargeBitVector#op(Operation)} and
+	 * related methods. This is the long-indexed counterpart of
+	 * {@link BitStore.Op}.
+	 */
+
+	public final class Op {
+
+		private final int operation;
+
+		private Op(int operation) {
+			this.operation = operation;
+		}
+
+		public Operation getOperation() {
+			return Operation.values[operation];
+		}
+
+		public void with(boolean value) {
+			checkMutable();
+			performRange(operation, 0L, size, value);
+		}
+
+		public void withBit(long position, boolean value) {
+			checkIndex(position);
+			checkMutable();
+			performBit(operation, position, value);
+		}
+
+		public boolean getThenWithBit(long position, boolean value) {
+			checkIndex(position);
+			checkMutable();
+			return performBit(operation, position, value);
+		}
+
+		public void withLong(long position, long value) {
+			perform(operation, position, value, ADDRESS_SIZE);
+		}
+
+		public void withBits(long position, long value, int length) {
+			perform(operation, position, value, length);
+		}
+
+		public void withRange(long from, long to, boolean value) {
+			if (from < 0L) throw new IllegalArgumentException("negative from");
+			if (to < from) throw new IllegalArgumentException("to less than from");
+			if (to > size) throw new IllegalArgumentException("to exceeds size");
+			checkMutable();
+			performRange(operation, from, to, value);
+		}
+
+		public void withVector(LargeBitVector vector) {
+			perform(operation, vector);
+		}
+
+		public void withStore(long position, BitStore store) {
+			perform(operation, position, store);
+		}
+
+		public BitWriter openWriter(long finalPos, long initialPos) {
+			checkMutable();
+			checkBounds(finalPos, initialPos);
+			return new LargeWriter(operation, finalPos, initialPos);
+		}
+	}
+
+	/**
+	 * Locates bits of a single value within a {@link LargeBitVector}. This is
+	 * the long-indexed counterpart of {@link BitStore.BitMatches}; as there,
+	 * {@link #first()} and {@link #next(long)} return the size of the vector
+	 * when there is no match, and {@link #last()} and {@link #previous(long)}
+	 * return -1.
+	 */
+
+	public final class Matches {
+
+		private final boolean bit;
+
+		private Matches(boolean bit) {
+			this.bit = bit;
+		}
+
+		public boolean bit() {
+			return bit;
+		}
+
+		public LargeBitVector vector() {
+			return LargeBitVector.this;
+		}
+
+		public long count() {
+			return count(0L, size);
+		}
+
+		public long count(long from, long to) {
+			if (from < 0L) throw new IllegalArgumentException("negative from");
+			if (to < from) throw new IllegalArgumentException("to less than from");
+			if (to > size) throw new IllegalArgumentException("to exceeds size");
+			return countInRange(from, to, bit);
+		}
+
+		public boolean isAll() {
+			return firstInRange(0L, size, !bit) == size;
+		}
+
+		public boolean isNone() {
+			return firstInRange(0L, size, bit) == size;
+		}
+
+		public long first() {
+			return firstInRange(0L, size, bit);
+		}
+
+		public long last() {
+			return lastInRange(0L, size, bit);
+		}
+
+		public long next(long position) {
+			if (position < 0L) throw new IllegalArgumentException("negative position");
+			if (position > size) throw new IllegalArgumentException("position exceeds size");
+			return firstInRange(position, size, bit);
+		}
+
+		public long previous(long position) {
+			if (position < 0L) throw new IllegalArgumentException("negative position");
+			if (position > size) throw new IllegalArgumentException("position exceeds size");
+			return lastInRange(0L, position, bit);
+		}
+
+	}
+
+	private final class RangeStore extends AbstractBitStore {
+
+		private final long offset;
+		private final int length;
+
+		RangeStore(long offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public int size() {
+			return length;
+		}
+
+		@Override
+		public boolean getBit(int index) {
+			return getBitImpl(adjIndex(index));
+		}
+
+		@Override
+		public void setBit(int index, boolean value) {
+			final long i = adjIndex(index);
+			checkMutable();
+			performBit(SET, i, value);
+		}
+
+		@Override
+		public void flipBit(int index) {
+			final long i = adjIndex(index);
+			checkMutable();
+			performBit(XOR, i, true);
+		}
+
+		@Override
+		public boolean getThenSetBit(int index, boolean value) {
+			final long i = adjIndex(index);
+			checkMutable();
+			return performBit(SET, i, value);
+		}
+
+		@Override
+		public long getBits(int position, int length) {
+			checkBitsLength(length);
+			return getBitsImpl(adjPosition(position, length), length);
+		}
+
+		@Override
+		public int getBitsAsInt(int position, int length) {
+			checkIntBitsLength(length);
+			return (int) getBitsImpl(adjPosition(position, length), length);
+		}
+
+		@Override
+		public void setBits(int position, long value, int length) {
+			checkBitsLength(length);
+			final long p = adjPosition(position, length);
+			checkMutable();
+			performImpl(SET, p, value, length);
+		}
+
+		@Override
+		public void setBitsAsInt(int position, int value, int length) {
+			checkIntBitsLength(length);
+			final long p = adjPosition(position, length);
+			checkMutable();
+			performImpl(SET, p, value, length);
+		}
+
+		@Override
+		public void fill() {
+			checkMutable();
+			applyRange(offset, offset + length, FILL);
+		}
+
+		@Override
+		public void clear() {
+			checkMutable();
+			applyRange(offset, offset + length, CLEAR);
+		}
+
+		@Override
+		public void flip() {
+			checkMutable();
+			applyRange(offset, offset + length, FLIP);
+		}
+
+		@Override
+		public BitStore range(int from, int to) {
+			if (from < 0) throw new IllegalArgumentException("negative from");
+			if (to < from) throw new IllegalArgumentException("to less than from");
+			if (to > length) throw new IllegalArgumentException("to exceeds size");
+			return new RangeStore(offset + from, to - from);
+		}
+
+		@Override
+		public boolean isMutable() {
+			return mutable;
+		}
+
+		private long adjIndex(int index) {
+			if (index < 0) throw new IllegalArgumentException("negative index: " + index);
+			if (index >= length) throw new IllegalArgumentException("index too large: " + index);
+			return offset + index;
+		}
+
+		private long adjPosition(int position, int count) {
+			if (position < 0) throw new IllegalArgumentException("negative position: " + position);
+			if (position > length - count) throw new IllegalArgumentException("position too large: " + position);
+			return offset + position;
+		}
+	}
+
+	// classes for reading and writing bits
+
+	private abstract class LargeStream implements BitStream {
+
+		final long initialPos;
+		final long finalPos;
+		long position;
+
+		private LargeStream(long finalPos, long initialPos) {
+			this.finalPos = finalPos;
+			this.initialPos = initialPos;
+			position = initialPos;
+		}
+
+		@Override
+		public long getPosition() {
+			return initialPos - position;
+		}
+
+		@Override
+		public long setPosition(long position) {
+			position = Math.max(position, 0L);
+			position = Math.min(position, initialPos - finalPos);
+			this.position = initialPos - position;
+			return position;
+		}
+
+		@Override
+		public long skipBits(long count) {
+			long advance = count < 0 ?
+				Math.max(position - initialPos, count):
+				Math.min(position - finalPos, count);
+			position -= advance;
+			return advance;
+		}
+
+	}
+
+	private final class LargeReader extends LargeStream implements BitReader {
+
+		private LargeReader(long finalPos, long initialPos) {
+			super(finalPos, initialPos);
+		}
+
+		@Override
+		public int readBit() {
+			if (position == finalPos) throw new EndOfBitStreamException();
+			return getBitImpl(--position) ? 1 : 0;
+		}
+
+		@Override
+		public boolean readBoolean() {
+			if (position == finalPos) throw new EndOfBitStreamException();
+			return getBitImpl(--position);
+		}
+
+		@Override
+		public int read(int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 32) throw new IllegalArgumentException("count too great");
+			if (count == 0) return 0;
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			return (int) getBitsImpl(position -= count, count);
+		}
+
+		@Override
+		public long readLong(int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 64) throw new IllegalArgumentException("count too great");
+			if (count == 0) return 0L;
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			return getBitsImpl(position -= count, count);
+		}
+
+		@Override
+		public int readUntil(boolean one) throws BitStreamException {
+			long index = lastInRange(finalPos, position, one);
+			if (index < finalPos) throw new EndOfBitStreamException();
+			long read = position - index - 1;
+			if (read > Integer.MAX_VALUE) throw new BitStreamException("too many bits before match");
+			position = index;
+			return (int) read;
+		}
+
+	}
+
+	private final class LargeWriter extends LargeStream implements BitWriter {
+
+		private final int operation;
+
+		private LargeWriter(int operation, long finalPos, long initialPos) {
+			super(finalPos, initialPos);
+			this.operation = operation;
+		}
+
+		@Override
+		public int writeBit(int bit) {
+			if (position == finalPos) throw new EndOfBitStreamException();
+			performBit(operation, --position, (bit & 1) == 1);
+			return 1;
+		}
+
+		@Override
+		public int writeBoolean(boolean bit) {
+			if (position == finalPos) throw new EndOfBitStreamException();
+			performBit(operation, --position, bit);
+			return 1;
+		}
+
+		@Override
+		public long writeBooleans(boolean value, long count) {
+			if (count < 0L) throw new IllegalArgumentException("negative count");
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			final long from = position - count;
+			performRange(operation, from, position, value);
+			position = from;
+			return count;
+		}
+
+		@Override
+		public int write(int bits, int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 32) throw new IllegalArgumentException("count too great");
+			if (count == 0) return 0;
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			performImpl(operation, position -= count, bits, count);
+			return count;
+		}
+
+		@Override
+		public int write(long bits, int count) {
+			if (count < 0) throw new IllegalArgumentException("negative count");
+			if (count > 64) throw new IllegalArgumentException("count too great");
+			if (count == 0) return 0;
+			if (position - count < finalPos) throw new EndOfBitStreamException();
+			performImpl(operation, position -= count, bits, count);
+			return count;
+		}
+
+	}
+
+}
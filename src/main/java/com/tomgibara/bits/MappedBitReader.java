@@ -18,74 +18,94 @@ package com.tomgibara.bits;
 
 import java.nio.MappedByteBuffer;
 
-//TODO implement this properly
-class MappedBitReader implements BitReader {
+class MappedBitReader extends ByteBasedBitReader {
 
+	// a slice, so that indices are relative to the original buffer position
 	private final MappedByteBuffer buffer;
-	private long size;
-	private long offset;
-
-	private boolean currentSet = false;
-	private byte current;
+	private final int limit;
+	private int index;
 
 	// constructors
 
-	//TODO should offer constructor without position?
-	public MappedBitReader(MappedByteBuffer buffer, long size, long position) {
-		this.buffer = buffer;
-		setSize(size);
-		buffer.position();
-		//TODO should check for position > size?
-		setPosition(position);
+	MappedBitReader(MappedByteBuffer buffer) {
+		this.buffer = buffer.slice();
+		limit = this.buffer.limit();
+		index = 0;
 	}
 
-	public void setSize(long size) {
-		if ((size+7)/8 > buffer.limit()) throw new IllegalArgumentException();
-		if (size < getPosition()) setPosition(size);
-		this.size = size;
+	MappedBitReader(MappedByteBuffer buffer, long size) {
+		super(size);
+		this.buffer = buffer.slice();
+		limit = this.buffer.limit();
+		index = 0;
 	}
 
-	long getSize() {
-		return size;
+	@Override
+	protected int readSourceByte() throws BitStreamException {
+		return index == limit ? -1 : buffer.get(index++) & 0xff;
+	}
+
+	@Override
+	protected long sourceBytesAvailable() {
+		return limit - index;
 	}
 
 	@Override
-	public long getPosition() {
-		if (currentSet) {
-			return (buffer.position()-1) * 8L + offset;
+	protected long readSourceBytes(int count) {
+		long value;
+		// slices are always big-endian
+		if (index + 8 <= limit) {
+			value = buffer.getLong(index) >>> (64 - (count << 3));
 		} else {
-			return buffer.position() * 8L + offset;
+			value = 0L;
+			for (int i = 0; i < count; i++) {
+				value = (value << 8) | (buffer.get(index + i) & 0xff);
+			}
 		}
+		index += count;
+		return value;
 	}
 
 	@Override
-	public long setPosition(long position) {
-		BitStreams.checkPosition(position);
-		if (position > size) position = size;
-		buffer.position((int) (position/8));
-		offset = position % 8;
-		updateCurrent();
-		return position;
+	protected int readSourceBytes(byte[] bytes, int offset, int length) {
+		length = Math.min(length, limit - index);
+		buffer.get(index, bytes, offset, length);
+		index += length;
+		return length;
 	}
 
 	@Override
-	public int readBit() throws BitStreamException {
-		throw new UnsupportedOperationException();
+	protected long transferSourceBytes(ByteBasedBitWriter writer, long count) {
+		int length = (int) Math.min(count, limit - index);
+		writer.writeBytes(buffer.slice(index, length));
+		index += length;
+		return length;
 	}
 
 	@Override
-	public int read(int count) {
-		if (count == 0) return 0;
-		throw new UnsupportedOperationException();
+	protected long skipSourceBytes(long count) throws BitStreamException {
+		long remaining = limit - index;
+		if (count >= remaining) {
+			index = limit;
+			return remaining;
+		}
+		index += count;
+		return count;
 	}
 
-	private void updateCurrent() {
-		if (buffer.hasRemaining()) {
-			current = buffer.get();
-			currentSet = true;
+	@Override
+	protected long seekSourceByte(long index) throws BitStreamException {
+		if (index >= limit) {
+			this.index = limit;
+			return limit;
 		} else {
-			currentSet = false;
+			this.index = (int) index;
+			return index;
 		}
 	}
 
+	MappedByteBuffer getBuffer() {
+		return buffer;
+	}
+
 }
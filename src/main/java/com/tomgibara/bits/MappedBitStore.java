@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+/**
+ * A {@link BitStore} over the bytes of a memory-mapped file. Instances are
+ * obtained via {@link Bits#asStore(MappedByteBuffer)}. Bits are ordered as
+ * per {@link Bits#asStore(java.nio.ByteBuffer)}.
+ *
+ * <p>
+ * Changes made to a mapped store are made to the mapped file, but the
+ * operating system is free to defer writing them to the storage device.
+ * The {@link #force()} method may be called to write changes explicitly.
+ * Ranges of a mapped store are themselves mapped stores, so that changes to
+ * a range may be forced independently of the rest of the file.
+ *
+ * @author Tom Gibara
+ * @see Bits#asStore(MappedByteBuffer)
+ */
+
+public final class MappedBitStore extends ByteBufferBitStore {
+
+	private final MappedByteBuffer mapped;
+
+	// buffer must be a little endian slice
+	MappedBitStore(MappedByteBuffer buffer, int start, int finish, boolean mutable) {
+		super(buffer, start, finish, mutable);
+		this.mapped = buffer;
+	}
+
+	MappedBitStore(MappedByteBuffer buffer, int size) {
+		this((MappedByteBuffer) buffer.slice().order(ByteOrder.LITTLE_ENDIAN), 0, size, !buffer.isReadOnly());
+	}
+
+	/**
+	 * Forces any changes made to the bits of this store to be written to the
+	 * storage device that contains the mapped file. Only the bytes that
+	 * contain bits of this store are forced.
+	 *
+	 * @see MappedByteBuffer#force(int, int)
+	 */
+
+	public void force() {
+		int from = start() >> 3;
+		int to = (finish() + 7) >> 3;
+		if (from < to) mapped.force(from, to - from);
+	}
+
+	/**
+	 * Whether the bits of this store are likely to be resident in physical
+	 * memory.
+	 *
+	 * @return true if the store is likely to be loaded
+	 * @see MappedByteBuffer#isLoaded()
+	 */
+
+	public boolean isLoaded() {
+		return mapped.isLoaded();
+	}
+
+	/**
+	 * Makes a best effort to load the bits of the store into physical memory.
+	 *
+	 * @see MappedByteBuffer#load()
+	 */
+
+	public void load() {
+		mapped.load();
+	}
+
+	// views
+
+	@Override
+	public MappedBitStore range(int from, int to) {
+		if (from < 0) throw new IllegalArgumentException();
+		if (from > to) throw new IllegalArgumentException();
+		from += start();
+		to += start();
+		if (to > finish()) throw new IllegalArgumentException();
+		return new MappedBitStore(mapped, from, to, isMutable());
+	}
+
+	@Override
+	public MappedBitStore immutableView() {
+		return new MappedBitStore(mapped, start(), finish(), false);
+	}
+
+}
@@ -16,20 +16,35 @@
  */
 package com.tomgibara.bits;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
 
 /**
- * A {@link BitWriter} that writes its bits to an OutputStream.
+ * A {@link BitWriter} that writes its bits to an OutputStream. Bytes are
+ * collected in an internal block before being written to the stream; the
+ * block is written when it fills and whenever the writer is flushed.
  *
  * @author Tom Gibara
  */
 
 class OutputStreamBitWriter extends ByteBasedBitWriter {
 
+	// statics
+
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final int BLOCK_SIZE = 512;
+
 	// fields
 
 	private final OutputStream out;
+	private final byte[] block = new byte[BLOCK_SIZE];
+	private int index = 0;
 
 	// constructors
 
@@ -41,22 +56,49 @@ class OutputStreamBitWriter extends ByteBasedBitWriter {
 
 	@Override
 	protected void writeByte(int value) throws BitStreamException {
-		try {
-			out.write(value);
-		} catch (IOException e) {
-			throw new BitStreamException(e);
-		}
+		if (index == BLOCK_SIZE) writeBlock();
+		block[index++] = (byte) value;
 	}
 
 	@Override
-	protected void writeBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+	protected void writeWord(long value) throws BitStreamException {
+		if (index + 8 > BLOCK_SIZE) writeBlock();
+		LONG.set(block, index, value);
+		index += 8;
+	}
+
+	@Override
+	protected void writeByteArray(byte[] bytes, int offset, int length) throws BitStreamException {
+		if (index + length <= BLOCK_SIZE) {
+			System.arraycopy(bytes, offset, block, index, length);
+			index += length;
+			return;
+		}
+		writeBlock();
 		try {
-			out.write(bytes, 0, length);
+			out.write(bytes, offset, length);
 		} catch (IOException e) {
 			throw new BitStreamException(e);
 		}
 	}
 
+	@Override
+	protected WritableByteChannel writableChannel() throws BitStreamException {
+		// subclasses of FileOutputStream may intercept writes
+		if (out.getClass() != FileOutputStream.class) return null;
+		writeBlock();
+		return ((FileOutputStream) out).getChannel();
+	}
+
+	// bit writer methods
+
+	@Override
+	public int flush() {
+		int padding = super.flush();
+		writeBlock();
+		return padding;
+	}
+
 	// accessors
 
 	/**
@@ -69,4 +111,16 @@ class OutputStreamBitWriter extends ByteBasedBitWriter {
 		return out;
 	}
 
+	// private utility methods
+
+	private void writeBlock() {
+		if (index == 0) return;
+		try {
+			out.write(block, 0, index);
+		} catch (IOException e) {
+			throw new BitStreamException(e);
+		}
+		index = 0;
+	}
+
 }
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+/**
+ * <p>
+ * A fixed length array of ints, each of which is stored with the same number
+ * of bits, packed without padding into a {@link BitVector}. An array of
+ * values with a width of <i>w</i> bits occupies <i>w</i>/32 of the space of
+ * an equivalent <code>int[]</code>.
+ *
+ * <p>
+ * Values are treated as unsigned; setting a value that cannot be represented
+ * in the width of the array is an error. Bulk methods transfer values between
+ * the array and an <code>int[]</code> a 64 bit word at a time.
+ *
+ * <p>
+ * Values are packed from the most significant end of the vector, so that
+ * readers and writers obtained from {@link #openReader()} and
+ * {@link #openWriter()} visit the values in index order, each value occupying
+ * <i>w</i> bits of the stream.
+ *
+ * @author Tom Gibara
+ */
+
+public final class PackedIntArray {
+
+	// statics
+
+	/**
+	 * Creates an array containing the supplied values.
+	 *
+	 * @param width
+	 *            the number of bits used to store each value, from 1 to 32
+	 *            inclusive
+	 * @param values
+	 *            the values to be stored, each of which must be representable
+	 *            in the width
+	 * @return a new array containing the values
+	 */
+
+	public static PackedIntArray fromValues(int width, int... values) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		PackedIntArray array = new PackedIntArray(values.length, width);
+		array.set(0, values, 0, values.length);
+		return array;
+	}
+
+	private static long mask(int length) {
+		return length == 64 ? -1L : (1L << length) - 1L;
+	}
+
+	// fields
+
+	private final int length;
+	private final int width;
+	private final BitVector vector;
+
+	// constructors
+
+	/**
+	 * Creates an array in which every value is zero.
+	 *
+	 * @param length
+	 *            the number of values in the array
+	 * @param width
+	 *            the number of bits used to store each value, from 1 to 32
+	 *            inclusive
+	 */
+
+	public PackedIntArray(int length, int width) {
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (width < 1) throw new IllegalArgumentException("width too small");
+		if (width > 32) throw new IllegalArgumentException("width too large");
+		long size = (long) length * width;
+		if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("length too large");
+		this.length = length;
+		this.width = width;
+		this.vector = new BitVector((int) size);
+	}
+
+	// accessors
+
+	/**
+	 * The number of values in the array.
+	 *
+	 * @return the array length
+	 */
+
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * The number of bits used to store each value.
+	 *
+	 * @return the value width
+	 */
+
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * A view of the bits in which the values are packed. Modifications to
+	 * the view are reflected in the array.
+	 *
+	 * @return the array's bits
+	 */
+
+	public BitVector bits() {
+		return vector.duplicate(false, true);
+	}
+
+	// element access
+
+	/**
+	 * The value at the specified index.
+	 *
+	 * @param index
+	 *            an index into the array
+	 * @return the value at the index
+	 */
+
+	public int get(int index) {
+		checkIndex(index);
+		return vector.getBitsAsInt(vector.size() - (index + 1) * width, width);
+	}
+
+	/**
+	 * Sets the value at the specified index.
+	 *
+	 * @param index
+	 *            an index into the array
+	 * @param value
+	 *            a value that is representable in the width of the array
+	 */
+
+	public void set(int index, int value) {
+		checkIndex(index);
+		checkValue(value);
+		vector.setBitsAsInt(vector.size() - (index + 1) * width, value, width);
+	}
+
+	// bulk access
+
+	/**
+	 * Copies values from the array into an <code>int[]</code>, filling the
+	 * destination.
+	 *
+	 * @param from
+	 *            the index of the first value copied
+	 * @param dest
+	 *            the array into which values are copied
+	 */
+
+	public void get(int from, int[] dest) {
+		if (dest == null) throw new IllegalArgumentException("null dest");
+		get(from, dest, 0, dest.length);
+	}
+
+	/**
+	 * Copies values from the array into a range of an <code>int[]</code>.
+	 *
+	 * @param from
+	 *            the index of the first value copied
+	 * @param dest
+	 *            the array into which values are copied
+	 * @param offset
+	 *            the index in dest of the first value copied
+	 * @param count
+	 *            the number of values copied
+	 */
+
+	public void get(int from, int[] dest, int offset, int count) {
+		checkRange(from, dest, offset, count);
+		// the position above the next bit to be read
+		int position = vector.size() - from * width;
+		int end = position - count * width;
+		// the avail least significant bits of acc are yet to be consumed
+		long acc = 0L;
+		int avail = 0;
+		for (int i = offset; i < offset + count; i++) {
+			if (avail >= width) {
+				avail -= width;
+				dest[i] = (int) ((acc >>> avail) & mask(width));
+			} else {
+				int need = width - avail;
+				int n = Math.min(64, position - end);
+				long word = vector.getBits(position - n, n);
+				position -= n;
+				dest[i] = (int) (((acc & mask(avail)) << need) | (word >>> (n - need)));
+				acc = word;
+				avail = n - need;
+			}
+		}
+	}
+
+	/**
+	 * Copies the values of an <code>int[]</code> into the array.
+	 *
+	 * @param from
+	 *            the index at which the first value is stored
+	 * @param src
+	 *            the values to be stored, each of which must be representable
+	 *            in the width of the array
+	 */
+
+	public void set(int from, int[] src) {
+		if (src == null) throw new IllegalArgumentException("null src");
+		set(from, src, 0, src.length);
+	}
+
+	/**
+	 * Copies a range of values from an <code>int[]</code> into the array. If
+	 * any value cannot be represented in the width of the array, no values
+	 * are stored.
+	 *
+	 * @param from
+	 *            the index at which the first value is stored
+	 * @param src
+	 *            the array containing the values to be stored
+	 * @param offset
+	 *            the index in src of the first value stored
+	 * @param count
+	 *            the number of values stored
+	 */
+
+	public void set(int from, int[] src, int offset, int count) {
+		checkRange(from, src, offset, count);
+		for (int i = offset; i < offset + count; i++) {
+			checkValue(src[i]);
+		}
+		int position = vector.size() - from * width;
+		// the filled least significant bits of acc are yet to be written
+		long acc = 0L;
+		int filled = 0;
+		for (int i = offset; i < offset + count; i++) {
+			long value = src[i] & 0xffffffffL;
+			int room = 64 - filled;
+			if (width < room) {
+				acc = (acc << width) | value;
+				filled += width;
+			} else {
+				int spill = width - room;
+				acc = (acc << room) | (value >>> spill);
+				vector.setBits(position - 64, acc, 64);
+				position -= 64;
+				acc = value & mask(spill);
+				filled = spill;
+			}
+		}
+		if (filled > 0) vector.setBits(position - filled, acc, filled);
+	}
+
+	/**
+	 * Copies the values of the array into a new <code>int[]</code>.
+	 *
+	 * @return the values of the array
+	 */
+
+	public int[] toArray() {
+		int[] values = new int[length];
+		get(0, values, 0, length);
+		return values;
+	}
+
+	// stream access
+
+	/**
+	 * Opens a reader over the bits of the array; reading <code>width</code>
+	 * bits at a time yields the values of the array in index order.
+	 *
+	 * @return a reader positioned at the first value
+	 */
+
+	public BitReader openReader() {
+		return vector.openReader();
+	}
+
+	/**
+	 * Opens a writer over the bits of the array; writing <code>width</code>
+	 * bits at a time assigns the values of the array in index order.
+	 *
+	 * @return a writer positioned at the first value
+	 */
+
+	public BitWriter openWriter() {
+		return vector.openWriter();
+	}
+
+	// object methods
+
+	@Override
+	public int hashCode() {
+		return vector.hashCode() * 31 + width;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof PackedIntArray that)) return false;
+		return this.width == that.width && this.vector.equals(that.vector);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder().append('[');
+		for (int i = 0; i < length; i++) {
+			if (i > 0) sb.append(", ");
+			sb.append(get(i) & 0xffffffffL);
+		}
+		return sb.append(']').toString();
+	}
+
+	// private utility methods
+
+	private void checkIndex(int index) {
+		if (index < 0) throw new IllegalArgumentException("negative index");
+		if (index >= length) throw new IllegalArgumentException("index too large");
+	}
+
+	private void checkValue(int value) {
+		if (width < 32 && (value >>> width) != 0) throw new IllegalArgumentException("value too large");
+	}
+
+	private void checkRange(int from, int[] values, int offset, int count) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		if (from < 0) throw new IllegalArgumentException("negative from");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (count < 0) throw new IllegalArgumentException("negative count");
+		if (offset + count > values.length) throw new IllegalArgumentException("count exceeds values");
+		if (from + count > length) throw new IllegalArgumentException("count exceeds length");
+	}
+
+}
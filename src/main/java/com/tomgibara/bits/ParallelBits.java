@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>
+ * Performs bulk operations over a {@link BitVector} using a
+ * {@link ForkJoinPool}. New instances of this class may be obtained from the
+ * {@link BitVector#parallel()} and {@link BitVector#parallel(ForkJoinPool)}
+ * methods.
+ *
+ * <p>
+ * Work is divided into chunks that begin and end on the word boundaries of the
+ * underlying bit data, so that no two tasks ever modify the same word. As
+ * with the sequential methods of {@link BitVector}, no other thread should
+ * modify the vector (or a store supplied to an operation) while a parallel
+ * method is executing.
+ *
+ * @author Tom Gibara
+ * @see BitVector#parallel()
+ * @see BitVector#parallel(ForkJoinPool)
+ */
+
+public final class ParallelBits {
+
+	// statics
+
+	// vectors smaller than this are processed by a single task
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 18;
+
+	// fields
+
+	private final BitVector vector;
+	// the position of the vector's first bit within its first word
+	private final int offset;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+
+	// constructors
+
+	ParallelBits(BitVector vector, ForkJoinPool pool) {
+		this(vector, pool, DEFAULT_CHUNK_SIZE);
+	}
+
+	// exposed for testing
+	ParallelBits(BitVector vector, ForkJoinPool pool, int chunkSize) {
+		if (pool == null) throw new IllegalArgumentException("null pool");
+		// ensures that every split produces two non-empty word aligned chunks
+		if (chunkSize < 128) throw new IllegalArgumentException("chunkSize too small");
+		this.vector = vector;
+		this.offset = vector.wordOffset();
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+	// accessors
+
+	/**
+	 * The vector over which operations are performed.
+	 *
+	 * @return the bit vector
+	 */
+
+	public BitVector vector() {
+		return vector;
+	}
+
+	/**
+	 * The pool in which tasks are executed.
+	 *
+	 * @return the fork-join pool
+	 */
+
+	public ForkJoinPool pool() {
+		return pool;
+	}
+
+	// counting
+
+	/**
+	 * Counts the number of one bits in the vector.
+	 *
+	 * @return the number of ones
+	 * @see BitStore.BitMatches#count()
+	 */
+
+	public int countOnes() {
+		return countMatches(Bits.oneBit());
+	}
+
+	/**
+	 * Counts the number of zero bits in the vector.
+	 *
+	 * @return the number of zeros
+	 * @see BitStore.BitMatches#count()
+	 */
+
+	public int countZeros() {
+		return countMatches(Bits.zeroBit());
+	}
+
+	/**
+	 * Counts the (possibly overlapping) occurrences of a bit sequence in the
+	 * vector.
+	 *
+	 * @param sequence
+	 *            the bit sequence to be matched
+	 * @return the number of matches
+	 * @see BitStore#match(BitStore)
+	 */
+
+	public int countMatches(BitStore sequence) {
+		int limit = limit(sequence);
+		return limit <= 0 ? 0 : pool.invoke(new Count(sequence, 0, limit));
+	}
+
+	// searching
+
+	/**
+	 * The position of the first one bit in the vector.
+	 *
+	 * @return the position of the first one, or the vector size if there is
+	 *         none
+	 */
+
+	public int firstOne() {
+		return firstMatch(Bits.oneBit());
+	}
+
+	/**
+	 * The position of the first zero bit in the vector.
+	 *
+	 * @return the position of the first zero, or the vector size if there is
+	 *         none
+	 */
+
+	public int firstZero() {
+		return firstMatch(Bits.zeroBit());
+	}
+
+	/**
+	 * The position of the last one bit in the vector.
+	 *
+	 * @return the position of the last one, or -1 if there is none
+	 */
+
+	public int lastOne() {
+		return lastMatch(Bits.oneBit());
+	}
+
+	/**
+	 * The position of the last zero bit in the vector.
+	 *
+	 * @return the position of the last zero, or -1 if there is none
+	 */
+
+	public int lastZero() {
+		return lastMatch(Bits.zeroBit());
+	}
+
+	/**
+	 * The position of the first occurrence of a bit sequence in the vector.
+	 *
+	 * @param sequence
+	 *            the bit sequence to be matched
+	 * @return the position of the first match, or the vector size if there is
+	 *         none
+	 * @see BitStore.Matches#first()
+	 */
+
+	public int firstMatch(BitStore sequence) {
+		int limit = limit(sequence);
+		int position = limit <= 0 ? -1 : pool.invoke(new Find(sequence, true, 0, limit));
+		return position == -1 ? vector.size() : position;
+	}
+
+	/**
+	 * The position of the last occurrence of a bit sequence in the vector.
+	 *
+	 * @param sequence
+	 *            the bit sequence to be matched
+	 * @return the position of the last match, or -1 if there is none
+	 * @see BitStore.Matches#last()
+	 */
+
+	public int lastMatch(BitStore sequence) {
+		int limit = limit(sequence);
+		return limit <= 0 ? -1 : pool.invoke(new Find(sequence, false, 0, limit));
+	}
+
+	// operations
+
+	/**
+	 * Applies an operation to the vector using the bits of a store of the same
+	 * size; this is the parallel equivalent of
+	 * <code>vector.op(operation).withStore(store)</code>.
+	 *
+	 * @param operation
+	 *            the operation to apply
+	 * @param store
+	 *            the bits with which to perform the operation
+	 */
+
+	public void apply(Operation operation, BitStore store) {
+		if (operation == null) throw new IllegalArgumentException("null operation");
+		if (store == null) throw new IllegalArgumentException("null store");
+		if (store.size() != vector.size()) throw new IllegalArgumentException("different sizes");
+		if (!vector.isMutable()) throw new IllegalStateException("immutable");
+		// an overlapping source would be modified by concurrent tasks
+		if (store instanceof BitVector && vector.overlaps((BitVector) store)) store = store.immutableCopy();
+		if (vector.size() > 0) pool.invoke(new Apply(operation, store, 0, vector.size()));
+	}
+
+	/**
+	 * Sets the bits of the vector to those of the store.
+	 *
+	 * @param store
+	 *            a store of the same size as the vector
+	 * @see #apply(Operation, BitStore)
+	 */
+
+	public void set(BitStore store) {
+		apply(Operation.SET, store);
+	}
+
+	/**
+	 * ANDs the bits of the vector with those of the store.
+	 *
+	 * @param store
+	 *            a store of the same size as the vector
+	 * @see #apply(Operation, BitStore)
+	 */
+
+	public void and(BitStore store) {
+		apply(Operation.AND, store);
+	}
+
+	/**
+	 * ORs the bits of the vector with those of the store.
+	 *
+	 * @param store
+	 *            a store of the same size as the vector
+	 * @see #apply(Operation, BitStore)
+	 */
+
+	public void or(BitStore store) {
+		apply(Operation.OR, store);
+	}
+
+	/**
+	 * XORs the bits of the vector with those of the store.
+	 *
+	 * @param store
+	 *            a store of the same size as the vector
+	 * @see #apply(Operation, BitStore)
+	 */
+
+	public void xor(BitStore store) {
+		apply(Operation.XOR, store);
+	}
+
+	// package scoped methods
+
+	// the position nearest the midpoint that falls on a word boundary
+	// exposed for testing
+	int split(int from, int to) {
+		int mid = (from + to) >>> 1;
+		return ((mid + offset) & ~63) - offset;
+	}
+
+	// private utility methods
+
+	// the number of positions at which a match of the sequence could begin
+	private int limit(BitStore sequence) {
+		if (sequence == null) throw new IllegalArgumentException("null sequence");
+		int size = sequence.size();
+		if (size == 0) throw new IllegalArgumentException("empty sequence");
+		return vector.size() - size + 1;
+	}
+
+	private boolean small(int from, int to) {
+		return to - from <= chunkSize;
+	}
+
+	// inner classes
+
+	// counts matches starting at positions in [from, to)
+	private final class Count extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BitStore sequence;
+		private final int from;
+		private final int to;
+
+		Count(BitStore sequence, int from, int to) {
+			this.sequence = sequence;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (small(from, to)) return vector.range(from, to + sequence.size() - 1).match(sequence).count();
+			int mid = split(from, to);
+			Count left = new Count(sequence, from, mid);
+			left.fork();
+			int count = new Count(sequence, mid, to).compute();
+			return left.join() + count;
+		}
+	}
+
+	// finds the first or last match starting at a position in [from, to), -1 if none
+	private final class Find extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BitStore sequence;
+		private final boolean first;
+		private final int from;
+		private final int to;
+
+		Find(BitStore sequence, boolean first, int from, int to) {
+			this.sequence = sequence;
+			this.first = first;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (small(from, to)) {
+				BitStore range = vector.range(from, to + sequence.size() - 1);
+				BitStore.Matches matches = range.match(sequence);
+				int position = first ? matches.first() : matches.last();
+				return position == -1 || position == range.size() ? -1 : from + position;
+			}
+			int mid = split(from, to);
+			// the half nearest the sought end takes priority
+			Find near = first ? new Find(sequence, true, from, mid) : new Find(sequence, false, mid, to);
+			Find far = first ? new Find(sequence, true, mid, to) : new Find(sequence, false, from, mid);
+			far.fork();
+			int position = near.compute();
+			if (position != -1) {
+				far.cancel(false);
+				return position;
+			}
+			return far.join();
+		}
+	}
+
+	private final class Apply extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Operation operation;
+		private final BitStore store;
+		private final int from;
+		private final int to;
+
+		Apply(Operation operation, BitStore store, int from, int to) {
+			this.operation = operation;
+			this.store = store;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (small(from, to)) {
+				vector.range(from, to).op(operation).withStore(store.range(from, to));
+			} else {
+				int mid = split(from, to);
+				invokeAll(new Apply(operation, store, from, mid), new Apply(operation, store, mid, to));
+			}
+		}
+	}
+}
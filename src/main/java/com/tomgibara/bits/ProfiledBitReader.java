@@ -35,9 +35,12 @@ class ProfiledBitReader implements BitReader {
 	private static final int RU = 7;
 	private static final int SB = 8;
 	private static final int STB = 9;
+	private static final int P = 10;
+	private static final int PL = 11;
+	private static final int C = 12;
 
 	private final BitReader reader;
-	private final long[] calls = new long[10];
+	private final long[] calls = new long[13];
 
 	public ProfiledBitReader(BitReader reader) {
 		if (reader == null) throw new IllegalArgumentException("null reader");
@@ -104,6 +107,24 @@ class ProfiledBitReader implements BitReader {
 		return reader.skipToBoundary(boundary);
 	}
 
+	@Override
+	public int peek(int count) throws BitStreamException {
+		calls[P]++;
+		return reader.peek(count);
+	}
+
+	@Override
+	public long peekLong(int count) throws BitStreamException {
+		calls[PL]++;
+		return reader.peekLong(count);
+	}
+
+	@Override
+	public void consume(int count) throws BitStreamException {
+		calls[C]++;
+		reader.consume(count);
+	}
+
 	public void dumpProfile(PrintStream out) {
 		dump(out, "getPosition", GP);
 		dump(out, "setPosition", SP);
@@ -115,6 +136,9 @@ class ProfiledBitReader implements BitReader {
 		dump(out, "readUntil", RU);
 		dump(out, "skipBits", SB);
 		dump(out, "skipToBoundary", STB);
+		dump(out, "peek", P);
+		dump(out, "peekLong", PL);
+		dump(out, "consume", C);
 	}
 
 	private void dump(PrintStream out, String label, int i) {
@@ -0,0 +1,636 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.util.Arrays;
+
+import com.tomgibara.bits.ImmutableBit.ImmutableOne;
+import com.tomgibara.bits.ImmutableBit.ImmutableZero;
+
+/**
+ * <p>
+ * A {@link BitStore} that records the positions of its one bits in a sorted
+ * array of ints. Each one bit occupies four bytes, irrespective of the size of
+ * the store, and unlike a store created over a set of integers via
+ * {@link Bits#asStore(java.util.SortedSet, int, int, boolean)}, no objects are
+ * allocated per bit. This makes the class suitable for storing very sparse bit
+ * sets.
+ *
+ * <p>
+ * Bits are located by binary search and ranges of up to 64 bits are read and
+ * written with a single search. Operations that combine two sparse stores via
+ * {@link #and()}, {@link #or()}, {@link #xor()} or {@link #set()} merge their
+ * positions; other stores contribute the positions of their one bits.
+ *
+ * <p>
+ * Setting a bit may move the positions of all subsequent one bits, so bits are
+ * most efficiently assigned in ascending order, or in bulk.
+ *
+ * @author Tom Gibara
+ * @see CompressedBitStore
+ */
+
+public final class SparseBitStore extends AbstractBitStore {
+
+	// statics
+
+	private static final int[] NO_POSITIONS = new int[0];
+
+	// the largest array that can reliably be allocated
+	private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Creates a new sparse store containing the bits of the supplied store.
+	 *
+	 * @param store
+	 *            the store to be copied
+	 * @return a mutable sparse copy of the store
+	 */
+
+	public static SparseBitStore fromStore(BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		int[] positions = positionsOf(store);
+		return new SparseBitStore(store.size(), new Values(positions, positions.length), true);
+	}
+
+	// the positions of the one bits in a store, in ascending order
+	private static int[] positionsOf(BitStore store) {
+		if (store instanceof SparseBitStore that) {
+			return Arrays.copyOf(that.values.values, that.values.count);
+		}
+		int[] positions = new int[store.ones().count()];
+		Positions ps = store.ones().positions();
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = ps.nextPosition();
+		}
+		return positions;
+	}
+
+	// merges sorted positions into out, which may be a if the operation is AND
+	private static int merge(Operation operation, int[] a, int ac, int[] b, int bc, int[] out) {
+		int i = 0;
+		int j = 0;
+		int n = 0;
+		while (i < ac && j < bc) {
+			int x = a[i];
+			int y = b[j];
+			if (x < y) {
+				if (operation != Operation.AND) out[n++] = x;
+				i++;
+			} else if (x > y) {
+				if (operation != Operation.AND) out[n++] = y;
+				j++;
+			} else {
+				if (operation != Operation.XOR) out[n++] = x;
+				i++;
+				j++;
+			}
+		}
+		if (operation != Operation.AND) {
+			System.arraycopy(a, i, out, n, ac - i);
+			n += ac - i;
+			System.arraycopy(b, j, out, n, bc - j);
+			n += bc - j;
+		}
+		return n;
+	}
+
+	private static long mask(int length) {
+		return length == 64 ? -1L : (1L << length) - 1L;
+	}
+
+	// fields
+
+	private final int size;
+	private final Values values;
+	private final boolean mutable;
+
+	// constructors
+
+	/**
+	 * Creates a new sparse store in which every bit is zero.
+	 *
+	 * @param size
+	 *            the number of bits in the store
+	 */
+
+	public SparseBitStore(int size) {
+		if (size < 0) throw new IllegalArgumentException("negative size");
+		this.size = size;
+		this.values = new Values(NO_POSITIONS, 0);
+		this.mutable = true;
+	}
+
+	/**
+	 * Creates a new sparse store in which the bits at the specified positions
+	 * are one and all other bits are zero. The positions are copied and need
+	 * not be ordered or distinct.
+	 *
+	 * @param size
+	 *            the number of bits in the store
+	 * @param positions
+	 *            the positions of the one bits
+	 * @throws IllegalArgumentException
+	 *             if any position lies outside the store
+	 */
+
+	public SparseBitStore(int size, int[] positions) {
+		if (size < 0) throw new IllegalArgumentException("negative size");
+		if (positions == null) throw new IllegalArgumentException("null positions");
+		int[] values = positions.clone();
+		Arrays.sort(values);
+		int count = 0;
+		for (int i = 0; i < values.length; i++) {
+			int value = values[i];
+			if (value < 0) throw new IllegalArgumentException("negative position");
+			if (value >= size) throw new IllegalArgumentException("position too large");
+			if (count == 0 || values[count - 1] != value) values[count++] = value;
+		}
+		this.size = size;
+		this.values = new Values(values, count);
+		this.mutable = true;
+	}
+
+	private SparseBitStore(int size, Values values, boolean mutable) {
+		this.size = size;
+		this.values = values;
+		this.mutable = mutable;
+	}
+
+	// fundamental methods
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean getBit(int index) {
+		checkIndex(index);
+		return values.indexOf(index) >= 0;
+	}
+
+	@Override
+	public void setBit(int index, boolean value) {
+		checkIndex(index);
+		checkMutable();
+		int i = values.indexOf(index);
+		if (value) {
+			if (i < 0) values.insert(-1 - i, index);
+		} else {
+			if (i >= 0) values.splice(i, i + 1, 0);
+		}
+	}
+
+	// accelerating methods
+
+	@Override
+	public void flipBit(int index) {
+		checkIndex(index);
+		checkMutable();
+		int i = values.indexOf(index);
+		if (i < 0) {
+			values.insert(-1 - i, index);
+		} else {
+			values.splice(i, i + 1, 0);
+		}
+	}
+
+	@Override
+	public boolean getThenSetBit(int index, boolean value) {
+		checkIndex(index);
+		checkMutable();
+		int i = values.indexOf(index);
+		boolean previous = i >= 0;
+		if (previous != value) {
+			if (value) {
+				values.insert(-1 - i, index);
+			} else {
+				values.splice(i, i + 1, 0);
+			}
+		}
+		return previous;
+	}
+
+	@Override
+	public long getBits(int position, int length) {
+		Bits.checkBitsLength(length);
+		Bits.checkBounds(position, position + length, size);
+		int[] vs = values.values;
+		int count = values.count;
+		int to = position + length;
+		long bits = 0L;
+		for (int i = values.ceiling(position); i < count && vs[i] < to; i++) {
+			bits |= 1L << (vs[i] - position);
+		}
+		return bits;
+	}
+
+	@Override
+	public int getBitsAsInt(int position, int length) {
+		Bits.checkIntBitsLength(length);
+		return (int) getBits(position, length);
+	}
+
+	@Override
+	public void setBits(int position, long value, int length) {
+		Bits.checkBitsLength(length);
+		Bits.checkBounds(position, position + length, size);
+		checkMutable();
+		value &= mask(length);
+		int from = values.ceiling(position);
+		int to = values.ceiling(position + length);
+		values.splice(from, to, Long.bitCount(value));
+		int[] vs = values.values;
+		for (int i = from; value != 0L; value &= value - 1L) {
+			vs[i++] = position + Long.numberOfTrailingZeros(value);
+		}
+	}
+
+	@Override
+	public void setBitsAsInt(int position, int value, int length) {
+		Bits.checkIntBitsLength(length);
+		setBits(position, value & 0xffffffffL, length);
+	}
+
+	@Override
+	public void setStore(int position, BitStore store) {
+		if (store == null) throw new IllegalArgumentException("null store");
+		int length = store.size();
+		Bits.checkBounds(position, position + length, size);
+		checkMutable();
+		int[] positions = positionsOf(store);
+		int from = values.ceiling(position);
+		int to = values.ceiling(position + length);
+		values.splice(from, to, positions.length);
+		int[] vs = values.values;
+		for (int i = 0; i < positions.length; i++) {
+			vs[from + i] = position + positions[i];
+		}
+	}
+
+	@Override
+	public void fill() {
+		checkMutable();
+		int[] vs = new int[size];
+		for (int i = 0; i < size; i++) {
+			vs[i] = i;
+		}
+		values.set(vs, size);
+	}
+
+	@Override
+	public void clear() {
+		checkMutable();
+		values.set(NO_POSITIONS, 0);
+	}
+
+	@Override
+	public void flip() {
+		checkMutable();
+		int[] vs = values.values;
+		int count = values.count;
+		int[] flipped = new int[size - count];
+		int n = 0;
+		int p = 0;
+		for (int i = 0; i <= count; i++) {
+			int to = i == count ? size : vs[i];
+			while (p < to) flipped[n++] = p++;
+			p = to + 1;
+		}
+		values.set(flipped, n);
+	}
+
+	// operations
+
+	@Override
+	public Op set() {
+		return new SparseOp(new BitStoreOp.Set(this));
+	}
+
+	@Override
+	public Op and() {
+		return new SparseOp(new BitStoreOp.And(this));
+	}
+
+	@Override
+	public Op or() {
+		return new SparseOp(new BitStoreOp.Or(this));
+	}
+
+	@Override
+	public Op xor() {
+		return new SparseOp(new BitStoreOp.Xor(this));
+	}
+
+	// matching
+
+	@Override
+	public BitMatches ones() {
+		return new SparseMatches(true);
+	}
+
+	@Override
+	public BitMatches zeros() {
+		return new SparseMatches(false);
+	}
+
+	// mutability methods
+
+	@Override
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	@Override
+	public SparseBitStore mutableCopy() {
+		return new SparseBitStore(size, values.copy(), true);
+	}
+
+	@Override
+	public SparseBitStore immutableCopy() {
+		return new SparseBitStore(size, values.copy(), false);
+	}
+
+	@Override
+	public SparseBitStore immutableView() {
+		return new SparseBitStore(size, values, false);
+	}
+
+	// private utility methods
+
+	private void checkIndex(int index) {
+		if (index < 0) throw new IllegalArgumentException("negative index");
+		if (index >= size) throw new IllegalArgumentException("index too large");
+	}
+
+	private void checkMutable() {
+		if (!mutable) throw new IllegalStateException("immutable");
+	}
+
+	private void combine(Operation operation, BitStore store) {
+		checkMutable();
+		int[] a = values.values;
+		int ac = values.count;
+		if (operation == Operation.SET) {
+			setStore(0, store);
+		} else if (store instanceof SparseBitStore that) {
+			if (that.values == this.values) {
+				if (operation == Operation.XOR) clear();
+			} else {
+				int[] b = that.values.values;
+				int bc = that.values.count;
+				int[] out = operation == Operation.AND ? a : new int[(int) Math.min((long) ac + bc, size)];
+				values.set(out, merge(operation, a, ac, b, bc, out));
+			}
+		} else if (operation == Operation.AND) {
+			// retaining our own positions avoids enumerating the other store
+			int n = 0;
+			for (int i = 0; i < ac; i++) {
+				if (store.getBit(a[i])) a[n++] = a[i];
+			}
+			values.count = n;
+		} else {
+			int[] b = positionsOf(store);
+			int[] out = new int[(int) Math.min((long) ac + b.length, size)];
+			values.set(out, merge(operation, a, ac, b, b.length, out));
+		}
+	}
+
+	// the first one (or zero) at or after position, size if none
+	private int nextAdj(int position, boolean bit) {
+		Bits.checkPosition(position, size);
+		int[] vs = values.values;
+		int count = values.count;
+		int i = values.ceiling(position);
+		if (bit) return i < count ? vs[i] : size;
+		while (i < count && vs[i] == position) {
+			i++;
+			position++;
+		}
+		return position;
+	}
+
+	// the last one (or zero) before position, -1 if none
+	private int previousAdj(int position, boolean bit) {
+		Bits.checkPosition(position, size);
+		int[] vs = values.values;
+		int i = values.ceiling(position) - 1;
+		if (bit) return i >= 0 ? vs[i] : -1;
+		position--;
+		while (i >= 0 && vs[i] == position) {
+			i--;
+			position--;
+		}
+		return position;
+	}
+
+	// inner classes
+
+	// the sorted positions of the one bits in a store, shared with its views
+	private static final class Values {
+
+		int[] values;
+		int count;
+
+		Values(int[] values, int count) {
+			this.values = values;
+			this.count = count;
+		}
+
+		// the index of the value if present, otherwise (-(insertion point) - 1)
+		int indexOf(int value) {
+			return Arrays.binarySearch(values, 0, count, value);
+		}
+
+		// the index of the first value not less than value
+		int ceiling(int value) {
+			int i = Arrays.binarySearch(values, 0, count, value);
+			return i < 0 ? -1 - i : i;
+		}
+
+		void insert(int index, int value) {
+			splice(index, index, 1);
+			values[index] = value;
+		}
+
+		// replaces the values in [from, to) with n unassigned values
+		void splice(int from, int to, int n) {
+			int newCount = count - (to - from) + n;
+			if (newCount > values.length) {
+				int capacity = (int) Math.min(MAX_LENGTH, Math.max(newCount, values.length * 3L / 2 + 1));
+				int[] newValues = new int[capacity];
+				System.arraycopy(values, 0, newValues, 0, from);
+				System.arraycopy(values, to, newValues, from + n, count - to);
+				values = newValues;
+			} else if (to - from != n) {
+				System.arraycopy(values, to, values, from + n, count - to);
+			}
+			count = newCount;
+		}
+
+		void set(int[] values, int count) {
+			this.values = values;
+			this.count = count;
+		}
+
+		Values copy() {
+			return new Values(Arrays.copyOf(values, count), count);
+		}
+	}
+
+	private final class SparseMatches extends BitStoreBitMatches {
+
+		private final boolean bit;
+
+		SparseMatches(boolean bit) {
+			super(SparseBitStore.this);
+			this.bit = bit;
+		}
+
+		@Override
+		public boolean bit() {
+			return bit;
+		}
+
+		@Override
+		public BitStore sequence() {
+			return bit ? ImmutableOne.INSTANCE : ImmutableZero.INSTANCE;
+		}
+
+		@Override
+		public BitMatches range(int from, int to) {
+			return s.range(from, to).match(bit);
+		}
+
+		@Override
+		public boolean isAll() {
+			return count() == size;
+		}
+
+		@Override
+		public boolean isNone() {
+			return count() == 0;
+		}
+
+		@Override
+		public int count() {
+			return bit ? values.count : size - values.count;
+		}
+
+		@Override
+		public int first() {
+			return nextAdj(0, bit);
+		}
+
+		@Override
+		public int last() {
+			return previousAdj(size, bit);
+		}
+
+		@Override
+		public int next(int position) {
+			return nextAdj(position, bit);
+		}
+
+		@Override
+		public int previous(int position) {
+			return previousAdj(position, bit);
+		}
+	}
+
+	// merges operations with whole stores
+	private final class SparseOp implements Op {
+
+		private final BitStoreOp op;
+
+		SparseOp(BitStoreOp op) {
+			this.op = op;
+		}
+
+		@Override
+		public Operation getOperation() {
+			return op.getOperation();
+		}
+
+		@Override
+		public void with(boolean value) {
+			op.with(value);
+		}
+
+		@Override
+		public void withBit(int position, boolean value) {
+			op.withBit(position, value);
+		}
+
+		@Override
+		public boolean getThenWithBit(int position, boolean value) {
+			return op.getThenWithBit(position, value);
+		}
+
+		@Override
+		public void withByte(int position, byte value) {
+			op.withByte(position, value);
+		}
+
+		@Override
+		public void withShort(int position, short value) {
+			op.withShort(position, value);
+		}
+
+		@Override
+		public void withInt(int position, int value) {
+			op.withInt(position, value);
+		}
+
+		@Override
+		public void withLong(int position, long value) {
+			op.withLong(position, value);
+		}
+
+		@Override
+		public void withBits(int position, long value, int length) {
+			op.withBits(position, value, length);
+		}
+
+		@Override
+		public void withStore(BitStore store) {
+			if (store == null) throw new IllegalArgumentException("null store");
+			if (store.size() != size) throw new IllegalArgumentException("different sizes");
+			combine(op.getOperation(), store);
+		}
+
+		@Override
+		public void withStore(int position, BitStore store) {
+			if (position == 0 && store != null && store.size() == size) {
+				combine(op.getOperation(), store);
+			} else {
+				op.withStore(position, store);
+			}
+		}
+
+		@Override
+		public void withBytes(int position, byte[] bytes, int offset, int length) {
+			op.withBytes(position, bytes, offset, length);
+		}
+
+		@Override
+		public BitWriter openWriter(int finalPos, int initialPos) {
+			return op.openWriter(finalPos, initialPos);
+		}
+	}
+}
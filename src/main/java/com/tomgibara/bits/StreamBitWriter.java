@@ -38,7 +38,16 @@ class StreamBitWriter extends ByteBasedBitWriter {
 	}
 
 	@Override
-	protected void writeBytes(byte[] bytes, int offset, int length) throws BitStreamException {
+	protected void writeWord(long value) throws BitStreamException {
+		try {
+			stream.writeLong(value);
+		} catch (StreamException e) {
+			throw new BitStreamException(e);
+		}
+	}
+
+	@Override
+	protected void writeByteArray(byte[] bytes, int offset, int length) throws BitStreamException {
 		try {
 			stream.writeBytes(bytes, offset, length);
 		} catch (StreamException e) {
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static jdk.incubator.vector.VectorOperators.ADD;
+import static jdk.incubator.vector.VectorOperators.AND_NOT;
+import static jdk.incubator.vector.VectorOperators.BIT_COUNT;
+import static jdk.incubator.vector.VectorOperators.NE;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// only instantiated reflectively by WordOps, and only if the module is present
+final class VectorWordOps extends WordOps {
+
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+	private static final int LANES = SPECIES.length();
+
+	// shorter ranges are not worth vectorizing
+	private static final int THRESHOLD = 4 * LANES;
+
+	VectorWordOps() {
+		if (LANES < 2) throw new UnsupportedOperationException("no vector support");
+	}
+
+	// operations
+
+	@Override
+	void and(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) {
+			super.and(a, ai, b, bi, length);
+			return;
+		}
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			va.and(vb).intoArray(a, ai + i);
+		}
+		super.and(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	void or(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) {
+			super.or(a, ai, b, bi, length);
+			return;
+		}
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			va.or(vb).intoArray(a, ai + i);
+		}
+		super.or(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	void xor(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) {
+			super.xor(a, ai, b, bi, length);
+			return;
+		}
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			va.lanewise(XOR, vb).intoArray(a, ai + i);
+		}
+		super.xor(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	void andNot(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) {
+			super.andNot(a, ai, b, bi, length);
+			return;
+		}
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			va.lanewise(AND_NOT, vb).intoArray(a, ai + i);
+		}
+		super.andNot(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	void not(long[] a, int ai, int length) {
+		if (length < THRESHOLD) {
+			super.not(a, ai, length);
+			return;
+		}
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector.fromArray(SPECIES, a, ai + i).not().intoArray(a, ai + i);
+		}
+		super.not(a, ai + i, length - i);
+	}
+
+	// counting
+
+	@Override
+	int bitCount(long[] a, int ai, int length) {
+		if (length < THRESHOLD) return super.bitCount(a, ai, length);
+		final int bound = SPECIES.loopBound(length);
+		LongVector counts = LongVector.zero(SPECIES);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			counts = counts.add(LongVector.fromArray(SPECIES, a, ai + i).lanewise(BIT_COUNT));
+		}
+		return (int) counts.reduceLanes(ADD) + super.bitCount(a, ai + i, length - i);
+	}
+
+	// tests
+
+	@Override
+	boolean equal(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) return super.equal(a, ai, b, bi, length);
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			if (va.compare(NE, vb).anyTrue()) return false;
+		}
+		return super.equal(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	boolean excludes(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) return super.excludes(a, ai, b, bi, length);
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			if (va.and(vb).compare(NE, 0L).anyTrue()) return false;
+		}
+		return super.excludes(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	boolean contains(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) return super.contains(a, ai, b, bi, length);
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			if (vb.lanewise(AND_NOT, va).compare(NE, 0L).anyTrue()) return false;
+		}
+		return super.contains(a, ai + i, b, bi + i, length - i);
+	}
+
+	@Override
+	boolean complements(long[] a, int ai, long[] b, int bi, int length) {
+		if (length < THRESHOLD) return super.complements(a, ai, b, bi, length);
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += LANES) {
+			LongVector va = LongVector.fromArray(SPECIES, a, ai + i);
+			LongVector vb = LongVector.fromArray(SPECIES, b, bi + i);
+			if (va.compare(NE, vb.not()).anyTrue()) return false;
+		}
+		return super.complements(a, ai + i, b, bi + i, length - i);
+	}
+
+}
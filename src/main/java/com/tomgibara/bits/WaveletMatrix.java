@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+/**
+ * <p>
+ * An immutable sequence of non-negative ints that supports rank, select and
+ * quantile queries without retaining the values themselves. Each bit of the
+ * values, from most to least significant, is recorded in a {@link BitVector}
+ * level which is indexed by a {@link RankSelect}; at each level the values
+ * are stably partitioned, those with a zero bit preceding those with a one
+ * bit.
+ *
+ * <p>
+ * Every query visits each level once, so its cost is proportional to the
+ * number of bits required to represent the largest value in the sequence,
+ * irrespective of the length of the sequence.
+ *
+ * @author Tom Gibara
+ * @see RankSelect
+ */
+
+public final class WaveletMatrix {
+
+	// statics
+
+	/**
+	 * Creates a wavelet matrix over a sequence of values.
+	 *
+	 * @param values
+	 *            non-negative values
+	 * @return a wavelet matrix over the values
+	 * @throws IllegalArgumentException
+	 *             if any value is negative
+	 */
+
+	public static WaveletMatrix fromValues(int... values) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		int max = 0;
+		for (int value : values) {
+			if (value < 0) throw new IllegalArgumentException("negative value");
+			max |= value;
+		}
+		int depth = Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+		int size = values.length;
+		RankSelect[] levels = new RankSelect[depth];
+		int[] zeros = new int[depth];
+		int[] current = values.clone();
+		int[] next = new int[size];
+		for (int l = 0; l < depth; l++) {
+			int shift = depth - 1 - l;
+			BitVector level = new BitVector(size);
+			long word = 0L;
+			int z = 0;
+			for (int i = 0; i < size; i++) {
+				int value = current[i];
+				if (((value >>> shift) & 1) != 0) {
+					word |= 1L << i;
+				} else {
+					next[z++] = value;
+				}
+				if ((i & 63) == 63 || i == size - 1) {
+					level.setBits(i & ~63, word, (i & 63) + 1);
+					word = 0L;
+				}
+			}
+			for (int i = 0, o = z; i < size; i++) {
+				int value = current[i];
+				if (((value >>> shift) & 1) != 0) next[o++] = value;
+			}
+			levels[l] = level.immutable().rankSelect();
+			zeros[l] = z;
+			int[] t = current;
+			current = next;
+			next = t;
+		}
+		return new WaveletMatrix(size, levels, zeros);
+	}
+
+	// fields
+
+	private final int size;
+	private final RankSelect[] levels;
+	// the number of zeros at each level
+	private final int[] zeros;
+
+	// constructors
+
+	private WaveletMatrix(int size, RankSelect[] levels, int[] zeros) {
+		this.size = size;
+		this.levels = levels;
+		this.zeros = zeros;
+	}
+
+	// accessors
+
+	/**
+	 * The number of values in the sequence.
+	 *
+	 * @return the length of the sequence
+	 */
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The number of bits with which values are recorded; every value in the
+	 * sequence is less than 2<sup>depth</sup>.
+	 *
+	 * @return the number of levels in the matrix
+	 */
+
+	public int depth() {
+		return levels.length;
+	}
+
+	// queries
+
+	/**
+	 * The value at the specified index.
+	 *
+	 * @param index
+	 *            an index into the sequence
+	 * @return the value at the index
+	 */
+
+	public int access(int index) {
+		checkIndex(index);
+		int value = 0;
+		for (int l = 0; l < levels.length; l++) {
+			RankSelect level = levels[l];
+			value <<= 1;
+			if (level.vector().getBit(index)) {
+				value |= 1;
+				index = zeros[l] + level.rank1(index);
+			} else {
+				index = level.rank0(index);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * The number of occurrences of a value before the specified position.
+	 *
+	 * @param value
+	 *            the value to be counted
+	 * @param position
+	 *            a position in the sequence, from zero to its size inclusive
+	 * @return the number of indices less than the position at which the value
+	 *         occurs
+	 */
+
+	public int rank(int value, int position) {
+		Bits.checkPosition(position, size);
+		if (!inRange(value)) return 0;
+		int start = 0;
+		for (int l = 0; l < levels.length; l++) {
+			RankSelect level = levels[l];
+			if (bit(value, l)) {
+				start = zeros[l] + level.rank1(start);
+				position = zeros[l] + level.rank1(position);
+			} else {
+				start = level.rank0(start);
+				position = level.rank0(position);
+			}
+		}
+		return position - start;
+	}
+
+	/**
+	 * The index of the <i>k</i>th occurrence of a value, counting from zero.
+	 *
+	 * @param value
+	 *            the value sought
+	 * @param k
+	 *            the number of occurrences of the value that precede the
+	 *            occurrence sought
+	 * @return the index of the occurrence
+	 * @throws IllegalArgumentException
+	 *             if k is negative or not less than the number of occurrences
+	 *             of the value
+	 */
+
+	public int select(int value, int k) {
+		if (k < 0) throw new IllegalArgumentException("negative k");
+		if (!inRange(value)) throw new IllegalArgumentException("k too large");
+		int start = 0;
+		int finish = size;
+		for (int l = 0; l < levels.length; l++) {
+			RankSelect level = levels[l];
+			if (bit(value, l)) {
+				start = zeros[l] + level.rank1(start);
+				finish = zeros[l] + level.rank1(finish);
+			} else {
+				start = level.rank0(start);
+				finish = level.rank0(finish);
+			}
+		}
+		if (k >= finish - start) throw new IllegalArgumentException("k too large");
+		int index = start + k;
+		for (int l = levels.length - 1; l >= 0; l--) {
+			RankSelect level = levels[l];
+			index = bit(value, l) ? level.select1(index - zeros[l]) : level.select0(index);
+		}
+		return index;
+	}
+
+	/**
+	 * The <i>k</i>th smallest value within a range of the sequence, counting
+	 * from zero. Passing zero obtains the minimum value in the range and
+	 * passing one less than the length of the range obtains the maximum.
+	 *
+	 * @param from
+	 *            the (inclusive) index at which the range begins
+	 * @param to
+	 *            the (exclusive) index at which the range ends
+	 * @param k
+	 *            the number of values in the range that are not greater than
+	 *            the value sought, excluding the value itself
+	 * @return the value
+	 * @throws IllegalArgumentException
+	 *             if the range is invalid, or if k is negative or not less
+	 *             than the length of the range
+	 */
+
+	public int quantile(int from, int to, int k) {
+		Bits.checkBounds(from, to, size);
+		if (k < 0) throw new IllegalArgumentException("negative k");
+		if (k >= to - from) throw new IllegalArgumentException("k too large");
+		int value = 0;
+		for (int l = 0; l < levels.length; l++) {
+			RankSelect level = levels[l];
+			int f = level.rank0(from);
+			int t = level.rank0(to);
+			value <<= 1;
+			if (k < t - f) {
+				from = f;
+				to = t;
+			} else {
+				k -= t - f;
+				value |= 1;
+				from = zeros[l] + from - f;
+				to = zeros[l] + to - t;
+			}
+		}
+		return value;
+	}
+
+	// private utility methods
+
+	private void checkIndex(int index) {
+		if (index < 0) throw new IllegalArgumentException("negative index");
+		if (index >= size) throw new IllegalArgumentException("index too large");
+	}
+
+	// whether the value can be represented in the matrix
+	private boolean inRange(int value) {
+		return value >= 0 && (value >>> levels.length) == 0;
+	}
+
+	private boolean bit(int value, int level) {
+		return ((value >>> (levels.length - 1 - level)) & 1) != 0;
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+// bulk operations over ranges of words; ranges that are operated on together
+// must either be identical or must not overlap
+class WordOps {
+
+	// statics
+
+	private static final String VECTOR_PROPERTY = "com.tomgibara.bits.vectorOps";
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final String VECTOR_CLASS = "com.tomgibara.bits.VectorWordOps";
+
+	static final WordOps SCALAR = new WordOps();
+
+	// uses the Vector API where available, falling back to scalar operations
+	static final WordOps INSTANCE = instance();
+
+	private static WordOps instance() {
+		String property = System.getProperty(VECTOR_PROPERTY);
+		if (property != null && !Boolean.parseBoolean(property)) return SCALAR;
+		WordOps vector = vector();
+		return vector == null ? SCALAR : vector;
+	}
+
+	// operations that use the Vector API, or null if its module is not present
+	static WordOps vector() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) return null;
+		try {
+			return (WordOps) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	// constructor
+
+	WordOps() { }
+
+	// operations
+
+	void and(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) a[ai + i] &= b[bi + i];
+	}
+
+	void or(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) a[ai + i] |= b[bi + i];
+	}
+
+	void xor(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) a[ai + i] ^= b[bi + i];
+	}
+
+	void andNot(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) a[ai + i] &= ~b[bi + i];
+	}
+
+	void not(long[] a, int ai, int length) {
+		for (int i = 0; i < length; i++) a[ai + i] = ~a[ai + i];
+	}
+
+	// counting
+
+	int bitCount(long[] a, int ai, int length) {
+		int count = 0;
+		for (int i = 0; i < length; i++) count += Long.bitCount(a[ai + i]);
+		return count;
+	}
+
+	// tests
+
+	boolean equal(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[ai + i] != b[bi + i]) return false;
+		}
+		return true;
+	}
+
+	boolean excludes(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((a[ai + i] & b[bi + i]) != 0L) return false;
+		}
+		return true;
+	}
+
+	boolean contains(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((b[bi + i] & ~a[ai + i]) != 0L) return false;
+		}
+		return true;
+	}
+
+	boolean complements(long[] a, int ai, long[] b, int bi, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[ai + i] != ~b[bi + i]) return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import java.util.Arrays;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitStore;
+import com.tomgibara.bits.BitStreamException;
+import com.tomgibara.bits.BitWriter;
+import com.tomgibara.bits.EndOfBitStreamException;
+
+/**
+ * <p>
+ * A canonical Huffman code over the symbols <code>0</code> to
+ * <code>n-1</code>. A canonical code is determined entirely by the lengths of
+ * its codewords: codewords of equal length are consecutive binary numbers
+ * assigned in order of symbol, and shorter codewords numerically precede the
+ * prefixes of longer ones. This means that a code can be reconstructed from
+ * its lengths alone, which are all that need be recorded alongside the coded
+ * data.
+ *
+ * <p>
+ * Codes may be constructed from symbol frequencies, in which case an optimal
+ * prefix code is derived, or from previously recorded lengths. Symbols of
+ * zero frequency, or zero length, have no codeword. No codeword exceeds
+ * {@link #MAX_LENGTH} bits.
+ *
+ * <p>
+ * Symbols are decoded via lookup tables: a primary table indexed by the next
+ * {@link #PRIMARY_BITS} bits resolves every codeword of that length or less
+ * with a single lookup, and the remaining codewords are resolved by secondary
+ * tables indexed by the bits that follow. When decoding a sequence of symbols
+ * from a {@link BitReader}, the reader is peeked 64 bits at a time and
+ * several symbols are decoded from each window before the bits are consumed.
+ * Readers that cannot peek are decoded by comparing successively longer
+ * prefixes against the first canonical codeword of each length.
+ *
+ * @author Tom Gibara
+ */
+
+public final class HuffmanCode {
+
+	// statics
+
+	/**
+	 * The maximum length of a codeword.
+	 */
+
+	public static final int MAX_LENGTH = 20;
+
+	/**
+	 * The maximum number of bits used to index the primary decoding table.
+	 */
+
+	public static final int PRIMARY_BITS = 10;
+
+	// the maximum number of symbols over which a code may be defined
+	private static final int MAX_SYMBOLS = 1 << 24;
+
+	// the number of bits in a leaf entry used to record a length
+	private static final int LENGTH_BITS = 5;
+	private static final int LENGTH_MASK = (1 << LENGTH_BITS) - 1;
+	// the number of bits in a link entry used to record the index bits of a secondary table
+	private static final int INDEX_BITS = 4;
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+	/**
+	 * Derives an optimal code from the frequencies with which symbols occur.
+	 * If necessary, the frequencies are progressively flattened until no
+	 * codeword exceeds {@link #MAX_LENGTH} bits. A code containing a single
+	 * symbol assigns it a codeword of one bit.
+	 *
+	 * @param frequencies
+	 *            the non-negative frequency of each symbol, at least one of
+	 *            which must be non-zero
+	 * @return a canonical Huffman code
+	 */
+
+	public static HuffmanCode fromFrequencies(long... frequencies) {
+		if (frequencies == null) throw new IllegalArgumentException("null frequencies");
+		if (frequencies.length > MAX_SYMBOLS) throw new IllegalArgumentException("too many symbols");
+		int count = 0;
+		for (long frequency : frequencies) {
+			if (frequency < 0L) throw new IllegalArgumentException("negative frequency");
+			if (frequency > 0L) count++;
+		}
+		if (count == 0) throw new IllegalArgumentException("no non-zero frequencies");
+		if (count > 1 << MAX_LENGTH) throw new IllegalArgumentException("too many non-zero frequencies");
+		long[] freqs = frequencies.clone();
+		int[] lengths = new int[freqs.length];
+		while (!computeLengths(freqs, count, lengths)) {
+			for (int i = 0; i < freqs.length; i++) {
+				if (freqs[i] != 0L) freqs[i] = (freqs[i] >>> 1) | 1L;
+			}
+		}
+		return new HuffmanCode(lengths);
+	}
+
+	/**
+	 * Creates the canonical code with the specified codeword lengths. The
+	 * lengths must satisfy the Kraft inequality; they need not describe a
+	 * complete code, but any attempt to decode a bit sequence that is not
+	 * prefixed by a codeword will fail.
+	 *
+	 * @param lengths
+	 *            the length of the codeword for each symbol, zero for symbols
+	 *            that have no codeword
+	 * @return a canonical Huffman code
+	 */
+
+	public static HuffmanCode fromLengths(int... lengths) {
+		if (lengths == null) throw new IllegalArgumentException("null lengths");
+		if (lengths.length > MAX_SYMBOLS) throw new IllegalArgumentException("too many symbols");
+		long kraft = 0L;
+		boolean empty = true;
+		for (int length : lengths) {
+			if (length < 0) throw new IllegalArgumentException("negative length");
+			if (length > MAX_LENGTH) throw new IllegalArgumentException("length too large");
+			if (length == 0) continue;
+			kraft += 1L << (MAX_LENGTH - length);
+			empty = false;
+		}
+		if (empty) throw new IllegalArgumentException("no non-zero lengths");
+		if (kraft > 1L << MAX_LENGTH) throw new IllegalArgumentException("lengths oversubscribed");
+		return new HuffmanCode(lengths.clone());
+	}
+
+	// returns false if the code would exceed the maximum length
+	private static boolean computeLengths(long[] freqs, int count, int[] lengths) {
+		// leaves in order of frequency, then symbol
+		Integer[] order = new Integer[count];
+		for (int i = 0, j = 0; i < freqs.length; i++) {
+			if (freqs[i] != 0L) order[j++] = i;
+		}
+		Arrays.sort(order, (a, b) -> freqs[a] == freqs[b] ? a - b : Long.compare(freqs[a], freqs[b]));
+		if (count == 1) {
+			lengths[order[0]] = 1;
+			return true;
+		}
+		// two queues: leaves occupy [0,count) and internal nodes follow in order of creation
+		int size = 2 * count - 1;
+		long[] weights = new long[size];
+		int[] parents = new int[size];
+		for (int i = 0; i < count; i++) {
+			weights[i] = freqs[order[i]];
+		}
+		int leaf = 0;
+		int node = count;
+		for (int next = count; next < size; next++) {
+			for (int j = 0; j < 2; j++) {
+				// prefer leaves on ties to minimize the longest codeword
+				int child = leaf < count && (node == next || weights[leaf] <= weights[node]) ? leaf++ : node++;
+				weights[next] += weights[child];
+				parents[child] = next;
+			}
+		}
+		// parents always follow their children, so depths can be assigned from the root
+		int[] depths = new int[size];
+		for (int i = size - 2; i >= 0; i--) {
+			depths[i] = depths[parents[i]] + 1;
+		}
+		for (int i = 0; i < count; i++) {
+			if (depths[i] > MAX_LENGTH) return false;
+			lengths[order[i]] = depths[i];
+		}
+		return true;
+	}
+
+	private static void checkArgs(int[] symbols, int offset, int length) {
+		if (symbols == null) throw new IllegalArgumentException("null symbols");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (offset + length > symbols.length) throw new IllegalArgumentException("length exceeds symbols");
+	}
+
+	// the next count bits of a store that is read downwards from position, padded with zeros
+	private static int peek(BitStore store, int position, int count) {
+		if (position >= count) return (int) store.getBits(position - count, count);
+		return position == 0 ? 0 : (int) store.getBits(0, position) << (count - position);
+	}
+
+	// fields
+
+	private final int[] lengths;
+	private final int[] codes;
+	private final int minLength;
+	private final int maxLength;
+
+	// canonical decoding: for each length, the first codeword, the number of
+	// codewords and the index of the first symbol in the sorted symbols
+	private final int[] firstCodes;
+	private final int[] counts;
+	private final int[] offsets;
+	private final int[] sorted;
+
+	// table decoding: positive leaf entries record a symbol and a length,
+	// negative link entries record the offset and index bits of a secondary
+	// table, zero entries match no codeword
+	private final int primaryBits;
+	private final int[] table;
+
+	// constructors
+
+	private HuffmanCode(int[] lengths) {
+		this.lengths = lengths;
+		int min = MAX_LENGTH;
+		int max = 0;
+		counts = new int[MAX_LENGTH + 1];
+		for (int length : lengths) {
+			if (length == 0) continue;
+			counts[length]++;
+			min = Math.min(min, length);
+			max = Math.max(max, length);
+		}
+		minLength = min;
+		maxLength = max;
+
+		// assign canonical codes
+		firstCodes = new int[MAX_LENGTH + 1];
+		offsets = new int[MAX_LENGTH + 1];
+		int code = 0;
+		int offset = 0;
+		for (int length = 1; length <= MAX_LENGTH; length++) {
+			code = (code + counts[length - 1]) << 1;
+			firstCodes[length] = code;
+			offsets[length] = offset;
+			offset += counts[length];
+		}
+		sorted = new int[offset];
+		codes = new int[lengths.length];
+		int[] next = offsets.clone();
+		for (int symbol = 0; symbol < lengths.length; symbol++) {
+			int length = lengths[symbol];
+			if (length == 0) continue;
+			int index = next[length]++;
+			sorted[index] = symbol;
+			codes[symbol] = firstCodes[length] + index - offsets[length];
+		}
+
+		// build the decoding tables
+		primaryBits = Math.min(maxLength, PRIMARY_BITS);
+		int primarySize = 1 << primaryBits;
+		// the index bits of the secondary table for each primary entry
+		int[] secondaryBits = new int[primarySize];
+		for (int symbol = 0; symbol < lengths.length; symbol++) {
+			int length = lengths[symbol];
+			if (length <= primaryBits) continue;
+			int prefix = codes[symbol] >>> (length - primaryBits);
+			secondaryBits[prefix] = Math.max(secondaryBits[prefix], length - primaryBits);
+		}
+		int size = primarySize;
+		for (int bits : secondaryBits) {
+			if (bits != 0) size += 1 << bits;
+		}
+		table = new int[size];
+		for (int prefix = 0, end = primarySize; prefix < primarySize; prefix++) {
+			int bits = secondaryBits[prefix];
+			if (bits == 0) continue;
+			table[prefix] = ~((end << INDEX_BITS) | bits);
+			end += 1 << bits;
+		}
+		for (int symbol = 0; symbol < lengths.length; symbol++) {
+			int length = lengths[symbol];
+			if (length == 0) continue;
+			int entry = (symbol << LENGTH_BITS) | length;
+			code = codes[symbol];
+			if (length <= primaryBits) {
+				int shift = primaryBits - length;
+				Arrays.fill(table, code << shift, (code + 1) << shift, entry);
+			} else {
+				int prefix = code >>> (length - primaryBits);
+				int link = ~table[prefix];
+				int shift = (link & INDEX_MASK) - (length - primaryBits);
+				int start = (link >>> INDEX_BITS) + ((code & ((1 << (length - primaryBits)) - 1)) << shift);
+				Arrays.fill(table, start, start + (1 << shift), entry);
+			}
+		}
+	}
+
+	// accessors
+
+	/**
+	 * The number of symbols over which the code is defined, including those
+	 * that have no codeword.
+	 *
+	 * @return the number of symbols
+	 */
+
+	public int symbolCount() {
+		return lengths.length;
+	}
+
+	/**
+	 * The length of the longest codeword.
+	 *
+	 * @return the maximum codeword length in bits
+	 */
+
+	public int maxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * The length of the codeword for a symbol.
+	 *
+	 * @param symbol
+	 *            a symbol
+	 * @return the length of the symbol's codeword in bits, or zero if the
+	 *         symbol has no codeword
+	 */
+
+	public int length(int symbol) {
+		checkSymbol(symbol);
+		return lengths[symbol];
+	}
+
+	/**
+	 * The codeword for a symbol, in the least significant bits of an int.
+	 *
+	 * @param symbol
+	 *            a symbol that has a codeword
+	 * @return the symbol's codeword
+	 */
+
+	public int code(int symbol) {
+		checkSymbol(symbol);
+		if (lengths[symbol] == 0) throw new IllegalArgumentException("no codeword for symbol");
+		return codes[symbol];
+	}
+
+	/**
+	 * The lengths of the codewords for every symbol, from which the code may
+	 * be recreated with {@link #fromLengths(int...)}.
+	 *
+	 * @return a new array containing the codeword lengths
+	 */
+
+	public int[] lengths() {
+		return lengths.clone();
+	}
+
+	// operations
+
+	/**
+	 * Writes the codeword for a single symbol.
+	 *
+	 * @param writer
+	 *            the writer to which the codeword is written
+	 * @param symbol
+	 *            a symbol that has a codeword
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the codeword could not be written
+	 */
+
+	public int encode(BitWriter writer, int symbol) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		checkCoded(symbol);
+		return writer.write(codes[symbol], lengths[symbol]);
+	}
+
+	/**
+	 * Writes the codewords for a sequence of symbols.
+	 *
+	 * @param writer
+	 *            the writer to which the codewords are written
+	 * @param symbols
+	 *            an array of symbols that have codewords
+	 * @param offset
+	 *            the index of the first symbol to be encoded
+	 * @param length
+	 *            the number of symbols to be encoded
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the codewords could not be written
+	 */
+
+	public long encode(BitWriter writer, int[] symbols, int offset, int length) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		checkArgs(symbols, offset, length);
+		final int to = offset + length;
+		for (int i = offset; i < to; i++) {
+			checkCoded(symbols[i]);
+		}
+		long count = 0L;
+		// accumulate codewords into whole words
+		long acc = 0L;
+		int bits = 0;
+		for (int i = offset; i < to; i++) {
+			int symbol = symbols[i];
+			int len = lengths[symbol];
+			if (bits + len > 64) {
+				count += writer.write(acc, bits);
+				acc = 0L;
+				bits = 0;
+			}
+			acc = (acc << len) | codes[symbol];
+			bits += len;
+		}
+		if (bits > 0) count += writer.write(acc, bits);
+		return count;
+	}
+
+	/**
+	 * Reads a single symbol.
+	 *
+	 * @param reader
+	 *            the reader from which the codeword is read
+	 * @return the decoded symbol
+	 * @throws BitStreamException
+	 *             if the codeword could not be read, or if the bits read are
+	 *             not a codeword
+	 */
+
+	public int decode(BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		int entry;
+		try {
+			entry = reader.peek(primaryBits);
+		} catch (UnsupportedOperationException e) {
+			return decodeCanonical(reader);
+		}
+		entry = table[entry];
+		if (entry <= 0) {
+			if (entry == 0) throw new BitStreamException("invalid code");
+			int link = ~entry;
+			int bits = link & INDEX_MASK;
+			entry = table[(link >>> INDEX_BITS) + (reader.peek(primaryBits + bits) & ((1 << bits) - 1))];
+			if (entry == 0) throw new BitStreamException("invalid code");
+		}
+		reader.consume(entry & LENGTH_MASK);
+		return entry >>> LENGTH_BITS;
+	}
+
+	/**
+	 * Reads a sequence of symbols.
+	 *
+	 * @param reader
+	 *            the reader from which the codewords are read
+	 * @param symbols
+	 *            the array into which the symbols are decoded
+	 * @param offset
+	 *            the index at which the first symbol is stored
+	 * @param length
+	 *            the number of symbols to be decoded
+	 * @throws BitStreamException
+	 *             if the codewords could not be read, or if the bits read are
+	 *             not codewords
+	 */
+
+	public void decode(BitReader reader, int[] symbols, int offset, int length) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		checkArgs(symbols, offset, length);
+		final int[] table = this.table;
+		final int primaryBits = this.primaryBits;
+		// the number of window bits that may be used while leaving room for a codeword
+		final int limit = 64 - maxLength;
+		final int to = offset + length;
+		int i = offset;
+		try {
+			long window = reader.peekLong(64);
+			int used = 0;
+			for (; i < to; i++) {
+				if (used > limit) {
+					reader.consume(used);
+					window = reader.peekLong(64);
+					used = 0;
+				}
+				long bits = window << used;
+				int entry = table[(int) (bits >>> (64 - primaryBits))];
+				if (entry <= 0) {
+					if (entry == 0) throw new BitStreamException("invalid code");
+					int link = ~entry;
+					int index = (int) (bits >>> (64 - primaryBits - (link & INDEX_MASK))) & ((1 << (link & INDEX_MASK)) - 1);
+					entry = table[(link >>> INDEX_BITS) + index];
+					if (entry == 0) throw new BitStreamException("invalid code");
+				}
+				used += entry & LENGTH_MASK;
+				symbols[i] = entry >>> LENGTH_BITS;
+			}
+			reader.consume(used);
+		} catch (UnsupportedOperationException e) {
+			// the reader cannot peek, symbols up to i have been consumed
+			for (; i < to; i++) {
+				symbols[i] = decodeCanonical(reader);
+			}
+		}
+	}
+
+	/**
+	 * Reads a sequence of symbols from the start of a {@link BitStore}, such
+	 * as a <code>BitVector</code>, to which the codewords were written via a
+	 * writer opened on the store. The bits of the store are read in the same
+	 * order as those supplied by {@link BitStore#openReader()}.
+	 *
+	 * @param store
+	 *            the store containing the codewords
+	 * @param symbols
+	 *            the array into which the symbols are decoded
+	 * @param offset
+	 *            the index at which the first symbol is stored
+	 * @param length
+	 *            the number of symbols to be decoded
+	 * @return the number of bits decoded
+	 * @throws BitStreamException
+	 *             if the store is exhausted, or if the bits read are not
+	 *             codewords
+	 */
+
+	public long decode(BitStore store, int[] symbols, int offset, int length) throws BitStreamException {
+		if (store == null) throw new IllegalArgumentException("null store");
+		checkArgs(symbols, offset, length);
+		final int[] table = this.table;
+		final int primaryBits = this.primaryBits;
+		final int size = store.size();
+		final int to = offset + length;
+		int position = size;
+		for (int i = offset; i < to; i++) {
+			int entry = table[peek(store, position, primaryBits)];
+			if (entry <= 0) {
+				if (entry == 0) throw new BitStreamException("invalid code");
+				int link = ~entry;
+				int bits = link & INDEX_MASK;
+				int index = peek(store, position, primaryBits + bits) & ((1 << bits) - 1);
+				entry = table[(link >>> INDEX_BITS) + index];
+				if (entry == 0) throw new BitStreamException("invalid code");
+			}
+			int len = entry & LENGTH_MASK;
+			if (len > position) throw new EndOfBitStreamException();
+			position -= len;
+			symbols[i] = entry >>> LENGTH_BITS;
+		}
+		return size - position;
+	}
+
+	// object methods
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(lengths);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof HuffmanCode that)) return false;
+		return Arrays.equals(this.lengths, that.lengths);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(lengths);
+	}
+
+	// private utility methods
+
+	private void checkSymbol(int symbol) {
+		if (symbol < 0) throw new IllegalArgumentException("negative symbol");
+		if (symbol >= lengths.length) throw new IllegalArgumentException("symbol too large");
+	}
+
+	private void checkCoded(int symbol) {
+		checkSymbol(symbol);
+		if (lengths[symbol] == 0) throw new IllegalArgumentException("no codeword for symbol");
+	}
+
+	private int decodeCanonical(BitReader reader) {
+		int length = minLength;
+		int code = reader.read(length);
+		while (code - firstCodes[length] >= counts[length]) {
+			if (length == maxLength) throw new BitStreamException("invalid code");
+			code = (code << 1) | reader.readBit();
+			length++;
+		}
+		return sorted[offsets[length] + code - firstCodes[length]];
+	}
+
+}
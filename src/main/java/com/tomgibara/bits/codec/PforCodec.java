@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import java.util.Arrays;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitStore;
+import com.tomgibara.bits.BitStreamException;
+import com.tomgibara.bits.BitWriter;
+
+/**
+ * <p>
+ * Compresses sequences of ints in blocks of up to 128 values using patched
+ * frame-of-reference (PFOR) coding. The least value of each block is
+ * recorded as a reference and subtracted from every value in the block. The
+ * differences are then bit-packed at a common width, chosen to minimize the
+ * size of the block; the high bits of the few differences that exceed this
+ * width are recorded separately as exceptions and patched in after the block
+ * is unpacked.
+ *
+ * <p>
+ * Packed values are transferred between streams and memory 64 bits at a
+ * time. Every 64 values are unpacked by a fully unrolled kernel specialized
+ * for their width, so that no value is subject to a branch.
+ *
+ * <p>
+ * Each block begins with a header of 53 bits, or 59 bits for a block that
+ * contains exceptions. A sequence written with
+ * {@link #encode(BitWriter, int[], int, int)} is preceded by its length.
+ *
+ * @author Tom Gibara
+ */
+
+public final class PforCodec {
+
+	// statics
+
+	/**
+	 * The maximum number of values in a block.
+	 */
+
+	public static final int BLOCK_SIZE = 128;
+
+	// the number of bits needed to record a block length or an exception index
+	private static final int INDEX_BITS = 7;
+	// the number of bits needed to record a bit width
+	private static final int WIDTH_BITS = 6;
+	// the number of bits needed to record the number of exceptions
+	private static final int COUNT_BITS = 8;
+
+	// a buffer large enough to hold a packed block, plus a partial word and a word of padding
+	private static final int WORD_COUNT = BLOCK_SIZE * 32 / 64 + 2;
+
+	/**
+	 * Encodes a sequence of values, preceded by its length.
+	 *
+	 * @param writer
+	 *            the writer to which the values are written
+	 * @param values
+	 *            an array containing the values
+	 * @param offset
+	 *            the index of the first value to be encoded
+	 * @param length
+	 *            the number of values to be encoded
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the values could not be written
+	 */
+
+	public static long encode(BitWriter writer, int[] values, int offset, int length) throws BitStreamException {
+		checkArgs(writer, values, offset, length);
+		long[] words = new long[WORD_COUNT];
+		long count = writer.write(length, 32);
+		for (int i = 0; i < length; i += BLOCK_SIZE) {
+			count += encodeBlock(writer, values, offset + i, Math.min(BLOCK_SIZE, length - i), words);
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes a sequence of values that was written with
+	 * {@link #encode(BitWriter, int[], int, int)}.
+	 *
+	 * @param reader
+	 *            the reader from which the values are read
+	 * @return the values
+	 * @throws BitStreamException
+	 *             if the values could not be read
+	 */
+
+	public static int[] decode(BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		int length = reader.read(32);
+		if (length < 0) throw new BitStreamException("invalid length");
+		int[] values = new int[length];
+		long[] words = new long[WORD_COUNT];
+		for (int i = 0; i < length; ) {
+			i += decodeBlock(reader, values, i, words);
+		}
+		return values;
+	}
+
+	/**
+	 * Decodes a sequence of values that was written with
+	 * {@link #encode(BitWriter, int[], int, int)} to the start of a
+	 * {@link BitStore}, such as a <code>BitVector</code>.
+	 *
+	 * @param store
+	 *            the store containing the encoded values
+	 * @return the values
+	 * @throws BitStreamException
+	 *             if the values could not be read
+	 */
+
+	public static int[] decode(BitStore store) throws BitStreamException {
+		if (store == null) throw new IllegalArgumentException("null store");
+		return decode(store.openReader());
+	}
+
+	/**
+	 * Encodes a single block of values.
+	 *
+	 * @param writer
+	 *            the writer to which the block is written
+	 * @param values
+	 *            an array containing the values
+	 * @param offset
+	 *            the index of the first value to be encoded
+	 * @param length
+	 *            the number of values in the block, from 1 to
+	 *            {@link #BLOCK_SIZE} inclusive
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the block could not be written
+	 */
+
+	public static int encodeBlock(BitWriter writer, int[] values, int offset, int length) throws BitStreamException {
+		checkArgs(writer, values, offset, length);
+		if (length == 0) throw new IllegalArgumentException("empty block");
+		if (length > BLOCK_SIZE) throw new IllegalArgumentException("length exceeds block size");
+		return encodeBlock(writer, values, offset, length, new long[WORD_COUNT]);
+	}
+
+	/**
+	 * Decodes a single block of values.
+	 *
+	 * @param reader
+	 *            the reader from which the block is read
+	 * @param dest
+	 *            the array into which the values are decoded
+	 * @param offset
+	 *            the index at which the first value is stored
+	 * @return the number of values decoded
+	 * @throws BitStreamException
+	 *             if the block could not be read, or if the destination is
+	 *             too small to accommodate it
+	 */
+
+	public static int decodeBlock(BitReader reader, int[] dest, int offset) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		if (dest == null) throw new IllegalArgumentException("null dest");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		return decodeBlock(reader, dest, offset, new long[WORD_COUNT]);
+	}
+
+	private static int encodeBlock(BitWriter writer, int[] values, int offset, int length, long[] words) {
+		int ref = values[offset];
+		for (int i = 1; i < length; i++) {
+			ref = Math.min(ref, values[offset + i]);
+		}
+		// histogram of the widths of the differences
+		int[] widths = new int[33];
+		for (int i = 0; i < length; i++) {
+			widths[width(values[offset + i] - ref)]++;
+		}
+		int maxWidth = 32;
+		while (maxWidth > 0 && widths[maxWidth] == 0) maxWidth--;
+		// choose the width that minimizes the size of the block
+		int bestWidth = maxWidth;
+		int bestSize = length * maxWidth;
+		int exceptions = 0;
+		for (int width = maxWidth - 1; width >= 0; width--) {
+			exceptions += widths[width + 1];
+			int size = length * width + WIDTH_BITS + exceptions * (INDEX_BITS + maxWidth - width);
+			if (size < bestSize) {
+				bestSize = size;
+				bestWidth = width;
+			}
+		}
+		exceptions = 0;
+		for (int width = bestWidth + 1; width <= maxWidth; width++) {
+			exceptions += widths[width];
+		}
+		// header
+		int count = 0;
+		count += writer.write(length - 1, INDEX_BITS);
+		count += writer.write(ref, 32);
+		count += writer.write(bestWidth, WIDTH_BITS);
+		count += writer.write(exceptions, COUNT_BITS);
+		if (exceptions > 0) count += writer.write(maxWidth, WIDTH_BITS);
+		// packed values
+		long mask = mask(bestWidth);
+		int wordCount = (length * bestWidth + 63) >> 6;
+		Arrays.fill(words, 0, wordCount + 1, 0L);
+		for (int i = 0; i < length; i++) {
+			long d = (values[offset + i] - ref) & mask;
+			int p = i * bestWidth;
+			int w = p >> 6;
+			int s = p & 63;
+			words[w] |= d << s;
+			words[w + 1] |= (d >>> 1) >>> (63 - s);
+		}
+		count += writeWords(writer, words, length * bestWidth);
+		// exceptions
+		if (exceptions > 0) {
+			int highBits = maxWidth - bestWidth;
+			for (int i = 0; i < length; i++) {
+				long d = (values[offset + i] - ref) & 0xffffffffL;
+				if ((d >>> bestWidth) == 0L) continue;
+				count += writer.write(i, INDEX_BITS);
+				count += writer.write(d >>> bestWidth, highBits);
+			}
+		}
+		return count;
+	}
+
+	private static int decodeBlock(BitReader reader, int[] dest, int offset, long[] words) {
+		int length = reader.read(INDEX_BITS) + 1;
+		if (offset + length > dest.length) throw new BitStreamException("block exceeds destination");
+		int ref = reader.read(32);
+		int width = reader.read(WIDTH_BITS);
+		int exceptions = reader.read(COUNT_BITS);
+		int maxWidth = exceptions > 0 ? reader.read(WIDTH_BITS) : width;
+		if (width > 32 || maxWidth > 32 || maxWidth < width || exceptions > length) throw new BitStreamException("invalid block");
+		readWords(reader, words, length * width);
+		unpack(words, width, ref, dest, offset, length);
+		if (exceptions > 0) {
+			int highBits = maxWidth - width;
+			for (int i = 0; i < exceptions; i++) {
+				int index = reader.read(INDEX_BITS);
+				if (index >= length) throw new BitStreamException("invalid exception");
+				dest[offset + index] += (int) (reader.readLong(highBits) << width);
+			}
+		}
+		return length;
+	}
+
+	// every 64 values of a block occupy exactly width words, each group is
+	// unpacked by a kernel for the width, and any remainder by a gather
+	private static void unpack(long[] words, int width, int ref, int[] dest, int offset, int length) {
+		if (width == 0) {
+			Arrays.fill(dest, offset, offset + length, ref);
+			return;
+		}
+		final int to = offset + length;
+		int i = offset;
+		int base = 0;
+		for (; to - i >= 64; i += 64, base += width) {
+			PforKernels.unpack(words, base, width, ref, dest, i);
+		}
+		unpackTail(words, base, width, ref, dest, i, to);
+	}
+
+	// gathers each value from the two words it may span; the padding word
+	// ensures that the second word always exists
+	private static void unpackTail(long[] words, int base, int width, int ref, int[] dest, int from, int to) {
+		final long mask = mask(width);
+		for (int i = from, p = 0; i < to; i++, p += width) {
+			int w = base + (p >> 6);
+			int s = p & 63;
+			long bits = (words[w] >>> s) | ((words[w + 1] << 1) << (63 - s));
+			dest[i] = ref + (int) (bits & mask);
+		}
+	}
+
+	private static int writeWords(BitWriter writer, long[] words, int bits) {
+		int count = 0;
+		int i = 0;
+		for (; bits >= 64; bits -= 64) {
+			count += writer.write(words[i++], 64);
+		}
+		if (bits > 0) count += writer.write(words[i], bits);
+		return count;
+	}
+
+	private static void readWords(BitReader reader, long[] words, int bits) {
+		int i = 0;
+		for (; bits >= 64; bits -= 64) {
+			words[i++] = reader.readLong(64);
+		}
+		words[i] = bits > 0 ? reader.readLong(bits) : 0L;
+		// padding ensures that unpacking never reads stale bits
+		words[i + 1] = 0L;
+	}
+
+	// the number of bits needed to represent the difference as an unsigned value
+	private static int width(int difference) {
+		return 32 - Integer.numberOfLeadingZeros(difference);
+	}
+
+	private static long mask(int width) {
+		return (1L << width) - 1L;
+	}
+
+	private static void checkArgs(BitWriter writer, int[] values, int offset, int length) {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		if (values == null) throw new IllegalArgumentException("null values");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (offset + length > values.length) throw new IllegalArgumentException("length exceeds values");
+	}
+
+	// constructor
+
+	private PforCodec() { }
+
+}
@@ -0,0 +1,2514 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+// unpacks 64 values of a fixed width from the same number of words, starting
+// at words[base]; each width has its own kernel, unrolled so that no value is
+// subject to a branch (widths of 8, 16 and 32 are unrolled over a single word,
+// which measures faster); the kernels are mechanically generated
+final class PforKernels {
+
+	static void unpack(long[] words, int base, int width, int ref, int[] dest, int offset) {
+		switch (width) {
+		case  1: unpack1(words, base, ref, dest, offset); break;
+		case  2: unpack2(words, base, ref, dest, offset); break;
+		case  3: unpack3(words, base, ref, dest, offset); break;
+		case  4: unpack4(words, base, ref, dest, offset); break;
+		case  5: unpack5(words, base, ref, dest, offset); break;
+		case  6: unpack6(words, base, ref, dest, offset); break;
+		case  7: unpack7(words, base, ref, dest, offset); break;
+		case  8: unpack8(words, base, ref, dest, offset); break;
+		case  9: unpack9(words, base, ref, dest, offset); break;
+		case 10: unpack10(words, base, ref, dest, offset); break;
+		case 11: unpack11(words, base, ref, dest, offset); break;
+		case 12: unpack12(words, base, ref, dest, offset); break;
+		case 13: unpack13(words, base, ref, dest, offset); break;
+		case 14: unpack14(words, base, ref, dest, offset); break;
+		case 15: unpack15(words, base, ref, dest, offset); break;
+		case 16: unpack16(words, base, ref, dest, offset); break;
+		case 17: unpack17(words, base, ref, dest, offset); break;
+		case 18: unpack18(words, base, ref, dest, offset); break;
+		case 19: unpack19(words, base, ref, dest, offset); break;
+		case 20: unpack20(words, base, ref, dest, offset); break;
+		case 21: unpack21(words, base, ref, dest, offset); break;
+		case 22: unpack22(words, base, ref, dest, offset); break;
+		case 23: unpack23(words, base, ref, dest, offset); break;
+		case 24: unpack24(words, base, ref, dest, offset); break;
+		case 25: unpack25(words, base, ref, dest, offset); break;
+		case 26: unpack26(words, base, ref, dest, offset); break;
+		case 27: unpack27(words, base, ref, dest, offset); break;
+		case 28: unpack28(words, base, ref, dest, offset); break;
+		case 29: unpack29(words, base, ref, dest, offset); break;
+		case 30: unpack30(words, base, ref, dest, offset); break;
+		case 31: unpack31(words, base, ref, dest, offset); break;
+		case 32: unpack32(words, base, ref, dest, offset); break;
+		default: throw new IllegalArgumentException("invalid width");
+		}
+	}
+
+	private static void unpack1(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1L);
+		dest[offset + 1] = ref + (int) ((w0 >>> 1) & 0x1L);
+		dest[offset + 2] = ref + (int) ((w0 >>> 2) & 0x1L);
+		dest[offset + 3] = ref + (int) ((w0 >>> 3) & 0x1L);
+		dest[offset + 4] = ref + (int) ((w0 >>> 4) & 0x1L);
+		dest[offset + 5] = ref + (int) ((w0 >>> 5) & 0x1L);
+		dest[offset + 6] = ref + (int) ((w0 >>> 6) & 0x1L);
+		dest[offset + 7] = ref + (int) ((w0 >>> 7) & 0x1L);
+		dest[offset + 8] = ref + (int) ((w0 >>> 8) & 0x1L);
+		dest[offset + 9] = ref + (int) ((w0 >>> 9) & 0x1L);
+		dest[offset + 10] = ref + (int) ((w0 >>> 10) & 0x1L);
+		dest[offset + 11] = ref + (int) ((w0 >>> 11) & 0x1L);
+		dest[offset + 12] = ref + (int) ((w0 >>> 12) & 0x1L);
+		dest[offset + 13] = ref + (int) ((w0 >>> 13) & 0x1L);
+		dest[offset + 14] = ref + (int) ((w0 >>> 14) & 0x1L);
+		dest[offset + 15] = ref + (int) ((w0 >>> 15) & 0x1L);
+		dest[offset + 16] = ref + (int) ((w0 >>> 16) & 0x1L);
+		dest[offset + 17] = ref + (int) ((w0 >>> 17) & 0x1L);
+		dest[offset + 18] = ref + (int) ((w0 >>> 18) & 0x1L);
+		dest[offset + 19] = ref + (int) ((w0 >>> 19) & 0x1L);
+		dest[offset + 20] = ref + (int) ((w0 >>> 20) & 0x1L);
+		dest[offset + 21] = ref + (int) ((w0 >>> 21) & 0x1L);
+		dest[offset + 22] = ref + (int) ((w0 >>> 22) & 0x1L);
+		dest[offset + 23] = ref + (int) ((w0 >>> 23) & 0x1L);
+		dest[offset + 24] = ref + (int) ((w0 >>> 24) & 0x1L);
+		dest[offset + 25] = ref + (int) ((w0 >>> 25) & 0x1L);
+		dest[offset + 26] = ref + (int) ((w0 >>> 26) & 0x1L);
+		dest[offset + 27] = ref + (int) ((w0 >>> 27) & 0x1L);
+		dest[offset + 28] = ref + (int) ((w0 >>> 28) & 0x1L);
+		dest[offset + 29] = ref + (int) ((w0 >>> 29) & 0x1L);
+		dest[offset + 30] = ref + (int) ((w0 >>> 30) & 0x1L);
+		dest[offset + 31] = ref + (int) ((w0 >>> 31) & 0x1L);
+		dest[offset + 32] = ref + (int) ((w0 >>> 32) & 0x1L);
+		dest[offset + 33] = ref + (int) ((w0 >>> 33) & 0x1L);
+		dest[offset + 34] = ref + (int) ((w0 >>> 34) & 0x1L);
+		dest[offset + 35] = ref + (int) ((w0 >>> 35) & 0x1L);
+		dest[offset + 36] = ref + (int) ((w0 >>> 36) & 0x1L);
+		dest[offset + 37] = ref + (int) ((w0 >>> 37) & 0x1L);
+		dest[offset + 38] = ref + (int) ((w0 >>> 38) & 0x1L);
+		dest[offset + 39] = ref + (int) ((w0 >>> 39) & 0x1L);
+		dest[offset + 40] = ref + (int) ((w0 >>> 40) & 0x1L);
+		dest[offset + 41] = ref + (int) ((w0 >>> 41) & 0x1L);
+		dest[offset + 42] = ref + (int) ((w0 >>> 42) & 0x1L);
+		dest[offset + 43] = ref + (int) ((w0 >>> 43) & 0x1L);
+		dest[offset + 44] = ref + (int) ((w0 >>> 44) & 0x1L);
+		dest[offset + 45] = ref + (int) ((w0 >>> 45) & 0x1L);
+		dest[offset + 46] = ref + (int) ((w0 >>> 46) & 0x1L);
+		dest[offset + 47] = ref + (int) ((w0 >>> 47) & 0x1L);
+		dest[offset + 48] = ref + (int) ((w0 >>> 48) & 0x1L);
+		dest[offset + 49] = ref + (int) ((w0 >>> 49) & 0x1L);
+		dest[offset + 50] = ref + (int) ((w0 >>> 50) & 0x1L);
+		dest[offset + 51] = ref + (int) ((w0 >>> 51) & 0x1L);
+		dest[offset + 52] = ref + (int) ((w0 >>> 52) & 0x1L);
+		dest[offset + 53] = ref + (int) ((w0 >>> 53) & 0x1L);
+		dest[offset + 54] = ref + (int) ((w0 >>> 54) & 0x1L);
+		dest[offset + 55] = ref + (int) ((w0 >>> 55) & 0x1L);
+		dest[offset + 56] = ref + (int) ((w0 >>> 56) & 0x1L);
+		dest[offset + 57] = ref + (int) ((w0 >>> 57) & 0x1L);
+		dest[offset + 58] = ref + (int) ((w0 >>> 58) & 0x1L);
+		dest[offset + 59] = ref + (int) ((w0 >>> 59) & 0x1L);
+		dest[offset + 60] = ref + (int) ((w0 >>> 60) & 0x1L);
+		dest[offset + 61] = ref + (int) ((w0 >>> 61) & 0x1L);
+		dest[offset + 62] = ref + (int) ((w0 >>> 62) & 0x1L);
+		dest[offset + 63] = ref + (int) (w0 >>> 63);
+	}
+
+	private static void unpack2(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3L);
+		dest[offset + 1] = ref + (int) ((w0 >>> 2) & 0x3L);
+		dest[offset + 2] = ref + (int) ((w0 >>> 4) & 0x3L);
+		dest[offset + 3] = ref + (int) ((w0 >>> 6) & 0x3L);
+		dest[offset + 4] = ref + (int) ((w0 >>> 8) & 0x3L);
+		dest[offset + 5] = ref + (int) ((w0 >>> 10) & 0x3L);
+		dest[offset + 6] = ref + (int) ((w0 >>> 12) & 0x3L);
+		dest[offset + 7] = ref + (int) ((w0 >>> 14) & 0x3L);
+		dest[offset + 8] = ref + (int) ((w0 >>> 16) & 0x3L);
+		dest[offset + 9] = ref + (int) ((w0 >>> 18) & 0x3L);
+		dest[offset + 10] = ref + (int) ((w0 >>> 20) & 0x3L);
+		dest[offset + 11] = ref + (int) ((w0 >>> 22) & 0x3L);
+		dest[offset + 12] = ref + (int) ((w0 >>> 24) & 0x3L);
+		dest[offset + 13] = ref + (int) ((w0 >>> 26) & 0x3L);
+		dest[offset + 14] = ref + (int) ((w0 >>> 28) & 0x3L);
+		dest[offset + 15] = ref + (int) ((w0 >>> 30) & 0x3L);
+		dest[offset + 16] = ref + (int) ((w0 >>> 32) & 0x3L);
+		dest[offset + 17] = ref + (int) ((w0 >>> 34) & 0x3L);
+		dest[offset + 18] = ref + (int) ((w0 >>> 36) & 0x3L);
+		dest[offset + 19] = ref + (int) ((w0 >>> 38) & 0x3L);
+		dest[offset + 20] = ref + (int) ((w0 >>> 40) & 0x3L);
+		dest[offset + 21] = ref + (int) ((w0 >>> 42) & 0x3L);
+		dest[offset + 22] = ref + (int) ((w0 >>> 44) & 0x3L);
+		dest[offset + 23] = ref + (int) ((w0 >>> 46) & 0x3L);
+		dest[offset + 24] = ref + (int) ((w0 >>> 48) & 0x3L);
+		dest[offset + 25] = ref + (int) ((w0 >>> 50) & 0x3L);
+		dest[offset + 26] = ref + (int) ((w0 >>> 52) & 0x3L);
+		dest[offset + 27] = ref + (int) ((w0 >>> 54) & 0x3L);
+		dest[offset + 28] = ref + (int) ((w0 >>> 56) & 0x3L);
+		dest[offset + 29] = ref + (int) ((w0 >>> 58) & 0x3L);
+		dest[offset + 30] = ref + (int) ((w0 >>> 60) & 0x3L);
+		dest[offset + 31] = ref + (int) (w0 >>> 62);
+		long w1 = words[base + 1];
+		dest[offset + 32] = ref + (int) (w1 & 0x3L);
+		dest[offset + 33] = ref + (int) ((w1 >>> 2) & 0x3L);
+		dest[offset + 34] = ref + (int) ((w1 >>> 4) & 0x3L);
+		dest[offset + 35] = ref + (int) ((w1 >>> 6) & 0x3L);
+		dest[offset + 36] = ref + (int) ((w1 >>> 8) & 0x3L);
+		dest[offset + 37] = ref + (int) ((w1 >>> 10) & 0x3L);
+		dest[offset + 38] = ref + (int) ((w1 >>> 12) & 0x3L);
+		dest[offset + 39] = ref + (int) ((w1 >>> 14) & 0x3L);
+		dest[offset + 40] = ref + (int) ((w1 >>> 16) & 0x3L);
+		dest[offset + 41] = ref + (int) ((w1 >>> 18) & 0x3L);
+		dest[offset + 42] = ref + (int) ((w1 >>> 20) & 0x3L);
+		dest[offset + 43] = ref + (int) ((w1 >>> 22) & 0x3L);
+		dest[offset + 44] = ref + (int) ((w1 >>> 24) & 0x3L);
+		dest[offset + 45] = ref + (int) ((w1 >>> 26) & 0x3L);
+		dest[offset + 46] = ref + (int) ((w1 >>> 28) & 0x3L);
+		dest[offset + 47] = ref + (int) ((w1 >>> 30) & 0x3L);
+		dest[offset + 48] = ref + (int) ((w1 >>> 32) & 0x3L);
+		dest[offset + 49] = ref + (int) ((w1 >>> 34) & 0x3L);
+		dest[offset + 50] = ref + (int) ((w1 >>> 36) & 0x3L);
+		dest[offset + 51] = ref + (int) ((w1 >>> 38) & 0x3L);
+		dest[offset + 52] = ref + (int) ((w1 >>> 40) & 0x3L);
+		dest[offset + 53] = ref + (int) ((w1 >>> 42) & 0x3L);
+		dest[offset + 54] = ref + (int) ((w1 >>> 44) & 0x3L);
+		dest[offset + 55] = ref + (int) ((w1 >>> 46) & 0x3L);
+		dest[offset + 56] = ref + (int) ((w1 >>> 48) & 0x3L);
+		dest[offset + 57] = ref + (int) ((w1 >>> 50) & 0x3L);
+		dest[offset + 58] = ref + (int) ((w1 >>> 52) & 0x3L);
+		dest[offset + 59] = ref + (int) ((w1 >>> 54) & 0x3L);
+		dest[offset + 60] = ref + (int) ((w1 >>> 56) & 0x3L);
+		dest[offset + 61] = ref + (int) ((w1 >>> 58) & 0x3L);
+		dest[offset + 62] = ref + (int) ((w1 >>> 60) & 0x3L);
+		dest[offset + 63] = ref + (int) (w1 >>> 62);
+	}
+
+	private static void unpack3(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7L);
+		dest[offset + 1] = ref + (int) ((w0 >>> 3) & 0x7L);
+		dest[offset + 2] = ref + (int) ((w0 >>> 6) & 0x7L);
+		dest[offset + 3] = ref + (int) ((w0 >>> 9) & 0x7L);
+		dest[offset + 4] = ref + (int) ((w0 >>> 12) & 0x7L);
+		dest[offset + 5] = ref + (int) ((w0 >>> 15) & 0x7L);
+		dest[offset + 6] = ref + (int) ((w0 >>> 18) & 0x7L);
+		dest[offset + 7] = ref + (int) ((w0 >>> 21) & 0x7L);
+		dest[offset + 8] = ref + (int) ((w0 >>> 24) & 0x7L);
+		dest[offset + 9] = ref + (int) ((w0 >>> 27) & 0x7L);
+		dest[offset + 10] = ref + (int) ((w0 >>> 30) & 0x7L);
+		dest[offset + 11] = ref + (int) ((w0 >>> 33) & 0x7L);
+		dest[offset + 12] = ref + (int) ((w0 >>> 36) & 0x7L);
+		dest[offset + 13] = ref + (int) ((w0 >>> 39) & 0x7L);
+		dest[offset + 14] = ref + (int) ((w0 >>> 42) & 0x7L);
+		dest[offset + 15] = ref + (int) ((w0 >>> 45) & 0x7L);
+		dest[offset + 16] = ref + (int) ((w0 >>> 48) & 0x7L);
+		dest[offset + 17] = ref + (int) ((w0 >>> 51) & 0x7L);
+		dest[offset + 18] = ref + (int) ((w0 >>> 54) & 0x7L);
+		dest[offset + 19] = ref + (int) ((w0 >>> 57) & 0x7L);
+		dest[offset + 20] = ref + (int) ((w0 >>> 60) & 0x7L);
+		long w1 = words[base + 1];
+		dest[offset + 21] = ref + (int) ((w0 >>> 63 | w1 << 1) & 0x7L);
+		dest[offset + 22] = ref + (int) ((w1 >>> 2) & 0x7L);
+		dest[offset + 23] = ref + (int) ((w1 >>> 5) & 0x7L);
+		dest[offset + 24] = ref + (int) ((w1 >>> 8) & 0x7L);
+		dest[offset + 25] = ref + (int) ((w1 >>> 11) & 0x7L);
+		dest[offset + 26] = ref + (int) ((w1 >>> 14) & 0x7L);
+		dest[offset + 27] = ref + (int) ((w1 >>> 17) & 0x7L);
+		dest[offset + 28] = ref + (int) ((w1 >>> 20) & 0x7L);
+		dest[offset + 29] = ref + (int) ((w1 >>> 23) & 0x7L);
+		dest[offset + 30] = ref + (int) ((w1 >>> 26) & 0x7L);
+		dest[offset + 31] = ref + (int) ((w1 >>> 29) & 0x7L);
+		dest[offset + 32] = ref + (int) ((w1 >>> 32) & 0x7L);
+		dest[offset + 33] = ref + (int) ((w1 >>> 35) & 0x7L);
+		dest[offset + 34] = ref + (int) ((w1 >>> 38) & 0x7L);
+		dest[offset + 35] = ref + (int) ((w1 >>> 41) & 0x7L);
+		dest[offset + 36] = ref + (int) ((w1 >>> 44) & 0x7L);
+		dest[offset + 37] = ref + (int) ((w1 >>> 47) & 0x7L);
+		dest[offset + 38] = ref + (int) ((w1 >>> 50) & 0x7L);
+		dest[offset + 39] = ref + (int) ((w1 >>> 53) & 0x7L);
+		dest[offset + 40] = ref + (int) ((w1 >>> 56) & 0x7L);
+		dest[offset + 41] = ref + (int) ((w1 >>> 59) & 0x7L);
+		long w2 = words[base + 2];
+		dest[offset + 42] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x7L);
+		dest[offset + 43] = ref + (int) ((w2 >>> 1) & 0x7L);
+		dest[offset + 44] = ref + (int) ((w2 >>> 4) & 0x7L);
+		dest[offset + 45] = ref + (int) ((w2 >>> 7) & 0x7L);
+		dest[offset + 46] = ref + (int) ((w2 >>> 10) & 0x7L);
+		dest[offset + 47] = ref + (int) ((w2 >>> 13) & 0x7L);
+		dest[offset + 48] = ref + (int) ((w2 >>> 16) & 0x7L);
+		dest[offset + 49] = ref + (int) ((w2 >>> 19) & 0x7L);
+		dest[offset + 50] = ref + (int) ((w2 >>> 22) & 0x7L);
+		dest[offset + 51] = ref + (int) ((w2 >>> 25) & 0x7L);
+		dest[offset + 52] = ref + (int) ((w2 >>> 28) & 0x7L);
+		dest[offset + 53] = ref + (int) ((w2 >>> 31) & 0x7L);
+		dest[offset + 54] = ref + (int) ((w2 >>> 34) & 0x7L);
+		dest[offset + 55] = ref + (int) ((w2 >>> 37) & 0x7L);
+		dest[offset + 56] = ref + (int) ((w2 >>> 40) & 0x7L);
+		dest[offset + 57] = ref + (int) ((w2 >>> 43) & 0x7L);
+		dest[offset + 58] = ref + (int) ((w2 >>> 46) & 0x7L);
+		dest[offset + 59] = ref + (int) ((w2 >>> 49) & 0x7L);
+		dest[offset + 60] = ref + (int) ((w2 >>> 52) & 0x7L);
+		dest[offset + 61] = ref + (int) ((w2 >>> 55) & 0x7L);
+		dest[offset + 62] = ref + (int) ((w2 >>> 58) & 0x7L);
+		dest[offset + 63] = ref + (int) (w2 >>> 61);
+	}
+
+	private static void unpack4(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0xfL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 4) & 0xfL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 8) & 0xfL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 12) & 0xfL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 16) & 0xfL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 20) & 0xfL);
+		dest[offset + 6] = ref + (int) ((w0 >>> 24) & 0xfL);
+		dest[offset + 7] = ref + (int) ((w0 >>> 28) & 0xfL);
+		dest[offset + 8] = ref + (int) ((w0 >>> 32) & 0xfL);
+		dest[offset + 9] = ref + (int) ((w0 >>> 36) & 0xfL);
+		dest[offset + 10] = ref + (int) ((w0 >>> 40) & 0xfL);
+		dest[offset + 11] = ref + (int) ((w0 >>> 44) & 0xfL);
+		dest[offset + 12] = ref + (int) ((w0 >>> 48) & 0xfL);
+		dest[offset + 13] = ref + (int) ((w0 >>> 52) & 0xfL);
+		dest[offset + 14] = ref + (int) ((w0 >>> 56) & 0xfL);
+		dest[offset + 15] = ref + (int) (w0 >>> 60);
+		long w1 = words[base + 1];
+		dest[offset + 16] = ref + (int) (w1 & 0xfL);
+		dest[offset + 17] = ref + (int) ((w1 >>> 4) & 0xfL);
+		dest[offset + 18] = ref + (int) ((w1 >>> 8) & 0xfL);
+		dest[offset + 19] = ref + (int) ((w1 >>> 12) & 0xfL);
+		dest[offset + 20] = ref + (int) ((w1 >>> 16) & 0xfL);
+		dest[offset + 21] = ref + (int) ((w1 >>> 20) & 0xfL);
+		dest[offset + 22] = ref + (int) ((w1 >>> 24) & 0xfL);
+		dest[offset + 23] = ref + (int) ((w1 >>> 28) & 0xfL);
+		dest[offset + 24] = ref + (int) ((w1 >>> 32) & 0xfL);
+		dest[offset + 25] = ref + (int) ((w1 >>> 36) & 0xfL);
+		dest[offset + 26] = ref + (int) ((w1 >>> 40) & 0xfL);
+		dest[offset + 27] = ref + (int) ((w1 >>> 44) & 0xfL);
+		dest[offset + 28] = ref + (int) ((w1 >>> 48) & 0xfL);
+		dest[offset + 29] = ref + (int) ((w1 >>> 52) & 0xfL);
+		dest[offset + 30] = ref + (int) ((w1 >>> 56) & 0xfL);
+		dest[offset + 31] = ref + (int) (w1 >>> 60);
+		long w2 = words[base + 2];
+		dest[offset + 32] = ref + (int) (w2 & 0xfL);
+		dest[offset + 33] = ref + (int) ((w2 >>> 4) & 0xfL);
+		dest[offset + 34] = ref + (int) ((w2 >>> 8) & 0xfL);
+		dest[offset + 35] = ref + (int) ((w2 >>> 12) & 0xfL);
+		dest[offset + 36] = ref + (int) ((w2 >>> 16) & 0xfL);
+		dest[offset + 37] = ref + (int) ((w2 >>> 20) & 0xfL);
+		dest[offset + 38] = ref + (int) ((w2 >>> 24) & 0xfL);
+		dest[offset + 39] = ref + (int) ((w2 >>> 28) & 0xfL);
+		dest[offset + 40] = ref + (int) ((w2 >>> 32) & 0xfL);
+		dest[offset + 41] = ref + (int) ((w2 >>> 36) & 0xfL);
+		dest[offset + 42] = ref + (int) ((w2 >>> 40) & 0xfL);
+		dest[offset + 43] = ref + (int) ((w2 >>> 44) & 0xfL);
+		dest[offset + 44] = ref + (int) ((w2 >>> 48) & 0xfL);
+		dest[offset + 45] = ref + (int) ((w2 >>> 52) & 0xfL);
+		dest[offset + 46] = ref + (int) ((w2 >>> 56) & 0xfL);
+		dest[offset + 47] = ref + (int) (w2 >>> 60);
+		long w3 = words[base + 3];
+		dest[offset + 48] = ref + (int) (w3 & 0xfL);
+		dest[offset + 49] = ref + (int) ((w3 >>> 4) & 0xfL);
+		dest[offset + 50] = ref + (int) ((w3 >>> 8) & 0xfL);
+		dest[offset + 51] = ref + (int) ((w3 >>> 12) & 0xfL);
+		dest[offset + 52] = ref + (int) ((w3 >>> 16) & 0xfL);
+		dest[offset + 53] = ref + (int) ((w3 >>> 20) & 0xfL);
+		dest[offset + 54] = ref + (int) ((w3 >>> 24) & 0xfL);
+		dest[offset + 55] = ref + (int) ((w3 >>> 28) & 0xfL);
+		dest[offset + 56] = ref + (int) ((w3 >>> 32) & 0xfL);
+		dest[offset + 57] = ref + (int) ((w3 >>> 36) & 0xfL);
+		dest[offset + 58] = ref + (int) ((w3 >>> 40) & 0xfL);
+		dest[offset + 59] = ref + (int) ((w3 >>> 44) & 0xfL);
+		dest[offset + 60] = ref + (int) ((w3 >>> 48) & 0xfL);
+		dest[offset + 61] = ref + (int) ((w3 >>> 52) & 0xfL);
+		dest[offset + 62] = ref + (int) ((w3 >>> 56) & 0xfL);
+		dest[offset + 63] = ref + (int) (w3 >>> 60);
+	}
+
+	private static void unpack5(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1fL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 5) & 0x1fL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 10) & 0x1fL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 15) & 0x1fL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 20) & 0x1fL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 25) & 0x1fL);
+		dest[offset + 6] = ref + (int) ((w0 >>> 30) & 0x1fL);
+		dest[offset + 7] = ref + (int) ((w0 >>> 35) & 0x1fL);
+		dest[offset + 8] = ref + (int) ((w0 >>> 40) & 0x1fL);
+		dest[offset + 9] = ref + (int) ((w0 >>> 45) & 0x1fL);
+		dest[offset + 10] = ref + (int) ((w0 >>> 50) & 0x1fL);
+		dest[offset + 11] = ref + (int) ((w0 >>> 55) & 0x1fL);
+		long w1 = words[base + 1];
+		dest[offset + 12] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0x1fL);
+		dest[offset + 13] = ref + (int) ((w1 >>> 1) & 0x1fL);
+		dest[offset + 14] = ref + (int) ((w1 >>> 6) & 0x1fL);
+		dest[offset + 15] = ref + (int) ((w1 >>> 11) & 0x1fL);
+		dest[offset + 16] = ref + (int) ((w1 >>> 16) & 0x1fL);
+		dest[offset + 17] = ref + (int) ((w1 >>> 21) & 0x1fL);
+		dest[offset + 18] = ref + (int) ((w1 >>> 26) & 0x1fL);
+		dest[offset + 19] = ref + (int) ((w1 >>> 31) & 0x1fL);
+		dest[offset + 20] = ref + (int) ((w1 >>> 36) & 0x1fL);
+		dest[offset + 21] = ref + (int) ((w1 >>> 41) & 0x1fL);
+		dest[offset + 22] = ref + (int) ((w1 >>> 46) & 0x1fL);
+		dest[offset + 23] = ref + (int) ((w1 >>> 51) & 0x1fL);
+		dest[offset + 24] = ref + (int) ((w1 >>> 56) & 0x1fL);
+		long w2 = words[base + 2];
+		dest[offset + 25] = ref + (int) ((w1 >>> 61 | w2 << 3) & 0x1fL);
+		dest[offset + 26] = ref + (int) ((w2 >>> 2) & 0x1fL);
+		dest[offset + 27] = ref + (int) ((w2 >>> 7) & 0x1fL);
+		dest[offset + 28] = ref + (int) ((w2 >>> 12) & 0x1fL);
+		dest[offset + 29] = ref + (int) ((w2 >>> 17) & 0x1fL);
+		dest[offset + 30] = ref + (int) ((w2 >>> 22) & 0x1fL);
+		dest[offset + 31] = ref + (int) ((w2 >>> 27) & 0x1fL);
+		dest[offset + 32] = ref + (int) ((w2 >>> 32) & 0x1fL);
+		dest[offset + 33] = ref + (int) ((w2 >>> 37) & 0x1fL);
+		dest[offset + 34] = ref + (int) ((w2 >>> 42) & 0x1fL);
+		dest[offset + 35] = ref + (int) ((w2 >>> 47) & 0x1fL);
+		dest[offset + 36] = ref + (int) ((w2 >>> 52) & 0x1fL);
+		dest[offset + 37] = ref + (int) ((w2 >>> 57) & 0x1fL);
+		long w3 = words[base + 3];
+		dest[offset + 38] = ref + (int) ((w2 >>> 62 | w3 << 2) & 0x1fL);
+		dest[offset + 39] = ref + (int) ((w3 >>> 3) & 0x1fL);
+		dest[offset + 40] = ref + (int) ((w3 >>> 8) & 0x1fL);
+		dest[offset + 41] = ref + (int) ((w3 >>> 13) & 0x1fL);
+		dest[offset + 42] = ref + (int) ((w3 >>> 18) & 0x1fL);
+		dest[offset + 43] = ref + (int) ((w3 >>> 23) & 0x1fL);
+		dest[offset + 44] = ref + (int) ((w3 >>> 28) & 0x1fL);
+		dest[offset + 45] = ref + (int) ((w3 >>> 33) & 0x1fL);
+		dest[offset + 46] = ref + (int) ((w3 >>> 38) & 0x1fL);
+		dest[offset + 47] = ref + (int) ((w3 >>> 43) & 0x1fL);
+		dest[offset + 48] = ref + (int) ((w3 >>> 48) & 0x1fL);
+		dest[offset + 49] = ref + (int) ((w3 >>> 53) & 0x1fL);
+		dest[offset + 50] = ref + (int) ((w3 >>> 58) & 0x1fL);
+		long w4 = words[base + 4];
+		dest[offset + 51] = ref + (int) ((w3 >>> 63 | w4 << 1) & 0x1fL);
+		dest[offset + 52] = ref + (int) ((w4 >>> 4) & 0x1fL);
+		dest[offset + 53] = ref + (int) ((w4 >>> 9) & 0x1fL);
+		dest[offset + 54] = ref + (int) ((w4 >>> 14) & 0x1fL);
+		dest[offset + 55] = ref + (int) ((w4 >>> 19) & 0x1fL);
+		dest[offset + 56] = ref + (int) ((w4 >>> 24) & 0x1fL);
+		dest[offset + 57] = ref + (int) ((w4 >>> 29) & 0x1fL);
+		dest[offset + 58] = ref + (int) ((w4 >>> 34) & 0x1fL);
+		dest[offset + 59] = ref + (int) ((w4 >>> 39) & 0x1fL);
+		dest[offset + 60] = ref + (int) ((w4 >>> 44) & 0x1fL);
+		dest[offset + 61] = ref + (int) ((w4 >>> 49) & 0x1fL);
+		dest[offset + 62] = ref + (int) ((w4 >>> 54) & 0x1fL);
+		dest[offset + 63] = ref + (int) (w4 >>> 59);
+	}
+
+	private static void unpack6(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3fL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 6) & 0x3fL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 12) & 0x3fL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 18) & 0x3fL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 24) & 0x3fL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 30) & 0x3fL);
+		dest[offset + 6] = ref + (int) ((w0 >>> 36) & 0x3fL);
+		dest[offset + 7] = ref + (int) ((w0 >>> 42) & 0x3fL);
+		dest[offset + 8] = ref + (int) ((w0 >>> 48) & 0x3fL);
+		dest[offset + 9] = ref + (int) ((w0 >>> 54) & 0x3fL);
+		long w1 = words[base + 1];
+		dest[offset + 10] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0x3fL);
+		dest[offset + 11] = ref + (int) ((w1 >>> 2) & 0x3fL);
+		dest[offset + 12] = ref + (int) ((w1 >>> 8) & 0x3fL);
+		dest[offset + 13] = ref + (int) ((w1 >>> 14) & 0x3fL);
+		dest[offset + 14] = ref + (int) ((w1 >>> 20) & 0x3fL);
+		dest[offset + 15] = ref + (int) ((w1 >>> 26) & 0x3fL);
+		dest[offset + 16] = ref + (int) ((w1 >>> 32) & 0x3fL);
+		dest[offset + 17] = ref + (int) ((w1 >>> 38) & 0x3fL);
+		dest[offset + 18] = ref + (int) ((w1 >>> 44) & 0x3fL);
+		dest[offset + 19] = ref + (int) ((w1 >>> 50) & 0x3fL);
+		dest[offset + 20] = ref + (int) ((w1 >>> 56) & 0x3fL);
+		long w2 = words[base + 2];
+		dest[offset + 21] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x3fL);
+		dest[offset + 22] = ref + (int) ((w2 >>> 4) & 0x3fL);
+		dest[offset + 23] = ref + (int) ((w2 >>> 10) & 0x3fL);
+		dest[offset + 24] = ref + (int) ((w2 >>> 16) & 0x3fL);
+		dest[offset + 25] = ref + (int) ((w2 >>> 22) & 0x3fL);
+		dest[offset + 26] = ref + (int) ((w2 >>> 28) & 0x3fL);
+		dest[offset + 27] = ref + (int) ((w2 >>> 34) & 0x3fL);
+		dest[offset + 28] = ref + (int) ((w2 >>> 40) & 0x3fL);
+		dest[offset + 29] = ref + (int) ((w2 >>> 46) & 0x3fL);
+		dest[offset + 30] = ref + (int) ((w2 >>> 52) & 0x3fL);
+		dest[offset + 31] = ref + (int) (w2 >>> 58);
+		long w3 = words[base + 3];
+		dest[offset + 32] = ref + (int) (w3 & 0x3fL);
+		dest[offset + 33] = ref + (int) ((w3 >>> 6) & 0x3fL);
+		dest[offset + 34] = ref + (int) ((w3 >>> 12) & 0x3fL);
+		dest[offset + 35] = ref + (int) ((w3 >>> 18) & 0x3fL);
+		dest[offset + 36] = ref + (int) ((w3 >>> 24) & 0x3fL);
+		dest[offset + 37] = ref + (int) ((w3 >>> 30) & 0x3fL);
+		dest[offset + 38] = ref + (int) ((w3 >>> 36) & 0x3fL);
+		dest[offset + 39] = ref + (int) ((w3 >>> 42) & 0x3fL);
+		dest[offset + 40] = ref + (int) ((w3 >>> 48) & 0x3fL);
+		dest[offset + 41] = ref + (int) ((w3 >>> 54) & 0x3fL);
+		long w4 = words[base + 4];
+		dest[offset + 42] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x3fL);
+		dest[offset + 43] = ref + (int) ((w4 >>> 2) & 0x3fL);
+		dest[offset + 44] = ref + (int) ((w4 >>> 8) & 0x3fL);
+		dest[offset + 45] = ref + (int) ((w4 >>> 14) & 0x3fL);
+		dest[offset + 46] = ref + (int) ((w4 >>> 20) & 0x3fL);
+		dest[offset + 47] = ref + (int) ((w4 >>> 26) & 0x3fL);
+		dest[offset + 48] = ref + (int) ((w4 >>> 32) & 0x3fL);
+		dest[offset + 49] = ref + (int) ((w4 >>> 38) & 0x3fL);
+		dest[offset + 50] = ref + (int) ((w4 >>> 44) & 0x3fL);
+		dest[offset + 51] = ref + (int) ((w4 >>> 50) & 0x3fL);
+		dest[offset + 52] = ref + (int) ((w4 >>> 56) & 0x3fL);
+		long w5 = words[base + 5];
+		dest[offset + 53] = ref + (int) ((w4 >>> 62 | w5 << 2) & 0x3fL);
+		dest[offset + 54] = ref + (int) ((w5 >>> 4) & 0x3fL);
+		dest[offset + 55] = ref + (int) ((w5 >>> 10) & 0x3fL);
+		dest[offset + 56] = ref + (int) ((w5 >>> 16) & 0x3fL);
+		dest[offset + 57] = ref + (int) ((w5 >>> 22) & 0x3fL);
+		dest[offset + 58] = ref + (int) ((w5 >>> 28) & 0x3fL);
+		dest[offset + 59] = ref + (int) ((w5 >>> 34) & 0x3fL);
+		dest[offset + 60] = ref + (int) ((w5 >>> 40) & 0x3fL);
+		dest[offset + 61] = ref + (int) ((w5 >>> 46) & 0x3fL);
+		dest[offset + 62] = ref + (int) ((w5 >>> 52) & 0x3fL);
+		dest[offset + 63] = ref + (int) (w5 >>> 58);
+	}
+
+	private static void unpack7(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7fL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 7) & 0x7fL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 14) & 0x7fL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 21) & 0x7fL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 28) & 0x7fL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 35) & 0x7fL);
+		dest[offset + 6] = ref + (int) ((w0 >>> 42) & 0x7fL);
+		dest[offset + 7] = ref + (int) ((w0 >>> 49) & 0x7fL);
+		dest[offset + 8] = ref + (int) ((w0 >>> 56) & 0x7fL);
+		long w1 = words[base + 1];
+		dest[offset + 9] = ref + (int) ((w0 >>> 63 | w1 << 1) & 0x7fL);
+		dest[offset + 10] = ref + (int) ((w1 >>> 6) & 0x7fL);
+		dest[offset + 11] = ref + (int) ((w1 >>> 13) & 0x7fL);
+		dest[offset + 12] = ref + (int) ((w1 >>> 20) & 0x7fL);
+		dest[offset + 13] = ref + (int) ((w1 >>> 27) & 0x7fL);
+		dest[offset + 14] = ref + (int) ((w1 >>> 34) & 0x7fL);
+		dest[offset + 15] = ref + (int) ((w1 >>> 41) & 0x7fL);
+		dest[offset + 16] = ref + (int) ((w1 >>> 48) & 0x7fL);
+		dest[offset + 17] = ref + (int) ((w1 >>> 55) & 0x7fL);
+		long w2 = words[base + 2];
+		dest[offset + 18] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x7fL);
+		dest[offset + 19] = ref + (int) ((w2 >>> 5) & 0x7fL);
+		dest[offset + 20] = ref + (int) ((w2 >>> 12) & 0x7fL);
+		dest[offset + 21] = ref + (int) ((w2 >>> 19) & 0x7fL);
+		dest[offset + 22] = ref + (int) ((w2 >>> 26) & 0x7fL);
+		dest[offset + 23] = ref + (int) ((w2 >>> 33) & 0x7fL);
+		dest[offset + 24] = ref + (int) ((w2 >>> 40) & 0x7fL);
+		dest[offset + 25] = ref + (int) ((w2 >>> 47) & 0x7fL);
+		dest[offset + 26] = ref + (int) ((w2 >>> 54) & 0x7fL);
+		long w3 = words[base + 3];
+		dest[offset + 27] = ref + (int) ((w2 >>> 61 | w3 << 3) & 0x7fL);
+		dest[offset + 28] = ref + (int) ((w3 >>> 4) & 0x7fL);
+		dest[offset + 29] = ref + (int) ((w3 >>> 11) & 0x7fL);
+		dest[offset + 30] = ref + (int) ((w3 >>> 18) & 0x7fL);
+		dest[offset + 31] = ref + (int) ((w3 >>> 25) & 0x7fL);
+		dest[offset + 32] = ref + (int) ((w3 >>> 32) & 0x7fL);
+		dest[offset + 33] = ref + (int) ((w3 >>> 39) & 0x7fL);
+		dest[offset + 34] = ref + (int) ((w3 >>> 46) & 0x7fL);
+		dest[offset + 35] = ref + (int) ((w3 >>> 53) & 0x7fL);
+		long w4 = words[base + 4];
+		dest[offset + 36] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x7fL);
+		dest[offset + 37] = ref + (int) ((w4 >>> 3) & 0x7fL);
+		dest[offset + 38] = ref + (int) ((w4 >>> 10) & 0x7fL);
+		dest[offset + 39] = ref + (int) ((w4 >>> 17) & 0x7fL);
+		dest[offset + 40] = ref + (int) ((w4 >>> 24) & 0x7fL);
+		dest[offset + 41] = ref + (int) ((w4 >>> 31) & 0x7fL);
+		dest[offset + 42] = ref + (int) ((w4 >>> 38) & 0x7fL);
+		dest[offset + 43] = ref + (int) ((w4 >>> 45) & 0x7fL);
+		dest[offset + 44] = ref + (int) ((w4 >>> 52) & 0x7fL);
+		long w5 = words[base + 5];
+		dest[offset + 45] = ref + (int) ((w4 >>> 59 | w5 << 5) & 0x7fL);
+		dest[offset + 46] = ref + (int) ((w5 >>> 2) & 0x7fL);
+		dest[offset + 47] = ref + (int) ((w5 >>> 9) & 0x7fL);
+		dest[offset + 48] = ref + (int) ((w5 >>> 16) & 0x7fL);
+		dest[offset + 49] = ref + (int) ((w5 >>> 23) & 0x7fL);
+		dest[offset + 50] = ref + (int) ((w5 >>> 30) & 0x7fL);
+		dest[offset + 51] = ref + (int) ((w5 >>> 37) & 0x7fL);
+		dest[offset + 52] = ref + (int) ((w5 >>> 44) & 0x7fL);
+		dest[offset + 53] = ref + (int) ((w5 >>> 51) & 0x7fL);
+		long w6 = words[base + 6];
+		dest[offset + 54] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x7fL);
+		dest[offset + 55] = ref + (int) ((w6 >>> 1) & 0x7fL);
+		dest[offset + 56] = ref + (int) ((w6 >>> 8) & 0x7fL);
+		dest[offset + 57] = ref + (int) ((w6 >>> 15) & 0x7fL);
+		dest[offset + 58] = ref + (int) ((w6 >>> 22) & 0x7fL);
+		dest[offset + 59] = ref + (int) ((w6 >>> 29) & 0x7fL);
+		dest[offset + 60] = ref + (int) ((w6 >>> 36) & 0x7fL);
+		dest[offset + 61] = ref + (int) ((w6 >>> 43) & 0x7fL);
+		dest[offset + 62] = ref + (int) ((w6 >>> 50) & 0x7fL);
+		dest[offset + 63] = ref + (int) (w6 >>> 57);
+	}
+
+	private static void unpack8(long[] words, int base, int ref, int[] dest, int offset) {
+		for (int k = 0; k < 8; k++, offset += 8) {
+			long w = words[base + k];
+			dest[offset + 0] = ref + (int) (w & 0xffL);
+			dest[offset + 1] = ref + (int) ((w >>> 8) & 0xffL);
+			dest[offset + 2] = ref + (int) ((w >>> 16) & 0xffL);
+			dest[offset + 3] = ref + (int) ((w >>> 24) & 0xffL);
+			dest[offset + 4] = ref + (int) ((w >>> 32) & 0xffL);
+			dest[offset + 5] = ref + (int) ((w >>> 40) & 0xffL);
+			dest[offset + 6] = ref + (int) ((w >>> 48) & 0xffL);
+			dest[offset + 7] = ref + (int) (w >>> 56);
+		}
+	}
+
+	private static void unpack9(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1ffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 9) & 0x1ffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 18) & 0x1ffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 27) & 0x1ffL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 36) & 0x1ffL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 45) & 0x1ffL);
+		dest[offset + 6] = ref + (int) ((w0 >>> 54) & 0x1ffL);
+		long w1 = words[base + 1];
+		dest[offset + 7] = ref + (int) ((w0 >>> 63 | w1 << 1) & 0x1ffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 8) & 0x1ffL);
+		dest[offset + 9] = ref + (int) ((w1 >>> 17) & 0x1ffL);
+		dest[offset + 10] = ref + (int) ((w1 >>> 26) & 0x1ffL);
+		dest[offset + 11] = ref + (int) ((w1 >>> 35) & 0x1ffL);
+		dest[offset + 12] = ref + (int) ((w1 >>> 44) & 0x1ffL);
+		dest[offset + 13] = ref + (int) ((w1 >>> 53) & 0x1ffL);
+		long w2 = words[base + 2];
+		dest[offset + 14] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x1ffL);
+		dest[offset + 15] = ref + (int) ((w2 >>> 7) & 0x1ffL);
+		dest[offset + 16] = ref + (int) ((w2 >>> 16) & 0x1ffL);
+		dest[offset + 17] = ref + (int) ((w2 >>> 25) & 0x1ffL);
+		dest[offset + 18] = ref + (int) ((w2 >>> 34) & 0x1ffL);
+		dest[offset + 19] = ref + (int) ((w2 >>> 43) & 0x1ffL);
+		dest[offset + 20] = ref + (int) ((w2 >>> 52) & 0x1ffL);
+		long w3 = words[base + 3];
+		dest[offset + 21] = ref + (int) ((w2 >>> 61 | w3 << 3) & 0x1ffL);
+		dest[offset + 22] = ref + (int) ((w3 >>> 6) & 0x1ffL);
+		dest[offset + 23] = ref + (int) ((w3 >>> 15) & 0x1ffL);
+		dest[offset + 24] = ref + (int) ((w3 >>> 24) & 0x1ffL);
+		dest[offset + 25] = ref + (int) ((w3 >>> 33) & 0x1ffL);
+		dest[offset + 26] = ref + (int) ((w3 >>> 42) & 0x1ffL);
+		dest[offset + 27] = ref + (int) ((w3 >>> 51) & 0x1ffL);
+		long w4 = words[base + 4];
+		dest[offset + 28] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x1ffL);
+		dest[offset + 29] = ref + (int) ((w4 >>> 5) & 0x1ffL);
+		dest[offset + 30] = ref + (int) ((w4 >>> 14) & 0x1ffL);
+		dest[offset + 31] = ref + (int) ((w4 >>> 23) & 0x1ffL);
+		dest[offset + 32] = ref + (int) ((w4 >>> 32) & 0x1ffL);
+		dest[offset + 33] = ref + (int) ((w4 >>> 41) & 0x1ffL);
+		dest[offset + 34] = ref + (int) ((w4 >>> 50) & 0x1ffL);
+		long w5 = words[base + 5];
+		dest[offset + 35] = ref + (int) ((w4 >>> 59 | w5 << 5) & 0x1ffL);
+		dest[offset + 36] = ref + (int) ((w5 >>> 4) & 0x1ffL);
+		dest[offset + 37] = ref + (int) ((w5 >>> 13) & 0x1ffL);
+		dest[offset + 38] = ref + (int) ((w5 >>> 22) & 0x1ffL);
+		dest[offset + 39] = ref + (int) ((w5 >>> 31) & 0x1ffL);
+		dest[offset + 40] = ref + (int) ((w5 >>> 40) & 0x1ffL);
+		dest[offset + 41] = ref + (int) ((w5 >>> 49) & 0x1ffL);
+		long w6 = words[base + 6];
+		dest[offset + 42] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x1ffL);
+		dest[offset + 43] = ref + (int) ((w6 >>> 3) & 0x1ffL);
+		dest[offset + 44] = ref + (int) ((w6 >>> 12) & 0x1ffL);
+		dest[offset + 45] = ref + (int) ((w6 >>> 21) & 0x1ffL);
+		dest[offset + 46] = ref + (int) ((w6 >>> 30) & 0x1ffL);
+		dest[offset + 47] = ref + (int) ((w6 >>> 39) & 0x1ffL);
+		dest[offset + 48] = ref + (int) ((w6 >>> 48) & 0x1ffL);
+		long w7 = words[base + 7];
+		dest[offset + 49] = ref + (int) ((w6 >>> 57 | w7 << 7) & 0x1ffL);
+		dest[offset + 50] = ref + (int) ((w7 >>> 2) & 0x1ffL);
+		dest[offset + 51] = ref + (int) ((w7 >>> 11) & 0x1ffL);
+		dest[offset + 52] = ref + (int) ((w7 >>> 20) & 0x1ffL);
+		dest[offset + 53] = ref + (int) ((w7 >>> 29) & 0x1ffL);
+		dest[offset + 54] = ref + (int) ((w7 >>> 38) & 0x1ffL);
+		dest[offset + 55] = ref + (int) ((w7 >>> 47) & 0x1ffL);
+		long w8 = words[base + 8];
+		dest[offset + 56] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0x1ffL);
+		dest[offset + 57] = ref + (int) ((w8 >>> 1) & 0x1ffL);
+		dest[offset + 58] = ref + (int) ((w8 >>> 10) & 0x1ffL);
+		dest[offset + 59] = ref + (int) ((w8 >>> 19) & 0x1ffL);
+		dest[offset + 60] = ref + (int) ((w8 >>> 28) & 0x1ffL);
+		dest[offset + 61] = ref + (int) ((w8 >>> 37) & 0x1ffL);
+		dest[offset + 62] = ref + (int) ((w8 >>> 46) & 0x1ffL);
+		dest[offset + 63] = ref + (int) (w8 >>> 55);
+	}
+
+	private static void unpack10(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3ffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 10) & 0x3ffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 20) & 0x3ffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 30) & 0x3ffL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 40) & 0x3ffL);
+		dest[offset + 5] = ref + (int) ((w0 >>> 50) & 0x3ffL);
+		long w1 = words[base + 1];
+		dest[offset + 6] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0x3ffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 6) & 0x3ffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 16) & 0x3ffL);
+		dest[offset + 9] = ref + (int) ((w1 >>> 26) & 0x3ffL);
+		dest[offset + 10] = ref + (int) ((w1 >>> 36) & 0x3ffL);
+		dest[offset + 11] = ref + (int) ((w1 >>> 46) & 0x3ffL);
+		long w2 = words[base + 2];
+		dest[offset + 12] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0x3ffL);
+		dest[offset + 13] = ref + (int) ((w2 >>> 2) & 0x3ffL);
+		dest[offset + 14] = ref + (int) ((w2 >>> 12) & 0x3ffL);
+		dest[offset + 15] = ref + (int) ((w2 >>> 22) & 0x3ffL);
+		dest[offset + 16] = ref + (int) ((w2 >>> 32) & 0x3ffL);
+		dest[offset + 17] = ref + (int) ((w2 >>> 42) & 0x3ffL);
+		dest[offset + 18] = ref + (int) ((w2 >>> 52) & 0x3ffL);
+		long w3 = words[base + 3];
+		dest[offset + 19] = ref + (int) ((w2 >>> 62 | w3 << 2) & 0x3ffL);
+		dest[offset + 20] = ref + (int) ((w3 >>> 8) & 0x3ffL);
+		dest[offset + 21] = ref + (int) ((w3 >>> 18) & 0x3ffL);
+		dest[offset + 22] = ref + (int) ((w3 >>> 28) & 0x3ffL);
+		dest[offset + 23] = ref + (int) ((w3 >>> 38) & 0x3ffL);
+		dest[offset + 24] = ref + (int) ((w3 >>> 48) & 0x3ffL);
+		long w4 = words[base + 4];
+		dest[offset + 25] = ref + (int) ((w3 >>> 58 | w4 << 6) & 0x3ffL);
+		dest[offset + 26] = ref + (int) ((w4 >>> 4) & 0x3ffL);
+		dest[offset + 27] = ref + (int) ((w4 >>> 14) & 0x3ffL);
+		dest[offset + 28] = ref + (int) ((w4 >>> 24) & 0x3ffL);
+		dest[offset + 29] = ref + (int) ((w4 >>> 34) & 0x3ffL);
+		dest[offset + 30] = ref + (int) ((w4 >>> 44) & 0x3ffL);
+		dest[offset + 31] = ref + (int) (w4 >>> 54);
+		long w5 = words[base + 5];
+		dest[offset + 32] = ref + (int) (w5 & 0x3ffL);
+		dest[offset + 33] = ref + (int) ((w5 >>> 10) & 0x3ffL);
+		dest[offset + 34] = ref + (int) ((w5 >>> 20) & 0x3ffL);
+		dest[offset + 35] = ref + (int) ((w5 >>> 30) & 0x3ffL);
+		dest[offset + 36] = ref + (int) ((w5 >>> 40) & 0x3ffL);
+		dest[offset + 37] = ref + (int) ((w5 >>> 50) & 0x3ffL);
+		long w6 = words[base + 6];
+		dest[offset + 38] = ref + (int) ((w5 >>> 60 | w6 << 4) & 0x3ffL);
+		dest[offset + 39] = ref + (int) ((w6 >>> 6) & 0x3ffL);
+		dest[offset + 40] = ref + (int) ((w6 >>> 16) & 0x3ffL);
+		dest[offset + 41] = ref + (int) ((w6 >>> 26) & 0x3ffL);
+		dest[offset + 42] = ref + (int) ((w6 >>> 36) & 0x3ffL);
+		dest[offset + 43] = ref + (int) ((w6 >>> 46) & 0x3ffL);
+		long w7 = words[base + 7];
+		dest[offset + 44] = ref + (int) ((w6 >>> 56 | w7 << 8) & 0x3ffL);
+		dest[offset + 45] = ref + (int) ((w7 >>> 2) & 0x3ffL);
+		dest[offset + 46] = ref + (int) ((w7 >>> 12) & 0x3ffL);
+		dest[offset + 47] = ref + (int) ((w7 >>> 22) & 0x3ffL);
+		dest[offset + 48] = ref + (int) ((w7 >>> 32) & 0x3ffL);
+		dest[offset + 49] = ref + (int) ((w7 >>> 42) & 0x3ffL);
+		dest[offset + 50] = ref + (int) ((w7 >>> 52) & 0x3ffL);
+		long w8 = words[base + 8];
+		dest[offset + 51] = ref + (int) ((w7 >>> 62 | w8 << 2) & 0x3ffL);
+		dest[offset + 52] = ref + (int) ((w8 >>> 8) & 0x3ffL);
+		dest[offset + 53] = ref + (int) ((w8 >>> 18) & 0x3ffL);
+		dest[offset + 54] = ref + (int) ((w8 >>> 28) & 0x3ffL);
+		dest[offset + 55] = ref + (int) ((w8 >>> 38) & 0x3ffL);
+		dest[offset + 56] = ref + (int) ((w8 >>> 48) & 0x3ffL);
+		long w9 = words[base + 9];
+		dest[offset + 57] = ref + (int) ((w8 >>> 58 | w9 << 6) & 0x3ffL);
+		dest[offset + 58] = ref + (int) ((w9 >>> 4) & 0x3ffL);
+		dest[offset + 59] = ref + (int) ((w9 >>> 14) & 0x3ffL);
+		dest[offset + 60] = ref + (int) ((w9 >>> 24) & 0x3ffL);
+		dest[offset + 61] = ref + (int) ((w9 >>> 34) & 0x3ffL);
+		dest[offset + 62] = ref + (int) ((w9 >>> 44) & 0x3ffL);
+		dest[offset + 63] = ref + (int) (w9 >>> 54);
+	}
+
+	private static void unpack11(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7ffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 11) & 0x7ffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 22) & 0x7ffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 33) & 0x7ffL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 44) & 0x7ffL);
+		long w1 = words[base + 1];
+		dest[offset + 5] = ref + (int) ((w0 >>> 55 | w1 << 9) & 0x7ffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 2) & 0x7ffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 13) & 0x7ffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 24) & 0x7ffL);
+		dest[offset + 9] = ref + (int) ((w1 >>> 35) & 0x7ffL);
+		dest[offset + 10] = ref + (int) ((w1 >>> 46) & 0x7ffL);
+		long w2 = words[base + 2];
+		dest[offset + 11] = ref + (int) ((w1 >>> 57 | w2 << 7) & 0x7ffL);
+		dest[offset + 12] = ref + (int) ((w2 >>> 4) & 0x7ffL);
+		dest[offset + 13] = ref + (int) ((w2 >>> 15) & 0x7ffL);
+		dest[offset + 14] = ref + (int) ((w2 >>> 26) & 0x7ffL);
+		dest[offset + 15] = ref + (int) ((w2 >>> 37) & 0x7ffL);
+		dest[offset + 16] = ref + (int) ((w2 >>> 48) & 0x7ffL);
+		long w3 = words[base + 3];
+		dest[offset + 17] = ref + (int) ((w2 >>> 59 | w3 << 5) & 0x7ffL);
+		dest[offset + 18] = ref + (int) ((w3 >>> 6) & 0x7ffL);
+		dest[offset + 19] = ref + (int) ((w3 >>> 17) & 0x7ffL);
+		dest[offset + 20] = ref + (int) ((w3 >>> 28) & 0x7ffL);
+		dest[offset + 21] = ref + (int) ((w3 >>> 39) & 0x7ffL);
+		dest[offset + 22] = ref + (int) ((w3 >>> 50) & 0x7ffL);
+		long w4 = words[base + 4];
+		dest[offset + 23] = ref + (int) ((w3 >>> 61 | w4 << 3) & 0x7ffL);
+		dest[offset + 24] = ref + (int) ((w4 >>> 8) & 0x7ffL);
+		dest[offset + 25] = ref + (int) ((w4 >>> 19) & 0x7ffL);
+		dest[offset + 26] = ref + (int) ((w4 >>> 30) & 0x7ffL);
+		dest[offset + 27] = ref + (int) ((w4 >>> 41) & 0x7ffL);
+		dest[offset + 28] = ref + (int) ((w4 >>> 52) & 0x7ffL);
+		long w5 = words[base + 5];
+		dest[offset + 29] = ref + (int) ((w4 >>> 63 | w5 << 1) & 0x7ffL);
+		dest[offset + 30] = ref + (int) ((w5 >>> 10) & 0x7ffL);
+		dest[offset + 31] = ref + (int) ((w5 >>> 21) & 0x7ffL);
+		dest[offset + 32] = ref + (int) ((w5 >>> 32) & 0x7ffL);
+		dest[offset + 33] = ref + (int) ((w5 >>> 43) & 0x7ffL);
+		long w6 = words[base + 6];
+		dest[offset + 34] = ref + (int) ((w5 >>> 54 | w6 << 10) & 0x7ffL);
+		dest[offset + 35] = ref + (int) ((w6 >>> 1) & 0x7ffL);
+		dest[offset + 36] = ref + (int) ((w6 >>> 12) & 0x7ffL);
+		dest[offset + 37] = ref + (int) ((w6 >>> 23) & 0x7ffL);
+		dest[offset + 38] = ref + (int) ((w6 >>> 34) & 0x7ffL);
+		dest[offset + 39] = ref + (int) ((w6 >>> 45) & 0x7ffL);
+		long w7 = words[base + 7];
+		dest[offset + 40] = ref + (int) ((w6 >>> 56 | w7 << 8) & 0x7ffL);
+		dest[offset + 41] = ref + (int) ((w7 >>> 3) & 0x7ffL);
+		dest[offset + 42] = ref + (int) ((w7 >>> 14) & 0x7ffL);
+		dest[offset + 43] = ref + (int) ((w7 >>> 25) & 0x7ffL);
+		dest[offset + 44] = ref + (int) ((w7 >>> 36) & 0x7ffL);
+		dest[offset + 45] = ref + (int) ((w7 >>> 47) & 0x7ffL);
+		long w8 = words[base + 8];
+		dest[offset + 46] = ref + (int) ((w7 >>> 58 | w8 << 6) & 0x7ffL);
+		dest[offset + 47] = ref + (int) ((w8 >>> 5) & 0x7ffL);
+		dest[offset + 48] = ref + (int) ((w8 >>> 16) & 0x7ffL);
+		dest[offset + 49] = ref + (int) ((w8 >>> 27) & 0x7ffL);
+		dest[offset + 50] = ref + (int) ((w8 >>> 38) & 0x7ffL);
+		dest[offset + 51] = ref + (int) ((w8 >>> 49) & 0x7ffL);
+		long w9 = words[base + 9];
+		dest[offset + 52] = ref + (int) ((w8 >>> 60 | w9 << 4) & 0x7ffL);
+		dest[offset + 53] = ref + (int) ((w9 >>> 7) & 0x7ffL);
+		dest[offset + 54] = ref + (int) ((w9 >>> 18) & 0x7ffL);
+		dest[offset + 55] = ref + (int) ((w9 >>> 29) & 0x7ffL);
+		dest[offset + 56] = ref + (int) ((w9 >>> 40) & 0x7ffL);
+		dest[offset + 57] = ref + (int) ((w9 >>> 51) & 0x7ffL);
+		long w10 = words[base + 10];
+		dest[offset + 58] = ref + (int) ((w9 >>> 62 | w10 << 2) & 0x7ffL);
+		dest[offset + 59] = ref + (int) ((w10 >>> 9) & 0x7ffL);
+		dest[offset + 60] = ref + (int) ((w10 >>> 20) & 0x7ffL);
+		dest[offset + 61] = ref + (int) ((w10 >>> 31) & 0x7ffL);
+		dest[offset + 62] = ref + (int) ((w10 >>> 42) & 0x7ffL);
+		dest[offset + 63] = ref + (int) (w10 >>> 53);
+	}
+
+	private static void unpack12(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0xfffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 12) & 0xfffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 24) & 0xfffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 36) & 0xfffL);
+		dest[offset + 4] = ref + (int) ((w0 >>> 48) & 0xfffL);
+		long w1 = words[base + 1];
+		dest[offset + 5] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0xfffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 8) & 0xfffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 20) & 0xfffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 32) & 0xfffL);
+		dest[offset + 9] = ref + (int) ((w1 >>> 44) & 0xfffL);
+		long w2 = words[base + 2];
+		dest[offset + 10] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0xfffL);
+		dest[offset + 11] = ref + (int) ((w2 >>> 4) & 0xfffL);
+		dest[offset + 12] = ref + (int) ((w2 >>> 16) & 0xfffL);
+		dest[offset + 13] = ref + (int) ((w2 >>> 28) & 0xfffL);
+		dest[offset + 14] = ref + (int) ((w2 >>> 40) & 0xfffL);
+		dest[offset + 15] = ref + (int) (w2 >>> 52);
+		long w3 = words[base + 3];
+		dest[offset + 16] = ref + (int) (w3 & 0xfffL);
+		dest[offset + 17] = ref + (int) ((w3 >>> 12) & 0xfffL);
+		dest[offset + 18] = ref + (int) ((w3 >>> 24) & 0xfffL);
+		dest[offset + 19] = ref + (int) ((w3 >>> 36) & 0xfffL);
+		dest[offset + 20] = ref + (int) ((w3 >>> 48) & 0xfffL);
+		long w4 = words[base + 4];
+		dest[offset + 21] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0xfffL);
+		dest[offset + 22] = ref + (int) ((w4 >>> 8) & 0xfffL);
+		dest[offset + 23] = ref + (int) ((w4 >>> 20) & 0xfffL);
+		dest[offset + 24] = ref + (int) ((w4 >>> 32) & 0xfffL);
+		dest[offset + 25] = ref + (int) ((w4 >>> 44) & 0xfffL);
+		long w5 = words[base + 5];
+		dest[offset + 26] = ref + (int) ((w4 >>> 56 | w5 << 8) & 0xfffL);
+		dest[offset + 27] = ref + (int) ((w5 >>> 4) & 0xfffL);
+		dest[offset + 28] = ref + (int) ((w5 >>> 16) & 0xfffL);
+		dest[offset + 29] = ref + (int) ((w5 >>> 28) & 0xfffL);
+		dest[offset + 30] = ref + (int) ((w5 >>> 40) & 0xfffL);
+		dest[offset + 31] = ref + (int) (w5 >>> 52);
+		long w6 = words[base + 6];
+		dest[offset + 32] = ref + (int) (w6 & 0xfffL);
+		dest[offset + 33] = ref + (int) ((w6 >>> 12) & 0xfffL);
+		dest[offset + 34] = ref + (int) ((w6 >>> 24) & 0xfffL);
+		dest[offset + 35] = ref + (int) ((w6 >>> 36) & 0xfffL);
+		dest[offset + 36] = ref + (int) ((w6 >>> 48) & 0xfffL);
+		long w7 = words[base + 7];
+		dest[offset + 37] = ref + (int) ((w6 >>> 60 | w7 << 4) & 0xfffL);
+		dest[offset + 38] = ref + (int) ((w7 >>> 8) & 0xfffL);
+		dest[offset + 39] = ref + (int) ((w7 >>> 20) & 0xfffL);
+		dest[offset + 40] = ref + (int) ((w7 >>> 32) & 0xfffL);
+		dest[offset + 41] = ref + (int) ((w7 >>> 44) & 0xfffL);
+		long w8 = words[base + 8];
+		dest[offset + 42] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0xfffL);
+		dest[offset + 43] = ref + (int) ((w8 >>> 4) & 0xfffL);
+		dest[offset + 44] = ref + (int) ((w8 >>> 16) & 0xfffL);
+		dest[offset + 45] = ref + (int) ((w8 >>> 28) & 0xfffL);
+		dest[offset + 46] = ref + (int) ((w8 >>> 40) & 0xfffL);
+		dest[offset + 47] = ref + (int) (w8 >>> 52);
+		long w9 = words[base + 9];
+		dest[offset + 48] = ref + (int) (w9 & 0xfffL);
+		dest[offset + 49] = ref + (int) ((w9 >>> 12) & 0xfffL);
+		dest[offset + 50] = ref + (int) ((w9 >>> 24) & 0xfffL);
+		dest[offset + 51] = ref + (int) ((w9 >>> 36) & 0xfffL);
+		dest[offset + 52] = ref + (int) ((w9 >>> 48) & 0xfffL);
+		long w10 = words[base + 10];
+		dest[offset + 53] = ref + (int) ((w9 >>> 60 | w10 << 4) & 0xfffL);
+		dest[offset + 54] = ref + (int) ((w10 >>> 8) & 0xfffL);
+		dest[offset + 55] = ref + (int) ((w10 >>> 20) & 0xfffL);
+		dest[offset + 56] = ref + (int) ((w10 >>> 32) & 0xfffL);
+		dest[offset + 57] = ref + (int) ((w10 >>> 44) & 0xfffL);
+		long w11 = words[base + 11];
+		dest[offset + 58] = ref + (int) ((w10 >>> 56 | w11 << 8) & 0xfffL);
+		dest[offset + 59] = ref + (int) ((w11 >>> 4) & 0xfffL);
+		dest[offset + 60] = ref + (int) ((w11 >>> 16) & 0xfffL);
+		dest[offset + 61] = ref + (int) ((w11 >>> 28) & 0xfffL);
+		dest[offset + 62] = ref + (int) ((w11 >>> 40) & 0xfffL);
+		dest[offset + 63] = ref + (int) (w11 >>> 52);
+	}
+
+	private static void unpack13(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1fffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 13) & 0x1fffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 26) & 0x1fffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 39) & 0x1fffL);
+		long w1 = words[base + 1];
+		dest[offset + 4] = ref + (int) ((w0 >>> 52 | w1 << 12) & 0x1fffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 1) & 0x1fffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 14) & 0x1fffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 27) & 0x1fffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 40) & 0x1fffL);
+		long w2 = words[base + 2];
+		dest[offset + 9] = ref + (int) ((w1 >>> 53 | w2 << 11) & 0x1fffL);
+		dest[offset + 10] = ref + (int) ((w2 >>> 2) & 0x1fffL);
+		dest[offset + 11] = ref + (int) ((w2 >>> 15) & 0x1fffL);
+		dest[offset + 12] = ref + (int) ((w2 >>> 28) & 0x1fffL);
+		dest[offset + 13] = ref + (int) ((w2 >>> 41) & 0x1fffL);
+		long w3 = words[base + 3];
+		dest[offset + 14] = ref + (int) ((w2 >>> 54 | w3 << 10) & 0x1fffL);
+		dest[offset + 15] = ref + (int) ((w3 >>> 3) & 0x1fffL);
+		dest[offset + 16] = ref + (int) ((w3 >>> 16) & 0x1fffL);
+		dest[offset + 17] = ref + (int) ((w3 >>> 29) & 0x1fffL);
+		dest[offset + 18] = ref + (int) ((w3 >>> 42) & 0x1fffL);
+		long w4 = words[base + 4];
+		dest[offset + 19] = ref + (int) ((w3 >>> 55 | w4 << 9) & 0x1fffL);
+		dest[offset + 20] = ref + (int) ((w4 >>> 4) & 0x1fffL);
+		dest[offset + 21] = ref + (int) ((w4 >>> 17) & 0x1fffL);
+		dest[offset + 22] = ref + (int) ((w4 >>> 30) & 0x1fffL);
+		dest[offset + 23] = ref + (int) ((w4 >>> 43) & 0x1fffL);
+		long w5 = words[base + 5];
+		dest[offset + 24] = ref + (int) ((w4 >>> 56 | w5 << 8) & 0x1fffL);
+		dest[offset + 25] = ref + (int) ((w5 >>> 5) & 0x1fffL);
+		dest[offset + 26] = ref + (int) ((w5 >>> 18) & 0x1fffL);
+		dest[offset + 27] = ref + (int) ((w5 >>> 31) & 0x1fffL);
+		dest[offset + 28] = ref + (int) ((w5 >>> 44) & 0x1fffL);
+		long w6 = words[base + 6];
+		dest[offset + 29] = ref + (int) ((w5 >>> 57 | w6 << 7) & 0x1fffL);
+		dest[offset + 30] = ref + (int) ((w6 >>> 6) & 0x1fffL);
+		dest[offset + 31] = ref + (int) ((w6 >>> 19) & 0x1fffL);
+		dest[offset + 32] = ref + (int) ((w6 >>> 32) & 0x1fffL);
+		dest[offset + 33] = ref + (int) ((w6 >>> 45) & 0x1fffL);
+		long w7 = words[base + 7];
+		dest[offset + 34] = ref + (int) ((w6 >>> 58 | w7 << 6) & 0x1fffL);
+		dest[offset + 35] = ref + (int) ((w7 >>> 7) & 0x1fffL);
+		dest[offset + 36] = ref + (int) ((w7 >>> 20) & 0x1fffL);
+		dest[offset + 37] = ref + (int) ((w7 >>> 33) & 0x1fffL);
+		dest[offset + 38] = ref + (int) ((w7 >>> 46) & 0x1fffL);
+		long w8 = words[base + 8];
+		dest[offset + 39] = ref + (int) ((w7 >>> 59 | w8 << 5) & 0x1fffL);
+		dest[offset + 40] = ref + (int) ((w8 >>> 8) & 0x1fffL);
+		dest[offset + 41] = ref + (int) ((w8 >>> 21) & 0x1fffL);
+		dest[offset + 42] = ref + (int) ((w8 >>> 34) & 0x1fffL);
+		dest[offset + 43] = ref + (int) ((w8 >>> 47) & 0x1fffL);
+		long w9 = words[base + 9];
+		dest[offset + 44] = ref + (int) ((w8 >>> 60 | w9 << 4) & 0x1fffL);
+		dest[offset + 45] = ref + (int) ((w9 >>> 9) & 0x1fffL);
+		dest[offset + 46] = ref + (int) ((w9 >>> 22) & 0x1fffL);
+		dest[offset + 47] = ref + (int) ((w9 >>> 35) & 0x1fffL);
+		dest[offset + 48] = ref + (int) ((w9 >>> 48) & 0x1fffL);
+		long w10 = words[base + 10];
+		dest[offset + 49] = ref + (int) ((w9 >>> 61 | w10 << 3) & 0x1fffL);
+		dest[offset + 50] = ref + (int) ((w10 >>> 10) & 0x1fffL);
+		dest[offset + 51] = ref + (int) ((w10 >>> 23) & 0x1fffL);
+		dest[offset + 52] = ref + (int) ((w10 >>> 36) & 0x1fffL);
+		dest[offset + 53] = ref + (int) ((w10 >>> 49) & 0x1fffL);
+		long w11 = words[base + 11];
+		dest[offset + 54] = ref + (int) ((w10 >>> 62 | w11 << 2) & 0x1fffL);
+		dest[offset + 55] = ref + (int) ((w11 >>> 11) & 0x1fffL);
+		dest[offset + 56] = ref + (int) ((w11 >>> 24) & 0x1fffL);
+		dest[offset + 57] = ref + (int) ((w11 >>> 37) & 0x1fffL);
+		dest[offset + 58] = ref + (int) ((w11 >>> 50) & 0x1fffL);
+		long w12 = words[base + 12];
+		dest[offset + 59] = ref + (int) ((w11 >>> 63 | w12 << 1) & 0x1fffL);
+		dest[offset + 60] = ref + (int) ((w12 >>> 12) & 0x1fffL);
+		dest[offset + 61] = ref + (int) ((w12 >>> 25) & 0x1fffL);
+		dest[offset + 62] = ref + (int) ((w12 >>> 38) & 0x1fffL);
+		dest[offset + 63] = ref + (int) (w12 >>> 51);
+	}
+
+	private static void unpack14(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3fffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 14) & 0x3fffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 28) & 0x3fffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 42) & 0x3fffL);
+		long w1 = words[base + 1];
+		dest[offset + 4] = ref + (int) ((w0 >>> 56 | w1 << 8) & 0x3fffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 6) & 0x3fffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 20) & 0x3fffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 34) & 0x3fffL);
+		dest[offset + 8] = ref + (int) ((w1 >>> 48) & 0x3fffL);
+		long w2 = words[base + 2];
+		dest[offset + 9] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x3fffL);
+		dest[offset + 10] = ref + (int) ((w2 >>> 12) & 0x3fffL);
+		dest[offset + 11] = ref + (int) ((w2 >>> 26) & 0x3fffL);
+		dest[offset + 12] = ref + (int) ((w2 >>> 40) & 0x3fffL);
+		long w3 = words[base + 3];
+		dest[offset + 13] = ref + (int) ((w2 >>> 54 | w3 << 10) & 0x3fffL);
+		dest[offset + 14] = ref + (int) ((w3 >>> 4) & 0x3fffL);
+		dest[offset + 15] = ref + (int) ((w3 >>> 18) & 0x3fffL);
+		dest[offset + 16] = ref + (int) ((w3 >>> 32) & 0x3fffL);
+		dest[offset + 17] = ref + (int) ((w3 >>> 46) & 0x3fffL);
+		long w4 = words[base + 4];
+		dest[offset + 18] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x3fffL);
+		dest[offset + 19] = ref + (int) ((w4 >>> 10) & 0x3fffL);
+		dest[offset + 20] = ref + (int) ((w4 >>> 24) & 0x3fffL);
+		dest[offset + 21] = ref + (int) ((w4 >>> 38) & 0x3fffL);
+		long w5 = words[base + 5];
+		dest[offset + 22] = ref + (int) ((w4 >>> 52 | w5 << 12) & 0x3fffL);
+		dest[offset + 23] = ref + (int) ((w5 >>> 2) & 0x3fffL);
+		dest[offset + 24] = ref + (int) ((w5 >>> 16) & 0x3fffL);
+		dest[offset + 25] = ref + (int) ((w5 >>> 30) & 0x3fffL);
+		dest[offset + 26] = ref + (int) ((w5 >>> 44) & 0x3fffL);
+		long w6 = words[base + 6];
+		dest[offset + 27] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x3fffL);
+		dest[offset + 28] = ref + (int) ((w6 >>> 8) & 0x3fffL);
+		dest[offset + 29] = ref + (int) ((w6 >>> 22) & 0x3fffL);
+		dest[offset + 30] = ref + (int) ((w6 >>> 36) & 0x3fffL);
+		dest[offset + 31] = ref + (int) (w6 >>> 50);
+		long w7 = words[base + 7];
+		dest[offset + 32] = ref + (int) (w7 & 0x3fffL);
+		dest[offset + 33] = ref + (int) ((w7 >>> 14) & 0x3fffL);
+		dest[offset + 34] = ref + (int) ((w7 >>> 28) & 0x3fffL);
+		dest[offset + 35] = ref + (int) ((w7 >>> 42) & 0x3fffL);
+		long w8 = words[base + 8];
+		dest[offset + 36] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0x3fffL);
+		dest[offset + 37] = ref + (int) ((w8 >>> 6) & 0x3fffL);
+		dest[offset + 38] = ref + (int) ((w8 >>> 20) & 0x3fffL);
+		dest[offset + 39] = ref + (int) ((w8 >>> 34) & 0x3fffL);
+		dest[offset + 40] = ref + (int) ((w8 >>> 48) & 0x3fffL);
+		long w9 = words[base + 9];
+		dest[offset + 41] = ref + (int) ((w8 >>> 62 | w9 << 2) & 0x3fffL);
+		dest[offset + 42] = ref + (int) ((w9 >>> 12) & 0x3fffL);
+		dest[offset + 43] = ref + (int) ((w9 >>> 26) & 0x3fffL);
+		dest[offset + 44] = ref + (int) ((w9 >>> 40) & 0x3fffL);
+		long w10 = words[base + 10];
+		dest[offset + 45] = ref + (int) ((w9 >>> 54 | w10 << 10) & 0x3fffL);
+		dest[offset + 46] = ref + (int) ((w10 >>> 4) & 0x3fffL);
+		dest[offset + 47] = ref + (int) ((w10 >>> 18) & 0x3fffL);
+		dest[offset + 48] = ref + (int) ((w10 >>> 32) & 0x3fffL);
+		dest[offset + 49] = ref + (int) ((w10 >>> 46) & 0x3fffL);
+		long w11 = words[base + 11];
+		dest[offset + 50] = ref + (int) ((w10 >>> 60 | w11 << 4) & 0x3fffL);
+		dest[offset + 51] = ref + (int) ((w11 >>> 10) & 0x3fffL);
+		dest[offset + 52] = ref + (int) ((w11 >>> 24) & 0x3fffL);
+		dest[offset + 53] = ref + (int) ((w11 >>> 38) & 0x3fffL);
+		long w12 = words[base + 12];
+		dest[offset + 54] = ref + (int) ((w11 >>> 52 | w12 << 12) & 0x3fffL);
+		dest[offset + 55] = ref + (int) ((w12 >>> 2) & 0x3fffL);
+		dest[offset + 56] = ref + (int) ((w12 >>> 16) & 0x3fffL);
+		dest[offset + 57] = ref + (int) ((w12 >>> 30) & 0x3fffL);
+		dest[offset + 58] = ref + (int) ((w12 >>> 44) & 0x3fffL);
+		long w13 = words[base + 13];
+		dest[offset + 59] = ref + (int) ((w12 >>> 58 | w13 << 6) & 0x3fffL);
+		dest[offset + 60] = ref + (int) ((w13 >>> 8) & 0x3fffL);
+		dest[offset + 61] = ref + (int) ((w13 >>> 22) & 0x3fffL);
+		dest[offset + 62] = ref + (int) ((w13 >>> 36) & 0x3fffL);
+		dest[offset + 63] = ref + (int) (w13 >>> 50);
+	}
+
+	private static void unpack15(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7fffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 15) & 0x7fffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 30) & 0x7fffL);
+		dest[offset + 3] = ref + (int) ((w0 >>> 45) & 0x7fffL);
+		long w1 = words[base + 1];
+		dest[offset + 4] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0x7fffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 11) & 0x7fffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 26) & 0x7fffL);
+		dest[offset + 7] = ref + (int) ((w1 >>> 41) & 0x7fffL);
+		long w2 = words[base + 2];
+		dest[offset + 8] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0x7fffL);
+		dest[offset + 9] = ref + (int) ((w2 >>> 7) & 0x7fffL);
+		dest[offset + 10] = ref + (int) ((w2 >>> 22) & 0x7fffL);
+		dest[offset + 11] = ref + (int) ((w2 >>> 37) & 0x7fffL);
+		long w3 = words[base + 3];
+		dest[offset + 12] = ref + (int) ((w2 >>> 52 | w3 << 12) & 0x7fffL);
+		dest[offset + 13] = ref + (int) ((w3 >>> 3) & 0x7fffL);
+		dest[offset + 14] = ref + (int) ((w3 >>> 18) & 0x7fffL);
+		dest[offset + 15] = ref + (int) ((w3 >>> 33) & 0x7fffL);
+		dest[offset + 16] = ref + (int) ((w3 >>> 48) & 0x7fffL);
+		long w4 = words[base + 4];
+		dest[offset + 17] = ref + (int) ((w3 >>> 63 | w4 << 1) & 0x7fffL);
+		dest[offset + 18] = ref + (int) ((w4 >>> 14) & 0x7fffL);
+		dest[offset + 19] = ref + (int) ((w4 >>> 29) & 0x7fffL);
+		dest[offset + 20] = ref + (int) ((w4 >>> 44) & 0x7fffL);
+		long w5 = words[base + 5];
+		dest[offset + 21] = ref + (int) ((w4 >>> 59 | w5 << 5) & 0x7fffL);
+		dest[offset + 22] = ref + (int) ((w5 >>> 10) & 0x7fffL);
+		dest[offset + 23] = ref + (int) ((w5 >>> 25) & 0x7fffL);
+		dest[offset + 24] = ref + (int) ((w5 >>> 40) & 0x7fffL);
+		long w6 = words[base + 6];
+		dest[offset + 25] = ref + (int) ((w5 >>> 55 | w6 << 9) & 0x7fffL);
+		dest[offset + 26] = ref + (int) ((w6 >>> 6) & 0x7fffL);
+		dest[offset + 27] = ref + (int) ((w6 >>> 21) & 0x7fffL);
+		dest[offset + 28] = ref + (int) ((w6 >>> 36) & 0x7fffL);
+		long w7 = words[base + 7];
+		dest[offset + 29] = ref + (int) ((w6 >>> 51 | w7 << 13) & 0x7fffL);
+		dest[offset + 30] = ref + (int) ((w7 >>> 2) & 0x7fffL);
+		dest[offset + 31] = ref + (int) ((w7 >>> 17) & 0x7fffL);
+		dest[offset + 32] = ref + (int) ((w7 >>> 32) & 0x7fffL);
+		dest[offset + 33] = ref + (int) ((w7 >>> 47) & 0x7fffL);
+		long w8 = words[base + 8];
+		dest[offset + 34] = ref + (int) ((w7 >>> 62 | w8 << 2) & 0x7fffL);
+		dest[offset + 35] = ref + (int) ((w8 >>> 13) & 0x7fffL);
+		dest[offset + 36] = ref + (int) ((w8 >>> 28) & 0x7fffL);
+		dest[offset + 37] = ref + (int) ((w8 >>> 43) & 0x7fffL);
+		long w9 = words[base + 9];
+		dest[offset + 38] = ref + (int) ((w8 >>> 58 | w9 << 6) & 0x7fffL);
+		dest[offset + 39] = ref + (int) ((w9 >>> 9) & 0x7fffL);
+		dest[offset + 40] = ref + (int) ((w9 >>> 24) & 0x7fffL);
+		dest[offset + 41] = ref + (int) ((w9 >>> 39) & 0x7fffL);
+		long w10 = words[base + 10];
+		dest[offset + 42] = ref + (int) ((w9 >>> 54 | w10 << 10) & 0x7fffL);
+		dest[offset + 43] = ref + (int) ((w10 >>> 5) & 0x7fffL);
+		dest[offset + 44] = ref + (int) ((w10 >>> 20) & 0x7fffL);
+		dest[offset + 45] = ref + (int) ((w10 >>> 35) & 0x7fffL);
+		long w11 = words[base + 11];
+		dest[offset + 46] = ref + (int) ((w10 >>> 50 | w11 << 14) & 0x7fffL);
+		dest[offset + 47] = ref + (int) ((w11 >>> 1) & 0x7fffL);
+		dest[offset + 48] = ref + (int) ((w11 >>> 16) & 0x7fffL);
+		dest[offset + 49] = ref + (int) ((w11 >>> 31) & 0x7fffL);
+		dest[offset + 50] = ref + (int) ((w11 >>> 46) & 0x7fffL);
+		long w12 = words[base + 12];
+		dest[offset + 51] = ref + (int) ((w11 >>> 61 | w12 << 3) & 0x7fffL);
+		dest[offset + 52] = ref + (int) ((w12 >>> 12) & 0x7fffL);
+		dest[offset + 53] = ref + (int) ((w12 >>> 27) & 0x7fffL);
+		dest[offset + 54] = ref + (int) ((w12 >>> 42) & 0x7fffL);
+		long w13 = words[base + 13];
+		dest[offset + 55] = ref + (int) ((w12 >>> 57 | w13 << 7) & 0x7fffL);
+		dest[offset + 56] = ref + (int) ((w13 >>> 8) & 0x7fffL);
+		dest[offset + 57] = ref + (int) ((w13 >>> 23) & 0x7fffL);
+		dest[offset + 58] = ref + (int) ((w13 >>> 38) & 0x7fffL);
+		long w14 = words[base + 14];
+		dest[offset + 59] = ref + (int) ((w13 >>> 53 | w14 << 11) & 0x7fffL);
+		dest[offset + 60] = ref + (int) ((w14 >>> 4) & 0x7fffL);
+		dest[offset + 61] = ref + (int) ((w14 >>> 19) & 0x7fffL);
+		dest[offset + 62] = ref + (int) ((w14 >>> 34) & 0x7fffL);
+		dest[offset + 63] = ref + (int) (w14 >>> 49);
+	}
+
+	private static void unpack16(long[] words, int base, int ref, int[] dest, int offset) {
+		for (int k = 0; k < 16; k++, offset += 4) {
+			long w = words[base + k];
+			dest[offset + 0] = ref + (int) (w & 0xffffL);
+			dest[offset + 1] = ref + (int) ((w >>> 16) & 0xffffL);
+			dest[offset + 2] = ref + (int) ((w >>> 32) & 0xffffL);
+			dest[offset + 3] = ref + (int) (w >>> 48);
+		}
+	}
+
+	private static void unpack17(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1ffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 17) & 0x1ffffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 34) & 0x1ffffL);
+		long w1 = words[base + 1];
+		dest[offset + 3] = ref + (int) ((w0 >>> 51 | w1 << 13) & 0x1ffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 4) & 0x1ffffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 21) & 0x1ffffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 38) & 0x1ffffL);
+		long w2 = words[base + 2];
+		dest[offset + 7] = ref + (int) ((w1 >>> 55 | w2 << 9) & 0x1ffffL);
+		dest[offset + 8] = ref + (int) ((w2 >>> 8) & 0x1ffffL);
+		dest[offset + 9] = ref + (int) ((w2 >>> 25) & 0x1ffffL);
+		dest[offset + 10] = ref + (int) ((w2 >>> 42) & 0x1ffffL);
+		long w3 = words[base + 3];
+		dest[offset + 11] = ref + (int) ((w2 >>> 59 | w3 << 5) & 0x1ffffL);
+		dest[offset + 12] = ref + (int) ((w3 >>> 12) & 0x1ffffL);
+		dest[offset + 13] = ref + (int) ((w3 >>> 29) & 0x1ffffL);
+		dest[offset + 14] = ref + (int) ((w3 >>> 46) & 0x1ffffL);
+		long w4 = words[base + 4];
+		dest[offset + 15] = ref + (int) ((w3 >>> 63 | w4 << 1) & 0x1ffffL);
+		dest[offset + 16] = ref + (int) ((w4 >>> 16) & 0x1ffffL);
+		dest[offset + 17] = ref + (int) ((w4 >>> 33) & 0x1ffffL);
+		long w5 = words[base + 5];
+		dest[offset + 18] = ref + (int) ((w4 >>> 50 | w5 << 14) & 0x1ffffL);
+		dest[offset + 19] = ref + (int) ((w5 >>> 3) & 0x1ffffL);
+		dest[offset + 20] = ref + (int) ((w5 >>> 20) & 0x1ffffL);
+		dest[offset + 21] = ref + (int) ((w5 >>> 37) & 0x1ffffL);
+		long w6 = words[base + 6];
+		dest[offset + 22] = ref + (int) ((w5 >>> 54 | w6 << 10) & 0x1ffffL);
+		dest[offset + 23] = ref + (int) ((w6 >>> 7) & 0x1ffffL);
+		dest[offset + 24] = ref + (int) ((w6 >>> 24) & 0x1ffffL);
+		dest[offset + 25] = ref + (int) ((w6 >>> 41) & 0x1ffffL);
+		long w7 = words[base + 7];
+		dest[offset + 26] = ref + (int) ((w6 >>> 58 | w7 << 6) & 0x1ffffL);
+		dest[offset + 27] = ref + (int) ((w7 >>> 11) & 0x1ffffL);
+		dest[offset + 28] = ref + (int) ((w7 >>> 28) & 0x1ffffL);
+		dest[offset + 29] = ref + (int) ((w7 >>> 45) & 0x1ffffL);
+		long w8 = words[base + 8];
+		dest[offset + 30] = ref + (int) ((w7 >>> 62 | w8 << 2) & 0x1ffffL);
+		dest[offset + 31] = ref + (int) ((w8 >>> 15) & 0x1ffffL);
+		dest[offset + 32] = ref + (int) ((w8 >>> 32) & 0x1ffffL);
+		long w9 = words[base + 9];
+		dest[offset + 33] = ref + (int) ((w8 >>> 49 | w9 << 15) & 0x1ffffL);
+		dest[offset + 34] = ref + (int) ((w9 >>> 2) & 0x1ffffL);
+		dest[offset + 35] = ref + (int) ((w9 >>> 19) & 0x1ffffL);
+		dest[offset + 36] = ref + (int) ((w9 >>> 36) & 0x1ffffL);
+		long w10 = words[base + 10];
+		dest[offset + 37] = ref + (int) ((w9 >>> 53 | w10 << 11) & 0x1ffffL);
+		dest[offset + 38] = ref + (int) ((w10 >>> 6) & 0x1ffffL);
+		dest[offset + 39] = ref + (int) ((w10 >>> 23) & 0x1ffffL);
+		dest[offset + 40] = ref + (int) ((w10 >>> 40) & 0x1ffffL);
+		long w11 = words[base + 11];
+		dest[offset + 41] = ref + (int) ((w10 >>> 57 | w11 << 7) & 0x1ffffL);
+		dest[offset + 42] = ref + (int) ((w11 >>> 10) & 0x1ffffL);
+		dest[offset + 43] = ref + (int) ((w11 >>> 27) & 0x1ffffL);
+		dest[offset + 44] = ref + (int) ((w11 >>> 44) & 0x1ffffL);
+		long w12 = words[base + 12];
+		dest[offset + 45] = ref + (int) ((w11 >>> 61 | w12 << 3) & 0x1ffffL);
+		dest[offset + 46] = ref + (int) ((w12 >>> 14) & 0x1ffffL);
+		dest[offset + 47] = ref + (int) ((w12 >>> 31) & 0x1ffffL);
+		long w13 = words[base + 13];
+		dest[offset + 48] = ref + (int) ((w12 >>> 48 | w13 << 16) & 0x1ffffL);
+		dest[offset + 49] = ref + (int) ((w13 >>> 1) & 0x1ffffL);
+		dest[offset + 50] = ref + (int) ((w13 >>> 18) & 0x1ffffL);
+		dest[offset + 51] = ref + (int) ((w13 >>> 35) & 0x1ffffL);
+		long w14 = words[base + 14];
+		dest[offset + 52] = ref + (int) ((w13 >>> 52 | w14 << 12) & 0x1ffffL);
+		dest[offset + 53] = ref + (int) ((w14 >>> 5) & 0x1ffffL);
+		dest[offset + 54] = ref + (int) ((w14 >>> 22) & 0x1ffffL);
+		dest[offset + 55] = ref + (int) ((w14 >>> 39) & 0x1ffffL);
+		long w15 = words[base + 15];
+		dest[offset + 56] = ref + (int) ((w14 >>> 56 | w15 << 8) & 0x1ffffL);
+		dest[offset + 57] = ref + (int) ((w15 >>> 9) & 0x1ffffL);
+		dest[offset + 58] = ref + (int) ((w15 >>> 26) & 0x1ffffL);
+		dest[offset + 59] = ref + (int) ((w15 >>> 43) & 0x1ffffL);
+		long w16 = words[base + 16];
+		dest[offset + 60] = ref + (int) ((w15 >>> 60 | w16 << 4) & 0x1ffffL);
+		dest[offset + 61] = ref + (int) ((w16 >>> 13) & 0x1ffffL);
+		dest[offset + 62] = ref + (int) ((w16 >>> 30) & 0x1ffffL);
+		dest[offset + 63] = ref + (int) (w16 >>> 47);
+	}
+
+	private static void unpack18(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3ffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 18) & 0x3ffffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 36) & 0x3ffffL);
+		long w1 = words[base + 1];
+		dest[offset + 3] = ref + (int) ((w0 >>> 54 | w1 << 10) & 0x3ffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 8) & 0x3ffffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 26) & 0x3ffffL);
+		dest[offset + 6] = ref + (int) ((w1 >>> 44) & 0x3ffffL);
+		long w2 = words[base + 2];
+		dest[offset + 7] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x3ffffL);
+		dest[offset + 8] = ref + (int) ((w2 >>> 16) & 0x3ffffL);
+		dest[offset + 9] = ref + (int) ((w2 >>> 34) & 0x3ffffL);
+		long w3 = words[base + 3];
+		dest[offset + 10] = ref + (int) ((w2 >>> 52 | w3 << 12) & 0x3ffffL);
+		dest[offset + 11] = ref + (int) ((w3 >>> 6) & 0x3ffffL);
+		dest[offset + 12] = ref + (int) ((w3 >>> 24) & 0x3ffffL);
+		dest[offset + 13] = ref + (int) ((w3 >>> 42) & 0x3ffffL);
+		long w4 = words[base + 4];
+		dest[offset + 14] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x3ffffL);
+		dest[offset + 15] = ref + (int) ((w4 >>> 14) & 0x3ffffL);
+		dest[offset + 16] = ref + (int) ((w4 >>> 32) & 0x3ffffL);
+		long w5 = words[base + 5];
+		dest[offset + 17] = ref + (int) ((w4 >>> 50 | w5 << 14) & 0x3ffffL);
+		dest[offset + 18] = ref + (int) ((w5 >>> 4) & 0x3ffffL);
+		dest[offset + 19] = ref + (int) ((w5 >>> 22) & 0x3ffffL);
+		dest[offset + 20] = ref + (int) ((w5 >>> 40) & 0x3ffffL);
+		long w6 = words[base + 6];
+		dest[offset + 21] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x3ffffL);
+		dest[offset + 22] = ref + (int) ((w6 >>> 12) & 0x3ffffL);
+		dest[offset + 23] = ref + (int) ((w6 >>> 30) & 0x3ffffL);
+		long w7 = words[base + 7];
+		dest[offset + 24] = ref + (int) ((w6 >>> 48 | w7 << 16) & 0x3ffffL);
+		dest[offset + 25] = ref + (int) ((w7 >>> 2) & 0x3ffffL);
+		dest[offset + 26] = ref + (int) ((w7 >>> 20) & 0x3ffffL);
+		dest[offset + 27] = ref + (int) ((w7 >>> 38) & 0x3ffffL);
+		long w8 = words[base + 8];
+		dest[offset + 28] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0x3ffffL);
+		dest[offset + 29] = ref + (int) ((w8 >>> 10) & 0x3ffffL);
+		dest[offset + 30] = ref + (int) ((w8 >>> 28) & 0x3ffffL);
+		dest[offset + 31] = ref + (int) (w8 >>> 46);
+		long w9 = words[base + 9];
+		dest[offset + 32] = ref + (int) (w9 & 0x3ffffL);
+		dest[offset + 33] = ref + (int) ((w9 >>> 18) & 0x3ffffL);
+		dest[offset + 34] = ref + (int) ((w9 >>> 36) & 0x3ffffL);
+		long w10 = words[base + 10];
+		dest[offset + 35] = ref + (int) ((w9 >>> 54 | w10 << 10) & 0x3ffffL);
+		dest[offset + 36] = ref + (int) ((w10 >>> 8) & 0x3ffffL);
+		dest[offset + 37] = ref + (int) ((w10 >>> 26) & 0x3ffffL);
+		dest[offset + 38] = ref + (int) ((w10 >>> 44) & 0x3ffffL);
+		long w11 = words[base + 11];
+		dest[offset + 39] = ref + (int) ((w10 >>> 62 | w11 << 2) & 0x3ffffL);
+		dest[offset + 40] = ref + (int) ((w11 >>> 16) & 0x3ffffL);
+		dest[offset + 41] = ref + (int) ((w11 >>> 34) & 0x3ffffL);
+		long w12 = words[base + 12];
+		dest[offset + 42] = ref + (int) ((w11 >>> 52 | w12 << 12) & 0x3ffffL);
+		dest[offset + 43] = ref + (int) ((w12 >>> 6) & 0x3ffffL);
+		dest[offset + 44] = ref + (int) ((w12 >>> 24) & 0x3ffffL);
+		dest[offset + 45] = ref + (int) ((w12 >>> 42) & 0x3ffffL);
+		long w13 = words[base + 13];
+		dest[offset + 46] = ref + (int) ((w12 >>> 60 | w13 << 4) & 0x3ffffL);
+		dest[offset + 47] = ref + (int) ((w13 >>> 14) & 0x3ffffL);
+		dest[offset + 48] = ref + (int) ((w13 >>> 32) & 0x3ffffL);
+		long w14 = words[base + 14];
+		dest[offset + 49] = ref + (int) ((w13 >>> 50 | w14 << 14) & 0x3ffffL);
+		dest[offset + 50] = ref + (int) ((w14 >>> 4) & 0x3ffffL);
+		dest[offset + 51] = ref + (int) ((w14 >>> 22) & 0x3ffffL);
+		dest[offset + 52] = ref + (int) ((w14 >>> 40) & 0x3ffffL);
+		long w15 = words[base + 15];
+		dest[offset + 53] = ref + (int) ((w14 >>> 58 | w15 << 6) & 0x3ffffL);
+		dest[offset + 54] = ref + (int) ((w15 >>> 12) & 0x3ffffL);
+		dest[offset + 55] = ref + (int) ((w15 >>> 30) & 0x3ffffL);
+		long w16 = words[base + 16];
+		dest[offset + 56] = ref + (int) ((w15 >>> 48 | w16 << 16) & 0x3ffffL);
+		dest[offset + 57] = ref + (int) ((w16 >>> 2) & 0x3ffffL);
+		dest[offset + 58] = ref + (int) ((w16 >>> 20) & 0x3ffffL);
+		dest[offset + 59] = ref + (int) ((w16 >>> 38) & 0x3ffffL);
+		long w17 = words[base + 17];
+		dest[offset + 60] = ref + (int) ((w16 >>> 56 | w17 << 8) & 0x3ffffL);
+		dest[offset + 61] = ref + (int) ((w17 >>> 10) & 0x3ffffL);
+		dest[offset + 62] = ref + (int) ((w17 >>> 28) & 0x3ffffL);
+		dest[offset + 63] = ref + (int) (w17 >>> 46);
+	}
+
+	private static void unpack19(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7ffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 19) & 0x7ffffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 38) & 0x7ffffL);
+		long w1 = words[base + 1];
+		dest[offset + 3] = ref + (int) ((w0 >>> 57 | w1 << 7) & 0x7ffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 12) & 0x7ffffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 31) & 0x7ffffL);
+		long w2 = words[base + 2];
+		dest[offset + 6] = ref + (int) ((w1 >>> 50 | w2 << 14) & 0x7ffffL);
+		dest[offset + 7] = ref + (int) ((w2 >>> 5) & 0x7ffffL);
+		dest[offset + 8] = ref + (int) ((w2 >>> 24) & 0x7ffffL);
+		dest[offset + 9] = ref + (int) ((w2 >>> 43) & 0x7ffffL);
+		long w3 = words[base + 3];
+		dest[offset + 10] = ref + (int) ((w2 >>> 62 | w3 << 2) & 0x7ffffL);
+		dest[offset + 11] = ref + (int) ((w3 >>> 17) & 0x7ffffL);
+		dest[offset + 12] = ref + (int) ((w3 >>> 36) & 0x7ffffL);
+		long w4 = words[base + 4];
+		dest[offset + 13] = ref + (int) ((w3 >>> 55 | w4 << 9) & 0x7ffffL);
+		dest[offset + 14] = ref + (int) ((w4 >>> 10) & 0x7ffffL);
+		dest[offset + 15] = ref + (int) ((w4 >>> 29) & 0x7ffffL);
+		long w5 = words[base + 5];
+		dest[offset + 16] = ref + (int) ((w4 >>> 48 | w5 << 16) & 0x7ffffL);
+		dest[offset + 17] = ref + (int) ((w5 >>> 3) & 0x7ffffL);
+		dest[offset + 18] = ref + (int) ((w5 >>> 22) & 0x7ffffL);
+		dest[offset + 19] = ref + (int) ((w5 >>> 41) & 0x7ffffL);
+		long w6 = words[base + 6];
+		dest[offset + 20] = ref + (int) ((w5 >>> 60 | w6 << 4) & 0x7ffffL);
+		dest[offset + 21] = ref + (int) ((w6 >>> 15) & 0x7ffffL);
+		dest[offset + 22] = ref + (int) ((w6 >>> 34) & 0x7ffffL);
+		long w7 = words[base + 7];
+		dest[offset + 23] = ref + (int) ((w6 >>> 53 | w7 << 11) & 0x7ffffL);
+		dest[offset + 24] = ref + (int) ((w7 >>> 8) & 0x7ffffL);
+		dest[offset + 25] = ref + (int) ((w7 >>> 27) & 0x7ffffL);
+		long w8 = words[base + 8];
+		dest[offset + 26] = ref + (int) ((w7 >>> 46 | w8 << 18) & 0x7ffffL);
+		dest[offset + 27] = ref + (int) ((w8 >>> 1) & 0x7ffffL);
+		dest[offset + 28] = ref + (int) ((w8 >>> 20) & 0x7ffffL);
+		dest[offset + 29] = ref + (int) ((w8 >>> 39) & 0x7ffffL);
+		long w9 = words[base + 9];
+		dest[offset + 30] = ref + (int) ((w8 >>> 58 | w9 << 6) & 0x7ffffL);
+		dest[offset + 31] = ref + (int) ((w9 >>> 13) & 0x7ffffL);
+		dest[offset + 32] = ref + (int) ((w9 >>> 32) & 0x7ffffL);
+		long w10 = words[base + 10];
+		dest[offset + 33] = ref + (int) ((w9 >>> 51 | w10 << 13) & 0x7ffffL);
+		dest[offset + 34] = ref + (int) ((w10 >>> 6) & 0x7ffffL);
+		dest[offset + 35] = ref + (int) ((w10 >>> 25) & 0x7ffffL);
+		dest[offset + 36] = ref + (int) ((w10 >>> 44) & 0x7ffffL);
+		long w11 = words[base + 11];
+		dest[offset + 37] = ref + (int) ((w10 >>> 63 | w11 << 1) & 0x7ffffL);
+		dest[offset + 38] = ref + (int) ((w11 >>> 18) & 0x7ffffL);
+		dest[offset + 39] = ref + (int) ((w11 >>> 37) & 0x7ffffL);
+		long w12 = words[base + 12];
+		dest[offset + 40] = ref + (int) ((w11 >>> 56 | w12 << 8) & 0x7ffffL);
+		dest[offset + 41] = ref + (int) ((w12 >>> 11) & 0x7ffffL);
+		dest[offset + 42] = ref + (int) ((w12 >>> 30) & 0x7ffffL);
+		long w13 = words[base + 13];
+		dest[offset + 43] = ref + (int) ((w12 >>> 49 | w13 << 15) & 0x7ffffL);
+		dest[offset + 44] = ref + (int) ((w13 >>> 4) & 0x7ffffL);
+		dest[offset + 45] = ref + (int) ((w13 >>> 23) & 0x7ffffL);
+		dest[offset + 46] = ref + (int) ((w13 >>> 42) & 0x7ffffL);
+		long w14 = words[base + 14];
+		dest[offset + 47] = ref + (int) ((w13 >>> 61 | w14 << 3) & 0x7ffffL);
+		dest[offset + 48] = ref + (int) ((w14 >>> 16) & 0x7ffffL);
+		dest[offset + 49] = ref + (int) ((w14 >>> 35) & 0x7ffffL);
+		long w15 = words[base + 15];
+		dest[offset + 50] = ref + (int) ((w14 >>> 54 | w15 << 10) & 0x7ffffL);
+		dest[offset + 51] = ref + (int) ((w15 >>> 9) & 0x7ffffL);
+		dest[offset + 52] = ref + (int) ((w15 >>> 28) & 0x7ffffL);
+		long w16 = words[base + 16];
+		dest[offset + 53] = ref + (int) ((w15 >>> 47 | w16 << 17) & 0x7ffffL);
+		dest[offset + 54] = ref + (int) ((w16 >>> 2) & 0x7ffffL);
+		dest[offset + 55] = ref + (int) ((w16 >>> 21) & 0x7ffffL);
+		dest[offset + 56] = ref + (int) ((w16 >>> 40) & 0x7ffffL);
+		long w17 = words[base + 17];
+		dest[offset + 57] = ref + (int) ((w16 >>> 59 | w17 << 5) & 0x7ffffL);
+		dest[offset + 58] = ref + (int) ((w17 >>> 14) & 0x7ffffL);
+		dest[offset + 59] = ref + (int) ((w17 >>> 33) & 0x7ffffL);
+		long w18 = words[base + 18];
+		dest[offset + 60] = ref + (int) ((w17 >>> 52 | w18 << 12) & 0x7ffffL);
+		dest[offset + 61] = ref + (int) ((w18 >>> 7) & 0x7ffffL);
+		dest[offset + 62] = ref + (int) ((w18 >>> 26) & 0x7ffffL);
+		dest[offset + 63] = ref + (int) (w18 >>> 45);
+	}
+
+	private static void unpack20(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0xfffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 20) & 0xfffffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 40) & 0xfffffL);
+		long w1 = words[base + 1];
+		dest[offset + 3] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0xfffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 16) & 0xfffffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 36) & 0xfffffL);
+		long w2 = words[base + 2];
+		dest[offset + 6] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0xfffffL);
+		dest[offset + 7] = ref + (int) ((w2 >>> 12) & 0xfffffL);
+		dest[offset + 8] = ref + (int) ((w2 >>> 32) & 0xfffffL);
+		long w3 = words[base + 3];
+		dest[offset + 9] = ref + (int) ((w2 >>> 52 | w3 << 12) & 0xfffffL);
+		dest[offset + 10] = ref + (int) ((w3 >>> 8) & 0xfffffL);
+		dest[offset + 11] = ref + (int) ((w3 >>> 28) & 0xfffffL);
+		long w4 = words[base + 4];
+		dest[offset + 12] = ref + (int) ((w3 >>> 48 | w4 << 16) & 0xfffffL);
+		dest[offset + 13] = ref + (int) ((w4 >>> 4) & 0xfffffL);
+		dest[offset + 14] = ref + (int) ((w4 >>> 24) & 0xfffffL);
+		dest[offset + 15] = ref + (int) (w4 >>> 44);
+		long w5 = words[base + 5];
+		dest[offset + 16] = ref + (int) (w5 & 0xfffffL);
+		dest[offset + 17] = ref + (int) ((w5 >>> 20) & 0xfffffL);
+		dest[offset + 18] = ref + (int) ((w5 >>> 40) & 0xfffffL);
+		long w6 = words[base + 6];
+		dest[offset + 19] = ref + (int) ((w5 >>> 60 | w6 << 4) & 0xfffffL);
+		dest[offset + 20] = ref + (int) ((w6 >>> 16) & 0xfffffL);
+		dest[offset + 21] = ref + (int) ((w6 >>> 36) & 0xfffffL);
+		long w7 = words[base + 7];
+		dest[offset + 22] = ref + (int) ((w6 >>> 56 | w7 << 8) & 0xfffffL);
+		dest[offset + 23] = ref + (int) ((w7 >>> 12) & 0xfffffL);
+		dest[offset + 24] = ref + (int) ((w7 >>> 32) & 0xfffffL);
+		long w8 = words[base + 8];
+		dest[offset + 25] = ref + (int) ((w7 >>> 52 | w8 << 12) & 0xfffffL);
+		dest[offset + 26] = ref + (int) ((w8 >>> 8) & 0xfffffL);
+		dest[offset + 27] = ref + (int) ((w8 >>> 28) & 0xfffffL);
+		long w9 = words[base + 9];
+		dest[offset + 28] = ref + (int) ((w8 >>> 48 | w9 << 16) & 0xfffffL);
+		dest[offset + 29] = ref + (int) ((w9 >>> 4) & 0xfffffL);
+		dest[offset + 30] = ref + (int) ((w9 >>> 24) & 0xfffffL);
+		dest[offset + 31] = ref + (int) (w9 >>> 44);
+		long w10 = words[base + 10];
+		dest[offset + 32] = ref + (int) (w10 & 0xfffffL);
+		dest[offset + 33] = ref + (int) ((w10 >>> 20) & 0xfffffL);
+		dest[offset + 34] = ref + (int) ((w10 >>> 40) & 0xfffffL);
+		long w11 = words[base + 11];
+		dest[offset + 35] = ref + (int) ((w10 >>> 60 | w11 << 4) & 0xfffffL);
+		dest[offset + 36] = ref + (int) ((w11 >>> 16) & 0xfffffL);
+		dest[offset + 37] = ref + (int) ((w11 >>> 36) & 0xfffffL);
+		long w12 = words[base + 12];
+		dest[offset + 38] = ref + (int) ((w11 >>> 56 | w12 << 8) & 0xfffffL);
+		dest[offset + 39] = ref + (int) ((w12 >>> 12) & 0xfffffL);
+		dest[offset + 40] = ref + (int) ((w12 >>> 32) & 0xfffffL);
+		long w13 = words[base + 13];
+		dest[offset + 41] = ref + (int) ((w12 >>> 52 | w13 << 12) & 0xfffffL);
+		dest[offset + 42] = ref + (int) ((w13 >>> 8) & 0xfffffL);
+		dest[offset + 43] = ref + (int) ((w13 >>> 28) & 0xfffffL);
+		long w14 = words[base + 14];
+		dest[offset + 44] = ref + (int) ((w13 >>> 48 | w14 << 16) & 0xfffffL);
+		dest[offset + 45] = ref + (int) ((w14 >>> 4) & 0xfffffL);
+		dest[offset + 46] = ref + (int) ((w14 >>> 24) & 0xfffffL);
+		dest[offset + 47] = ref + (int) (w14 >>> 44);
+		long w15 = words[base + 15];
+		dest[offset + 48] = ref + (int) (w15 & 0xfffffL);
+		dest[offset + 49] = ref + (int) ((w15 >>> 20) & 0xfffffL);
+		dest[offset + 50] = ref + (int) ((w15 >>> 40) & 0xfffffL);
+		long w16 = words[base + 16];
+		dest[offset + 51] = ref + (int) ((w15 >>> 60 | w16 << 4) & 0xfffffL);
+		dest[offset + 52] = ref + (int) ((w16 >>> 16) & 0xfffffL);
+		dest[offset + 53] = ref + (int) ((w16 >>> 36) & 0xfffffL);
+		long w17 = words[base + 17];
+		dest[offset + 54] = ref + (int) ((w16 >>> 56 | w17 << 8) & 0xfffffL);
+		dest[offset + 55] = ref + (int) ((w17 >>> 12) & 0xfffffL);
+		dest[offset + 56] = ref + (int) ((w17 >>> 32) & 0xfffffL);
+		long w18 = words[base + 18];
+		dest[offset + 57] = ref + (int) ((w17 >>> 52 | w18 << 12) & 0xfffffL);
+		dest[offset + 58] = ref + (int) ((w18 >>> 8) & 0xfffffL);
+		dest[offset + 59] = ref + (int) ((w18 >>> 28) & 0xfffffL);
+		long w19 = words[base + 19];
+		dest[offset + 60] = ref + (int) ((w18 >>> 48 | w19 << 16) & 0xfffffL);
+		dest[offset + 61] = ref + (int) ((w19 >>> 4) & 0xfffffL);
+		dest[offset + 62] = ref + (int) ((w19 >>> 24) & 0xfffffL);
+		dest[offset + 63] = ref + (int) (w19 >>> 44);
+	}
+
+	private static void unpack21(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1fffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 21) & 0x1fffffL);
+		dest[offset + 2] = ref + (int) ((w0 >>> 42) & 0x1fffffL);
+		long w1 = words[base + 1];
+		dest[offset + 3] = ref + (int) ((w0 >>> 63 | w1 << 1) & 0x1fffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 20) & 0x1fffffL);
+		dest[offset + 5] = ref + (int) ((w1 >>> 41) & 0x1fffffL);
+		long w2 = words[base + 2];
+		dest[offset + 6] = ref + (int) ((w1 >>> 62 | w2 << 2) & 0x1fffffL);
+		dest[offset + 7] = ref + (int) ((w2 >>> 19) & 0x1fffffL);
+		dest[offset + 8] = ref + (int) ((w2 >>> 40) & 0x1fffffL);
+		long w3 = words[base + 3];
+		dest[offset + 9] = ref + (int) ((w2 >>> 61 | w3 << 3) & 0x1fffffL);
+		dest[offset + 10] = ref + (int) ((w3 >>> 18) & 0x1fffffL);
+		dest[offset + 11] = ref + (int) ((w3 >>> 39) & 0x1fffffL);
+		long w4 = words[base + 4];
+		dest[offset + 12] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0x1fffffL);
+		dest[offset + 13] = ref + (int) ((w4 >>> 17) & 0x1fffffL);
+		dest[offset + 14] = ref + (int) ((w4 >>> 38) & 0x1fffffL);
+		long w5 = words[base + 5];
+		dest[offset + 15] = ref + (int) ((w4 >>> 59 | w5 << 5) & 0x1fffffL);
+		dest[offset + 16] = ref + (int) ((w5 >>> 16) & 0x1fffffL);
+		dest[offset + 17] = ref + (int) ((w5 >>> 37) & 0x1fffffL);
+		long w6 = words[base + 6];
+		dest[offset + 18] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x1fffffL);
+		dest[offset + 19] = ref + (int) ((w6 >>> 15) & 0x1fffffL);
+		dest[offset + 20] = ref + (int) ((w6 >>> 36) & 0x1fffffL);
+		long w7 = words[base + 7];
+		dest[offset + 21] = ref + (int) ((w6 >>> 57 | w7 << 7) & 0x1fffffL);
+		dest[offset + 22] = ref + (int) ((w7 >>> 14) & 0x1fffffL);
+		dest[offset + 23] = ref + (int) ((w7 >>> 35) & 0x1fffffL);
+		long w8 = words[base + 8];
+		dest[offset + 24] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0x1fffffL);
+		dest[offset + 25] = ref + (int) ((w8 >>> 13) & 0x1fffffL);
+		dest[offset + 26] = ref + (int) ((w8 >>> 34) & 0x1fffffL);
+		long w9 = words[base + 9];
+		dest[offset + 27] = ref + (int) ((w8 >>> 55 | w9 << 9) & 0x1fffffL);
+		dest[offset + 28] = ref + (int) ((w9 >>> 12) & 0x1fffffL);
+		dest[offset + 29] = ref + (int) ((w9 >>> 33) & 0x1fffffL);
+		long w10 = words[base + 10];
+		dest[offset + 30] = ref + (int) ((w9 >>> 54 | w10 << 10) & 0x1fffffL);
+		dest[offset + 31] = ref + (int) ((w10 >>> 11) & 0x1fffffL);
+		dest[offset + 32] = ref + (int) ((w10 >>> 32) & 0x1fffffL);
+		long w11 = words[base + 11];
+		dest[offset + 33] = ref + (int) ((w10 >>> 53 | w11 << 11) & 0x1fffffL);
+		dest[offset + 34] = ref + (int) ((w11 >>> 10) & 0x1fffffL);
+		dest[offset + 35] = ref + (int) ((w11 >>> 31) & 0x1fffffL);
+		long w12 = words[base + 12];
+		dest[offset + 36] = ref + (int) ((w11 >>> 52 | w12 << 12) & 0x1fffffL);
+		dest[offset + 37] = ref + (int) ((w12 >>> 9) & 0x1fffffL);
+		dest[offset + 38] = ref + (int) ((w12 >>> 30) & 0x1fffffL);
+		long w13 = words[base + 13];
+		dest[offset + 39] = ref + (int) ((w12 >>> 51 | w13 << 13) & 0x1fffffL);
+		dest[offset + 40] = ref + (int) ((w13 >>> 8) & 0x1fffffL);
+		dest[offset + 41] = ref + (int) ((w13 >>> 29) & 0x1fffffL);
+		long w14 = words[base + 14];
+		dest[offset + 42] = ref + (int) ((w13 >>> 50 | w14 << 14) & 0x1fffffL);
+		dest[offset + 43] = ref + (int) ((w14 >>> 7) & 0x1fffffL);
+		dest[offset + 44] = ref + (int) ((w14 >>> 28) & 0x1fffffL);
+		long w15 = words[base + 15];
+		dest[offset + 45] = ref + (int) ((w14 >>> 49 | w15 << 15) & 0x1fffffL);
+		dest[offset + 46] = ref + (int) ((w15 >>> 6) & 0x1fffffL);
+		dest[offset + 47] = ref + (int) ((w15 >>> 27) & 0x1fffffL);
+		long w16 = words[base + 16];
+		dest[offset + 48] = ref + (int) ((w15 >>> 48 | w16 << 16) & 0x1fffffL);
+		dest[offset + 49] = ref + (int) ((w16 >>> 5) & 0x1fffffL);
+		dest[offset + 50] = ref + (int) ((w16 >>> 26) & 0x1fffffL);
+		long w17 = words[base + 17];
+		dest[offset + 51] = ref + (int) ((w16 >>> 47 | w17 << 17) & 0x1fffffL);
+		dest[offset + 52] = ref + (int) ((w17 >>> 4) & 0x1fffffL);
+		dest[offset + 53] = ref + (int) ((w17 >>> 25) & 0x1fffffL);
+		long w18 = words[base + 18];
+		dest[offset + 54] = ref + (int) ((w17 >>> 46 | w18 << 18) & 0x1fffffL);
+		dest[offset + 55] = ref + (int) ((w18 >>> 3) & 0x1fffffL);
+		dest[offset + 56] = ref + (int) ((w18 >>> 24) & 0x1fffffL);
+		long w19 = words[base + 19];
+		dest[offset + 57] = ref + (int) ((w18 >>> 45 | w19 << 19) & 0x1fffffL);
+		dest[offset + 58] = ref + (int) ((w19 >>> 2) & 0x1fffffL);
+		dest[offset + 59] = ref + (int) ((w19 >>> 23) & 0x1fffffL);
+		long w20 = words[base + 20];
+		dest[offset + 60] = ref + (int) ((w19 >>> 44 | w20 << 20) & 0x1fffffL);
+		dest[offset + 61] = ref + (int) ((w20 >>> 1) & 0x1fffffL);
+		dest[offset + 62] = ref + (int) ((w20 >>> 22) & 0x1fffffL);
+		dest[offset + 63] = ref + (int) (w20 >>> 43);
+	}
+
+	private static void unpack22(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3fffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 22) & 0x3fffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 44 | w1 << 20) & 0x3fffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 2) & 0x3fffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 24) & 0x3fffffL);
+		long w2 = words[base + 2];
+		dest[offset + 5] = ref + (int) ((w1 >>> 46 | w2 << 18) & 0x3fffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 4) & 0x3fffffL);
+		dest[offset + 7] = ref + (int) ((w2 >>> 26) & 0x3fffffL);
+		long w3 = words[base + 3];
+		dest[offset + 8] = ref + (int) ((w2 >>> 48 | w3 << 16) & 0x3fffffL);
+		dest[offset + 9] = ref + (int) ((w3 >>> 6) & 0x3fffffL);
+		dest[offset + 10] = ref + (int) ((w3 >>> 28) & 0x3fffffL);
+		long w4 = words[base + 4];
+		dest[offset + 11] = ref + (int) ((w3 >>> 50 | w4 << 14) & 0x3fffffL);
+		dest[offset + 12] = ref + (int) ((w4 >>> 8) & 0x3fffffL);
+		dest[offset + 13] = ref + (int) ((w4 >>> 30) & 0x3fffffL);
+		long w5 = words[base + 5];
+		dest[offset + 14] = ref + (int) ((w4 >>> 52 | w5 << 12) & 0x3fffffL);
+		dest[offset + 15] = ref + (int) ((w5 >>> 10) & 0x3fffffL);
+		dest[offset + 16] = ref + (int) ((w5 >>> 32) & 0x3fffffL);
+		long w6 = words[base + 6];
+		dest[offset + 17] = ref + (int) ((w5 >>> 54 | w6 << 10) & 0x3fffffL);
+		dest[offset + 18] = ref + (int) ((w6 >>> 12) & 0x3fffffL);
+		dest[offset + 19] = ref + (int) ((w6 >>> 34) & 0x3fffffL);
+		long w7 = words[base + 7];
+		dest[offset + 20] = ref + (int) ((w6 >>> 56 | w7 << 8) & 0x3fffffL);
+		dest[offset + 21] = ref + (int) ((w7 >>> 14) & 0x3fffffL);
+		dest[offset + 22] = ref + (int) ((w7 >>> 36) & 0x3fffffL);
+		long w8 = words[base + 8];
+		dest[offset + 23] = ref + (int) ((w7 >>> 58 | w8 << 6) & 0x3fffffL);
+		dest[offset + 24] = ref + (int) ((w8 >>> 16) & 0x3fffffL);
+		dest[offset + 25] = ref + (int) ((w8 >>> 38) & 0x3fffffL);
+		long w9 = words[base + 9];
+		dest[offset + 26] = ref + (int) ((w8 >>> 60 | w9 << 4) & 0x3fffffL);
+		dest[offset + 27] = ref + (int) ((w9 >>> 18) & 0x3fffffL);
+		dest[offset + 28] = ref + (int) ((w9 >>> 40) & 0x3fffffL);
+		long w10 = words[base + 10];
+		dest[offset + 29] = ref + (int) ((w9 >>> 62 | w10 << 2) & 0x3fffffL);
+		dest[offset + 30] = ref + (int) ((w10 >>> 20) & 0x3fffffL);
+		dest[offset + 31] = ref + (int) (w10 >>> 42);
+		long w11 = words[base + 11];
+		dest[offset + 32] = ref + (int) (w11 & 0x3fffffL);
+		dest[offset + 33] = ref + (int) ((w11 >>> 22) & 0x3fffffL);
+		long w12 = words[base + 12];
+		dest[offset + 34] = ref + (int) ((w11 >>> 44 | w12 << 20) & 0x3fffffL);
+		dest[offset + 35] = ref + (int) ((w12 >>> 2) & 0x3fffffL);
+		dest[offset + 36] = ref + (int) ((w12 >>> 24) & 0x3fffffL);
+		long w13 = words[base + 13];
+		dest[offset + 37] = ref + (int) ((w12 >>> 46 | w13 << 18) & 0x3fffffL);
+		dest[offset + 38] = ref + (int) ((w13 >>> 4) & 0x3fffffL);
+		dest[offset + 39] = ref + (int) ((w13 >>> 26) & 0x3fffffL);
+		long w14 = words[base + 14];
+		dest[offset + 40] = ref + (int) ((w13 >>> 48 | w14 << 16) & 0x3fffffL);
+		dest[offset + 41] = ref + (int) ((w14 >>> 6) & 0x3fffffL);
+		dest[offset + 42] = ref + (int) ((w14 >>> 28) & 0x3fffffL);
+		long w15 = words[base + 15];
+		dest[offset + 43] = ref + (int) ((w14 >>> 50 | w15 << 14) & 0x3fffffL);
+		dest[offset + 44] = ref + (int) ((w15 >>> 8) & 0x3fffffL);
+		dest[offset + 45] = ref + (int) ((w15 >>> 30) & 0x3fffffL);
+		long w16 = words[base + 16];
+		dest[offset + 46] = ref + (int) ((w15 >>> 52 | w16 << 12) & 0x3fffffL);
+		dest[offset + 47] = ref + (int) ((w16 >>> 10) & 0x3fffffL);
+		dest[offset + 48] = ref + (int) ((w16 >>> 32) & 0x3fffffL);
+		long w17 = words[base + 17];
+		dest[offset + 49] = ref + (int) ((w16 >>> 54 | w17 << 10) & 0x3fffffL);
+		dest[offset + 50] = ref + (int) ((w17 >>> 12) & 0x3fffffL);
+		dest[offset + 51] = ref + (int) ((w17 >>> 34) & 0x3fffffL);
+		long w18 = words[base + 18];
+		dest[offset + 52] = ref + (int) ((w17 >>> 56 | w18 << 8) & 0x3fffffL);
+		dest[offset + 53] = ref + (int) ((w18 >>> 14) & 0x3fffffL);
+		dest[offset + 54] = ref + (int) ((w18 >>> 36) & 0x3fffffL);
+		long w19 = words[base + 19];
+		dest[offset + 55] = ref + (int) ((w18 >>> 58 | w19 << 6) & 0x3fffffL);
+		dest[offset + 56] = ref + (int) ((w19 >>> 16) & 0x3fffffL);
+		dest[offset + 57] = ref + (int) ((w19 >>> 38) & 0x3fffffL);
+		long w20 = words[base + 20];
+		dest[offset + 58] = ref + (int) ((w19 >>> 60 | w20 << 4) & 0x3fffffL);
+		dest[offset + 59] = ref + (int) ((w20 >>> 18) & 0x3fffffL);
+		dest[offset + 60] = ref + (int) ((w20 >>> 40) & 0x3fffffL);
+		long w21 = words[base + 21];
+		dest[offset + 61] = ref + (int) ((w20 >>> 62 | w21 << 2) & 0x3fffffL);
+		dest[offset + 62] = ref + (int) ((w21 >>> 20) & 0x3fffffL);
+		dest[offset + 63] = ref + (int) (w21 >>> 42);
+	}
+
+	private static void unpack23(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7fffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 23) & 0x7fffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 46 | w1 << 18) & 0x7fffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 5) & 0x7fffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 28) & 0x7fffffL);
+		long w2 = words[base + 2];
+		dest[offset + 5] = ref + (int) ((w1 >>> 51 | w2 << 13) & 0x7fffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 10) & 0x7fffffL);
+		dest[offset + 7] = ref + (int) ((w2 >>> 33) & 0x7fffffL);
+		long w3 = words[base + 3];
+		dest[offset + 8] = ref + (int) ((w2 >>> 56 | w3 << 8) & 0x7fffffL);
+		dest[offset + 9] = ref + (int) ((w3 >>> 15) & 0x7fffffL);
+		dest[offset + 10] = ref + (int) ((w3 >>> 38) & 0x7fffffL);
+		long w4 = words[base + 4];
+		dest[offset + 11] = ref + (int) ((w3 >>> 61 | w4 << 3) & 0x7fffffL);
+		dest[offset + 12] = ref + (int) ((w4 >>> 20) & 0x7fffffL);
+		long w5 = words[base + 5];
+		dest[offset + 13] = ref + (int) ((w4 >>> 43 | w5 << 21) & 0x7fffffL);
+		dest[offset + 14] = ref + (int) ((w5 >>> 2) & 0x7fffffL);
+		dest[offset + 15] = ref + (int) ((w5 >>> 25) & 0x7fffffL);
+		long w6 = words[base + 6];
+		dest[offset + 16] = ref + (int) ((w5 >>> 48 | w6 << 16) & 0x7fffffL);
+		dest[offset + 17] = ref + (int) ((w6 >>> 7) & 0x7fffffL);
+		dest[offset + 18] = ref + (int) ((w6 >>> 30) & 0x7fffffL);
+		long w7 = words[base + 7];
+		dest[offset + 19] = ref + (int) ((w6 >>> 53 | w7 << 11) & 0x7fffffL);
+		dest[offset + 20] = ref + (int) ((w7 >>> 12) & 0x7fffffL);
+		dest[offset + 21] = ref + (int) ((w7 >>> 35) & 0x7fffffL);
+		long w8 = words[base + 8];
+		dest[offset + 22] = ref + (int) ((w7 >>> 58 | w8 << 6) & 0x7fffffL);
+		dest[offset + 23] = ref + (int) ((w8 >>> 17) & 0x7fffffL);
+		dest[offset + 24] = ref + (int) ((w8 >>> 40) & 0x7fffffL);
+		long w9 = words[base + 9];
+		dest[offset + 25] = ref + (int) ((w8 >>> 63 | w9 << 1) & 0x7fffffL);
+		dest[offset + 26] = ref + (int) ((w9 >>> 22) & 0x7fffffL);
+		long w10 = words[base + 10];
+		dest[offset + 27] = ref + (int) ((w9 >>> 45 | w10 << 19) & 0x7fffffL);
+		dest[offset + 28] = ref + (int) ((w10 >>> 4) & 0x7fffffL);
+		dest[offset + 29] = ref + (int) ((w10 >>> 27) & 0x7fffffL);
+		long w11 = words[base + 11];
+		dest[offset + 30] = ref + (int) ((w10 >>> 50 | w11 << 14) & 0x7fffffL);
+		dest[offset + 31] = ref + (int) ((w11 >>> 9) & 0x7fffffL);
+		dest[offset + 32] = ref + (int) ((w11 >>> 32) & 0x7fffffL);
+		long w12 = words[base + 12];
+		dest[offset + 33] = ref + (int) ((w11 >>> 55 | w12 << 9) & 0x7fffffL);
+		dest[offset + 34] = ref + (int) ((w12 >>> 14) & 0x7fffffL);
+		dest[offset + 35] = ref + (int) ((w12 >>> 37) & 0x7fffffL);
+		long w13 = words[base + 13];
+		dest[offset + 36] = ref + (int) ((w12 >>> 60 | w13 << 4) & 0x7fffffL);
+		dest[offset + 37] = ref + (int) ((w13 >>> 19) & 0x7fffffL);
+		long w14 = words[base + 14];
+		dest[offset + 38] = ref + (int) ((w13 >>> 42 | w14 << 22) & 0x7fffffL);
+		dest[offset + 39] = ref + (int) ((w14 >>> 1) & 0x7fffffL);
+		dest[offset + 40] = ref + (int) ((w14 >>> 24) & 0x7fffffL);
+		long w15 = words[base + 15];
+		dest[offset + 41] = ref + (int) ((w14 >>> 47 | w15 << 17) & 0x7fffffL);
+		dest[offset + 42] = ref + (int) ((w15 >>> 6) & 0x7fffffL);
+		dest[offset + 43] = ref + (int) ((w15 >>> 29) & 0x7fffffL);
+		long w16 = words[base + 16];
+		dest[offset + 44] = ref + (int) ((w15 >>> 52 | w16 << 12) & 0x7fffffL);
+		dest[offset + 45] = ref + (int) ((w16 >>> 11) & 0x7fffffL);
+		dest[offset + 46] = ref + (int) ((w16 >>> 34) & 0x7fffffL);
+		long w17 = words[base + 17];
+		dest[offset + 47] = ref + (int) ((w16 >>> 57 | w17 << 7) & 0x7fffffL);
+		dest[offset + 48] = ref + (int) ((w17 >>> 16) & 0x7fffffL);
+		dest[offset + 49] = ref + (int) ((w17 >>> 39) & 0x7fffffL);
+		long w18 = words[base + 18];
+		dest[offset + 50] = ref + (int) ((w17 >>> 62 | w18 << 2) & 0x7fffffL);
+		dest[offset + 51] = ref + (int) ((w18 >>> 21) & 0x7fffffL);
+		long w19 = words[base + 19];
+		dest[offset + 52] = ref + (int) ((w18 >>> 44 | w19 << 20) & 0x7fffffL);
+		dest[offset + 53] = ref + (int) ((w19 >>> 3) & 0x7fffffL);
+		dest[offset + 54] = ref + (int) ((w19 >>> 26) & 0x7fffffL);
+		long w20 = words[base + 20];
+		dest[offset + 55] = ref + (int) ((w19 >>> 49 | w20 << 15) & 0x7fffffL);
+		dest[offset + 56] = ref + (int) ((w20 >>> 8) & 0x7fffffL);
+		dest[offset + 57] = ref + (int) ((w20 >>> 31) & 0x7fffffL);
+		long w21 = words[base + 21];
+		dest[offset + 58] = ref + (int) ((w20 >>> 54 | w21 << 10) & 0x7fffffL);
+		dest[offset + 59] = ref + (int) ((w21 >>> 13) & 0x7fffffL);
+		dest[offset + 60] = ref + (int) ((w21 >>> 36) & 0x7fffffL);
+		long w22 = words[base + 22];
+		dest[offset + 61] = ref + (int) ((w21 >>> 59 | w22 << 5) & 0x7fffffL);
+		dest[offset + 62] = ref + (int) ((w22 >>> 18) & 0x7fffffL);
+		dest[offset + 63] = ref + (int) (w22 >>> 41);
+	}
+
+	private static void unpack24(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0xffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 24) & 0xffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 48 | w1 << 16) & 0xffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 8) & 0xffffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 32) & 0xffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 5] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0xffffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 16) & 0xffffffL);
+		dest[offset + 7] = ref + (int) (w2 >>> 40);
+		long w3 = words[base + 3];
+		dest[offset + 8] = ref + (int) (w3 & 0xffffffL);
+		dest[offset + 9] = ref + (int) ((w3 >>> 24) & 0xffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 10] = ref + (int) ((w3 >>> 48 | w4 << 16) & 0xffffffL);
+		dest[offset + 11] = ref + (int) ((w4 >>> 8) & 0xffffffL);
+		dest[offset + 12] = ref + (int) ((w4 >>> 32) & 0xffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 13] = ref + (int) ((w4 >>> 56 | w5 << 8) & 0xffffffL);
+		dest[offset + 14] = ref + (int) ((w5 >>> 16) & 0xffffffL);
+		dest[offset + 15] = ref + (int) (w5 >>> 40);
+		long w6 = words[base + 6];
+		dest[offset + 16] = ref + (int) (w6 & 0xffffffL);
+		dest[offset + 17] = ref + (int) ((w6 >>> 24) & 0xffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 18] = ref + (int) ((w6 >>> 48 | w7 << 16) & 0xffffffL);
+		dest[offset + 19] = ref + (int) ((w7 >>> 8) & 0xffffffL);
+		dest[offset + 20] = ref + (int) ((w7 >>> 32) & 0xffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 21] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0xffffffL);
+		dest[offset + 22] = ref + (int) ((w8 >>> 16) & 0xffffffL);
+		dest[offset + 23] = ref + (int) (w8 >>> 40);
+		long w9 = words[base + 9];
+		dest[offset + 24] = ref + (int) (w9 & 0xffffffL);
+		dest[offset + 25] = ref + (int) ((w9 >>> 24) & 0xffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 26] = ref + (int) ((w9 >>> 48 | w10 << 16) & 0xffffffL);
+		dest[offset + 27] = ref + (int) ((w10 >>> 8) & 0xffffffL);
+		dest[offset + 28] = ref + (int) ((w10 >>> 32) & 0xffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 29] = ref + (int) ((w10 >>> 56 | w11 << 8) & 0xffffffL);
+		dest[offset + 30] = ref + (int) ((w11 >>> 16) & 0xffffffL);
+		dest[offset + 31] = ref + (int) (w11 >>> 40);
+		long w12 = words[base + 12];
+		dest[offset + 32] = ref + (int) (w12 & 0xffffffL);
+		dest[offset + 33] = ref + (int) ((w12 >>> 24) & 0xffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 34] = ref + (int) ((w12 >>> 48 | w13 << 16) & 0xffffffL);
+		dest[offset + 35] = ref + (int) ((w13 >>> 8) & 0xffffffL);
+		dest[offset + 36] = ref + (int) ((w13 >>> 32) & 0xffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 37] = ref + (int) ((w13 >>> 56 | w14 << 8) & 0xffffffL);
+		dest[offset + 38] = ref + (int) ((w14 >>> 16) & 0xffffffL);
+		dest[offset + 39] = ref + (int) (w14 >>> 40);
+		long w15 = words[base + 15];
+		dest[offset + 40] = ref + (int) (w15 & 0xffffffL);
+		dest[offset + 41] = ref + (int) ((w15 >>> 24) & 0xffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 42] = ref + (int) ((w15 >>> 48 | w16 << 16) & 0xffffffL);
+		dest[offset + 43] = ref + (int) ((w16 >>> 8) & 0xffffffL);
+		dest[offset + 44] = ref + (int) ((w16 >>> 32) & 0xffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 45] = ref + (int) ((w16 >>> 56 | w17 << 8) & 0xffffffL);
+		dest[offset + 46] = ref + (int) ((w17 >>> 16) & 0xffffffL);
+		dest[offset + 47] = ref + (int) (w17 >>> 40);
+		long w18 = words[base + 18];
+		dest[offset + 48] = ref + (int) (w18 & 0xffffffL);
+		dest[offset + 49] = ref + (int) ((w18 >>> 24) & 0xffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 50] = ref + (int) ((w18 >>> 48 | w19 << 16) & 0xffffffL);
+		dest[offset + 51] = ref + (int) ((w19 >>> 8) & 0xffffffL);
+		dest[offset + 52] = ref + (int) ((w19 >>> 32) & 0xffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 53] = ref + (int) ((w19 >>> 56 | w20 << 8) & 0xffffffL);
+		dest[offset + 54] = ref + (int) ((w20 >>> 16) & 0xffffffL);
+		dest[offset + 55] = ref + (int) (w20 >>> 40);
+		long w21 = words[base + 21];
+		dest[offset + 56] = ref + (int) (w21 & 0xffffffL);
+		dest[offset + 57] = ref + (int) ((w21 >>> 24) & 0xffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 58] = ref + (int) ((w21 >>> 48 | w22 << 16) & 0xffffffL);
+		dest[offset + 59] = ref + (int) ((w22 >>> 8) & 0xffffffL);
+		dest[offset + 60] = ref + (int) ((w22 >>> 32) & 0xffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 61] = ref + (int) ((w22 >>> 56 | w23 << 8) & 0xffffffL);
+		dest[offset + 62] = ref + (int) ((w23 >>> 16) & 0xffffffL);
+		dest[offset + 63] = ref + (int) (w23 >>> 40);
+	}
+
+	private static void unpack25(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1ffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 25) & 0x1ffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 50 | w1 << 14) & 0x1ffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 11) & 0x1ffffffL);
+		dest[offset + 4] = ref + (int) ((w1 >>> 36) & 0x1ffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 5] = ref + (int) ((w1 >>> 61 | w2 << 3) & 0x1ffffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 22) & 0x1ffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 7] = ref + (int) ((w2 >>> 47 | w3 << 17) & 0x1ffffffL);
+		dest[offset + 8] = ref + (int) ((w3 >>> 8) & 0x1ffffffL);
+		dest[offset + 9] = ref + (int) ((w3 >>> 33) & 0x1ffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 10] = ref + (int) ((w3 >>> 58 | w4 << 6) & 0x1ffffffL);
+		dest[offset + 11] = ref + (int) ((w4 >>> 19) & 0x1ffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 12] = ref + (int) ((w4 >>> 44 | w5 << 20) & 0x1ffffffL);
+		dest[offset + 13] = ref + (int) ((w5 >>> 5) & 0x1ffffffL);
+		dest[offset + 14] = ref + (int) ((w5 >>> 30) & 0x1ffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 15] = ref + (int) ((w5 >>> 55 | w6 << 9) & 0x1ffffffL);
+		dest[offset + 16] = ref + (int) ((w6 >>> 16) & 0x1ffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 17] = ref + (int) ((w6 >>> 41 | w7 << 23) & 0x1ffffffL);
+		dest[offset + 18] = ref + (int) ((w7 >>> 2) & 0x1ffffffL);
+		dest[offset + 19] = ref + (int) ((w7 >>> 27) & 0x1ffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 20] = ref + (int) ((w7 >>> 52 | w8 << 12) & 0x1ffffffL);
+		dest[offset + 21] = ref + (int) ((w8 >>> 13) & 0x1ffffffL);
+		dest[offset + 22] = ref + (int) ((w8 >>> 38) & 0x1ffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 23] = ref + (int) ((w8 >>> 63 | w9 << 1) & 0x1ffffffL);
+		dest[offset + 24] = ref + (int) ((w9 >>> 24) & 0x1ffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 25] = ref + (int) ((w9 >>> 49 | w10 << 15) & 0x1ffffffL);
+		dest[offset + 26] = ref + (int) ((w10 >>> 10) & 0x1ffffffL);
+		dest[offset + 27] = ref + (int) ((w10 >>> 35) & 0x1ffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 28] = ref + (int) ((w10 >>> 60 | w11 << 4) & 0x1ffffffL);
+		dest[offset + 29] = ref + (int) ((w11 >>> 21) & 0x1ffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 30] = ref + (int) ((w11 >>> 46 | w12 << 18) & 0x1ffffffL);
+		dest[offset + 31] = ref + (int) ((w12 >>> 7) & 0x1ffffffL);
+		dest[offset + 32] = ref + (int) ((w12 >>> 32) & 0x1ffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 33] = ref + (int) ((w12 >>> 57 | w13 << 7) & 0x1ffffffL);
+		dest[offset + 34] = ref + (int) ((w13 >>> 18) & 0x1ffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 35] = ref + (int) ((w13 >>> 43 | w14 << 21) & 0x1ffffffL);
+		dest[offset + 36] = ref + (int) ((w14 >>> 4) & 0x1ffffffL);
+		dest[offset + 37] = ref + (int) ((w14 >>> 29) & 0x1ffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 38] = ref + (int) ((w14 >>> 54 | w15 << 10) & 0x1ffffffL);
+		dest[offset + 39] = ref + (int) ((w15 >>> 15) & 0x1ffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 40] = ref + (int) ((w15 >>> 40 | w16 << 24) & 0x1ffffffL);
+		dest[offset + 41] = ref + (int) ((w16 >>> 1) & 0x1ffffffL);
+		dest[offset + 42] = ref + (int) ((w16 >>> 26) & 0x1ffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 43] = ref + (int) ((w16 >>> 51 | w17 << 13) & 0x1ffffffL);
+		dest[offset + 44] = ref + (int) ((w17 >>> 12) & 0x1ffffffL);
+		dest[offset + 45] = ref + (int) ((w17 >>> 37) & 0x1ffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 46] = ref + (int) ((w17 >>> 62 | w18 << 2) & 0x1ffffffL);
+		dest[offset + 47] = ref + (int) ((w18 >>> 23) & 0x1ffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 48] = ref + (int) ((w18 >>> 48 | w19 << 16) & 0x1ffffffL);
+		dest[offset + 49] = ref + (int) ((w19 >>> 9) & 0x1ffffffL);
+		dest[offset + 50] = ref + (int) ((w19 >>> 34) & 0x1ffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 51] = ref + (int) ((w19 >>> 59 | w20 << 5) & 0x1ffffffL);
+		dest[offset + 52] = ref + (int) ((w20 >>> 20) & 0x1ffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 53] = ref + (int) ((w20 >>> 45 | w21 << 19) & 0x1ffffffL);
+		dest[offset + 54] = ref + (int) ((w21 >>> 6) & 0x1ffffffL);
+		dest[offset + 55] = ref + (int) ((w21 >>> 31) & 0x1ffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 56] = ref + (int) ((w21 >>> 56 | w22 << 8) & 0x1ffffffL);
+		dest[offset + 57] = ref + (int) ((w22 >>> 17) & 0x1ffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 58] = ref + (int) ((w22 >>> 42 | w23 << 22) & 0x1ffffffL);
+		dest[offset + 59] = ref + (int) ((w23 >>> 3) & 0x1ffffffL);
+		dest[offset + 60] = ref + (int) ((w23 >>> 28) & 0x1ffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 61] = ref + (int) ((w23 >>> 53 | w24 << 11) & 0x1ffffffL);
+		dest[offset + 62] = ref + (int) ((w24 >>> 14) & 0x1ffffffL);
+		dest[offset + 63] = ref + (int) (w24 >>> 39);
+	}
+
+	private static void unpack26(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3ffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 26) & 0x3ffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 52 | w1 << 12) & 0x3ffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 14) & 0x3ffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 40 | w2 << 24) & 0x3ffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 2) & 0x3ffffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 28) & 0x3ffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 7] = ref + (int) ((w2 >>> 54 | w3 << 10) & 0x3ffffffL);
+		dest[offset + 8] = ref + (int) ((w3 >>> 16) & 0x3ffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 9] = ref + (int) ((w3 >>> 42 | w4 << 22) & 0x3ffffffL);
+		dest[offset + 10] = ref + (int) ((w4 >>> 4) & 0x3ffffffL);
+		dest[offset + 11] = ref + (int) ((w4 >>> 30) & 0x3ffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 12] = ref + (int) ((w4 >>> 56 | w5 << 8) & 0x3ffffffL);
+		dest[offset + 13] = ref + (int) ((w5 >>> 18) & 0x3ffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 14] = ref + (int) ((w5 >>> 44 | w6 << 20) & 0x3ffffffL);
+		dest[offset + 15] = ref + (int) ((w6 >>> 6) & 0x3ffffffL);
+		dest[offset + 16] = ref + (int) ((w6 >>> 32) & 0x3ffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 17] = ref + (int) ((w6 >>> 58 | w7 << 6) & 0x3ffffffL);
+		dest[offset + 18] = ref + (int) ((w7 >>> 20) & 0x3ffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 19] = ref + (int) ((w7 >>> 46 | w8 << 18) & 0x3ffffffL);
+		dest[offset + 20] = ref + (int) ((w8 >>> 8) & 0x3ffffffL);
+		dest[offset + 21] = ref + (int) ((w8 >>> 34) & 0x3ffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 22] = ref + (int) ((w8 >>> 60 | w9 << 4) & 0x3ffffffL);
+		dest[offset + 23] = ref + (int) ((w9 >>> 22) & 0x3ffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 24] = ref + (int) ((w9 >>> 48 | w10 << 16) & 0x3ffffffL);
+		dest[offset + 25] = ref + (int) ((w10 >>> 10) & 0x3ffffffL);
+		dest[offset + 26] = ref + (int) ((w10 >>> 36) & 0x3ffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 27] = ref + (int) ((w10 >>> 62 | w11 << 2) & 0x3ffffffL);
+		dest[offset + 28] = ref + (int) ((w11 >>> 24) & 0x3ffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 29] = ref + (int) ((w11 >>> 50 | w12 << 14) & 0x3ffffffL);
+		dest[offset + 30] = ref + (int) ((w12 >>> 12) & 0x3ffffffL);
+		dest[offset + 31] = ref + (int) (w12 >>> 38);
+		long w13 = words[base + 13];
+		dest[offset + 32] = ref + (int) (w13 & 0x3ffffffL);
+		dest[offset + 33] = ref + (int) ((w13 >>> 26) & 0x3ffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 34] = ref + (int) ((w13 >>> 52 | w14 << 12) & 0x3ffffffL);
+		dest[offset + 35] = ref + (int) ((w14 >>> 14) & 0x3ffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 36] = ref + (int) ((w14 >>> 40 | w15 << 24) & 0x3ffffffL);
+		dest[offset + 37] = ref + (int) ((w15 >>> 2) & 0x3ffffffL);
+		dest[offset + 38] = ref + (int) ((w15 >>> 28) & 0x3ffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 39] = ref + (int) ((w15 >>> 54 | w16 << 10) & 0x3ffffffL);
+		dest[offset + 40] = ref + (int) ((w16 >>> 16) & 0x3ffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 41] = ref + (int) ((w16 >>> 42 | w17 << 22) & 0x3ffffffL);
+		dest[offset + 42] = ref + (int) ((w17 >>> 4) & 0x3ffffffL);
+		dest[offset + 43] = ref + (int) ((w17 >>> 30) & 0x3ffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 44] = ref + (int) ((w17 >>> 56 | w18 << 8) & 0x3ffffffL);
+		dest[offset + 45] = ref + (int) ((w18 >>> 18) & 0x3ffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 46] = ref + (int) ((w18 >>> 44 | w19 << 20) & 0x3ffffffL);
+		dest[offset + 47] = ref + (int) ((w19 >>> 6) & 0x3ffffffL);
+		dest[offset + 48] = ref + (int) ((w19 >>> 32) & 0x3ffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 49] = ref + (int) ((w19 >>> 58 | w20 << 6) & 0x3ffffffL);
+		dest[offset + 50] = ref + (int) ((w20 >>> 20) & 0x3ffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 51] = ref + (int) ((w20 >>> 46 | w21 << 18) & 0x3ffffffL);
+		dest[offset + 52] = ref + (int) ((w21 >>> 8) & 0x3ffffffL);
+		dest[offset + 53] = ref + (int) ((w21 >>> 34) & 0x3ffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 54] = ref + (int) ((w21 >>> 60 | w22 << 4) & 0x3ffffffL);
+		dest[offset + 55] = ref + (int) ((w22 >>> 22) & 0x3ffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 56] = ref + (int) ((w22 >>> 48 | w23 << 16) & 0x3ffffffL);
+		dest[offset + 57] = ref + (int) ((w23 >>> 10) & 0x3ffffffL);
+		dest[offset + 58] = ref + (int) ((w23 >>> 36) & 0x3ffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 59] = ref + (int) ((w23 >>> 62 | w24 << 2) & 0x3ffffffL);
+		dest[offset + 60] = ref + (int) ((w24 >>> 24) & 0x3ffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 61] = ref + (int) ((w24 >>> 50 | w25 << 14) & 0x3ffffffL);
+		dest[offset + 62] = ref + (int) ((w25 >>> 12) & 0x3ffffffL);
+		dest[offset + 63] = ref + (int) (w25 >>> 38);
+	}
+
+	private static void unpack27(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7ffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 27) & 0x7ffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 54 | w1 << 10) & 0x7ffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 17) & 0x7ffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 44 | w2 << 20) & 0x7ffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 7) & 0x7ffffffL);
+		dest[offset + 6] = ref + (int) ((w2 >>> 34) & 0x7ffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 7] = ref + (int) ((w2 >>> 61 | w3 << 3) & 0x7ffffffL);
+		dest[offset + 8] = ref + (int) ((w3 >>> 24) & 0x7ffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 9] = ref + (int) ((w3 >>> 51 | w4 << 13) & 0x7ffffffL);
+		dest[offset + 10] = ref + (int) ((w4 >>> 14) & 0x7ffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 11] = ref + (int) ((w4 >>> 41 | w5 << 23) & 0x7ffffffL);
+		dest[offset + 12] = ref + (int) ((w5 >>> 4) & 0x7ffffffL);
+		dest[offset + 13] = ref + (int) ((w5 >>> 31) & 0x7ffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 14] = ref + (int) ((w5 >>> 58 | w6 << 6) & 0x7ffffffL);
+		dest[offset + 15] = ref + (int) ((w6 >>> 21) & 0x7ffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 16] = ref + (int) ((w6 >>> 48 | w7 << 16) & 0x7ffffffL);
+		dest[offset + 17] = ref + (int) ((w7 >>> 11) & 0x7ffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 18] = ref + (int) ((w7 >>> 38 | w8 << 26) & 0x7ffffffL);
+		dest[offset + 19] = ref + (int) ((w8 >>> 1) & 0x7ffffffL);
+		dest[offset + 20] = ref + (int) ((w8 >>> 28) & 0x7ffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 21] = ref + (int) ((w8 >>> 55 | w9 << 9) & 0x7ffffffL);
+		dest[offset + 22] = ref + (int) ((w9 >>> 18) & 0x7ffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 23] = ref + (int) ((w9 >>> 45 | w10 << 19) & 0x7ffffffL);
+		dest[offset + 24] = ref + (int) ((w10 >>> 8) & 0x7ffffffL);
+		dest[offset + 25] = ref + (int) ((w10 >>> 35) & 0x7ffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 26] = ref + (int) ((w10 >>> 62 | w11 << 2) & 0x7ffffffL);
+		dest[offset + 27] = ref + (int) ((w11 >>> 25) & 0x7ffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 28] = ref + (int) ((w11 >>> 52 | w12 << 12) & 0x7ffffffL);
+		dest[offset + 29] = ref + (int) ((w12 >>> 15) & 0x7ffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 30] = ref + (int) ((w12 >>> 42 | w13 << 22) & 0x7ffffffL);
+		dest[offset + 31] = ref + (int) ((w13 >>> 5) & 0x7ffffffL);
+		dest[offset + 32] = ref + (int) ((w13 >>> 32) & 0x7ffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 33] = ref + (int) ((w13 >>> 59 | w14 << 5) & 0x7ffffffL);
+		dest[offset + 34] = ref + (int) ((w14 >>> 22) & 0x7ffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 35] = ref + (int) ((w14 >>> 49 | w15 << 15) & 0x7ffffffL);
+		dest[offset + 36] = ref + (int) ((w15 >>> 12) & 0x7ffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 37] = ref + (int) ((w15 >>> 39 | w16 << 25) & 0x7ffffffL);
+		dest[offset + 38] = ref + (int) ((w16 >>> 2) & 0x7ffffffL);
+		dest[offset + 39] = ref + (int) ((w16 >>> 29) & 0x7ffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 40] = ref + (int) ((w16 >>> 56 | w17 << 8) & 0x7ffffffL);
+		dest[offset + 41] = ref + (int) ((w17 >>> 19) & 0x7ffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 42] = ref + (int) ((w17 >>> 46 | w18 << 18) & 0x7ffffffL);
+		dest[offset + 43] = ref + (int) ((w18 >>> 9) & 0x7ffffffL);
+		dest[offset + 44] = ref + (int) ((w18 >>> 36) & 0x7ffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 45] = ref + (int) ((w18 >>> 63 | w19 << 1) & 0x7ffffffL);
+		dest[offset + 46] = ref + (int) ((w19 >>> 26) & 0x7ffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 47] = ref + (int) ((w19 >>> 53 | w20 << 11) & 0x7ffffffL);
+		dest[offset + 48] = ref + (int) ((w20 >>> 16) & 0x7ffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 49] = ref + (int) ((w20 >>> 43 | w21 << 21) & 0x7ffffffL);
+		dest[offset + 50] = ref + (int) ((w21 >>> 6) & 0x7ffffffL);
+		dest[offset + 51] = ref + (int) ((w21 >>> 33) & 0x7ffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 52] = ref + (int) ((w21 >>> 60 | w22 << 4) & 0x7ffffffL);
+		dest[offset + 53] = ref + (int) ((w22 >>> 23) & 0x7ffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 54] = ref + (int) ((w22 >>> 50 | w23 << 14) & 0x7ffffffL);
+		dest[offset + 55] = ref + (int) ((w23 >>> 13) & 0x7ffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 56] = ref + (int) ((w23 >>> 40 | w24 << 24) & 0x7ffffffL);
+		dest[offset + 57] = ref + (int) ((w24 >>> 3) & 0x7ffffffL);
+		dest[offset + 58] = ref + (int) ((w24 >>> 30) & 0x7ffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 59] = ref + (int) ((w24 >>> 57 | w25 << 7) & 0x7ffffffL);
+		dest[offset + 60] = ref + (int) ((w25 >>> 20) & 0x7ffffffL);
+		long w26 = words[base + 26];
+		dest[offset + 61] = ref + (int) ((w25 >>> 47 | w26 << 17) & 0x7ffffffL);
+		dest[offset + 62] = ref + (int) ((w26 >>> 10) & 0x7ffffffL);
+		dest[offset + 63] = ref + (int) (w26 >>> 37);
+	}
+
+	private static void unpack28(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0xfffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 28) & 0xfffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 56 | w1 << 8) & 0xfffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 20) & 0xfffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 48 | w2 << 16) & 0xfffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 12) & 0xfffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 6] = ref + (int) ((w2 >>> 40 | w3 << 24) & 0xfffffffL);
+		dest[offset + 7] = ref + (int) ((w3 >>> 4) & 0xfffffffL);
+		dest[offset + 8] = ref + (int) ((w3 >>> 32) & 0xfffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 9] = ref + (int) ((w3 >>> 60 | w4 << 4) & 0xfffffffL);
+		dest[offset + 10] = ref + (int) ((w4 >>> 24) & 0xfffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 11] = ref + (int) ((w4 >>> 52 | w5 << 12) & 0xfffffffL);
+		dest[offset + 12] = ref + (int) ((w5 >>> 16) & 0xfffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 13] = ref + (int) ((w5 >>> 44 | w6 << 20) & 0xfffffffL);
+		dest[offset + 14] = ref + (int) ((w6 >>> 8) & 0xfffffffL);
+		dest[offset + 15] = ref + (int) (w6 >>> 36);
+		long w7 = words[base + 7];
+		dest[offset + 16] = ref + (int) (w7 & 0xfffffffL);
+		dest[offset + 17] = ref + (int) ((w7 >>> 28) & 0xfffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 18] = ref + (int) ((w7 >>> 56 | w8 << 8) & 0xfffffffL);
+		dest[offset + 19] = ref + (int) ((w8 >>> 20) & 0xfffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 20] = ref + (int) ((w8 >>> 48 | w9 << 16) & 0xfffffffL);
+		dest[offset + 21] = ref + (int) ((w9 >>> 12) & 0xfffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 22] = ref + (int) ((w9 >>> 40 | w10 << 24) & 0xfffffffL);
+		dest[offset + 23] = ref + (int) ((w10 >>> 4) & 0xfffffffL);
+		dest[offset + 24] = ref + (int) ((w10 >>> 32) & 0xfffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 25] = ref + (int) ((w10 >>> 60 | w11 << 4) & 0xfffffffL);
+		dest[offset + 26] = ref + (int) ((w11 >>> 24) & 0xfffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 27] = ref + (int) ((w11 >>> 52 | w12 << 12) & 0xfffffffL);
+		dest[offset + 28] = ref + (int) ((w12 >>> 16) & 0xfffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 29] = ref + (int) ((w12 >>> 44 | w13 << 20) & 0xfffffffL);
+		dest[offset + 30] = ref + (int) ((w13 >>> 8) & 0xfffffffL);
+		dest[offset + 31] = ref + (int) (w13 >>> 36);
+		long w14 = words[base + 14];
+		dest[offset + 32] = ref + (int) (w14 & 0xfffffffL);
+		dest[offset + 33] = ref + (int) ((w14 >>> 28) & 0xfffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 34] = ref + (int) ((w14 >>> 56 | w15 << 8) & 0xfffffffL);
+		dest[offset + 35] = ref + (int) ((w15 >>> 20) & 0xfffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 36] = ref + (int) ((w15 >>> 48 | w16 << 16) & 0xfffffffL);
+		dest[offset + 37] = ref + (int) ((w16 >>> 12) & 0xfffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 38] = ref + (int) ((w16 >>> 40 | w17 << 24) & 0xfffffffL);
+		dest[offset + 39] = ref + (int) ((w17 >>> 4) & 0xfffffffL);
+		dest[offset + 40] = ref + (int) ((w17 >>> 32) & 0xfffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 41] = ref + (int) ((w17 >>> 60 | w18 << 4) & 0xfffffffL);
+		dest[offset + 42] = ref + (int) ((w18 >>> 24) & 0xfffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 43] = ref + (int) ((w18 >>> 52 | w19 << 12) & 0xfffffffL);
+		dest[offset + 44] = ref + (int) ((w19 >>> 16) & 0xfffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 45] = ref + (int) ((w19 >>> 44 | w20 << 20) & 0xfffffffL);
+		dest[offset + 46] = ref + (int) ((w20 >>> 8) & 0xfffffffL);
+		dest[offset + 47] = ref + (int) (w20 >>> 36);
+		long w21 = words[base + 21];
+		dest[offset + 48] = ref + (int) (w21 & 0xfffffffL);
+		dest[offset + 49] = ref + (int) ((w21 >>> 28) & 0xfffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 50] = ref + (int) ((w21 >>> 56 | w22 << 8) & 0xfffffffL);
+		dest[offset + 51] = ref + (int) ((w22 >>> 20) & 0xfffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 52] = ref + (int) ((w22 >>> 48 | w23 << 16) & 0xfffffffL);
+		dest[offset + 53] = ref + (int) ((w23 >>> 12) & 0xfffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 54] = ref + (int) ((w23 >>> 40 | w24 << 24) & 0xfffffffL);
+		dest[offset + 55] = ref + (int) ((w24 >>> 4) & 0xfffffffL);
+		dest[offset + 56] = ref + (int) ((w24 >>> 32) & 0xfffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 57] = ref + (int) ((w24 >>> 60 | w25 << 4) & 0xfffffffL);
+		dest[offset + 58] = ref + (int) ((w25 >>> 24) & 0xfffffffL);
+		long w26 = words[base + 26];
+		dest[offset + 59] = ref + (int) ((w25 >>> 52 | w26 << 12) & 0xfffffffL);
+		dest[offset + 60] = ref + (int) ((w26 >>> 16) & 0xfffffffL);
+		long w27 = words[base + 27];
+		dest[offset + 61] = ref + (int) ((w26 >>> 44 | w27 << 20) & 0xfffffffL);
+		dest[offset + 62] = ref + (int) ((w27 >>> 8) & 0xfffffffL);
+		dest[offset + 63] = ref + (int) (w27 >>> 36);
+	}
+
+	private static void unpack29(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x1fffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 29) & 0x1fffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 58 | w1 << 6) & 0x1fffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 23) & 0x1fffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 52 | w2 << 12) & 0x1fffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 17) & 0x1fffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 6] = ref + (int) ((w2 >>> 46 | w3 << 18) & 0x1fffffffL);
+		dest[offset + 7] = ref + (int) ((w3 >>> 11) & 0x1fffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 8] = ref + (int) ((w3 >>> 40 | w4 << 24) & 0x1fffffffL);
+		dest[offset + 9] = ref + (int) ((w4 >>> 5) & 0x1fffffffL);
+		dest[offset + 10] = ref + (int) ((w4 >>> 34) & 0x1fffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 11] = ref + (int) ((w4 >>> 63 | w5 << 1) & 0x1fffffffL);
+		dest[offset + 12] = ref + (int) ((w5 >>> 28) & 0x1fffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 13] = ref + (int) ((w5 >>> 57 | w6 << 7) & 0x1fffffffL);
+		dest[offset + 14] = ref + (int) ((w6 >>> 22) & 0x1fffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 15] = ref + (int) ((w6 >>> 51 | w7 << 13) & 0x1fffffffL);
+		dest[offset + 16] = ref + (int) ((w7 >>> 16) & 0x1fffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 17] = ref + (int) ((w7 >>> 45 | w8 << 19) & 0x1fffffffL);
+		dest[offset + 18] = ref + (int) ((w8 >>> 10) & 0x1fffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 19] = ref + (int) ((w8 >>> 39 | w9 << 25) & 0x1fffffffL);
+		dest[offset + 20] = ref + (int) ((w9 >>> 4) & 0x1fffffffL);
+		dest[offset + 21] = ref + (int) ((w9 >>> 33) & 0x1fffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 22] = ref + (int) ((w9 >>> 62 | w10 << 2) & 0x1fffffffL);
+		dest[offset + 23] = ref + (int) ((w10 >>> 27) & 0x1fffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 24] = ref + (int) ((w10 >>> 56 | w11 << 8) & 0x1fffffffL);
+		dest[offset + 25] = ref + (int) ((w11 >>> 21) & 0x1fffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 26] = ref + (int) ((w11 >>> 50 | w12 << 14) & 0x1fffffffL);
+		dest[offset + 27] = ref + (int) ((w12 >>> 15) & 0x1fffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 28] = ref + (int) ((w12 >>> 44 | w13 << 20) & 0x1fffffffL);
+		dest[offset + 29] = ref + (int) ((w13 >>> 9) & 0x1fffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 30] = ref + (int) ((w13 >>> 38 | w14 << 26) & 0x1fffffffL);
+		dest[offset + 31] = ref + (int) ((w14 >>> 3) & 0x1fffffffL);
+		dest[offset + 32] = ref + (int) ((w14 >>> 32) & 0x1fffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 33] = ref + (int) ((w14 >>> 61 | w15 << 3) & 0x1fffffffL);
+		dest[offset + 34] = ref + (int) ((w15 >>> 26) & 0x1fffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 35] = ref + (int) ((w15 >>> 55 | w16 << 9) & 0x1fffffffL);
+		dest[offset + 36] = ref + (int) ((w16 >>> 20) & 0x1fffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 37] = ref + (int) ((w16 >>> 49 | w17 << 15) & 0x1fffffffL);
+		dest[offset + 38] = ref + (int) ((w17 >>> 14) & 0x1fffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 39] = ref + (int) ((w17 >>> 43 | w18 << 21) & 0x1fffffffL);
+		dest[offset + 40] = ref + (int) ((w18 >>> 8) & 0x1fffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 41] = ref + (int) ((w18 >>> 37 | w19 << 27) & 0x1fffffffL);
+		dest[offset + 42] = ref + (int) ((w19 >>> 2) & 0x1fffffffL);
+		dest[offset + 43] = ref + (int) ((w19 >>> 31) & 0x1fffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 44] = ref + (int) ((w19 >>> 60 | w20 << 4) & 0x1fffffffL);
+		dest[offset + 45] = ref + (int) ((w20 >>> 25) & 0x1fffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 46] = ref + (int) ((w20 >>> 54 | w21 << 10) & 0x1fffffffL);
+		dest[offset + 47] = ref + (int) ((w21 >>> 19) & 0x1fffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 48] = ref + (int) ((w21 >>> 48 | w22 << 16) & 0x1fffffffL);
+		dest[offset + 49] = ref + (int) ((w22 >>> 13) & 0x1fffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 50] = ref + (int) ((w22 >>> 42 | w23 << 22) & 0x1fffffffL);
+		dest[offset + 51] = ref + (int) ((w23 >>> 7) & 0x1fffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 52] = ref + (int) ((w23 >>> 36 | w24 << 28) & 0x1fffffffL);
+		dest[offset + 53] = ref + (int) ((w24 >>> 1) & 0x1fffffffL);
+		dest[offset + 54] = ref + (int) ((w24 >>> 30) & 0x1fffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 55] = ref + (int) ((w24 >>> 59 | w25 << 5) & 0x1fffffffL);
+		dest[offset + 56] = ref + (int) ((w25 >>> 24) & 0x1fffffffL);
+		long w26 = words[base + 26];
+		dest[offset + 57] = ref + (int) ((w25 >>> 53 | w26 << 11) & 0x1fffffffL);
+		dest[offset + 58] = ref + (int) ((w26 >>> 18) & 0x1fffffffL);
+		long w27 = words[base + 27];
+		dest[offset + 59] = ref + (int) ((w26 >>> 47 | w27 << 17) & 0x1fffffffL);
+		dest[offset + 60] = ref + (int) ((w27 >>> 12) & 0x1fffffffL);
+		long w28 = words[base + 28];
+		dest[offset + 61] = ref + (int) ((w27 >>> 41 | w28 << 23) & 0x1fffffffL);
+		dest[offset + 62] = ref + (int) ((w28 >>> 6) & 0x1fffffffL);
+		dest[offset + 63] = ref + (int) (w28 >>> 35);
+	}
+
+	private static void unpack30(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x3fffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 30) & 0x3fffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 60 | w1 << 4) & 0x3fffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 26) & 0x3fffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 56 | w2 << 8) & 0x3fffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 22) & 0x3fffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 6] = ref + (int) ((w2 >>> 52 | w3 << 12) & 0x3fffffffL);
+		dest[offset + 7] = ref + (int) ((w3 >>> 18) & 0x3fffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 8] = ref + (int) ((w3 >>> 48 | w4 << 16) & 0x3fffffffL);
+		dest[offset + 9] = ref + (int) ((w4 >>> 14) & 0x3fffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 10] = ref + (int) ((w4 >>> 44 | w5 << 20) & 0x3fffffffL);
+		dest[offset + 11] = ref + (int) ((w5 >>> 10) & 0x3fffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 12] = ref + (int) ((w5 >>> 40 | w6 << 24) & 0x3fffffffL);
+		dest[offset + 13] = ref + (int) ((w6 >>> 6) & 0x3fffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 14] = ref + (int) ((w6 >>> 36 | w7 << 28) & 0x3fffffffL);
+		dest[offset + 15] = ref + (int) ((w7 >>> 2) & 0x3fffffffL);
+		dest[offset + 16] = ref + (int) ((w7 >>> 32) & 0x3fffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 17] = ref + (int) ((w7 >>> 62 | w8 << 2) & 0x3fffffffL);
+		dest[offset + 18] = ref + (int) ((w8 >>> 28) & 0x3fffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 19] = ref + (int) ((w8 >>> 58 | w9 << 6) & 0x3fffffffL);
+		dest[offset + 20] = ref + (int) ((w9 >>> 24) & 0x3fffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 21] = ref + (int) ((w9 >>> 54 | w10 << 10) & 0x3fffffffL);
+		dest[offset + 22] = ref + (int) ((w10 >>> 20) & 0x3fffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 23] = ref + (int) ((w10 >>> 50 | w11 << 14) & 0x3fffffffL);
+		dest[offset + 24] = ref + (int) ((w11 >>> 16) & 0x3fffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 25] = ref + (int) ((w11 >>> 46 | w12 << 18) & 0x3fffffffL);
+		dest[offset + 26] = ref + (int) ((w12 >>> 12) & 0x3fffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 27] = ref + (int) ((w12 >>> 42 | w13 << 22) & 0x3fffffffL);
+		dest[offset + 28] = ref + (int) ((w13 >>> 8) & 0x3fffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 29] = ref + (int) ((w13 >>> 38 | w14 << 26) & 0x3fffffffL);
+		dest[offset + 30] = ref + (int) ((w14 >>> 4) & 0x3fffffffL);
+		dest[offset + 31] = ref + (int) (w14 >>> 34);
+		long w15 = words[base + 15];
+		dest[offset + 32] = ref + (int) (w15 & 0x3fffffffL);
+		dest[offset + 33] = ref + (int) ((w15 >>> 30) & 0x3fffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 34] = ref + (int) ((w15 >>> 60 | w16 << 4) & 0x3fffffffL);
+		dest[offset + 35] = ref + (int) ((w16 >>> 26) & 0x3fffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 36] = ref + (int) ((w16 >>> 56 | w17 << 8) & 0x3fffffffL);
+		dest[offset + 37] = ref + (int) ((w17 >>> 22) & 0x3fffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 38] = ref + (int) ((w17 >>> 52 | w18 << 12) & 0x3fffffffL);
+		dest[offset + 39] = ref + (int) ((w18 >>> 18) & 0x3fffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 40] = ref + (int) ((w18 >>> 48 | w19 << 16) & 0x3fffffffL);
+		dest[offset + 41] = ref + (int) ((w19 >>> 14) & 0x3fffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 42] = ref + (int) ((w19 >>> 44 | w20 << 20) & 0x3fffffffL);
+		dest[offset + 43] = ref + (int) ((w20 >>> 10) & 0x3fffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 44] = ref + (int) ((w20 >>> 40 | w21 << 24) & 0x3fffffffL);
+		dest[offset + 45] = ref + (int) ((w21 >>> 6) & 0x3fffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 46] = ref + (int) ((w21 >>> 36 | w22 << 28) & 0x3fffffffL);
+		dest[offset + 47] = ref + (int) ((w22 >>> 2) & 0x3fffffffL);
+		dest[offset + 48] = ref + (int) ((w22 >>> 32) & 0x3fffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 49] = ref + (int) ((w22 >>> 62 | w23 << 2) & 0x3fffffffL);
+		dest[offset + 50] = ref + (int) ((w23 >>> 28) & 0x3fffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 51] = ref + (int) ((w23 >>> 58 | w24 << 6) & 0x3fffffffL);
+		dest[offset + 52] = ref + (int) ((w24 >>> 24) & 0x3fffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 53] = ref + (int) ((w24 >>> 54 | w25 << 10) & 0x3fffffffL);
+		dest[offset + 54] = ref + (int) ((w25 >>> 20) & 0x3fffffffL);
+		long w26 = words[base + 26];
+		dest[offset + 55] = ref + (int) ((w25 >>> 50 | w26 << 14) & 0x3fffffffL);
+		dest[offset + 56] = ref + (int) ((w26 >>> 16) & 0x3fffffffL);
+		long w27 = words[base + 27];
+		dest[offset + 57] = ref + (int) ((w26 >>> 46 | w27 << 18) & 0x3fffffffL);
+		dest[offset + 58] = ref + (int) ((w27 >>> 12) & 0x3fffffffL);
+		long w28 = words[base + 28];
+		dest[offset + 59] = ref + (int) ((w27 >>> 42 | w28 << 22) & 0x3fffffffL);
+		dest[offset + 60] = ref + (int) ((w28 >>> 8) & 0x3fffffffL);
+		long w29 = words[base + 29];
+		dest[offset + 61] = ref + (int) ((w28 >>> 38 | w29 << 26) & 0x3fffffffL);
+		dest[offset + 62] = ref + (int) ((w29 >>> 4) & 0x3fffffffL);
+		dest[offset + 63] = ref + (int) (w29 >>> 34);
+	}
+
+	private static void unpack31(long[] words, int base, int ref, int[] dest, int offset) {
+		long w0 = words[base + 0];
+		dest[offset + 0] = ref + (int) (w0 & 0x7fffffffL);
+		dest[offset + 1] = ref + (int) ((w0 >>> 31) & 0x7fffffffL);
+		long w1 = words[base + 1];
+		dest[offset + 2] = ref + (int) ((w0 >>> 62 | w1 << 2) & 0x7fffffffL);
+		dest[offset + 3] = ref + (int) ((w1 >>> 29) & 0x7fffffffL);
+		long w2 = words[base + 2];
+		dest[offset + 4] = ref + (int) ((w1 >>> 60 | w2 << 4) & 0x7fffffffL);
+		dest[offset + 5] = ref + (int) ((w2 >>> 27) & 0x7fffffffL);
+		long w3 = words[base + 3];
+		dest[offset + 6] = ref + (int) ((w2 >>> 58 | w3 << 6) & 0x7fffffffL);
+		dest[offset + 7] = ref + (int) ((w3 >>> 25) & 0x7fffffffL);
+		long w4 = words[base + 4];
+		dest[offset + 8] = ref + (int) ((w3 >>> 56 | w4 << 8) & 0x7fffffffL);
+		dest[offset + 9] = ref + (int) ((w4 >>> 23) & 0x7fffffffL);
+		long w5 = words[base + 5];
+		dest[offset + 10] = ref + (int) ((w4 >>> 54 | w5 << 10) & 0x7fffffffL);
+		dest[offset + 11] = ref + (int) ((w5 >>> 21) & 0x7fffffffL);
+		long w6 = words[base + 6];
+		dest[offset + 12] = ref + (int) ((w5 >>> 52 | w6 << 12) & 0x7fffffffL);
+		dest[offset + 13] = ref + (int) ((w6 >>> 19) & 0x7fffffffL);
+		long w7 = words[base + 7];
+		dest[offset + 14] = ref + (int) ((w6 >>> 50 | w7 << 14) & 0x7fffffffL);
+		dest[offset + 15] = ref + (int) ((w7 >>> 17) & 0x7fffffffL);
+		long w8 = words[base + 8];
+		dest[offset + 16] = ref + (int) ((w7 >>> 48 | w8 << 16) & 0x7fffffffL);
+		dest[offset + 17] = ref + (int) ((w8 >>> 15) & 0x7fffffffL);
+		long w9 = words[base + 9];
+		dest[offset + 18] = ref + (int) ((w8 >>> 46 | w9 << 18) & 0x7fffffffL);
+		dest[offset + 19] = ref + (int) ((w9 >>> 13) & 0x7fffffffL);
+		long w10 = words[base + 10];
+		dest[offset + 20] = ref + (int) ((w9 >>> 44 | w10 << 20) & 0x7fffffffL);
+		dest[offset + 21] = ref + (int) ((w10 >>> 11) & 0x7fffffffL);
+		long w11 = words[base + 11];
+		dest[offset + 22] = ref + (int) ((w10 >>> 42 | w11 << 22) & 0x7fffffffL);
+		dest[offset + 23] = ref + (int) ((w11 >>> 9) & 0x7fffffffL);
+		long w12 = words[base + 12];
+		dest[offset + 24] = ref + (int) ((w11 >>> 40 | w12 << 24) & 0x7fffffffL);
+		dest[offset + 25] = ref + (int) ((w12 >>> 7) & 0x7fffffffL);
+		long w13 = words[base + 13];
+		dest[offset + 26] = ref + (int) ((w12 >>> 38 | w13 << 26) & 0x7fffffffL);
+		dest[offset + 27] = ref + (int) ((w13 >>> 5) & 0x7fffffffL);
+		long w14 = words[base + 14];
+		dest[offset + 28] = ref + (int) ((w13 >>> 36 | w14 << 28) & 0x7fffffffL);
+		dest[offset + 29] = ref + (int) ((w14 >>> 3) & 0x7fffffffL);
+		long w15 = words[base + 15];
+		dest[offset + 30] = ref + (int) ((w14 >>> 34 | w15 << 30) & 0x7fffffffL);
+		dest[offset + 31] = ref + (int) ((w15 >>> 1) & 0x7fffffffL);
+		dest[offset + 32] = ref + (int) ((w15 >>> 32) & 0x7fffffffL);
+		long w16 = words[base + 16];
+		dest[offset + 33] = ref + (int) ((w15 >>> 63 | w16 << 1) & 0x7fffffffL);
+		dest[offset + 34] = ref + (int) ((w16 >>> 30) & 0x7fffffffL);
+		long w17 = words[base + 17];
+		dest[offset + 35] = ref + (int) ((w16 >>> 61 | w17 << 3) & 0x7fffffffL);
+		dest[offset + 36] = ref + (int) ((w17 >>> 28) & 0x7fffffffL);
+		long w18 = words[base + 18];
+		dest[offset + 37] = ref + (int) ((w17 >>> 59 | w18 << 5) & 0x7fffffffL);
+		dest[offset + 38] = ref + (int) ((w18 >>> 26) & 0x7fffffffL);
+		long w19 = words[base + 19];
+		dest[offset + 39] = ref + (int) ((w18 >>> 57 | w19 << 7) & 0x7fffffffL);
+		dest[offset + 40] = ref + (int) ((w19 >>> 24) & 0x7fffffffL);
+		long w20 = words[base + 20];
+		dest[offset + 41] = ref + (int) ((w19 >>> 55 | w20 << 9) & 0x7fffffffL);
+		dest[offset + 42] = ref + (int) ((w20 >>> 22) & 0x7fffffffL);
+		long w21 = words[base + 21];
+		dest[offset + 43] = ref + (int) ((w20 >>> 53 | w21 << 11) & 0x7fffffffL);
+		dest[offset + 44] = ref + (int) ((w21 >>> 20) & 0x7fffffffL);
+		long w22 = words[base + 22];
+		dest[offset + 45] = ref + (int) ((w21 >>> 51 | w22 << 13) & 0x7fffffffL);
+		dest[offset + 46] = ref + (int) ((w22 >>> 18) & 0x7fffffffL);
+		long w23 = words[base + 23];
+		dest[offset + 47] = ref + (int) ((w22 >>> 49 | w23 << 15) & 0x7fffffffL);
+		dest[offset + 48] = ref + (int) ((w23 >>> 16) & 0x7fffffffL);
+		long w24 = words[base + 24];
+		dest[offset + 49] = ref + (int) ((w23 >>> 47 | w24 << 17) & 0x7fffffffL);
+		dest[offset + 50] = ref + (int) ((w24 >>> 14) & 0x7fffffffL);
+		long w25 = words[base + 25];
+		dest[offset + 51] = ref + (int) ((w24 >>> 45 | w25 << 19) & 0x7fffffffL);
+		dest[offset + 52] = ref + (int) ((w25 >>> 12) & 0x7fffffffL);
+		long w26 = words[base + 26];
+		dest[offset + 53] = ref + (int) ((w25 >>> 43 | w26 << 21) & 0x7fffffffL);
+		dest[offset + 54] = ref + (int) ((w26 >>> 10) & 0x7fffffffL);
+		long w27 = words[base + 27];
+		dest[offset + 55] = ref + (int) ((w26 >>> 41 | w27 << 23) & 0x7fffffffL);
+		dest[offset + 56] = ref + (int) ((w27 >>> 8) & 0x7fffffffL);
+		long w28 = words[base + 28];
+		dest[offset + 57] = ref + (int) ((w27 >>> 39 | w28 << 25) & 0x7fffffffL);
+		dest[offset + 58] = ref + (int) ((w28 >>> 6) & 0x7fffffffL);
+		long w29 = words[base + 29];
+		dest[offset + 59] = ref + (int) ((w28 >>> 37 | w29 << 27) & 0x7fffffffL);
+		dest[offset + 60] = ref + (int) ((w29 >>> 4) & 0x7fffffffL);
+		long w30 = words[base + 30];
+		dest[offset + 61] = ref + (int) ((w29 >>> 35 | w30 << 29) & 0x7fffffffL);
+		dest[offset + 62] = ref + (int) ((w30 >>> 2) & 0x7fffffffL);
+		dest[offset + 63] = ref + (int) (w30 >>> 33);
+	}
+
+	private static void unpack32(long[] words, int base, int ref, int[] dest, int offset) {
+		for (int k = 0; k < 32; k++, offset += 2) {
+			long w = words[base + k];
+			dest[offset + 0] = ref + (int) w;
+			dest[offset + 1] = ref + (int) (w >>> 32);
+		}
+	}
+
+	// constructor
+
+	private PforKernels() { }
+
+}
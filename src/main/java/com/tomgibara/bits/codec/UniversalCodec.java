@@ -0,0 +1,569 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import java.util.Arrays;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitStreamException;
+import com.tomgibara.bits.BitWriter;
+
+/**
+ * <p>
+ * Encodes non-negative ints using variable length universal codes. Elias
+ * gamma, Elias delta, Golomb-Rice, Exp-Golomb and Fibonacci codes are
+ * available via static factory methods. Codecs are immutable and may be
+ * shared freely between threads.
+ *
+ * <p>
+ * Each value is written to a {@link BitWriter} with a single call, the
+ * leading zeros of a code being supplied by the high bits of the written
+ * word. Each value is read from a {@link BitReader} by peeking a 64-bit
+ * window, counting the unary prefix of the code with
+ * {@link Long#numberOfLeadingZeros(long)}, extracting the remaining bits with
+ * shifts and consuming only the length of the code; the reader is never
+ * advanced beyond the end of the code, so encoded values may be freely
+ * interleaved with other data. When decoding a sequence of values, several
+ * codes are decoded from each window before its bits are consumed. Readers
+ * that cannot peek, and codes that do not fit within a window, are read with
+ * {@link BitReader#readUntil(boolean)} followed by a single read of the
+ * remaining bits.
+ *
+ * <p>
+ * The Elias and Fibonacci codes cannot represent zero, so these codecs
+ * encode one more than the value supplied.
+ *
+ * @author Tom Gibara
+ */
+
+public abstract class UniversalCodec {
+
+	// statics
+
+	private static final UniversalCodec ELIAS_GAMMA = new EliasGamma();
+	private static final UniversalCodec ELIAS_DELTA = new EliasDelta();
+	private static final UniversalCodec FIBONACCI = new Fibonacci();
+
+	/**
+	 * A codec that writes the binary representation of a value preceded by
+	 * one fewer zeros than there are bits in the representation.
+	 *
+	 * @return the Elias gamma codec
+	 */
+
+	public static UniversalCodec eliasGamma() {
+		return ELIAS_GAMMA;
+	}
+
+	/**
+	 * A codec that writes the number of bits in the binary representation of
+	 * a value using an Elias gamma code, followed by the representation
+	 * without its leading one.
+	 *
+	 * @return the Elias delta codec
+	 */
+
+	public static UniversalCodec eliasDelta() {
+		return ELIAS_DELTA;
+	}
+
+	/**
+	 * A codec that writes the quotient of a value by a power of two in unary
+	 * (as ones terminated by a zero) followed by the remainder in binary.
+	 * Golomb-Rice codes are optimal for geometrically distributed values.
+	 *
+	 * @param k
+	 *            the base two logarithm of the divisor, from 0 to 31
+	 *            inclusive
+	 * @return a Golomb-Rice codec
+	 */
+
+	public static UniversalCodec golombRice(int k) {
+		checkK(k);
+		return new GolombRice(k);
+	}
+
+	/**
+	 * A codec that writes an Elias gamma code for the value plus
+	 * 2<sup>k</sup>, omitting the <code>k</code> leading zeros that every such
+	 * code would otherwise share. An Exp-Golomb codec of order zero writes
+	 * the same codes as {@link #eliasGamma()}.
+	 *
+	 * @param k
+	 *            the order of the code, from 0 to 31 inclusive
+	 * @return an Exp-Golomb codec
+	 */
+
+	public static UniversalCodec expGolomb(int k) {
+		checkK(k);
+		return new ExpGolomb(k);
+	}
+
+	/**
+	 * A codec that writes the Zeckendorf representation of a value, least
+	 * significant Fibonacci number first, terminated by an additional one.
+	 * Fibonacci codes contain no adjacent ones before their terminating pair.
+	 *
+	 * @return the Fibonacci codec
+	 */
+
+	public static UniversalCodec fibonacci() {
+		return FIBONACCI;
+	}
+
+	private static void checkK(int k) {
+		if (k < 0) throw new IllegalArgumentException("negative k");
+		if (k > 31) throw new IllegalArgumentException("k too large");
+	}
+
+	private static void checkValue(int value) {
+		if (value < 0) throw new IllegalArgumentException("negative value");
+	}
+
+	private static void checkArgs(int[] values, int offset, int length) {
+		if (values == null) throw new IllegalArgumentException("null values");
+		if (offset < 0) throw new IllegalArgumentException("negative offset");
+		if (length < 0) throw new IllegalArgumentException("negative length");
+		if (offset + length > values.length) throw new IllegalArgumentException("length exceeds values");
+	}
+
+	// the number of bits in the binary representation of a positive value
+	private static int width(long n) {
+		return 64 - Long.numberOfLeadingZeros(n);
+	}
+
+	// packs a value decoded from a window with the length of its code
+	private static long decoded(long value, int length) {
+		return value > Integer.MAX_VALUE ? -1L : (value << 8) | length;
+	}
+
+	private static int checkDecoded(long value) {
+		if (value > Integer.MAX_VALUE) throw new BitStreamException("invalid code");
+		return (int) value;
+	}
+
+	// constructor
+
+	private UniversalCodec() { }
+
+	// accessors
+
+	/**
+	 * The number of bits in the code for a value.
+	 *
+	 * @param value
+	 *            a non-negative value
+	 * @return the length of the code for the value, in bits
+	 */
+
+	public long length(int value) {
+		checkValue(value);
+		return lengthImpl(value);
+	}
+
+	// operations
+
+	/**
+	 * Encodes a single value.
+	 *
+	 * @param writer
+	 *            the writer to which the code is written
+	 * @param value
+	 *            a non-negative value
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the code could not be written
+	 */
+
+	public long encode(BitWriter writer, int value) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		checkValue(value);
+		return encodeImpl(writer, value);
+	}
+
+	/**
+	 * Encodes a sequence of values. Unlike
+	 * {@link PforCodec#encode(BitWriter, int[], int, int)}, the length of the
+	 * sequence is not recorded.
+	 *
+	 * @param writer
+	 *            the writer to which the codes are written
+	 * @param values
+	 *            an array containing non-negative values
+	 * @param offset
+	 *            the index of the first value to be encoded
+	 * @param length
+	 *            the number of values to be encoded
+	 * @return the number of bits written
+	 * @throws BitStreamException
+	 *             if the codes could not be written
+	 */
+
+	public long encode(BitWriter writer, int[] values, int offset, int length) throws BitStreamException {
+		if (writer == null) throw new IllegalArgumentException("null writer");
+		checkArgs(values, offset, length);
+		final int to = offset + length;
+		for (int i = offset; i < to; i++) {
+			checkValue(values[i]);
+		}
+		long count = 0L;
+		for (int i = offset; i < to; i++) {
+			count += encodeImpl(writer, values[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes a single value.
+	 *
+	 * @param reader
+	 *            the reader from which the code is read
+	 * @return the decoded value
+	 * @throws BitStreamException
+	 *             if the code could not be read, or does not encode a
+	 *             non-negative int
+	 */
+
+	public int decode(BitReader reader) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		long window;
+		try {
+			window = reader.peekLong(64);
+		} catch (UnsupportedOperationException e) {
+			return decodeImpl(reader);
+		}
+		long decoded = decodeWindow(window);
+		// codes that are invalid or overrun the window are left to the reader
+		if (decoded < 0L) return decodeImpl(reader);
+		reader.consume((int) decoded & 0xff);
+		return (int) (decoded >>> 8);
+	}
+
+	/**
+	 * Decodes a sequence of values.
+	 *
+	 * @param reader
+	 *            the reader from which the codes are read
+	 * @param dest
+	 *            the array into which the values are decoded
+	 * @param offset
+	 *            the index at which the first value is stored
+	 * @param length
+	 *            the number of values to be decoded
+	 * @throws BitStreamException
+	 *             if the codes could not be read, or do not encode
+	 *             non-negative ints
+	 */
+
+	public void decode(BitReader reader, int[] dest, int offset, int length) throws BitStreamException {
+		if (reader == null) throw new IllegalArgumentException("null reader");
+		checkArgs(dest, offset, length);
+		final int to = offset + length;
+		int i = offset;
+		try {
+			long window = reader.peekLong(64);
+			int used = 0;
+			while (i < to) {
+				// the bits below the unused part of the window are padding
+				long decoded = used == 64 ? -1L : decodeWindow(window << used);
+				if (decoded >= 0L && ((int) decoded & 0xff) <= 64 - used) {
+					dest[i++] = (int) (decoded >>> 8);
+					used += (int) decoded & 0xff;
+				} else if (used == 0) {
+					// the code cannot be decoded from a whole window
+					dest[i++] = decodeImpl(reader);
+					window = reader.peekLong(64);
+				} else {
+					reader.consume(used);
+					window = reader.peekLong(64);
+					used = 0;
+				}
+			}
+			reader.consume(used);
+		} catch (UnsupportedOperationException e) {
+			// the reader cannot peek, values up to i have been consumed
+			for (; i < to; i++) {
+				dest[i] = decodeImpl(reader);
+			}
+		}
+	}
+
+	// package scoped methods
+
+	abstract long lengthImpl(int value);
+
+	abstract long encodeImpl(BitWriter writer, int value);
+
+	abstract int decodeImpl(BitReader reader);
+
+	// decodes the code at the top of a window, returning the value shifted
+	// above the eight bit length of its code, or -1 if the window does not
+	// hold a complete code for a non-negative int
+	abstract long decodeWindow(long window);
+
+	// inner classes
+
+	private static final class EliasGamma extends UniversalCodec {
+
+		@Override
+		long lengthImpl(int value) {
+			return 2 * width(value + 1L) - 1;
+		}
+
+		@Override
+		long encodeImpl(BitWriter writer, int value) {
+			long n = value + 1L;
+			return writer.write(n, 2 * width(n) - 1);
+		}
+
+		@Override
+		int decodeImpl(BitReader reader) {
+			int zeros = reader.readUntil(true);
+			if (zeros > 31) throw new BitStreamException("invalid code");
+			long n = (1L << zeros) | reader.readLong(zeros);
+			return checkDecoded(n - 1L);
+		}
+
+		@Override
+		long decodeWindow(long window) {
+			int zeros = Long.numberOfLeadingZeros(window);
+			if (zeros > 31) return -1L;
+			int length = 2 * zeros + 1;
+			return decoded((window >>> (64 - length)) - 1L, length);
+		}
+
+		@Override
+		public String toString() {
+			return "Elias gamma";
+		}
+
+	}
+
+	private static final class EliasDelta extends UniversalCodec {
+
+		@Override
+		long lengthImpl(int value) {
+			int b = width(value + 1L);
+			return 2 * width(b) + b - 2;
+		}
+
+		@Override
+		long encodeImpl(BitWriter writer, int value) {
+			long n = value + 1L;
+			int b = width(n);
+			// the gamma code for b, followed by n without its leading one
+			long code = ((long) b << (b - 1)) | (n & ((1L << (b - 1)) - 1L));
+			return writer.write(code, 2 * width(b) + b - 2);
+		}
+
+		@Override
+		int decodeImpl(BitReader reader) {
+			int zeros = reader.readUntil(true);
+			if (zeros > 5) throw new BitStreamException("invalid code");
+			int b = (1 << zeros) | reader.read(zeros);
+			if (b > 32) throw new BitStreamException("invalid code");
+			long n = (1L << (b - 1)) | reader.readLong(b - 1);
+			return checkDecoded(n - 1L);
+		}
+
+		@Override
+		long decodeWindow(long window) {
+			int zeros = Long.numberOfLeadingZeros(window);
+			if (zeros > 5) return -1L;
+			int prefix = 2 * zeros + 1;
+			int b = (int) (window >>> (64 - prefix));
+			if (b > 32) return -1L;
+			long n = b == 1 ? 1L : (1L << (b - 1)) | ((window << prefix) >>> (65 - b));
+			return decoded(n - 1L, prefix + b - 1);
+		}
+
+		@Override
+		public String toString() {
+			return "Elias delta";
+		}
+
+	}
+
+	private static final class GolombRice extends UniversalCodec {
+
+		private final int k;
+
+		GolombRice(int k) {
+			this.k = k;
+		}
+
+		@Override
+		long lengthImpl(int value) {
+			return (value >>> k) + 1L + k;
+		}
+
+		@Override
+		long encodeImpl(BitWriter writer, int value) {
+			int q = value >>> k;
+			long count = q == 0 ? 0L : writer.writeBooleans(true, q);
+			// the remainder preceded by the terminating zero
+			return count + writer.write(value & ((1 << k) - 1), k + 1);
+		}
+
+		@Override
+		int decodeImpl(BitReader reader) {
+			int q = reader.readUntil(false);
+			if (q > Integer.MAX_VALUE >>> k) throw new BitStreamException("invalid code");
+			return (q << k) | reader.read(k);
+		}
+
+		@Override
+		long decodeWindow(long window) {
+			int q = Long.numberOfLeadingZeros(~window);
+			int length = q + 1 + k;
+			if (length > 64 || q > Integer.MAX_VALUE >>> k) return -1L;
+			long r = k == 0 ? 0L : (window << (q + 1)) >>> (64 - k);
+			return decoded(((long) q << k) | r, length);
+		}
+
+		@Override
+		public String toString() {
+			return "Golomb-Rice (k=" + k + ")";
+		}
+
+	}
+
+	private static final class ExpGolomb extends UniversalCodec {
+
+		private final int k;
+
+		ExpGolomb(int k) {
+			this.k = k;
+		}
+
+		@Override
+		long lengthImpl(int value) {
+			return 2 * width(value + (1L << k)) - 1 - k;
+		}
+
+		@Override
+		long encodeImpl(BitWriter writer, int value) {
+			long n = value + (1L << k);
+			return writer.write(n, 2 * width(n) - 1 - k);
+		}
+
+		@Override
+		int decodeImpl(BitReader reader) {
+			int b = reader.readUntil(true) + k;
+			if (b > 31) throw new BitStreamException("invalid code");
+			long n = (1L << b) | reader.readLong(b);
+			return checkDecoded(n - (1L << k));
+		}
+
+		@Override
+		long decodeWindow(long window) {
+			int zeros = Long.numberOfLeadingZeros(window);
+			int b = zeros + k;
+			if (b > 31) return -1L;
+			int length = zeros + 1 + b;
+			return decoded((window >>> (64 - length)) - (1L << k), length);
+		}
+
+		@Override
+		public String toString() {
+			return "Exp-Golomb (k=" + k + ")";
+		}
+
+	}
+
+	private static final class Fibonacci extends UniversalCodec {
+
+		// the Fibonacci numbers from 1, sufficient to represent 2^31
+		private static final long[] FIBS;
+
+		static {
+			long[] fibs = new long[64];
+			fibs[0] = 1L;
+			fibs[1] = 2L;
+			int count = 2;
+			while (fibs[count - 1] <= 1L << 31) {
+				fibs[count] = fibs[count - 1] + fibs[count - 2];
+				count++;
+			}
+			FIBS = Arrays.copyOf(fibs, count - 1);
+		}
+
+		// the index of the greatest Fibonacci number not exceeding n
+		private static int top(long n) {
+			int i = FIBS.length - 1;
+			while (FIBS[i] > n) i--;
+			return i;
+		}
+
+		@Override
+		long lengthImpl(int value) {
+			return top(value + 1L) + 2;
+		}
+
+		@Override
+		long encodeImpl(BitWriter writer, int value) {
+			long n = value + 1L;
+			int i = top(n);
+			int length = i + 2;
+			// the terminating one occupies the least significant bit
+			long code = 1L;
+			for (; i >= 0; i--) {
+				if (FIBS[i] <= n) {
+					n -= FIBS[i];
+					code |= 1L << (length - 1 - i);
+					i--;
+				}
+			}
+			return writer.write(code, length);
+		}
+
+		@Override
+		int decodeImpl(BitReader reader) {
+			long n = 0L;
+			int i = 0;
+			do {
+				i += reader.readUntil(true);
+				if (i >= FIBS.length) throw new BitStreamException("invalid code");
+				n += FIBS[i];
+				// a one is always followed by a zero or by the terminating one
+				i += 2;
+			} while (reader.readBit() == 0);
+			return checkDecoded(n - 1L);
+		}
+
+		@Override
+		long decodeWindow(long window) {
+			// the first pair of adjacent ones ends the code
+			long pairs = window & (window << 1);
+			if (pairs == 0L) return -1L;
+			int last = Long.numberOfLeadingZeros(pairs);
+			if (last >= FIBS.length) return -1L;
+			long n = 0L;
+			for (long bits = window & (-1L << (63 - last)); bits != 0L; bits &= bits - 1L) {
+				n += FIBS[63 - Long.numberOfTrailingZeros(bits)];
+			}
+			return decoded(n - 1L, last + 2);
+		}
+
+		@Override
+		public String toString() {
+			return "Fibonacci";
+		}
+
+	}
+
+}
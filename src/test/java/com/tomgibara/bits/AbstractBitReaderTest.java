@@ -21,6 +21,7 @@ import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public abstract class AbstractBitReaderTest {
@@ -142,7 +143,111 @@ public abstract class AbstractBitReaderTest {
 		}
 	}
 
+	@Test
+	public void testPeek() {
+		Random r = new Random(0L);
+		for (int i = 0; i < 1000; i++) {
+			int size = r.nextInt(25) * 32;
+			BitStore source = Bits.toStore(size, r);
+			BitReader reader = readerFor(source);
+
+			int position = 0;
+			while (true) {
+				int count = r.nextInt(65);
+				long expected = 0L;
+				for (int j = 0; j < count; j++) {
+					boolean bit = position + j < size && source.getBit(position + j);
+					expected = (expected << 1) | (bit ? 1L : 0L);
+				}
+				assertEquals(expected, reader.peekLong(count), "at bit " + position);
+				if (count <= 32) assertEquals((int) expected, reader.peek(count), "at bit " + position);
+				assertEquals(position, reader.getPosition());
+				if (position + count > size) {
+					int remaining = size - position;
+					assertThrows(EndOfBitStreamException.class, () -> reader.consume(remaining + 1));
+					break;
+				}
+				// interleave consumption with other reads
+				switch (r.nextInt(4)) {
+				case 0:
+					reader.consume(count);
+					break;
+				case 1:
+					if (count > 32) {
+						reader.consume(count);
+					} else {
+						assertEquals((int) expected, reader.read(count));
+					}
+					break;
+				case 2:
+					assertEquals(count, reader.skipBits(count));
+					break;
+				default:
+					if (count == 0 || expected == 0L) {
+						reader.consume(count);
+					} else {
+						int zeros = Long.numberOfLeadingZeros(expected) - 64 + count;
+						assertEquals(zeros, reader.readUntil(true));
+						count = zeros + 1;
+					}
+				}
+				position += count;
+				assertEquals(position, reader.getPosition());
+			}
+		}
+	}
+
 	//TODO should test return value
+	@Test
+	public void testReadBulk() {
+		Random r = new Random(0L);
+		for (int i = 0; i < 200; i++) {
+			int size = r.nextInt(40) * 32;
+			BitStore source = Bits.toStore(size, r);
+			BitReader reader = readerFor(source);
+
+			int position = 0;
+			while (true) {
+				int length = r.nextInt(5);
+				boolean longs = r.nextBoolean();
+				int width = longs ? 64 : 8;
+				int count = length * width;
+				if (position + count > size) {
+					if (count > 0) {
+						if (longs) {
+							assertThrows(EndOfBitStreamException.class, () -> reader.readLongs(new long[length], 0, length));
+						} else {
+							assertThrows(EndOfBitStreamException.class, () -> reader.readBytes(new byte[length], 0, length));
+						}
+					}
+					break;
+				}
+				int offset = r.nextInt(3);
+				long[] values = new long[offset + length];
+				if (longs) {
+					reader.readLongs(values, offset, length);
+				} else {
+					byte[] bytes = new byte[offset + length];
+					reader.readBytes(bytes, offset, length);
+					for (int j = 0; j < bytes.length; j++) values[j] = bytes[j];
+				}
+				for (int j = 0; j < length; j++) {
+					long expected = 0L;
+					for (int k = 0; k < width; k++) {
+						expected = (expected << 1) | (source.getBit(position++) ? 1L : 0L);
+					}
+					if (!longs) expected = (byte) expected;
+					assertEquals(expected, values[offset + j], "at bit " + position);
+				}
+				assertEquals(position, reader.getPosition());
+				// unalign the reader
+				int skip = Math.min(r.nextInt(10), size - position);
+				assertEquals(skip, reader.skipBits(skip));
+				position += skip;
+			}
+		}
+	}
+
 	@Test
 	public void testSetPosition() {
 		Random r = new Random(0L);
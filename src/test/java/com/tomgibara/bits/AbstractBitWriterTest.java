@@ -132,6 +132,85 @@ public abstract class AbstractBitWriterTest {
 		assertEquals(pos, reader.getPosition());
 	}
 
+	@Test
+	public void testMixedWrites() {
+		Random r = new Random(0L);
+		for (int i = 0; i < 50; i++) {
+			int size = 1 << 16;
+			BitWriter writer = newBitWriter(size);
+			BitVector expected = new BitVector(size);
+			BitWriter check = expected.openWriter();
+			while (check.getPosition() < size - 400) {
+				switch (r.nextInt(4)) {
+				case 0:
+					int bit = r.nextInt(2);
+					writer.writeBit(bit);
+					check.writeBit(bit);
+					break;
+				case 1:
+					boolean value = r.nextBoolean();
+					long count = r.nextInt(300);
+					assertEquals(count, writer.writeBooleans(value, count));
+					check.writeBooleans(value, count);
+					break;
+				default:
+					long bits = r.nextLong();
+					int length = r.nextInt(65);
+					assertEquals(length, writer.write(bits, length));
+					check.write(bits, length);
+				}
+				assertEquals(check.getPosition(), writer.getPosition());
+			}
+			int length = (int) check.getPosition();
+			writer.flush();
+			BitReader reader = bitReaderFor(writer);
+			for (int j = 0; j < length; j++) {
+				assertEquals(expected.getBit(size - 1 - j), reader.readBoolean(), "at bit " + j);
+			}
+		}
+	}
+
+	@Test
+	public void testWriteBulk() {
+		Random r = new Random(0L);
+		for (int i = 0; i < 50; i++) {
+			int size = 1 << 16;
+			BitWriter writer = newBitWriter(size);
+			BitVector expected = new BitVector(size);
+			BitWriter check = expected.openWriter();
+			while (check.getPosition() < size - 1000) {
+				int length = r.nextInt(10);
+				int offset = r.nextInt(3);
+				switch (r.nextInt(3)) {
+				case 0:
+					byte[] bytes = new byte[offset + length];
+					r.nextBytes(bytes);
+					assertEquals(length * 8L, writer.writeBytes(bytes, offset, length));
+					for (int j = 0; j < length; j++) check.write(bytes[offset + j], 8);
+					break;
+				case 1:
+					long[] longs = new long[offset + length];
+					for (int j = 0; j < longs.length; j++) longs[j] = r.nextLong();
+					assertEquals(length * 64L, writer.writeLongs(longs, offset, length));
+					for (int j = 0; j < length; j++) check.write(longs[offset + j], 64);
+					break;
+				default:
+					long bits = r.nextLong();
+					int count = r.nextInt(r.nextBoolean() ? 9 : 65);
+					assertEquals(count, writer.write(bits, count));
+					check.write(bits, count);
+				}
+				assertEquals(check.getPosition(), writer.getPosition());
+			}
+			int length = (int) check.getPosition();
+			writer.flush();
+			BitReader reader = bitReaderFor(writer);
+			for (int j = 0; j < length; j++) {
+				assertEquals(expected.getBit(size - 1 - j), reader.readBoolean(), "at bit " + j);
+			}
+		}
+	}
+
 	@Test
 	public void testSetPosition() {
 		BitWriter writer = newBitWriter(64);
@@ -42,6 +42,8 @@ public abstract class AbstractByteBasedBitWriterTest extends AbstractBitWriterTe
 	private void testBitOrder(String binary) {
 		ByteBasedBitWriter writer = newBitWriter(16);
 		new BitVector(binary).writeTo(writer);
+		// whole bytes are buffered until a word is filled or the writer is flushed
+		assertEquals(0, writer.flush());
 		byte[] bytes = getWrittenBytes(writer);
 		assertEquals(bite(binary.substring(0, 8)), bytes[0]);
 		assertEquals(bite(binary.substring(8, 16)), bytes[1]);
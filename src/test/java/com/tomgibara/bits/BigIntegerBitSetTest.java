@@ -44,6 +44,11 @@ public class BigIntegerBitSetTest {
 			for (int j = 0; j < size; j++) {
 				assertEquals(v.getBit(j), s.getBit(j));
 			}
+			for (int j = 0; j < 20 && size > 0; j++) {
+				int position = random.nextInt(size);
+				int length = random.nextInt(Math.min(64, size - position) + 1);
+				assertEquals(v.getBits(position, length), s.getBits(position, length));
+			}
 			BitStore u = Bits.toStore(random.nextInt(500), random);
 			assertEquals(v.compareNumericallyTo(u), s.compareNumericallyTo(u));
 			assertEquals(v.asNumber().doubleValue(), s.asNumber().doubleValue());
@@ -141,4 +141,70 @@ public class BitReaderTest {
 
   }
 
+  /*
+   * Tests for default 'peek()' and 'consume()'.
+   */
+
+  // only implements the methods required for peeking
+  private static BitReader positionedReader(String bits) {
+    return new BitReader() {
+      int position = 0;
+
+      @Override
+      public int readBit() {
+        if (position == bits.length()) throw new EndOfBitStreamException();
+        return bits.charAt(position++) - '0';
+      }
+
+      @Override
+      public long getPosition() {
+        return position;
+      }
+
+      @Override
+      public long setPosition(long newPosition) {
+        return position = (int) Math.min(newPosition, bits.length());
+      }
+    };
+  }
+
+  @Test
+  public void testDefaultPeek() {
+
+    BitReader bitReader = positionedReader("1011001");
+
+    assertEquals(0b101, bitReader.peek(3));
+    assertEquals(0b1011001L, bitReader.peekLong(7));
+    assertEquals(0L, bitReader.getPosition());
+    bitReader.consume(4);
+    assertEquals(0b001, bitReader.peek(3));
+    // missing bits are zeros
+    assertEquals(0b00100000, bitReader.peek(8));
+    assertEquals(0b001L << 61, bitReader.peekLong(64));
+    assertEquals(4L, bitReader.getPosition());
+
+    try{
+      bitReader.consume(4);
+      fail();
+    } catch (EndOfBitStreamException e){
+      /* expected */
+    }
+
+  }
+
+  @Test
+  public void testDefaultPeekWithoutPosition() {
+
+    BitReader bitReader = () -> 1;
+
+    try{
+      bitReader.peek(1);
+      fail();
+    } catch (UnsupportedOperationException e){
+      /* expected */
+    }
+    bitReader.consume(3);
+
+  }
+
 }
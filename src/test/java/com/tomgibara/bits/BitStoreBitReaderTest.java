@@ -16,6 +16,13 @@
  */
 package com.tomgibara.bits;
 
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public class BitStoreBitReaderTest extends AbstractBitReaderTest {
 
 	@Override
@@ -23,6 +30,40 @@ public class BitStoreBitReaderTest extends AbstractBitReaderTest {
 		return canon(vector).openReader();
 	}
 
+	@Test
+	public void testRangedReader() {
+		BitStore store = canon(new BitVector(new Random(0L), 200));
+		BitReader reader = store.openReader(50, 150);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, reader.getPosition());
+			assertEquals(store.getBit(149 - i), reader.readBoolean());
+		}
+		assertEquals(100, reader.getPosition());
+		assertThrows(EndOfBitStreamException.class, () -> reader.readBoolean());
+
+		// positions are relative to the initial position and clamped to the range
+		assertEquals(100, reader.setPosition(1000));
+		assertEquals(0, reader.setPosition(-5));
+		assertEquals(0, reader.getPosition());
+		assertEquals(36, reader.setPosition(36));
+		assertEquals(36, reader.getPosition());
+		assertEquals(store.getBits(50, 64), reader.readLong(64));
+		assertEquals(100, reader.getPosition());
+		assertThrows(EndOfBitStreamException.class, () -> reader.read(1));
+
+		reader.setPosition(90);
+		assertThrows(EndOfBitStreamException.class, () -> reader.read(11));
+		reader.setPosition(90);
+		assertThrows(EndOfBitStreamException.class, () -> reader.readLong(11));
+		reader.setPosition(90);
+		assertEquals((int) store.getBits(50, 10), reader.read(10));
+
+		reader.setPosition(0);
+		assertEquals(store.range(50, 150).toBigInteger(), reader.readBigInt(100));
+		reader.setPosition(90);
+		assertThrows(EndOfBitStreamException.class, () -> reader.readBigInt(11));
+	}
+
 	private BitStore canon(BitStore store) {
 		return new AbstractBitStore() {
 
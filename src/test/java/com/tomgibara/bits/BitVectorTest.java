@@ -134,6 +134,66 @@ public class BitVectorTest extends BitStoreTest {
 		assertEquals(new BitVector("1111111111111111"), v);
 	}
 
+	@Test
+	public void testOverlappingWords() {
+		for (int i = 0; i < 200; i++) {
+			BitVector v = new BitVector(random, 1000);
+			int size = random.nextInt(400);
+			int a = random.nextInt(v.size() - size);
+			int b = random.nextInt(v.size() - size);
+			Operation operation = Operation.values[random.nextInt(Operation.values.length)];
+			BitVector expected = v.mutableCopy();
+			expected.range(a, a + size).op(operation).withStore(v.range(b, b + size).mutableCopy());
+			v.range(a, a + size).op(operation).withStore(v.range(b, b + size));
+			assertEquals(expected, v);
+		}
+	}
+
+	@Test
+	public void testOverlappingAlignedWords() {
+		for (int i = 0; i < 500; i++) {
+			BitVector v = new BitVector(random, 1024);
+			// word aligned ranges with a partial final word
+			int size = 65 + random.nextInt(6) * 64 + random.nextInt(63);
+			int a = random.nextInt((v.size() - size) / 64 + 1) * 64;
+			int b = random.nextInt((v.size() - size) / 64 + 1) * 64;
+			Operation operation = Operation.values[random.nextInt(Operation.values.length)];
+			BitVector expected = v.mutableCopy();
+			expected.range(a, a + size).op(operation).withStore(v.range(b, b + size).mutableCopy());
+			v.range(a, a + size).op(operation).withStore(v.range(b, b + size));
+			assertEquals(expected, v, operation + " " + b + " to " + a + " size " + size);
+		}
+		// the reported cases
+		testOverlappingSet(0, 64, 207);
+		testOverlappingSet(0, 192, 279);
+	}
+
+	private void testOverlappingSet(int src, int dst, int size) {
+		BitVector v = new BitVector(random, 1024);
+		BitVector expected = v.mutableCopy();
+		expected.range(dst, dst + size).set().withStore(v.range(src, src + size).mutableCopy());
+		v.range(dst, dst + size).set().withStore(v.range(src, src + size));
+		assertEquals(expected, v);
+	}
+
+	@Test
+	public void testWithBytes() {
+		for (int i = 0; i < 200; i++) {
+			byte[] bytes = new byte[random.nextInt(40)];
+			random.nextBytes(bytes);
+			int offset = random.nextInt(bytes.length * 8 + 1);
+			int length = random.nextInt(bytes.length * 8 - offset + 1);
+			BitVector v = new BitVector(random, length + random.nextInt(200));
+			int position = random.nextInt(v.size() - length + 1);
+			Operation operation = Operation.values[random.nextInt(Operation.values.length)];
+			BitVector expected = v.mutableCopy();
+			// the generic implementation is applied bit by bit
+			expected.op(operation).withStore(position, BitVector.fromStore(new BitStoreOp.ByteBits(bytes, offset, length)));
+			v.op(operation).withBytes(position, bytes, offset, length);
+			assertEquals(expected, v);
+		}
+	}
+
 	@Test
 	public void testCloneViewAndCopy() {
 		for (int i = 0; i < 10; i++) {
@@ -335,6 +395,60 @@ public class BitVectorTest extends BitStoreTest {
 		assertTrue(v.range(0, 1).complements().bits(1L));
 	}
 
+	@Test
+	public void testAlignedWordTests() {
+		for (int i = 0; i < 50; i++) {
+			BitVector v = new BitVector(random, 64 * 40);
+			BitVector r = v.range(64 * 3, 64 * 23);
+			BitVector s = v.range(64 * 17, 64 * 37);
+			assertEquals(r.equals(s), r.equals().store(s));
+			assertTrue(r.equals().store(r.mutableCopy()));
+			BitVector c = r.mutableCopy();
+			c.flip();
+			assertTrue(r.complements().store(c));
+			assertTrue(r.excludes().store(c));
+			assertFalse(r.excludes().store(r));
+			c.setBit(random.nextInt(c.size()), true);
+			c.setBit(random.nextInt(c.size()), false);
+			BitVector n = r.mutableCopy();
+			n.and().withStore(c);
+			assertTrue(r.contains().store(n));
+			assertEquals(n.equals(r), n.contains().store(r));
+		}
+	}
+
+	@Test
+	public void testUnalignedWordTests() {
+		BitVector v = new BitVector(random, 2000);
+		for (int i = 0; i < 200; i++) {
+			int size = random.nextInt(300);
+			int a = random.nextInt(v.size() - size);
+			int b = random.nextInt(v.size() - size);
+			BitVector r = v.range(a, a + size);
+			BitVector s = v.range(b, b + size);
+			// per-bit comparisons of a store that is not a vector
+			if (random.nextBoolean()) {
+				s = s.mutableCopy();
+				s.and().withStore(r);
+			}
+			BitStore t = Bits.asStore(new boolean[size]);
+			t.setStore(0, s);
+			assertEquals(r.equals().store(t), r.equals().store(s));
+			assertEquals(r.excludes().store(t), r.excludes().store(s));
+			assertEquals(r.contains().store(t), r.contains().store(s));
+			assertEquals(r.complements().store(t), r.complements().store(s));
+			int offset = random.nextInt(64);
+			BitVector c = new BitVector(offset + size).range(offset, offset + size);
+			c.set().withStore(r);
+			c.flip();
+			assertTrue(r.complements().store(c));
+			assertEquals(size == 0, r.equals().store(c));
+			c.flip();
+			assertTrue(r.equals().store(c));
+			assertTrue(r.contains().store(c));
+		}
+	}
+
 	@Test
 	public void testReadAndWrite() {
 		for (int i = 0; i < 10; i++) {
@@ -18,6 +18,15 @@ package com.tomgibara.bits;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.util.Random;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -73,6 +82,130 @@ public class BitsTest {
 		}
 	}
 
+	// a store that relies on all of the default methods
+	private static BitStore minimalStore(BitVector v) {
+		return new AbstractBitStore() {
+			@Override public int size() { return v.size(); }
+			@Override public boolean getBit(int index) { return v.getBit(index); }
+			@Override public void setBit(int index, boolean value) { v.setBit(index, value); }
+		};
+	}
+
+	@Test
+	public void testDefaultChunkedMethods() {
+		for (int i = 0; i < 500; i++) {
+			int size = random.nextInt(300);
+			BitVector v = new BitVector(random, random.nextFloat(), size);
+			BitStore s = minimalStore(v.mutableCopy());
+			assertEquals(v.ones().count(), s.ones().count());
+			assertEquals(v.zeros().count(), s.zeros().count());
+			assertEquals(v.ones().first(), s.ones().first());
+			assertEquals(v.zeros().last(), s.zeros().last());
+			assertEquals(v.ones().isAll(), s.ones().isAll());
+			assertEquals(v.zeros().isAll(), s.zeros().isAll());
+			int p = random.nextInt(size + 1);
+			assertEquals(v.ones().next(p), s.ones().next(p));
+			assertEquals(v.zeros().next(p), s.zeros().next(p));
+			assertEquals(v.ones().previous(p), s.ones().previous(p));
+			assertEquals(v.zeros().previous(p), s.zeros().previous(p));
+
+			BitVector w = new BitVector(random, random.nextInt(300));
+			assertEquals(Integer.signum(v.compareNumericallyTo(w)), Integer.signum(s.compareNumericallyTo(minimalStore(w))));
+
+			int from = random.nextInt(size + 1);
+			int to = from + random.nextInt(size - from + 1);
+			BitVector u = new BitVector(random, to - from);
+			Operation operation = Operation.values[random.nextInt(Operation.values.length)];
+			v.range(from, to).op(operation).withStore(u);
+			s.range(from, to).op(operation).withStore(minimalStore(u));
+			assertEquals(v, s);
+			v.range(from, to).flip();
+			s.range(from, to).flip();
+			assertEquals(v, s);
+			v.range(from, to).fill();
+			s.range(from, to).fill();
+			assertEquals(v, s);
+			v.range(from, to).clear();
+			s.range(from, to).clear();
+			assertEquals(v, s);
+		}
+	}
+
+	@Test
+	public void testTransfer() throws IOException {
+		File in = File.createTempFile("bits-transfer-in", ".bits");
+		in.deleteOnExit();
+		File out = File.createTempFile("bits-transfer-out", ".bits");
+		out.deleteOnExit();
+		MappedByteBuffer mapped = MappedBitReaderTest.map(1 << 16);
+		try (FileChannel channel = new RandomAccessFile(in, "rw").getChannel()) {
+			for (int i = 0; i < 300; i++) {
+				byte[] source = new byte[random.nextInt(5000)];
+				random.nextBytes(source);
+				long size = source.length * 8L;
+				int skip = (int) Math.min(random.nextInt(20), size);
+				// a matching alignment is most interesting
+				int prefix = random.nextBoolean() ? (skip + 8 * random.nextInt(3)) : random.nextInt(20);
+				long count = random.nextLong(size - skip + 1);
+
+				BitReader reader;
+				switch (i % 3) {
+				case 0:
+					reader = Bits.readerFrom(source);
+					break;
+				case 1:
+					MappedByteBuffer slice = MappedBitReaderTest.slice(mapped, source.length);
+					slice.put(0, source);
+					reader = Bits.readerFrom(slice);
+					break;
+				default:
+					channel.truncate(0L);
+					channel.write(ByteBuffer.wrap(source), 0L);
+					channel.position(0L);
+					reader = Bits.readerFrom(channel, ByteBuffer.allocate(1 + random.nextInt(100)));
+				}
+				reader.skipBits(skip);
+
+				byte[] result;
+				long prefixBits = random.nextLong();
+				switch (i / 3 % 3) {
+				case 0:
+					result = new byte[source.length + 4];
+					BitWriter writer = Bits.writerTo(result);
+					writer.write(prefixBits, prefix);
+					Bits.transfer(reader, writer, count);
+					writer.flush();
+					break;
+				case 1:
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					writer = Bits.writerTo(bytes);
+					writer.write(prefixBits, prefix);
+					Bits.transfer(reader, writer, count);
+					writer.flush();
+					result = bytes.toByteArray();
+					break;
+				default:
+					try (FileOutputStream file = new FileOutputStream(out)) {
+						writer = Bits.writerTo(file);
+						writer.write(prefixBits, prefix);
+						Bits.transfer(reader, writer, count);
+						writer.flush();
+					}
+					result = Files.readAllBytes(out.toPath());
+				}
+				assertEquals(skip + count, reader.getPosition());
+
+				BitReader expected = Bits.readerFrom(source);
+				expected.skipBits(skip);
+				BitReader actual = Bits.readerFrom(result);
+				assertEquals(prefix == 0 ? 0L : prefixBits & (-1L >>> -prefix), actual.readLong(prefix));
+				for (long j = 0; j < count; j++) {
+					assertEquals(expected.readBoolean(), actual.readBoolean(), "at bit " + j);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testFreeRangeOf() {
 		testExtendedStore("0001111111000", Bits.freeRangeViewOf(Bits.oneBits(7), -3, 10, false));
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.hashing.Hasher;
+import com.tomgibara.hashing.Hashing;
+
+public class BloomFilterTest {
+
+	private static final Hasher<Integer> hasher = Hashing.objectHasher();
+
+	private static List<Integer> range(int from, int to) {
+		List<Integer> list = new ArrayList<>();
+		for (int i = from; i < to; i++) list.add(i);
+		return list;
+	}
+
+	private static void checkFilter(BloomFilter<Integer> filter) {
+		List<Integer> added = range(0, 1000);
+		assertTrue(filter.addAll(added));
+		assertFalse(filter.addAll(added));
+		assertTrue(filter.mightContainAll(added));
+		int positives = 0;
+		for (int i = 1000; i < 11000; i++) {
+			if (filter.mightContain(i)) positives++;
+		}
+		// with ten bits per element and seven hashes the rate should be about one percent
+		assertTrue(positives < 300, "too many false positives: " + positives);
+		assertTrue(filter.falsePositiveProbability() < 0.03);
+	}
+
+	@Test
+	public void testStandard() {
+		checkFilter(BloomFilter.standard(hasher, 10240, 7));
+	}
+
+	@Test
+	public void testBlocked() {
+		checkFilter(BloomFilter.blocked(hasher, 10240, 7));
+	}
+
+	@Test
+	public void testBlockedRate() {
+		// enough blocks that the choice of block must not bias positions within it
+		int size = 1 << 20;
+		int count = size / 10;
+		for (int hashCount : new int[] {4, 7, 10}) {
+			BloomFilter<Integer> filter = BloomFilter.blocked(hasher, size, hashCount);
+			filter.addAll(range(0, count));
+			int trials = 100000;
+			int positives = 0;
+			for (int i = count; i < count + trials; i++) {
+				if (filter.mightContain(i)) positives++;
+			}
+			// the blocked rate at ten bits per element is about one percent
+			double rate = positives / (double) trials;
+			assertTrue(rate < 0.02, "false positive rate too high for " + hashCount + " hashes: " + rate);
+		}
+	}
+
+	@Test
+	public void testOffHeap() {
+		BitStore store = Bits.asStore(ByteBuffer.allocateDirect(1280));
+		BloomFilter<Integer> filter = BloomFilter.blocked(hasher, store, 7);
+		checkFilter(filter);
+		assertEquals(filter.bits().ones().count(), store.ones().count());
+	}
+
+	@Test
+	public void testCombination() {
+		for (boolean blocked : new boolean[] {false, true}) {
+			BloomFilter<Integer> a = blocked ? BloomFilter.blocked(hasher, 8192, 5) : BloomFilter.standard(hasher, 8192, 5);
+			BloomFilter<Integer> b = blocked ? BloomFilter.blocked(hasher, 8192, 5) : BloomFilter.standard(hasher, 8192, 5);
+			a.addAll(range(0, 200));
+			b.addAll(range(100, 300));
+			BloomFilter<Integer> u = blocked ? BloomFilter.blocked(hasher, 8192, 5) : BloomFilter.standard(hasher, 8192, 5);
+			u.union(a);
+			u.union(b);
+			assertTrue(u.mightContainAll(range(0, 300)));
+			a.intersection(b);
+			assertTrue(a.mightContainAll(range(100, 200)));
+			assertThrows(IllegalArgumentException.class, () -> u.union(BloomFilter.standard(hasher, 8192, 4)));
+			a.clear();
+			assertEquals(0, a.bits().ones().count());
+		}
+		assertThrows(IllegalArgumentException.class, () -> BloomFilter.blocked(hasher, 1000, 3));
+	}
+
+	@Test
+	public void testSerialization() {
+		for (boolean blocked : new boolean[] {false, true}) {
+			BloomFilter<Integer> filter = blocked ? BloomFilter.blocked(hasher, 4096, 4) : BloomFilter.standard(hasher, 4000, 4);
+			filter.addAll(range(0, 300));
+			BitVector v = new BitVector(5000);
+			long count = filter.writeTo(v.openWriter());
+			BitReader reader = v.openReader();
+			BloomFilter<Integer> copy = BloomFilter.readFrom(hasher, reader);
+			assertEquals(count, reader.getPosition());
+			assertEquals(blocked, copy.isBlocked());
+			assertEquals(filter.hashCount(), copy.hashCount());
+			assertEquals(filter.bits(), copy.bits());
+			assertTrue(copy.mightContainAll(range(0, 300)));
+		}
+	}
+
+}
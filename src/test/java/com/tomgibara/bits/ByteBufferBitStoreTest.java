@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferBitStoreTest extends BitStoreTest {
+
+	@Override
+	BitStore newStore(int size) {
+		// offset the store within a direct buffer to exercise unaligned access
+		int offset = random.nextInt(70);
+		ByteBuffer buffer = ByteBuffer.allocateDirect((offset + size + 7) >> 3);
+		return Bits.asStore(buffer, offset, size);
+	}
+
+	@Test
+	public void testMatchesByteArrayStore() {
+		for (int i = 0; i < 20; i++) {
+			byte[] bytes = new byte[random.nextInt(100)];
+			random.nextBytes(bytes);
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 3);
+			buffer.position(3);
+			buffer.put(bytes);
+			buffer.position(3);
+			BitStore expected = Bits.asStore(bytes);
+			BitStore actual = Bits.asStore(buffer);
+			assertEquals(expected, actual);
+			assertEquals(expected.ones().count(), actual.ones().count());
+			assertEquals(3, buffer.position());
+		}
+	}
+
+	@Test
+	public void testReadOnlyBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(16).asReadOnlyBuffer();
+		BitStore store = Bits.asStore(buffer);
+		assertFalse(store.isMutable());
+		assertThrows(IllegalStateException.class, () -> store.setBit(0, true));
+	}
+
+}
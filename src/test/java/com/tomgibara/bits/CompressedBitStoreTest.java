@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitStoreTest extends BitStoreTest {
+
+	@Override
+	BitStore newStore(int size) {
+		return new CompressedBitStore(size);
+	}
+
+	// a vector spanning several chunks with sparse, dense and run regions
+	private static BitVector mixedVector(int size) {
+		BitVector v = new BitVector(size);
+		int third = size / 3;
+		for (int i = 0; i < 200; i++) v.setBit(random.nextInt(third), true);
+		v.range(third, 2 * third).setStore(0, new BitVector(random, third));
+		for (int i = 0; i < 10; i++) {
+			int from = 2 * third + random.nextInt(size - 2 * third);
+			int to = from + random.nextInt(size - from + 1);
+			v.range(from, to).fill();
+		}
+		return v;
+	}
+
+	@Test
+	public void testLargeStores() {
+		for (int i = 0; i < 10; i++) {
+			int size = 200000 + random.nextInt(200000);
+			BitVector v = mixedVector(size);
+			CompressedBitStore c = CompressedBitStore.fromStore(v);
+			assertEquals(v, c);
+			assertEquals(v.ones().count(), c.ones().count());
+			assertEquals(v.zeros().count(), c.zeros().count());
+			assertEquals(v.ones().first(), c.ones().first());
+			assertEquals(v.ones().last(), c.ones().last());
+			assertEquals(v.zeros().first(), c.zeros().first());
+			assertEquals(v.zeros().last(), c.zeros().last());
+			for (int j = 0; j < 100; j++) {
+				int p = random.nextInt(size + 1);
+				assertEquals(v.ones().next(p), c.ones().next(p));
+				assertEquals(v.ones().previous(p), c.ones().previous(p));
+				assertEquals(v.zeros().next(p), c.zeros().next(p));
+				assertEquals(v.zeros().previous(p), c.zeros().previous(p));
+				int q = random.nextInt(size - 63);
+				assertEquals(v.getBits(q, 64), c.getBits(q, 64));
+			}
+			c.optimize();
+			assertEquals(v, c);
+		}
+	}
+
+	@Test
+	public void testOperations() {
+		for (int i = 0; i < 20; i++) {
+			int size = 100000 + random.nextInt(200000);
+			BitVector v = mixedVector(size);
+			BitVector w = mixedVector(size);
+			w.permute().rotate(random.nextInt(size));
+			for (Operation operation : Operation.values()) {
+				BitVector expected = v.mutableCopy();
+				expected.op(operation).withStore(w);
+				// with another compressed store
+				CompressedBitStore c = CompressedBitStore.fromStore(v);
+				c.op(operation).withStore(CompressedBitStore.fromStore(w));
+				assertEquals(expected, c);
+				// with a vector
+				c = CompressedBitStore.fromStore(v);
+				c.op(operation).withStore(w);
+				assertEquals(expected, c);
+				assertEquals(expected.ones().count(), c.ones().count());
+			}
+			BitVector expected = w.mutableCopy();
+			expected.flip();
+			expected.and().withStore(v);
+			CompressedBitStore c = CompressedBitStore.fromStore(v);
+			c.andNot(CompressedBitStore.fromStore(w));
+			assertEquals(expected, c);
+			c = CompressedBitStore.fromStore(v);
+			c.andNot(w);
+			assertEquals(expected, c);
+		}
+	}
+
+	@Test
+	public void testMutations() {
+		int size = 70000 * 3;
+		BitVector v = new BitVector(size);
+		CompressedBitStore c = new CompressedBitStore(size);
+		for (int i = 0; i < 20000; i++) {
+			int p = random.nextInt(size - 64);
+			switch (random.nextInt(4)) {
+			case 0: v.setBit(p, true); c.setBit(p, true); break;
+			case 1: v.setBit(p, false); c.setBit(p, false); break;
+			case 2: long bits = random.nextLong(); v.setBits(p, bits, 64); c.setBits(p, bits, 64); break;
+			case 3: v.range(p, p + 64).clear(); c.range(p, p + 64).clear(); break;
+			}
+		}
+		assertEquals(v, c);
+		c.flip();
+		v.flip();
+		assertEquals(v, c);
+		c.fill();
+		assertTrue(c.ones().isAll());
+		c.clear();
+		assertTrue(c.zeros().isAll());
+	}
+
+	@Test
+	public void testCompression() {
+		CompressedBitStore c = new CompressedBitStore(Integer.MAX_VALUE);
+		for (int i = 0; i < 10; i++) c.setBit(random.nextInt(Integer.MAX_VALUE), true);
+		int count = c.ones().count();
+		int outside = count - c.range(1 << 20, 1 << 21).ones().count();
+		c.range(1 << 20, 1 << 21).fill();
+		assertEquals(outside + (1 << 20), c.ones().count());
+		c.optimize();
+		// the filled range spans exactly sixteen chunks
+		assertEquals(16, c.containerCounts()[2]);
+		c.range(1 << 20, 1 << 21).clear();
+		c.optimize();
+		assertEquals(outside, c.ones().count());
+		assertEquals(0, c.containerCounts()[1]);
+		assertEquals(0, c.containerCounts()[2]);
+	}
+
+	@Test
+	public void testImmutability() {
+		CompressedBitStore c = new CompressedBitStore(100000);
+		CompressedBitStore view = c.immutableView();
+		c.setBit(99999, true);
+		assertTrue(view.getBit(99999));
+		assertThrows(IllegalStateException.class, () -> view.setBit(0, true));
+		assertThrows(IllegalStateException.class, () -> view.andNot(c));
+		CompressedBitStore copy = c.immutableCopy();
+		c.clear();
+		assertTrue(copy.getBit(99999));
+		assertFalse(view.getBit(99999));
+	}
+
+}
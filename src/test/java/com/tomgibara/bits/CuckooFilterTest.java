@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.hashing.Hasher;
+import com.tomgibara.hashing.Hashing;
+
+public class CuckooFilterTest {
+
+	private static final Hasher<Integer> hasher = Hashing.objectHasher();
+
+	@Test
+	public void testMembership() {
+		for (int bits : new int[] {8, 12, 16, 20}) {
+			CuckooFilter<Integer> filter = new CuckooFilter<>(hasher, 10000, bits);
+			assertEquals(16384, filter.capacity());
+			assertEquals(16384 * bits, filter.bits().size());
+			for (int i = 0; i < 15000; i++) {
+				assertTrue(filter.add(i));
+			}
+			assertEquals(15000, filter.size());
+			assertEquals(15000.0 / 16384, filter.loadFactor(), 1e-9);
+			for (int i = 0; i < 15000; i++) {
+				assertTrue(filter.mightContain(i));
+			}
+			int positives = 0;
+			for (int i = 15000; i < 115000; i++) {
+				if (filter.mightContain(i)) positives++;
+			}
+			// about 8 / 2^bits of absent elements are reported
+			double expected = 100000 * 8.0 / (1 << bits);
+			assertTrue(positives < expected * 2 + 10, "too many false positives: " + positives);
+		}
+	}
+
+	@Test
+	public void testRemoval() {
+		CuckooFilter<Integer> filter = new CuckooFilter<>(hasher, 1000, 16);
+		for (int i = 0; i < 900; i++) filter.add(i);
+		for (int i = 0; i < 900; i += 2) {
+			assertTrue(filter.remove(i));
+		}
+		assertEquals(450, filter.size());
+		for (int i = 1; i < 900; i += 2) {
+			assertTrue(filter.mightContain(i));
+		}
+		int positives = 0;
+		for (int i = 0; i < 900; i += 2) {
+			if (filter.mightContain(i)) positives++;
+		}
+		assertTrue(positives < 10);
+		// duplicates are recorded separately
+		filter.add(5000);
+		filter.add(5000);
+		assertTrue(filter.remove(5000));
+		assertTrue(filter.mightContain(5000));
+		assertTrue(filter.remove(5000));
+		filter.clear();
+		assertEquals(0, filter.size());
+		assertFalse(filter.mightContain(1));
+	}
+
+	@Test
+	public void testOverfilling() {
+		CuckooFilter<Integer> filter = new CuckooFilter<>(hasher, 64, 8);
+		int added = 0;
+		while (filter.add(added)) added++;
+		assertTrue(added <= filter.capacity());
+		assertTrue(added > filter.capacity() / 2);
+		for (int i = 0; i < added; i++) {
+			assertTrue(filter.mightContain(i));
+		}
+		assertTrue(filter.remove(0));
+		assertEquals(added - 1, filter.size());
+		for (int i = 1; i < added; i++) {
+			assertTrue(filter.mightContain(i));
+		}
+		assertThrows(IllegalArgumentException.class, () -> new CuckooFilter<>(hasher, 10, 1));
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class EliasFanoTest {
+
+	private static final Random random = new Random(0L);
+
+	private static long[] randomValues(int size, long bound) {
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = (random.nextLong() >>> 1) % bound;
+		}
+		Arrays.sort(values);
+		return values;
+	}
+
+	@Test
+	public void testAccess() {
+		for (int i = 0; i < 100; i++) {
+			int size = random.nextInt(2000);
+			long bound = 1L + (random.nextLong() >>> random.nextInt(64));
+			long[] values = randomValues(size, bound);
+			EliasFano ef = EliasFano.fromValues(values);
+			assertEquals(size, ef.size());
+			PrimitiveIterator.OfLong it = ef.iterator();
+			for (int j = 0; j < size; j++) {
+				assertEquals(values[j], ef.get(j));
+				assertEquals(values[j], it.nextLong());
+			}
+			assertFalse(it.hasNext());
+			for (int j = 0; j < 100; j++) {
+				long x = (random.nextLong() >>> 1) % (bound + 10);
+				int k = Arrays.binarySearch(values, x);
+				if (k < 0) {
+					k = -1 - k;
+				} else {
+					while (k > 0 && values[k - 1] == x) k--;
+				}
+				assertEquals(k == size ? -1L : values[k], ef.nextGEQ(x));
+			}
+			if (size > 0) {
+				assertEquals(values[0], ef.nextGEQ(0L));
+				assertEquals(values[size - 1], ef.nextGEQ(values[size - 1]));
+				assertEquals(-1L, ef.nextGEQ(values[size - 1] + 1));
+			}
+		}
+	}
+
+	@Test
+	public void testCompactness() {
+		long[] values = randomValues(100000, 1L << 30);
+		EliasFano ef = EliasFano.fromValues(values);
+		BitVector v = new BitVector(1 << 21);
+		long bits = ef.writeTo(v.openWriter());
+		// 2 + log2(2^30 / 10^5) bits per value, plus a header
+		assertTrue(bits < 100000L * 16);
+	}
+
+	@Test
+	public void testSerialization() {
+		for (int i = 0; i < 20; i++) {
+			long[] values = randomValues(random.nextInt(1000), 1L + random.nextInt(100000));
+			EliasFano ef = EliasFano.fromValues(values);
+			BitVector v = new BitVector(100000);
+			long count = ef.writeTo(v.openWriter());
+			BitReader reader = v.openReader();
+			EliasFano copy = EliasFano.readFrom(reader);
+			assertEquals(ef, copy);
+			assertEquals(count, reader.getPosition());
+			assertEquals(Arrays.toString(values), copy.toString());
+		}
+	}
+
+	@Test
+	public void testMaximumValue() {
+		long max = Long.MAX_VALUE;
+		long[][] sequences = {
+				{ max },
+				{ 0L, max },
+				{ max, max },
+				{ 0L, 1L, max - 1L, max },
+				randomValues(1000, max),
+		};
+		for (long[] values : sequences) {
+			values[values.length - 1] = max;
+			EliasFano ef = EliasFano.fromValues(values);
+			assertEquals(values.length, ef.size());
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(values[i], ef.get(i));
+			}
+			assertEquals(Arrays.toString(values), ef.toString());
+			assertEquals(max, ef.nextGEQ(max));
+			assertEquals(values[0], ef.nextGEQ(0L));
+			BitVector v = new BitVector(1 << 20);
+			ef.writeTo(v.openWriter());
+			assertEquals(ef, EliasFano.readFrom(v.openReader()));
+		}
+	}
+
+	@Test
+	public void testInvalidValues() {
+		assertThrows(IllegalArgumentException.class, () -> EliasFano.fromValues(2L, 1L));
+		assertThrows(IllegalArgumentException.class, () -> EliasFano.fromValues(-1L));
+		assertEquals(-1L, EliasFano.fromValues().nextGEQ(0L));
+	}
+
+}
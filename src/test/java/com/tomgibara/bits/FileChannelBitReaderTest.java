@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+public class FileChannelBitReaderTest extends AbstractBitReaderTest {
+
+	// readers are short lived, so a single file is rewritten for each
+	private static final FileChannel channel = open();
+
+	private static FileChannel open() {
+		try {
+			File file = File.createTempFile("bits-channel-test", ".bits");
+			file.deleteOnExit();
+			return new RandomAccessFile(file, "rw").getChannel();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	BitReader readerFor(BitStore vector) {
+		vector = vector.mutableCopy();
+		vector.permute().reverse();
+		byte[] bytes = vector.toByteArray();
+		try {
+			channel.truncate(0L);
+			channel.write(ByteBuffer.wrap(bytes), 0L);
+			channel.position(0L);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		// an awkward buffer size and byte order exercise refills across buffer boundaries
+		ByteBuffer buffer = ByteBuffer.allocate(37).order(ByteOrder.LITTLE_ENDIAN);
+		return Bits.readerFrom(channel, buffer);
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.hashing.Hasher;
+import com.tomgibara.hashing.Hashing;
+
+public class HyperLogLogTest {
+
+	private static final Hasher<Integer> hasher = Hashing.objectHasher();
+
+	private static HyperLogLog<Integer> sketch(int registerBits, int from, int to) {
+		HyperLogLog<Integer> sketch = new HyperLogLog<>(hasher, 12, registerBits);
+		for (int i = from; i < to; i++) sketch.add(i);
+		return sketch;
+	}
+
+	@Test
+	public void testEstimates() {
+		for (int registerBits = 5; registerBits <= 6; registerBits++) {
+			HyperLogLog<Integer> sketch = new HyperLogLog<>(hasher, 12, registerBits);
+			assertEquals(0L, sketch.estimate());
+			assertEquals(registerBits * 4096, sketch.bits().size());
+			for (int n : new int[] {100, 1000, 10000, 100000, 1000000}) {
+				for (int i = 0; i < n; i++) sketch.add(i);
+				// standard error is about 1.6% at this precision
+				assertEquals(n, sketch.estimate(), n * 0.06);
+			}
+			assertFalse(sketch.add(0));
+			sketch.clear();
+			assertEquals(0L, sketch.estimate());
+		}
+	}
+
+	@Test
+	public void testMerge() {
+		for (int registerBits = 5; registerBits <= 6; registerBits++) {
+			HyperLogLog<Integer> a = sketch(registerBits, 0, 50000);
+			HyperLogLog<Integer> b = sketch(registerBits, 25000, 75000);
+			BitStore before = a.bits().immutableCopy();
+			a.merge(b);
+			// merging is register-wise maximum
+			BitStore other = b.bits();
+			BitStore merged = a.bits();
+			for (int p = 0; p < merged.size(); p += registerBits) {
+				int expected = Math.max(before.getBitsAsInt(p, registerBits), other.getBitsAsInt(p, registerBits));
+				assertEquals(expected, merged.getBitsAsInt(p, registerBits));
+			}
+			assertEquals(sketch(registerBits, 0, 75000).bits(), merged);
+		}
+		HyperLogLog<Integer> a = sketch(5, 0, 10);
+		assertThrows(IllegalArgumentException.class, () -> a.merge(sketch(6, 0, 10)));
+	}
+
+	@Test
+	public void testSerialization() {
+		HyperLogLog<Integer> sketch = sketch(6, 0, 20000);
+		BitVector v = new BitVector(30000);
+		long count = sketch.writeTo(v.openWriter());
+		BitReader reader = v.openReader();
+		HyperLogLog<Integer> copy = HyperLogLog.readFrom(hasher, reader);
+		assertEquals(count, reader.getPosition());
+		assertEquals(sketch.bits(), copy.bits());
+		assertEquals(sketch.estimate(), copy.estimate());
+		copy.merge(sketch);
+		assertEquals(sketch.bits(), copy.bits());
+	}
+
+}
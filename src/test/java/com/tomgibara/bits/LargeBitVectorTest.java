@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LargeBitVectorTest {
+
+	private static final Random random = new Random(0L);
+
+	// small segments ensure that operations span segment boundaries
+	private static LargeBitVector largeCopy(BitVector v) {
+		LargeBitVector large = new LargeBitVector(v.size(), 1);
+		large.setStore(0L, v);
+		return large;
+	}
+
+	private static void assertMatching(BitVector expected, LargeBitVector actual) {
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, actual.range(0L, actual.size()));
+		assertEquals(expected.ones().count(), actual.ones().count());
+		assertEquals(expected.zeros().count(), actual.zeros().count());
+		assertEquals(expected.ones().first(), actual.ones().first());
+		assertEquals(expected.ones().last(), actual.ones().last());
+		assertEquals(expected.zeros().first(), actual.zeros().first());
+		assertEquals(expected.zeros().last(), actual.zeros().last());
+	}
+
+	@Test
+	public void testGetAndSetBits() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(2000);
+			BitVector v = new BitVector(random, size);
+			LargeBitVector large = largeCopy(v);
+			assertMatching(v, large);
+			for (int j = 0; j < 100 && size > 0; j++) {
+				int length = random.nextInt(Math.min(size, 64) + 1);
+				int position = random.nextInt(size - length + 1);
+				assertEquals(v.getBits(position, length), large.getBits(position, length));
+				long bits = random.nextLong();
+				v.setBits(position, bits, length);
+				large.setBits(position, bits, length);
+				int index = random.nextInt(size);
+				assertEquals(v.getBit(index), large.getBit(index));
+				large.flipBit(index);
+				v.flipBit(index);
+			}
+			assertMatching(v, large);
+		}
+	}
+
+	@Test
+	public void testOperations() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(2000);
+			BitVector v = new BitVector(random, size);
+			BitVector w = new BitVector(random, size);
+			LargeBitVector lv = largeCopy(v);
+			LargeBitVector lw = largeCopy(w);
+			Operation operation = Operation.values[random.nextInt(4)];
+			v.op(operation).withStore(w);
+			lv.op(operation).withVector(lw);
+			assertMatching(v, lv);
+
+			int from = random.nextInt(size + 1);
+			int to = from + random.nextInt(size - from + 1);
+			boolean value = random.nextBoolean();
+			v.range(from, to).op(operation).with(value);
+			lv.op(operation).withRange(from, to, value);
+			assertMatching(v, lv);
+
+			BitVector s = w.range(0, random.nextInt(size - from + 1));
+			v.op(operation).withStore(from, s);
+			lv.op(operation).withStore(from, s);
+			assertMatching(v, lv);
+		}
+	}
+
+	@Test
+	public void testMatches() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(2000);
+			BitVector v = new BitVector(random, random.nextFloat(), size);
+			LargeBitVector large = largeCopy(v);
+			for (int j = 0; j < 20; j++) {
+				int position = random.nextInt(size + 1);
+				assertEquals(v.ones().next(position), large.ones().next(position));
+				assertEquals(v.zeros().next(position), large.zeros().next(position));
+				assertEquals(v.ones().previous(position), large.ones().previous(position));
+				assertEquals(v.zeros().previous(position), large.zeros().previous(position));
+				int to = position + random.nextInt(size - position + 1);
+				assertEquals(v.range(position, to).ones().count(), large.ones().count(position, to));
+				assertEquals(v.range(position, to).zeros().count(), large.zeros().count(position, to));
+			}
+			assertEquals(v.ones().isAll(), large.ones().isAll());
+			assertEquals(v.ones().isNone(), large.ones().isNone());
+		}
+		LargeBitVector large = new LargeBitVector(300, 1);
+		assertTrue(large.ones().isNone());
+		large.fill();
+		assertTrue(large.ones().isAll());
+		assertEquals(300L, large.ones().count());
+		large.flip();
+		assertTrue(large.zeros().isAll());
+	}
+
+	@Test
+	public void testReaderAndWriter() {
+		for (int i = 0; i < 20; i++) {
+			int size = random.nextInt(2000);
+			BitVector v = new BitVector(random, size);
+			LargeBitVector large = new LargeBitVector(size, 1);
+			BitWriter writer = large.openWriter();
+			v.writeTo(writer);
+			writer.flush();
+			assertMatching(v, large);
+
+			BitReader expected = v.openReader();
+			BitReader actual = large.openReader();
+			while (expected.getPosition() < size) {
+				int count = random.nextInt(Math.min(64, size - (int) expected.getPosition()) + 1);
+				assertEquals(expected.readLong(count), actual.readLong(count));
+			}
+			assertEquals(expected.getPosition(), actual.getPosition());
+			assertThrows(EndOfBitStreamException.class, () -> actual.readBit());
+		}
+	}
+
+	@Test
+	public void testReadUntil() {
+		LargeBitVector large = new LargeBitVector(1000, 1);
+		large.setBit(100, true);
+		large.setBit(900, true);
+		BitReader reader = large.openReader();
+		assertEquals(99, reader.readUntil(true));
+		assertEquals(799, reader.readUntil(true));
+		assertThrows(EndOfBitStreamException.class, () -> reader.readUntil(true));
+	}
+
+	@Test
+	public void testMutability() {
+		LargeBitVector large = new LargeBitVector(200);
+		large.setBit(150, true);
+		LargeBitVector view = large.immutableView();
+		assertFalse(view.isMutable());
+		assertThrows(IllegalStateException.class, () -> view.setBit(0, true));
+		assertThrows(IllegalStateException.class, () -> view.range(0, 100).fill());
+		LargeBitVector copy = large.mutableCopy();
+		assertEquals(large, copy);
+		assertEquals(large.hashCode(), copy.hashCode());
+		copy.setBit(0, true);
+		assertNotEquals(large, copy);
+		assertFalse(large.getBit(0));
+		large.setBit(0, true);
+		assertTrue(view.getBit(0));
+	}
+
+	@Test
+	public void testBounds() {
+		LargeBitVector large = new LargeBitVector(100);
+		assertThrows(IllegalArgumentException.class, () -> new LargeBitVector(-1L));
+		assertThrows(IllegalArgumentException.class, () -> large.getBit(100));
+		assertThrows(IllegalArgumentException.class, () -> large.getBits(40, 61));
+		assertThrows(IllegalArgumentException.class, () -> large.range(0, 101));
+		assertEquals(0L, new LargeBitVector(0L).ones().count());
+	}
+
+}
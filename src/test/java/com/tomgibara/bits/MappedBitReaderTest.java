@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedBitReaderTest extends AbstractBitReaderTest {
+
+	private static final int MAPPED_SIZE = 1 << 22;
+
+	private static final MappedByteBuffer mapped = map(MAPPED_SIZE);
+
+	private static int offset = 0;
+
+	static MappedByteBuffer map(int size) {
+		try {
+			File file = File.createTempFile("bits-mapped-test", ".bits");
+			file.deleteOnExit();
+			try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+				return channel.map(MapMode.READ_WRITE, 0L, size);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	// readers are short lived, so the mapping is reused cyclically
+	static MappedByteBuffer slice(MappedByteBuffer mapped, int length) {
+		synchronized (mapped) {
+			if (offset + length > mapped.capacity()) offset = 0;
+			MappedByteBuffer slice = mapped.slice(offset, length);
+			offset += length;
+			return slice;
+		}
+	}
+
+	@Override
+	BitReader readerFor(BitStore vector) {
+		vector = vector.mutableCopy();
+		vector.permute().reverse();
+		byte[] bytes = vector.toByteArray();
+		MappedByteBuffer buffer = slice(mapped, bytes.length);
+		buffer.put(0, bytes);
+		return Bits.readerFrom(buffer, vector.size());
+	}
+
+	@Test
+	public void testBufferPosition() {
+		MappedByteBuffer buffer = slice(mapped, 4);
+		buffer.put(0, new byte[] {(byte) 0xff, 0x12, 0x34, 0x56});
+		buffer.position(1);
+		BitReader reader = Bits.readerFrom(buffer);
+		assertEquals(0x123456, reader.read(24));
+		assertEquals(1, buffer.position());
+		reader.setPosition(8);
+		assertEquals(0x34, reader.read(8));
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedBitStoreTest extends BitStoreTest {
+
+	private static final MappedByteBuffer mapped = MappedBitReaderTest.map(1 << 22);
+
+	@Override
+	BitStore newStore(int size) {
+		int offset = random.nextInt(16);
+		MappedByteBuffer buffer = MappedBitReaderTest.slice(mapped, (offset + size + 7) >> 3);
+		MappedBitStore store = Bits.asStore(buffer).range(offset, offset + size);
+		store.clear();
+		return store;
+	}
+
+	@Test
+	public void testPersistence() throws IOException {
+		File file = File.createTempFile("bits-mapped-test", ".bits");
+		file.deleteOnExit();
+		BitVector expected = new BitVector(random, 1000);
+		try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+			MappedBitStore store = Bits.asStore(channel.map(MapMode.READ_WRITE, 0L, 125));
+			store.setStore(0, expected);
+			store.range(100, 200).force();
+			store.force();
+		}
+		try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+			MappedBitStore store = Bits.asStore(channel.map(MapMode.READ_ONLY, 0L, 125));
+			assertFalse(store.isMutable());
+			assertEquals(expected, store);
+			assertThrows(IllegalStateException.class, () -> store.setBit(0, true));
+		}
+	}
+
+}
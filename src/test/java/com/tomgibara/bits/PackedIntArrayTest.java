@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedIntArrayTest {
+
+	private static final Random random = new Random(0L);
+
+	private static int[] randomValues(int length, int width) {
+		int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = width == 32 ? random.nextInt() : random.nextInt() >>> (32 - width);
+		}
+		return values;
+	}
+
+	@Test
+	public void testAccess() {
+		for (int width = 1; width <= 32; width++) {
+			int length = random.nextInt(500);
+			int[] values = randomValues(length, width);
+			PackedIntArray array = new PackedIntArray(length, width);
+			for (int i = 0; i < length; i++) array.set(i, values[i]);
+			for (int i = 0; i < length; i++) assertEquals(values[i], array.get(i));
+			assertArrayEquals(values, array.toArray());
+			assertEquals(array, PackedIntArray.fromValues(width, values));
+			assertEquals(length * width, array.bits().size());
+		}
+	}
+
+	@Test
+	public void testBulkAccess() {
+		for (int i = 0; i < 500; i++) {
+			int width = 1 + random.nextInt(32);
+			int length = random.nextInt(300);
+			int[] values = randomValues(length, width);
+			PackedIntArray array = PackedIntArray.fromValues(width, values);
+			int from = random.nextInt(length + 1);
+			int count = random.nextInt(length - from + 1);
+			int offset = random.nextInt(10);
+			int[] dest = new int[offset + count + random.nextInt(10)];
+			array.get(from, dest, offset, count);
+			assertArrayEquals(Arrays.copyOfRange(values, from, from + count), Arrays.copyOfRange(dest, offset, offset + count));
+			int[] src = randomValues(dest.length, width);
+			array.set(from, src, offset, count);
+			System.arraycopy(src, offset, values, from, count);
+			for (int j = 0; j < length; j++) assertEquals(values[j], array.get(j));
+		}
+	}
+
+	@Test
+	public void testStreams() {
+		int width = 13;
+		int[] values = randomValues(1000, width);
+		PackedIntArray array = new PackedIntArray(values.length, width);
+		BitWriter writer = array.openWriter();
+		for (int value : values) writer.write(value, width);
+		assertArrayEquals(values, array.toArray());
+		BitReader reader = array.openReader();
+		for (int value : values) assertEquals(value, reader.read(width));
+	}
+
+	@Test
+	public void testInvalidValues() {
+		PackedIntArray array = new PackedIntArray(10, 4);
+		assertThrows(IllegalArgumentException.class, () -> array.set(0, 16));
+		assertThrows(IllegalArgumentException.class, () -> array.set(0, -1));
+		assertThrows(IllegalArgumentException.class, () -> array.set(5, new int[] {1, 2, 3, 4, 5, 6}));
+		assertThrows(IllegalArgumentException.class, () -> array.get(10));
+		assertThrows(IllegalArgumentException.class, () -> new PackedIntArray(10, 33));
+		assertThrows(IllegalArgumentException.class, () -> array.set(0, new int[] {1, 2, 99}));
+		assertArrayEquals(new int[10], array.toArray());
+	}
+
+}
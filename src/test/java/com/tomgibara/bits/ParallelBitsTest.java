@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+public class ParallelBitsTest {
+
+	private static final Random random = new Random(0L);
+
+	private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+	@AfterAll
+	public static void shutdown() {
+		pool.shutdown();
+	}
+
+	// small chunks ensure that operations are split into many tasks
+	private static ParallelBits parallel(BitVector v) {
+		return new ParallelBits(v, pool, 128 + random.nextInt(200));
+	}
+
+	private static BitVector randomRange(int size) {
+		int offset = random.nextInt(100);
+		return new BitVector(random, offset + size + random.nextInt(100)).range(offset, offset + size);
+	}
+
+	@Test
+	public void testCountsAndSearches() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(5000);
+			BitVector v = randomRange(size);
+			if (random.nextBoolean()) v.range(0, size / 2).clear();
+			if (random.nextBoolean()) v.range(size / 2, size).fill();
+			ParallelBits p = parallel(v);
+			assertEquals(v.ones().count(), p.countOnes());
+			assertEquals(v.zeros().count(), p.countZeros());
+			assertEquals(v.ones().first(), p.firstOne());
+			assertEquals(v.zeros().first(), p.firstZero());
+			assertEquals(v.ones().last(), p.lastOne());
+			assertEquals(v.zeros().last(), p.lastZero());
+		}
+	}
+
+	@Test
+	public void testMatches() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(3000);
+			BitVector v = new BitVector(random, 0.8f, size);
+			BitVector sequence = new BitVector(random, 0.8f, 1 + random.nextInt(6));
+			ParallelBits p = parallel(v);
+			assertEquals(v.match(sequence).count(), p.countMatches(sequence));
+			assertEquals(v.match(sequence).first(), p.firstMatch(sequence));
+			assertEquals(v.match(sequence).last(), p.lastMatch(sequence));
+		}
+		assertThrows(IllegalArgumentException.class, () -> new BitVector(10).parallel().countMatches(new BitVector(0)));
+	}
+
+	@Test
+	public void testOperations() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(5000);
+			BitVector v = randomRange(size);
+			BitStore s = random.nextBoolean() ? randomRange(size) : Bits.asStore(new BitVector(random, size).toByteArray()).range(0, size);
+			for (Operation operation : Operation.values()) {
+				BitVector expected = v.mutableCopy();
+				expected.op(operation).withStore(s);
+				BitVector actual = v.mutableCopy().range(0, size);
+				parallel(actual).apply(operation, s);
+				assertEquals(expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testUnalignedOperations() {
+		BitVector backing = new BitVector(random, 10000);
+		for (int i = 0; i < 20; i++) {
+			int from = random.nextInt(1000);
+			int size = random.nextInt(5000);
+			BitVector v = backing.range(from, from + size);
+			BitVector s = new BitVector(random, size);
+			BitVector expected = v.mutableCopy();
+			expected.xor().withStore(s);
+			new ParallelBits(v, pool, 128).xor(s);
+			assertEquals(expected, v);
+		}
+	}
+
+	@Test
+	public void testWordAlignedSplits() {
+		for (int i = 0; i < 100; i++) {
+			BitVector v = randomRange(1000 + random.nextInt(5000));
+			ParallelBits p = parallel(v);
+			int from = random.nextInt(v.size() / 2);
+			int to = v.size() - random.nextInt(v.size() / 2 - 128);
+			int split = p.split(from, to);
+			assertEquals(0, (split + v.wordOffset()) & 63);
+			assertTrue(split > from && split < to);
+		}
+		// large enough to be split with the default chunk size
+		int offset = 1 + random.nextInt(63);
+		BitVector v = new BitVector(random, offset + (1 << 20)).range(offset, offset + (1 << 20));
+		BitVector s = new BitVector(random, v.size());
+		BitVector expected = v.mutableCopy();
+		expected.xor().withStore(s);
+		v.parallel(pool).xor(s);
+		assertEquals(expected, v);
+		assertEquals(v.ones().count(), v.parallel(pool).countOnes());
+	}
+
+	@Test
+	public void testOverlappingOperation() {
+		BitVector v = new BitVector(random, 4000);
+		BitVector a = v.range(0, 2000);
+		BitVector b = v.range(1000, 3000);
+		BitVector expected = a.mutableCopy();
+		expected.or().withStore(b);
+		a.parallel(pool).or(b);
+		assertEquals(expected, a);
+	}
+
+	@Test
+	public void testImmutable() {
+		BitVector v = new BitVector(1000).immutable();
+		assertThrows(IllegalStateException.class, () -> v.parallel().set(new BitVector(1000)));
+		assertThrows(IllegalArgumentException.class, () -> new BitVector(1000).parallel().set(new BitVector(999)));
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RankSelectTest {
+
+	private static final Random random = new Random(0L);
+
+	private static void check(BitVector v) {
+		RankSelect rs = v.rankSelect();
+		assertFalse(rs.vector().isMutable());
+		assertEquals(v, rs.vector());
+		int size = v.size();
+		assertEquals(v.ones().count(), rs.ones());
+		assertEquals(v.zeros().count(), rs.zeros());
+		int ones = 0;
+		for (int i = 0; i < size; i++) {
+			assertEquals(ones, rs.rank1(i));
+			assertEquals(i - ones, rs.rank0(i));
+			if (v.getBit(i)) {
+				assertEquals(i, rs.select1(ones));
+				ones++;
+			} else {
+				assertEquals(i, rs.select0(i - ones));
+			}
+		}
+		assertEquals(ones, rs.rank1(size));
+		assertThrows(IllegalArgumentException.class, () -> rs.select1(rs.ones()));
+		assertThrows(IllegalArgumentException.class, () -> rs.select0(rs.zeros()));
+		assertThrows(IllegalArgumentException.class, () -> rs.rank1(size + 1));
+	}
+
+	@Test
+	public void testSmallVectors() {
+		for (int i = 0; i < 200; i++) {
+			int size = random.nextInt(2000);
+			int offset = random.nextInt(100);
+			BitVector v = new BitVector(random, offset + size + random.nextInt(100)).range(offset, offset + size);
+			check(v);
+			check(v.immutableView());
+		}
+	}
+
+	@Test
+	public void testLargeVectors() {
+		for (int i = 0; i < 5; i++) {
+			int size = 200000 + random.nextInt(200000);
+			BitVector v = new BitVector(random, random.nextFloat(), size);
+			// include long runs so that sampled blocks are far apart
+			v.range(size / 4, size / 2).clear();
+			v.range(size / 2, 3 * size / 4).fill();
+			check(v);
+		}
+		check(new BitVector(1 << 17));
+		BitVector ones = new BitVector(1 << 17);
+		ones.fill();
+		check(ones);
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SparseBitStoreTest extends BitStoreTest {
+
+	@Override
+	BitStore newStore(int size) {
+		return new SparseBitStore(size);
+	}
+
+	private static BitVector sparseVector(int size) {
+		BitVector v = new BitVector(size);
+		int count = random.nextInt(size / 10 + 1);
+		for (int i = 0; i < count; i++) v.setBit(random.nextInt(size), true);
+		return v;
+	}
+
+	@Test
+	public void testPositions() {
+		SparseBitStore s = new SparseBitStore(100, new int[] {50, 3, 99, 3, 0});
+		assertEquals(4, s.ones().count());
+		assertTrue(s.getBit(0));
+		assertTrue(s.getBit(3));
+		assertTrue(s.getBit(50));
+		assertTrue(s.getBit(99));
+		assertFalse(s.getBit(1));
+		assertEquals(0b1001L, s.getBits(0, 4));
+		assertThrows(IllegalArgumentException.class, () -> new SparseBitStore(100, new int[] {100}));
+		assertThrows(IllegalArgumentException.class, () -> new SparseBitStore(100, new int[] {-1}));
+	}
+
+	@Test
+	public void testOperations() {
+		for (int i = 0; i < 100; i++) {
+			int size = 1 + random.nextInt(10000);
+			BitVector v = sparseVector(size);
+			BitVector w = sparseVector(size);
+			for (Operation operation : Operation.values()) {
+				BitVector expected = v.mutableCopy();
+				expected.op(operation).withStore(w);
+				// with another sparse store
+				SparseBitStore s = SparseBitStore.fromStore(v);
+				s.op(operation).withStore(SparseBitStore.fromStore(w));
+				assertEquals(expected, s);
+				assertEquals(expected.ones().count(), s.ones().count());
+				// with a vector
+				s = SparseBitStore.fromStore(v);
+				s.op(operation).withStore(w);
+				assertEquals(expected, s);
+				assertEquals(expected.ones().count(), s.ones().count());
+			}
+		}
+	}
+
+	@Test
+	public void testMutations() {
+		int size = 5000;
+		BitVector v = new BitVector(size);
+		SparseBitStore s = new SparseBitStore(size);
+		for (int i = 0; i < 5000; i++) {
+			int p = random.nextInt(size - 64);
+			switch (random.nextInt(5)) {
+			case 0: v.setBit(p, true); s.setBit(p, true); break;
+			case 1: v.setBit(p, false); s.setBit(p, false); break;
+			case 2: v.flipBit(p); s.flipBit(p); break;
+			case 3: long bits = random.nextLong() & random.nextLong(); v.setBits(p, bits, 64); s.setBits(p, bits, 64); break;
+			case 4: BitVector w = sparseVector(64); v.setStore(p, w); s.setStore(p, w); break;
+			}
+		}
+		assertEquals(v, s);
+		assertEquals(v.ones().count(), s.ones().count());
+		s.flip();
+		v.flip();
+		assertEquals(v, s);
+		s.fill();
+		assertTrue(s.ones().isAll());
+		s.clear();
+		assertTrue(s.zeros().isAll());
+	}
+
+	@Test
+	public void testImmutability() {
+		SparseBitStore s = new SparseBitStore(1000);
+		SparseBitStore view = s.immutableView();
+		s.setBit(999, true);
+		assertTrue(view.getBit(999));
+		assertThrows(IllegalStateException.class, () -> view.setBit(0, true));
+		SparseBitStore copy = s.immutableCopy();
+		s.clear();
+		assertTrue(copy.getBit(999));
+		assertFalse(view.getBit(999));
+	}
+
+}
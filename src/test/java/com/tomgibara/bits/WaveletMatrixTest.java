@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WaveletMatrixTest {
+
+	private static final Random random = new Random(0L);
+
+	@Test
+	public void testQueries() {
+		for (int i = 0; i < 50; i++) {
+			int size = random.nextInt(1000);
+			int bound = 1 + random.nextInt(i % 2 == 0 ? 20 : 1 << 20);
+			int[] values = new int[size];
+			for (int j = 0; j < size; j++) values[j] = random.nextInt(bound);
+			WaveletMatrix m = WaveletMatrix.fromValues(values);
+			assertEquals(size, m.size());
+			int[] counts = new int[bound];
+			for (int j = 0; j < size; j++) {
+				int value = values[j];
+				assertEquals(value, m.access(j));
+				assertEquals(counts[value], m.rank(value, j));
+				assertEquals(j, m.select(value, counts[value]));
+				counts[value]++;
+			}
+			for (int j = 0; j < 20 && size > 0; j++) {
+				int value = values[random.nextInt(size)];
+				assertEquals(counts[value], m.rank(value, size));
+				int k = counts[value];
+				assertThrows(IllegalArgumentException.class, () -> m.select(value, k));
+				int from = random.nextInt(size);
+				int to = from + 1 + random.nextInt(size - from);
+				int[] sorted = Arrays.copyOfRange(values, from, to);
+				Arrays.sort(sorted);
+				int q = random.nextInt(to - from);
+				assertEquals(sorted[q], m.quantile(from, to, q));
+			}
+			assertEquals(0, m.rank(-1, size));
+			assertEquals(0, m.rank(1 << m.depth(), size));
+		}
+	}
+
+	@Test
+	public void testInvalidValues() {
+		assertThrows(IllegalArgumentException.class, () -> WaveletMatrix.fromValues(1, -1));
+		WaveletMatrix m = WaveletMatrix.fromValues();
+		assertEquals(0, m.size());
+		assertEquals(0, m.rank(0, 0));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WordOpsTest {
+
+	private static final Random random = new Random(0L);
+
+	private static final WordOps scalar = WordOps.SCALAR;
+	// null when the tests are run without the incubator module
+	private static final WordOps vector = WordOps.vector();
+
+	private static void assumeVector() {
+		assumeTrue(vector != null, "jdk.incubator.vector unavailable");
+	}
+
+	private static long[] randomWords(int length) {
+		long[] words = new long[length];
+		for (int i = 0; i < length; i++) words[i] = random.nextLong();
+		return words;
+	}
+
+	@Test
+	public void testOperations() {
+		assumeVector();
+		for (int test = 0; test < 200; test++) {
+			int length = random.nextInt(100);
+			int ai = random.nextInt(8);
+			int bi = random.nextInt(8);
+			long[] a = randomWords(length + ai + random.nextInt(4));
+			long[] b = randomWords(length + bi + random.nextInt(4));
+			for (int op = 0; op < 5; op++) {
+				long[] expected = a.clone();
+				long[] actual = a.clone();
+				switch (op) {
+				case 0: scalar.and(expected, ai, b, bi, length); vector.and(actual, ai, b, bi, length); break;
+				case 1: scalar.or(expected, ai, b, bi, length); vector.or(actual, ai, b, bi, length); break;
+				case 2: scalar.xor(expected, ai, b, bi, length); vector.xor(actual, ai, b, bi, length); break;
+				case 3: scalar.andNot(expected, ai, b, bi, length); vector.andNot(actual, ai, b, bi, length); break;
+				case 4: scalar.not(expected, ai, length); vector.not(actual, ai, length); break;
+				}
+				assertArrayEquals(expected, actual);
+			}
+			assertEquals(scalar.bitCount(a, ai, length), vector.bitCount(a, ai, length));
+		}
+	}
+
+	@Test
+	public void testTests() {
+		for (int test = 0; test < 200; test++) {
+			int length = 1 + random.nextInt(100);
+			long[] a = randomWords(length);
+			long[] equal = a.clone();
+			long[] complement = a.clone();
+			scalar.not(complement, 0, length);
+			long[] contained = a.clone();
+			scalar.and(contained, 0, randomWords(length), 0, length);
+
+			WordOps[] opss = vector == null ? new WordOps[] { scalar, WordOps.INSTANCE } : new WordOps[] { scalar, vector, WordOps.INSTANCE };
+			for (WordOps ops : opss) {
+				assertTrue(ops.equal(a, 0, equal, 0, length));
+				assertTrue(ops.complements(a, 0, complement, 0, length));
+				assertTrue(ops.excludes(a, 0, complement, 0, length));
+				assertTrue(ops.contains(a, 0, contained, 0, length));
+				assertTrue(ops.contains(a, 0, equal, 0, length));
+
+				// disturb a single word to check that every position is examined
+				int i = random.nextInt(length);
+				long[] other = equal.clone();
+				other[i] ^= 1L << random.nextInt(64);
+				assertFalse(ops.equal(a, 0, other, 0, length));
+				other = complement.clone();
+				other[i] ^= 1L << random.nextInt(64);
+				assertFalse(ops.complements(a, 0, other, 0, length));
+				other = complement.clone();
+				other[i] = a[i];
+				assertFalse(ops.excludes(a, 0, other, 0, length));
+				other = contained.clone();
+				other[i] |= ~a[i];
+				if (~a[i] != 0L) assertFalse(ops.contains(a, 0, other, 0, length));
+			}
+		}
+	}
+
+	@Test
+	public void testOffsetTests() {
+		assumeVector();
+		long[] a = randomWords(64);
+		long[] b = new long[80];
+		System.arraycopy(a, 8, b, 13, 40);
+		assertTrue(vector.equal(a, 8, b, 13, 40));
+		assertFalse(vector.equal(a, 8, b, 12, 40));
+		assertEquals(scalar.bitCount(a, 8, 40), vector.bitCount(b, 13, 40));
+		Arrays.fill(b, 0L);
+		assertTrue(vector.excludes(a, 0, b, 0, 64));
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitStreamException;
+import com.tomgibara.bits.BitVector;
+import com.tomgibara.bits.BitWriter;
+import com.tomgibara.bits.Bits;
+import com.tomgibara.bits.EndOfBitStreamException;
+
+public class HuffmanCodeTest {
+
+	private static final Random random = new Random(0L);
+
+	// symbols drawn from a skewed distribution over the symbols with codewords
+	private static int[] randomSymbols(HuffmanCode code, int length) {
+		int[] symbols = new int[length];
+		for (int i = 0; i < length; ) {
+			int symbol = Math.min(code.symbolCount() - 1, (int) Math.abs(random.nextGaussian() * code.symbolCount() / 4));
+			if (code.length(symbol) != 0) symbols[i++] = symbol;
+		}
+		return symbols;
+	}
+
+	private static void checkRoundTrip(HuffmanCode code, int[] symbols) {
+		long length = 0L;
+		for (int symbol : symbols) length += code.length(symbol);
+		BitVector v = new BitVector((int) length);
+		BitWriter writer = v.openWriter();
+		assertEquals(length, code.encode(writer, symbols, 0, symbols.length));
+
+		int[] decoded = new int[symbols.length];
+		BitReader reader = v.openReader();
+		code.decode(reader, decoded, 0, decoded.length);
+		assertArrayEquals(symbols, decoded);
+		assertEquals(length, reader.getPosition());
+
+		decoded = new int[symbols.length];
+		assertEquals(length, code.decode(v, decoded, 0, decoded.length));
+		assertArrayEquals(symbols, decoded);
+
+		// symbol by symbol
+		reader = v.openReader();
+		for (int symbol : symbols) assertEquals(symbol, code.decode(reader));
+		assertEquals(length, reader.getPosition());
+
+		// a byte-based reader
+		byte[] bytes = new byte[(int) (length + 7) / 8];
+		writer = Bits.writerTo(bytes);
+		code.encode(writer, symbols, 0, symbols.length);
+		writer.flush();
+		reader = Bits.readerFrom(bytes);
+		decoded = new int[symbols.length];
+		code.decode(reader, decoded, 0, decoded.length);
+		assertArrayEquals(symbols, decoded);
+		assertEquals(length, reader.getPosition());
+
+		// a reader that cannot peek
+		BitReader plain = v.openReader()::readBit;
+		decoded = new int[symbols.length];
+		code.decode(plain, decoded, 0, decoded.length);
+		assertArrayEquals(symbols, decoded);
+		plain = v.openReader()::readBit;
+		for (int symbol : symbols) assertEquals(symbol, code.decode(plain));
+	}
+
+	@Test
+	public void testCanonicalCodes() {
+		// the example from RFC 1951
+		HuffmanCode code = HuffmanCode.fromLengths(3, 3, 3, 3, 3, 2, 4, 4);
+		int[] expected = { 0b010, 0b011, 0b100, 0b101, 0b110, 0b00, 0b1110, 0b1111 };
+		for (int symbol = 0; symbol < expected.length; symbol++) {
+			assertEquals(expected[symbol], code.code(symbol));
+		}
+		assertEquals(4, code.maxLength());
+		assertEquals(code, HuffmanCode.fromLengths(code.lengths()));
+		assertEquals(6, code.decode(Bits.readerFrom("1110")));
+		assertEquals(5, code.decode(Bits.readerFrom("00")));
+	}
+
+	@Test
+	public void testFromFrequencies() {
+		long[] freqs = { 45, 13, 12, 16, 9, 5 };
+		HuffmanCode code = HuffmanCode.fromFrequencies(freqs);
+		long cost = 0L;
+		for (int i = 0; i < freqs.length; i++) cost += freqs[i] * code.length(i);
+		assertEquals(224L, cost);
+		assertEquals(1, code.length(0));
+
+		// absent symbols have no codewords, a lone symbol has one bit
+		code = HuffmanCode.fromFrequencies(0, 7, 0);
+		assertEquals(0, code.length(0));
+		assertEquals(1, code.length(1));
+		checkRoundTrip(code, new int[] { 1, 1, 1 });
+	}
+
+	@Test
+	public void testLengthLimit() {
+		// Fibonacci frequencies produce a maximally unbalanced tree
+		long[] freqs = new long[60];
+		freqs[0] = 1L;
+		freqs[1] = 1L;
+		for (int i = 2; i < freqs.length; i++) freqs[i] = freqs[i - 1] + freqs[i - 2];
+		HuffmanCode code = HuffmanCode.fromFrequencies(freqs);
+		assertEquals(HuffmanCode.MAX_LENGTH, code.maxLength());
+		long kraft = 0L;
+		for (int length : code.lengths()) kraft += 1L << (HuffmanCode.MAX_LENGTH - length);
+		assertEquals(1L << HuffmanCode.MAX_LENGTH, kraft);
+		int[] symbols = new int[2000];
+		for (int i = 0; i < symbols.length; i++) symbols[i] = random.nextInt(freqs.length);
+		checkRoundTrip(code, symbols);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (int i = 0; i < 50; i++) {
+			int count = 1 + random.nextInt(1000);
+			long[] freqs = new long[count];
+			for (int j = 0; j < count; j++) {
+				// some symbols are absent
+				if (random.nextInt(10) != 0) freqs[j] = 1L + (long) Math.abs(random.nextGaussian() * 1000) * (count - j);
+			}
+			if (freqs[0] == 0L) freqs[0] = 1L;
+			HuffmanCode code = HuffmanCode.fromFrequencies(freqs);
+			assertTrue(code.maxLength() <= HuffmanCode.MAX_LENGTH);
+			checkRoundTrip(code, randomSymbols(code, random.nextInt(5000)));
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> HuffmanCode.fromLengths(1, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> HuffmanCode.fromLengths(0, 0));
+		assertThrows(IllegalArgumentException.class, () -> HuffmanCode.fromFrequencies(1, -1));
+		HuffmanCode code = HuffmanCode.fromLengths(1, 2);
+		assertThrows(IllegalArgumentException.class, () -> code.encode(Bits.writerToNothing(), 2));
+		// the incomplete code has no codeword 11
+		assertThrows(BitStreamException.class, () -> code.decode(Bits.readerFrom("11")));
+		BitVector v = new BitVector("0111");
+		assertThrows(BitStreamException.class, () -> code.decode(v, new int[2], 0, 2));
+		BitVector w = new BitVector("01");
+		assertThrows(EndOfBitStreamException.class, () -> code.decode(w, new int[2], 0, 2));
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitVector;
+
+public class PforCodecTest {
+
+	private static final Random random = new Random(0L);
+
+	private static int[] randomValues(int length) {
+		int[] values = new int[length];
+		int base = random.nextInt();
+		int width = random.nextInt(33);
+		for (int i = 0; i < length; i++) {
+			int value = width == 0 ? 0 : random.nextInt() >>> (32 - width);
+			// occasional outliers
+			if (random.nextInt(20) == 0) value = random.nextInt();
+			values[i] = base + value;
+		}
+		return values;
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (int i = 0; i < 200; i++) {
+			int[] values = randomValues(random.nextInt(1000));
+			BitVector v = new BitVector(values.length * 40 + 100);
+			long count = PforCodec.encode(v.openWriter(), values, 0, values.length);
+			BitReader reader = v.openReader();
+			assertArrayEquals(values, PforCodec.decode(reader));
+			assertEquals(count, reader.getPosition());
+			assertArrayEquals(values, PforCodec.decode(v));
+		}
+	}
+
+	@Test
+	public void testBlocks() {
+		int[] values = {7, 7, 7};
+		BitVector v = new BitVector(200);
+		int count = PforCodec.encodeBlock(v.openWriter(), values, 0, values.length);
+		// a block of identical values consists only of its header
+		assertEquals(53, count);
+		int[] dest = new int[5];
+		assertEquals(3, PforCodec.decodeBlock(v.openReader(), dest, 2));
+		assertArrayEquals(new int[] {0, 0, 7, 7, 7}, dest);
+		assertThrows(IllegalArgumentException.class, () -> PforCodec.encodeBlock(v.openWriter(), new int[129], 0, 129));
+	}
+
+	@Test
+	public void testEveryWidth() {
+		// each width is unpacked by its own kernel, over full and partial words
+		for (int width = 0; width <= 32; width++) {
+			for (int length = 1; length <= PforCodec.BLOCK_SIZE; length += 1 + random.nextInt(9)) {
+				checkWidth(width, length);
+			}
+			// lengths either side of each group of 64 values
+			for (int length : new int[] {63, 64, 65, 127, 128}) {
+				checkWidth(width, length);
+			}
+		}
+	}
+
+	private void checkWidth(int width, int length) {
+		int[] values = new int[length];
+		int ref = random.nextInt();
+		for (int i = 0; i < length; i++) {
+			values[i] = ref + (width == 0 ? 0 : random.nextInt() >>> (32 - width));
+		}
+		BitVector v = new BitVector(length * 32 + 100);
+		PforCodec.encodeBlock(v.openWriter(), values, 0, length);
+		int[] dest = new int[length + 1];
+		assertEquals(length, PforCodec.decodeBlock(v.openReader(), dest, 1));
+		assertArrayEquals(values, Arrays.copyOfRange(dest, 1, length + 1), "width " + width);
+	}
+
+	@Test
+	public void testPatching() {
+		int[] values = new int[PforCodec.BLOCK_SIZE];
+		for (int i = 0; i < values.length; i++) values[i] = random.nextInt(16);
+		values[10] = Integer.MAX_VALUE;
+		values[99] = -1;
+		BitVector v = new BitVector(10000);
+		int count = PforCodec.encodeBlock(v.openWriter(), values, 0, values.length);
+		// the outliers are patched, so the block is far smaller than 32 bits per value
+		assertTrue(count < values.length * 8);
+		int[] dest = new int[values.length];
+		PforCodec.decodeBlock(v.openReader(), dest, 0);
+		assertArrayEquals(values, dest);
+	}
+
+}
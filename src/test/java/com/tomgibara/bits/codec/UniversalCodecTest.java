@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Tom Gibara
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.tomgibara.bits.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.tomgibara.bits.BitReader;
+import com.tomgibara.bits.BitStreamException;
+import com.tomgibara.bits.BitVector;
+import com.tomgibara.bits.BitWriter;
+import com.tomgibara.bits.Bits;
+
+public class UniversalCodecTest {
+
+	private static final Random random = new Random(0L);
+
+	private static UniversalCodec[] codecs() {
+		return new UniversalCodec[] {
+				UniversalCodec.eliasGamma(),
+				UniversalCodec.eliasDelta(),
+				UniversalCodec.golombRice(0),
+				UniversalCodec.golombRice(5),
+				UniversalCodec.golombRice(31),
+				UniversalCodec.expGolomb(0),
+				UniversalCodec.expGolomb(3),
+				UniversalCodec.expGolomb(31),
+				UniversalCodec.fibonacci(),
+		};
+	}
+
+	// limits the lengths of unary quotients
+	private static final int[] MAX_WIDTHS = { 31, 31, 10, 15, 31, 31, 31, 31, 31 };
+
+	private static int[] randomValues(int length, int maxWidth) {
+		int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			int width = random.nextInt(maxWidth + 1);
+			values[i] = width == 0 ? 0 : random.nextInt() >>> (32 - width);
+		}
+		return values;
+	}
+
+	private static String encoded(UniversalCodec codec, int value) {
+		BitVector v = new BitVector((int) codec.length(value));
+		codec.encode(v.openWriter(), value);
+		return v.toString();
+	}
+
+	@Test
+	public void testKnownCodes() {
+		assertEquals("1", encoded(UniversalCodec.eliasGamma(), 0));
+		assertEquals("00101", encoded(UniversalCodec.eliasGamma(), 4));
+		assertEquals("1", encoded(UniversalCodec.eliasDelta(), 0));
+		assertEquals("00100001", encoded(UniversalCodec.eliasDelta(), 8));
+		assertEquals("0", encoded(UniversalCodec.golombRice(0), 0));
+		assertEquals("110011", encoded(UniversalCodec.golombRice(3), 19));
+		assertEquals("100", encoded(UniversalCodec.expGolomb(2), 0));
+		assertEquals("01001", encoded(UniversalCodec.expGolomb(2), 5));
+		assertEquals("11", encoded(UniversalCodec.fibonacci(), 0));
+		assertEquals("1011", encoded(UniversalCodec.fibonacci(), 3));
+		assertEquals("0010011", encoded(UniversalCodec.fibonacci(), 15));
+		assertEquals(0, UniversalCodec.fibonacci().decode(Bits.readerFrom("11")));
+		assertEquals(15, UniversalCodec.fibonacci().decode(Bits.readerFrom("0010011")));
+		assertEquals(8, UniversalCodec.eliasDelta().decode(Bits.readerFrom("00100001")));
+	}
+
+	@Test
+	public void testExpGolombZeroMatchesGamma() {
+		UniversalCodec gamma = UniversalCodec.eliasGamma();
+		UniversalCodec exp = UniversalCodec.expGolomb(0);
+		for (int value : randomValues(1000, 31)) {
+			assertEquals(encoded(gamma, value), encoded(exp, value));
+		}
+	}
+
+	@Test
+	public void testExtremeValues() {
+		int[] values = { 0, 1, 2, 3, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+		UniversalCodec[] codecs = codecs();
+		for (int c = 0; c < codecs.length; c++) {
+			UniversalCodec codec = codecs[c];
+			// unary quotients would exceed the size of a vector
+			if (MAX_WIDTHS[c] < 15) continue;
+			long length = 0L;
+			for (int value : values) length += codec.length(value);
+			BitVector v = new BitVector((int) length);
+			assertEquals(length, codec.encode(v.openWriter(), values, 0, values.length));
+			int[] decoded = new int[values.length];
+			codec.decode(v.openReader(), decoded, 0, decoded.length);
+			assertArrayEquals(values, decoded, codec.toString());
+		}
+	}
+
+	@Test
+	public void testRoundTrip() {
+		UniversalCodec[] codecs = codecs();
+		for (int c = 0; c < codecs.length; c++) {
+			UniversalCodec codec = codecs[c];
+			for (int i = 0; i < 20; i++) {
+				int[] values = randomValues(random.nextInt(500), MAX_WIDTHS[c]);
+				long length = 0L;
+				for (int value : values) length += codec.length(value);
+				BitVector v = new BitVector((int) length + 64);
+				BitWriter writer = v.openWriter();
+				assertEquals(length, codec.encode(writer, values, 0, values.length));
+				BitReader reader = v.openReader();
+				int[] decoded = new int[values.length + 2];
+				codec.decode(reader, decoded, 1, values.length);
+				assertEquals(length, reader.getPosition());
+				for (int j = 0; j < values.length; j++) {
+					assertEquals(values[j], decoded[j + 1]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testInterleaved() {
+		// codes can be mixed with other data read from byte-based streams
+		byte[] bytes = new byte[4096];
+		BitWriter writer = Bits.writerTo(bytes);
+		UniversalCodec[] codecs = codecs();
+		int[] values = randomValues(200, 8);
+		for (int i = 0; i < values.length; i++) {
+			codecs[i % codecs.length].encode(writer, values[i]);
+			writer.write(i, 9);
+		}
+		writer.flush();
+		BitReader reader = Bits.readerFrom(bytes);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(values[i], codecs[i % codecs.length].decode(reader));
+			assertEquals(i, reader.read(9));
+		}
+	}
+
+	@Test
+	public void testInterleavedReaders() {
+		// codes are mixed with other data, and with codes longer than a window
+		UniversalCodec[] codecs = codecs();
+		for (int c = 0; c < codecs.length; c++) {
+			UniversalCodec codec = codecs[c];
+			int[] values = randomValues(300, MAX_WIDTHS[c]);
+			int[] others = new int[values.length];
+			int[] widths = new int[values.length];
+			BitVector v = new BitVector(1 << 20);
+			byte[] bytes = new byte[v.size() >> 3];
+			BitWriter[] writers = { v.openWriter(), Bits.writerTo(bytes) };
+			for (int i = 0; i < values.length; i++) {
+				widths[i] = random.nextInt(33);
+				others[i] = widths[i] == 0 ? 0 : random.nextInt() >>> (32 - widths[i]);
+				for (BitWriter writer : writers) {
+					codec.encode(writer, values[i]);
+					writer.write(others[i], widths[i]);
+				}
+			}
+			long length = writers[0].getPosition();
+			writers[1].flush();
+			BitReader[] readers = {
+					v.openReader(),
+					Bits.readerFrom(bytes, length),
+					v.openReader()::readBit, // a reader that cannot peek
+			};
+			for (BitReader reader : readers) {
+				for (int i = 0; i < values.length; i++) {
+					assertEquals(values[i], codec.decode(reader), codec.toString());
+					assertEquals(others[i], reader.read(widths[i]));
+				}
+				// the plain reader does not report its position
+				assertEquals(reader == readers[2] ? -1L : length, reader.getPosition());
+			}
+		}
+	}
+
+	@Test
+	public void testInterleavedSequences() {
+		// sequences of codes are mixed with other data
+		UniversalCodec[] codecs = codecs();
+		for (int c = 0; c < codecs.length; c++) {
+			UniversalCodec codec = codecs[c];
+			int[] values = randomValues(500, MAX_WIDTHS[c]);
+			int[] lengths = new int[100];
+			int total = 0;
+			BitVector v = new BitVector(1 << 20);
+			byte[] bytes = new byte[v.size() >> 3];
+			BitWriter[] writers = { v.openWriter(), Bits.writerTo(bytes) };
+			for (int i = 0, offset = 0; i < lengths.length; i++) {
+				lengths[i] = Math.min(random.nextInt(10), values.length - offset);
+				for (BitWriter writer : writers) {
+					codec.encode(writer, values, offset, lengths[i]);
+					writer.write(i, 7);
+				}
+				offset += lengths[i];
+				total = offset;
+			}
+			long length = writers[0].getPosition();
+			writers[1].flush();
+			BitReader[] readers = {
+					v.openReader(),
+					Bits.readerFrom(bytes, length),
+					v.openReader()::readBit, // a reader that cannot peek
+			};
+			for (BitReader reader : readers) {
+				int[] decoded = new int[total];
+				for (int i = 0, offset = 0; i < lengths.length; i++) {
+					codec.decode(reader, decoded, offset, lengths[i]);
+					assertEquals(i, reader.read(7));
+					offset += lengths[i];
+				}
+				assertArrayEquals(Arrays.copyOf(values, total), decoded, codec.toString());
+			}
+		}
+	}
+
+	@Test
+	public void testWindowDecoding() {
+		// codes that fit within a peeked window are never read bit by bit
+		UniversalCodec[] codecs = codecs();
+		for (int c = 0; c < codecs.length; c++) {
+			UniversalCodec codec = codecs[c];
+			int[] values = randomValues(500, MAX_WIDTHS[c]);
+			BitVector v = new BitVector(1 << 16);
+			BitWriter writer = v.openWriter();
+			int count = 0;
+			for (int value : values) {
+				if (codec.length(value) > 64) continue;
+				codec.encode(writer, value);
+				values[count++] = value;
+			}
+			BitReader source = v.openReader();
+			BitReader reader = new BitReader() {
+				@Override public int readBit() { throw new AssertionError(); }
+				@Override public int readUntil(boolean one) { throw new AssertionError(); }
+				@Override public long peekLong(int count) { return source.peekLong(count); }
+				@Override public void consume(int count) { source.consume(count); }
+				@Override public long getPosition() { return source.getPosition(); }
+			};
+			for (int i = 0; i < count; i++) {
+				assertEquals(values[i], codec.decode(reader), codec.toString());
+			}
+			assertEquals(writer.getPosition(), reader.getPosition());
+			source.setPosition(0L);
+			int[] decoded = new int[count];
+			codec.decode(reader, decoded, 0, count);
+			assertArrayEquals(Arrays.copyOf(values, count), decoded, codec.toString());
+			assertEquals(writer.getPosition(), reader.getPosition());
+		}
+	}
+
+	@Test
+	public void testInvalidCodes() {
+		// thirty-two zeros cannot begin a gamma code for an int
+		BitVector zeros = new BitVector(64);
+		zeros.setBit(31, true);
+		assertThrows(BitStreamException.class, () -> UniversalCodec.eliasGamma().decode(zeros.openReader()));
+		assertThrows(BitStreamException.class, () -> UniversalCodec.eliasDelta().decode(Bits.readerFrom("0000001")));
+		assertThrows(BitStreamException.class, () -> UniversalCodec.golombRice(31).decode(Bits.readerFrom("10")));
+		assertThrows(IllegalArgumentException.class, () -> UniversalCodec.eliasGamma().encode(Bits.writerToNothing(), -1));
+		assertThrows(IllegalArgumentException.class, () -> UniversalCodec.golombRice(32));
+		assertThrows(IllegalArgumentException.class, () -> UniversalCodec.expGolomb(-1));
+	}
+
+}